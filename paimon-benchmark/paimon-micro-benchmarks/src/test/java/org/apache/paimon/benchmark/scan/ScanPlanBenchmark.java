@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.scan;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.catalog.CatalogFactory;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryArray;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryRowWriter;
+import org.apache.paimon.io.CompactIncrement;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataIncrement;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.operation.AppendOnlyFileStoreScan;
+import org.apache.paimon.operation.FileStoreScan;
+import org.apache.paimon.options.CatalogOptions;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.stats.SimpleStats;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.CommitMessage;
+import org.apache.paimon.table.sink.CommitMessageImpl;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark for {@link FileStoreScan#plan()} on tables with a large number of manifests and files.
+ * Data files are not written, only their metadata is committed, so the size of the table is only
+ * limited by the manifests.
+ */
+public class ScanPlanBenchmark {
+
+    private static final int NUM_PARTITIONS = 100;
+    private static final int NUM_BUCKETS = 10;
+    private static final int NUM_FILES_PER_BUCKET = 20;
+    // each commit produces one manifest file, manifests are never merged
+    private static final int NUM_MANIFESTS = 200;
+
+    private static final int NUM_FILES = NUM_PARTITIONS * NUM_BUCKETS * NUM_FILES_PER_BUCKET;
+    private static final long VALUES_PER_FILE = 100;
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    new DataType[] {DataTypes.INT(), DataTypes.INT(), DataTypes.BIGINT()},
+                    new String[] {"pt", "k", "v"});
+    private static final RowType PARTITION_TYPE = ROW_TYPE.project("pt");
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testPlan() throws Exception {
+        prepareData();
+
+        Map<String, Function<FileStoreScan, FileStoreScan>> filters = new LinkedHashMap<>();
+        filters.put("no-filter", scan -> scan);
+        filters.put(
+                "partition-filter",
+                scan -> scan.withPartitionFilter(new PredicateBuilder(PARTITION_TYPE).equal(0, 0)));
+        filters.put("bucket-filter", scan -> scan.withBucket(0));
+        Predicate valueFilter =
+                new PredicateBuilder(ROW_TYPE).lessThan(2, NUM_FILES / 10 * VALUES_PER_FILE);
+        filters.put(
+                "value-filter", scan -> ((AppendOnlyFileStoreScan) scan).withFilter(valueFilter));
+
+        Benchmark benchmark =
+                new Benchmark("plan", NUM_FILES).setNumWarmupIters(1).setOutputPerIteration(true);
+        for (boolean cacheEnabled : new boolean[] {false, true}) {
+            FileStoreTable table = getTable(cacheEnabled);
+            for (Map.Entry<String, Function<FileStoreScan, FileStoreScan>> filter :
+                    filters.entrySet()) {
+                benchmark.addCase(
+                        String.format(
+                                "%s-%s", cacheEnabled ? "cache" : "no-cache", filter.getKey()),
+                        5,
+                        () -> filter.getValue().apply(table.store().newScan()).plan().files());
+            }
+        }
+        benchmark.run();
+        /*
+         * OpenJDK 64-Bit Server VM 17.0.9+9 on Linux
+         * Intel(R) Xeon(R) Processor
+         * plan:                                  Best/Avg Time(ms)    Row Rate(K/s)      Per Row(ns)   Relative
+         * ---------------------------------------------------------------------------------------------------------
+         * OPERATORTEST_plan_no-cache-no-filter              386 /  515             51.9          19286.0       1.0X
+         * OPERATORTEST_plan_no-cache-partition-filter       328 /  430             61.0          16398.0       1.2X
+         * OPERATORTEST_plan_no-cache-bucket-filter          263 /  296             76.1          13144.9       1.5X
+         * OPERATORTEST_plan_no-cache-value-filter           198 /  228            101.0           9896.5       1.9X
+         * OPERATORTEST_plan_cache-no-filter                  35 /   59            577.7           1731.0      11.1X
+         * OPERATORTEST_plan_cache-partition-filter            6 /   12           3501.7            285.6      67.5X
+         * OPERATORTEST_plan_cache-bucket-filter              10 /   13           1937.1            516.2      37.4X
+         * OPERATORTEST_plan_cache-value-filter               34 /   37            580.5           1722.5      11.2X
+         */
+    }
+
+    @Test
+    public void testPlanParallelism() throws Exception {
+        prepareData();
+
+        Benchmark benchmark =
+                new Benchmark("plan-parallelism", NUM_FILES)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (int parallelism : new int[] {1, 2, 4, 8, 16}) {
+            FileStoreTable table =
+                    getTable(false)
+                            .copy(
+                                    Collections.singletonMap(
+                                            CoreOptions.SCAN_MANIFEST_PARALLELISM.key(),
+                                            String.valueOf(parallelism)));
+            benchmark.addCase(
+                    "parallelism-" + parallelism, 5, () -> table.store().newScan().plan().files());
+        }
+        benchmark.run();
+        /*
+         * OpenJDK 64-Bit Server VM 17.0.9+9 on Linux
+         * Intel(R) Xeon(R) Processor
+         * plan-parallelism:                      Best/Avg Time(ms)    Row Rate(K/s)      Per Row(ns)   Relative
+         * ---------------------------------------------------------------------------------------------------------
+         * OPERATORTEST_plan-parallelism_parallelism-1       256 /  340             78.0          12824.4       1.0X
+         * OPERATORTEST_plan-parallelism_parallelism-2       200 /  287             99.8          10018.4       1.3X
+         * OPERATORTEST_plan-parallelism_parallelism-4       196 /  223            101.8           9820.2       1.3X
+         * OPERATORTEST_plan-parallelism_parallelism-8       214 /  249             93.4          10703.0       1.2X
+         * OPERATORTEST_plan-parallelism_parallelism-16      168 /  207            118.9           8409.9       1.5X
+         */
+    }
+
+    private void prepareData() throws Exception {
+        Catalog catalog = createCatalog(false);
+        catalog.createDatabase("default", true);
+
+        Options tableOptions = new Options();
+        tableOptions.set(CoreOptions.BUCKET, NUM_BUCKETS);
+        tableOptions.set(CoreOptions.BUCKET_KEY, "k");
+        tableOptions.set(CoreOptions.MANIFEST_MERGE_MIN_COUNT, Integer.MAX_VALUE);
+        Schema schema =
+                new Schema(
+                        ROW_TYPE.getFields(),
+                        Collections.singletonList("pt"),
+                        Collections.emptyList(),
+                        tableOptions.toMap(),
+                        "");
+        catalog.createTable(identifier(), schema, false);
+        FileStoreTable table = (FileStoreTable) catalog.getTable(identifier());
+
+        List<List<CommitMessage>> commits = new ArrayList<>();
+        for (int i = 0; i < NUM_MANIFESTS; i++) {
+            commits.add(new ArrayList<>());
+        }
+        int fileIndex = 0;
+        for (int partition = 0; partition < NUM_PARTITIONS; partition++) {
+            for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+                for (int i = 0; i < NUM_FILES_PER_BUCKET; i++) {
+                    commits.get(fileIndex % NUM_MANIFESTS)
+                            .add(
+                                    new CommitMessageImpl(
+                                            BinaryRow.singleColumn(partition),
+                                            bucket,
+                                            new DataIncrement(
+                                                    Collections.singletonList(
+                                                            newFile(partition, fileIndex)),
+                                                    Collections.emptyList(),
+                                                    Collections.emptyList()),
+                                            new CompactIncrement(
+                                                    Collections.emptyList(),
+                                                    Collections.emptyList(),
+                                                    Collections.emptyList())));
+                    fileIndex++;
+                }
+            }
+        }
+
+        try (StreamTableCommit commit = table.newStreamWriteBuilder().newCommit()) {
+            for (int i = 0; i < commits.size(); i++) {
+                commit.commit(i, commits.get(i));
+            }
+        }
+        assertThat(table.store().newScan().plan().files()).hasSize(NUM_FILES);
+    }
+
+    private FileStoreTable getTable(boolean cacheEnabled) throws Exception {
+        return (FileStoreTable) createCatalog(cacheEnabled).getTable(identifier());
+    }
+
+    private Catalog createCatalog(boolean cacheEnabled) {
+        Options catalogOptions = new Options();
+        catalogOptions.set(CatalogOptions.WAREHOUSE, tempDir.toUri().toString());
+        catalogOptions.set(CatalogOptions.CACHE_ENABLED, cacheEnabled);
+        return CatalogFactory.createCatalog(CatalogContext.create(catalogOptions));
+    }
+
+    private static Identifier identifier() {
+        return Identifier.create("default", "T");
+    }
+
+    private static DataFileMeta newFile(int partition, int fileIndex) {
+        long minValue = fileIndex * VALUES_PER_FILE;
+        long maxValue = minValue + VALUES_PER_FILE - 1;
+        SimpleStats stats =
+                new SimpleStats(
+                        statsRow(partition, 0, minValue),
+                        statsRow(partition, Integer.MAX_VALUE, maxValue),
+                        BinaryArray.fromLongArray(new Long[] {0L, 0L, 0L}));
+        return DataFileMeta.forAppend(
+                "data-" + UUID.randomUUID() + "-0.parquet",
+                1024 * 1024,
+                VALUES_PER_FILE,
+                stats,
+                minValue,
+                maxValue,
+                0,
+                Collections.emptyList(),
+                null,
+                FileSource.APPEND,
+                null,
+                null);
+    }
+
+    private static BinaryRow statsRow(int partition, int key, long value) {
+        BinaryRow row = new BinaryRow(3);
+        BinaryRowWriter writer = new BinaryRowWriter(row);
+        writer.writeInt(0, partition);
+        writer.writeInt(1, key);
+        writer.writeLong(2, value);
+        writer.complete();
+        return row;
+    }
+}
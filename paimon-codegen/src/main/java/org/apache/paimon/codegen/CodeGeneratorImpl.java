@@ -59,6 +59,16 @@ public class CodeGeneratorImpl implements CodeGenerator {
                 .generateRecordEqualiser("RecordEqualiser");
     }
 
+    @Override
+    public GeneratedClass<RecordAggregator> generateRecordAggregator(
+            List<DataType> fieldTypes, List<String> aggFunctions, boolean[] ignoreRetract) {
+        return new AggregatorCodeGenerator(
+                        fieldTypes.toArray(new DataType[0]),
+                        aggFunctions.toArray(new String[0]),
+                        ignoreRetract)
+                .generateRecordAggregator("RecordAggregator");
+    }
+
     private SortSpec getAscendingSortSpec(int[] sortFields, boolean isAscendingOrder) {
         SortSpec.SortSpecBuilder builder = SortSpec.builder();
         for (int sortField : sortFields) {
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen
+
+import org.apache.paimon.codegen.GenerateUtils._
+import org.apache.paimon.data.GenericRow
+import org.apache.paimon.types.DataType
+import org.apache.paimon.types.DataTypeRoot._
+
+/**
+ * Generates a [[RecordAggregator]] which keeps the accumulators of primitive fields unboxed and
+ * inlines the aggregate functions of all fields.
+ */
+class AggregatorCodeGenerator(
+    fieldTypes: Array[DataType],
+    aggFunctions: Array[String],
+    ignoreRetract: Array[Boolean]) {
+
+  private val RECORD_AGGREGATOR = className[RecordAggregator]
+  private val GENERIC_ROW = className[GenericRow]
+  private val INPUT = "input"
+
+  def generateRecordAggregator(name: String): GeneratedClass[RecordAggregator] = {
+    val ctx = new CodeGeneratorContext
+    val className = newName(name)
+    val fields = fieldTypes.indices
+
+    val classCode =
+      s"""
+        public final class $className implements $RECORD_AGGREGATOR {
+          ${ctx.reuseMemberCode()}
+
+          ${fields.map(generateMembers).mkString("\n")}
+
+          public $className(Object[] references) throws Exception {
+            ${ctx.reuseInitCode()}
+            reset();
+          }
+
+          @Override
+          public void reset() {
+            ${fields.map(generateReset).mkString("\n")}
+          }
+
+          @Override
+          public void add($ROW_DATA $INPUT) {
+            ${fields.map(generateAdd).mkString("\n")}
+          }
+
+          @Override
+          public void retract($ROW_DATA $INPUT) {
+            ${fields.map(generateRetract).mkString("\n")}
+          }
+
+          @Override
+          public $ROW_DATA getResult() {
+            $GENERIC_ROW result = new $GENERIC_ROW(${fieldTypes.length});
+            ${fields.map(generateResult).mkString("\n")}
+            return result;
+          }
+        }
+      """.stripMargin
+
+    new GeneratedClass(className, classCode, ctx.references.toArray)
+  }
+
+  private def acc(idx: Int) = s"acc$idx"
+
+  private def isNull(idx: Int) = s"isNull$idx"
+
+  private def initialized(idx: Int) = s"initialized$idx"
+
+  private def generateMembers(idx: Int): String = {
+    val typeTerm = primitiveTypeTermForType(fieldTypes(idx))
+    s"""
+       |private $typeTerm ${acc(idx)};
+       |private boolean ${isNull(idx)};
+       |private boolean ${initialized(idx)};
+     """.stripMargin
+  }
+
+  private def generateReset(idx: Int): String = {
+    s"""
+       |${acc(idx)} = ${primitiveDefaultValue(fieldTypes(idx))};
+       |${isNull(idx)} = true;
+       |${initialized(idx)} = false;
+     """.stripMargin
+  }
+
+  private def generateResult(idx: Int): String = {
+    val fieldType = fieldTypes(idx)
+    val value =
+      if (isPrimitive(fieldType)) {
+        s"${boxedTypeTermForType(fieldType)}.valueOf(${acc(idx)})"
+      } else {
+        acc(idx)
+      }
+    s"result.setField($idx, ${isNull(idx)} ? null : $value);"
+  }
+
+  private def generateAdd(idx: Int): String = {
+    val fieldType = fieldTypes(idx)
+    val typeTerm = primitiveTypeTermForType(fieldType)
+    val accTerm = acc(idx)
+    val isNullTerm = isNull(idx)
+    val read = rowFieldReadAccess(idx, INPUT, fieldType)
+
+    aggFunctions(idx) match {
+      case "sum" =>
+        s"""
+           |if (!$INPUT.isNullAt($idx)) {
+           |  $typeTerm value = $read;
+           |  $accTerm = $isNullTerm ? value : ($typeTerm) ($accTerm + value);
+           |  $isNullTerm = false;
+           |}
+         """.stripMargin
+      case "min" | "max" =>
+        // the input replaces the accumulator if they are equal, same as FieldMinAgg/FieldMaxAgg
+        val replace =
+          if (aggFunctions(idx) == "min") s"${compare(fieldType, accTerm, "value")} >= 0"
+          else s"${compare(fieldType, accTerm, "value")} < 0"
+        s"""
+           |if (!$INPUT.isNullAt($idx)) {
+           |  $typeTerm value = $read;
+           |  if ($isNullTerm || $replace) {
+           |    $accTerm = value;
+           |    $isNullTerm = false;
+           |  }
+           |}
+         """.stripMargin
+      case "last_value" | "primary-key" =>
+        s"""
+           |$isNullTerm = $INPUT.isNullAt($idx);
+           |if (!$isNullTerm) {
+           |  $accTerm = $read;
+           |}
+         """.stripMargin
+      case "last_non_null_value" =>
+        s"""
+           |if (!$INPUT.isNullAt($idx)) {
+           |  $accTerm = $read;
+           |  $isNullTerm = false;
+           |}
+         """.stripMargin
+      case "first_non_null_value" =>
+        s"""
+           |if (!${initialized(idx)} && !$INPUT.isNullAt($idx)) {
+           |  ${initialized(idx)} = true;
+           |  $accTerm = $read;
+           |  $isNullTerm = false;
+           |}
+         """.stripMargin
+      case func =>
+        throw new CodeGenException(s"Unsupported aggregate function: $func")
+    }
+  }
+
+  private def generateRetract(idx: Int): String = {
+    val fieldType = fieldTypes(idx)
+    val typeTerm = primitiveTypeTermForType(fieldType)
+    val accTerm = acc(idx)
+    val isNullTerm = isNull(idx)
+    val read = rowFieldReadAccess(idx, INPUT, fieldType)
+
+    if (ignoreRetract(idx)) {
+      return ""
+    }
+
+    aggFunctions(idx) match {
+      case "sum" =>
+        s"""
+           |if (!$INPUT.isNullAt($idx)) {
+           |  $typeTerm value = $read;
+           |  $accTerm = $isNullTerm ? ($typeTerm) -value : ($typeTerm) ($accTerm - value);
+           |  $isNullTerm = false;
+           |}
+         """.stripMargin
+      case "last_value" =>
+        s"$isNullTerm = true;"
+      case "primary-key" =>
+        generateAdd(idx)
+      case "last_non_null_value" =>
+        s"""
+           |if (!$INPUT.isNullAt($idx)) {
+           |  $isNullTerm = true;
+           |}
+         """.stripMargin
+      case func =>
+        s"""
+           |throw new UnsupportedOperationException(
+           |  "Aggregate function '$func' does not support retraction,"
+           |    + " If you allow this function to ignore retraction messages,"
+           |    + " you can configure 'fields.$${field_name}.ignore-retract'='true'.");
+         """.stripMargin
+    }
+  }
+
+  private def compare(fieldType: DataType, left: String, right: String): String = {
+    if (!isPrimitive(fieldType)) {
+      throw new CodeGenException(s"Unsupported type for min and max: $fieldType")
+    }
+    s"${boxedTypeTermForType(fieldType)}.compare($left, $right)"
+  }
+
+  private def isPrimitive(fieldType: DataType): Boolean = fieldType.getTypeRoot match {
+    case BOOLEAN | TINYINT | SMALLINT | INTEGER | DATE | TIME_WITHOUT_TIME_ZONE | BIGINT | FLOAT |
+        DOUBLE =>
+      true
+    case _ => false
+  }
+}
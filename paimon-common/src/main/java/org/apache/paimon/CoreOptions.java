@@ -284,6 +284,18 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<Integer> MANIFEST_WRITE_PARALLELISM =
+            key("manifest.write-parallelism")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The parallelism of writing and merging manifest files when committing, "
+                                    + "manifest files are written and merged by a single thread "
+                                    + "if it is not set. If it is larger than 1, large manifest "
+                                    + "entry lists are split into one batch per thread, each "
+                                    + "batch is at least 10000 entries and is rolled by "
+                                    + "'manifest.target-file-size'.");
+
     public static final ConfigOption<String> PARTITION_DEFAULT_NAME =
             key("partition.default-name")
                     .stringType()
@@ -368,6 +380,18 @@ public class CoreOptions implements Serializable {
                                             text("oss/s3: may cause performance issue."))
                                     .build());
 
+    public static final ConfigOption<Boolean> SNAPSHOT_TIMELINE_ENABLED =
+            key("snapshot.timeline.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to maintain timeline files of snapshot commit time, "
+                                    + "watermark, commit user and commit identifier. A timeline "
+                                    + "file of 16 snapshots is written once they are all "
+                                    + "committed. Time travel, watermark lookups and writer "
+                                    + "restore read these files instead of searching snapshot "
+                                    + "files one by one.");
+
     public static final ConfigOption<Duration> CONTINUOUS_DISCOVERY_INTERVAL =
             key("continuous.discovery-interval")
                     .durationType()
@@ -434,6 +458,25 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Default spill compression zstd level. For higher compression rates, it can be configured to 9, but the read and write speed will significantly decrease.");
 
+    public static final ConfigOption<Integer> SPILL_IO_THREADS =
+            key("spill-io.threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of I/O threads per spill directory of the writers, which "
+                                    + "write and prefetch spilled blocks asynchronously. 0 means "
+                                    + "spilled blocks are written and read synchronously.");
+
+    public static final ConfigOption<MemorySize> SPILL_IO_BUFFER_SIZE =
+            key("spill-io.buffer-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("16 mb"))
+                    .withDescription(
+                            "Max heap memory of the buffers of asynchronous spill I/O of a writer, "
+                                    + "spilled blocks are written and read synchronously once "
+                                    + "it is exhausted. Only used when 'spill-io.threads' is "
+                                    + "positive.");
+
     public static final ConfigOption<Boolean> WRITE_ONLY =
             key("write-only")
                     .booleanType()
@@ -479,6 +522,18 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage.");
 
+    public static final ConfigOption<Integer> WRITE_BUFFER_FLUSH_THREADS =
+            key("write-buffer-flush-threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "This option only works for primary key table. The number of threads to"
+                                    + " flush write buffers in background. When greater than 0, a full"
+                                    + " write buffer is frozen and sorted, merged and written in"
+                                    + " background while a new write buffer keeps accepting records,"
+                                    + " each write buffer can use half of the write buffer memory. 0"
+                                    + " means write buffers are flushed by the writer thread.");
+
     public static final ConfigOption<Boolean> WRITE_BUFFER_FOR_APPEND =
             key("write-buffer-for-append")
                     .booleanType()
@@ -574,6 +629,37 @@ public class CoreOptions implements Serializable {
                     .defaultValue(10)
                     .withDescription("Maximum number of retries when commit failed.");
 
+    public static final ConfigOption<Duration> COMMIT_MIN_RETRY_WAIT =
+            key("commit.min-retry-wait")
+                    .durationType()
+                    .defaultValue(Duration.ofMillis(0))
+                    .withDescription(
+                            "Min wait time before retrying a failed commit, the wait time is "
+                                    + "doubled for each further retry up to "
+                                    + "'commit.max-retry-wait'. By default it is 0, which means "
+                                    + "failed commits are retried immediately. Setting it to a "
+                                    + "positive value, like 10 ms, spreads the retries of "
+                                    + "concurrent committers.");
+
+    public static final ConfigOption<Duration> COMMIT_MAX_RETRY_WAIT =
+            key("commit.max-retry-wait")
+                    .durationType()
+                    .defaultValue(Duration.ofSeconds(10))
+                    .withDescription(
+                            "Max wait time before retrying a failed commit, only used when "
+                                    + "'commit.min-retry-wait' is positive.");
+
+    public static final ConfigOption<Integer> COMMIT_CONFLICT_INDEX_MAX_DELTA_SNAPSHOTS =
+            key("commit.conflict-index.max-delta-snapshots")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            "The max number of snapshots whose delta manifests are read to "
+                                    + "update the commit conflict index of a committer. If the "
+                                    + "index is further behind the latest snapshot, the files of "
+                                    + "the changed partitions are read again from the latest "
+                                    + "snapshot, which is cheaper than reading many deltas.");
+
     public static final ConfigOption<Integer> COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT =
             key("compaction.max-size-amplification-percent")
                     .intType()
@@ -769,6 +855,35 @@ public class CoreOptions implements Serializable {
                                     + "Note: Scale-up this parameter will increase memory usage while scanning manifest files. "
                                     + "We can consider downsize it when we encounter an out of memory exception while scanning");
 
+    public static final ConfigOption<Long> SCAN_PLAN_STATE_MAX_FILES =
+            key("scan.plan-state.max-files")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The max number of live files kept in the plan state of a table. The plan state "
+                                    + "keeps the merged files of the latest planned snapshot, so planning a "
+                                    + "newer snapshot only reads the delta manifests in between. This is "
+                                    + "useful for long-lived processes planning the same table frequently. "
+                                    + "0 means the plan state is disabled.");
+
+    public static final ConfigOption<MemorySize> SCAN_PLAN_STATE_MAX_MEMORY_SIZE =
+            key("scan.plan-state.max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(256))
+                    .withDescription(
+                            "The max estimated memory size of the live files kept in the plan "
+                                    + "state of a table, the plan state is dropped if it is "
+                                    + "exceeded.");
+
+    public static final ConfigOption<Integer> SCAN_PLAN_STATE_MAX_DELTA_SNAPSHOTS =
+            key("scan.plan-state.max-delta-snapshots")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            "The max number of snapshots whose delta manifests are applied to the plan "
+                                    + "state, if the planned snapshot is further away, all manifests are "
+                                    + "read to rebuild the plan state.");
+
     public static final ConfigOption<Duration> STREAMING_READ_SNAPSHOT_DELAY =
             key("streaming.read.snapshot.delay")
                     .durationType()
@@ -956,6 +1071,16 @@ public class CoreOptions implements Serializable {
                                     + " if there is a need for access, it will be re-read from the DFS to build"
                                     + " an index on the local disk.");
 
+    public static final ConfigOption<Integer> LOOKUP_CACHE_FILE_PREBUILD_THREADS =
+            key("lookup.cache-file-prebuild-threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of threads to build lookup files of newly compacted files in"
+                                    + " background, files of lower levels are built first. This avoids"
+                                    + " lookup compaction waiting for building lookup files. 0 means"
+                                    + " lookup files are only built on the first access.");
+
     @Documentation.OverrideDefault("infinite")
     public static final ConfigOption<MemorySize> LOOKUP_CACHE_MAX_DISK_SIZE =
             key("lookup.cache-max-disk-size")
@@ -997,6 +1122,16 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define the default false positive probability for lookup cache bloom filters.");
 
+    public static final ConfigOption<Integer> LOOKUP_RESULT_CACHE_ROWS =
+            key("lookup.result-cache-rows")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The max number of lookup results of hot keys cached by the local table"
+                                    + " query of query service and partial lookup join. Cached results"
+                                    + " of a bucket are invalidated once its files are refreshed."
+                                    + " 0 means lookup results are not cached.");
+
     public static final ConfigOption<Integer> READ_BATCH_SIZE =
             key("read.batch-size")
                     .intType()
@@ -1076,6 +1211,15 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Initial buckets for a partition in assigner operator for dynamic bucket mode.");
 
+    public static final ConfigOption<MemorySize> DYNAMIC_BUCKET_INDEX_MAX_MEMORY =
+            key("dynamic-bucket.index-max-memory")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Max memory of the key index in one assigner for dynamic bucket mode, once "
+                                    + "exceeded, indexes of the least recently used partitions are spilled "
+                                    + "to local disk. By default, the memory is unbounded.");
+
     public static final ConfigOption<Integer> DYNAMIC_BUCKET_ASSIGNER_PARALLELISM =
             key("dynamic-bucket.assigner-parallelism")
                     .intType()
@@ -1123,6 +1267,26 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Optional endInput check partition expire used in case of batch mode or bounded stream.");
 
+    public static final ConfigOption<String> METADATA_LOCAL_CACHE_DIR =
+            key("metadata.local-cache.dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The local directory to cache immutable metadata files, such as manifest"
+                                    + " files, manifest lists, index manifests and statistics. The"
+                                    + " directory can be shared by all jobs on the same host. Local"
+                                    + " cache is disabled if it is not set.");
+
+    public static final ConfigOption<MemorySize> METADATA_LOCAL_CACHE_MAX_SIZE =
+            key("metadata.local-cache.max-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(1024))
+                    .withDescription(
+                            "Max disk size of the local metadata cache, least recently used files"
+                                    + " are evicted when it is exceeded. Tables sharing the same"
+                                    + " cache directory in a process share one cache, which uses"
+                                    + " the size of the first table.");
+
     public static final String STATS_MODE_SUFFIX = "stats-mode";
 
     public static final ConfigOption<String> METADATA_STATS_MODE =
@@ -1485,6 +1649,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Default aggregate function of all fields for partial-update and aggregate merge function.");
 
+    public static final ConfigOption<Boolean> AGGREGATION_CODEGEN_ENABLED =
+            key("aggregation.codegen.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to generate a specialized aggregate merge function for the"
+                                    + " aggregate functions of the table. Only sum, min and max on"
+                                    + " numeric types, last_value, last_non_null_value and"
+                                    + " first_non_null_value are supported, otherwise the generic"
+                                    + " aggregate merge function is used.");
+
     public static final ConfigOption<String> COMMIT_USER_PREFIX =
             key("commit.user-prefix")
                     .stringType()
@@ -1763,6 +1938,10 @@ public class CoreOptions implements Serializable {
         return options.get(FIELDS_DEFAULT_AGG_FUNC);
     }
 
+    public boolean aggregationCodegenEnabled() {
+        return options.get(AGGREGATION_CODEGEN_ENABLED);
+    }
+
     public static String createCommitUser(Options options) {
         String commitUserPrefix = options.get(COMMIT_USER_PREFIX);
         return commitUserPrefix == null
@@ -1881,6 +2060,10 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_CLEAN_EMPTY_DIRECTORIES);
     }
 
+    public boolean snapshotTimelineEnabled() {
+        return options.get(SNAPSHOT_TIMELINE_ENABLED);
+    }
+
     public int deleteFileThreadNum() {
         return options.getOptional(DELETE_FILE_THREAD_NUM)
                 .orElseGet(() -> Runtime.getRuntime().availableProcessors());
@@ -1907,6 +2090,20 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_MERGE_MIN_COUNT);
     }
 
+    @Nullable
+    public Integer manifestWriteParallelism() {
+        return options.get(MANIFEST_WRITE_PARALLELISM);
+    }
+
+    @Nullable
+    public String metadataLocalCacheDir() {
+        return options.get(METADATA_LOCAL_CACHE_DIR);
+    }
+
+    public MemorySize metadataLocalCacheMaxSize() {
+        return options.get(METADATA_LOCAL_CACHE_MAX_SIZE);
+    }
+
     public MergeEngine mergeEngine() {
         return options.get(MERGE_ENGINE);
     }
@@ -1949,6 +2146,10 @@ public class CoreOptions implements Serializable {
         return options.get(WRITE_BUFFER_MAX_DISK_SIZE);
     }
 
+    public int writeBufferFlushThreads() {
+        return options.get(WRITE_BUFFER_FLUSH_THREADS);
+    }
+
     public boolean useWriteBufferForAppend() {
         return options.get(WRITE_BUFFER_FOR_APPEND);
     }
@@ -2004,6 +2205,14 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_CACHE_HIGH_PRIO_POOL_RATIO);
     }
 
+    public int lookupCacheFilePrebuildThreads() {
+        return options.get(LOOKUP_CACHE_FILE_PREBUILD_THREADS);
+    }
+
+    public int lookupResultCacheRows() {
+        return options.get(LOOKUP_RESULT_CACHE_ROWS);
+    }
+
     public long targetFileSize(boolean hasPrimaryKey) {
         return options.getOptional(TARGET_FILE_SIZE)
                 .orElse(hasPrimaryKey ? VALUE_128_MB : VALUE_256_MB)
@@ -2058,6 +2267,18 @@ public class CoreOptions implements Serializable {
         return options.get(COMMIT_MAX_RETRIES);
     }
 
+    public long commitMinRetryWait() {
+        return options.get(COMMIT_MIN_RETRY_WAIT).toMillis();
+    }
+
+    public long commitMaxRetryWait() {
+        return options.get(COMMIT_MAX_RETRY_WAIT).toMillis();
+    }
+
+    public int commitConflictIndexMaxDeltaSnapshots() {
+        return options.get(COMMIT_CONFLICT_INDEX_MAX_DELTA_SNAPSHOTS);
+    }
+
     public int maxSizeAmplificationPercent() {
         return options.get(COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT);
     }
@@ -2211,6 +2432,18 @@ public class CoreOptions implements Serializable {
         return options.get(SCAN_MANIFEST_PARALLELISM);
     }
 
+    public long scanPlanStateMaxFiles() {
+        return options.get(SCAN_PLAN_STATE_MAX_FILES);
+    }
+
+    public long scanPlanStateMaxMemorySize() {
+        return options.get(SCAN_PLAN_STATE_MAX_MEMORY_SIZE).getBytes();
+    }
+
+    public int scanPlanStateMaxDeltaSnapshots() {
+        return options.get(SCAN_PLAN_STATE_MAX_DELTA_SNAPSHOTS);
+    }
+
     public Duration streamingReadDelay() {
         return options.get(STREAMING_READ_SNAPSHOT_DELAY);
     }
@@ -2219,6 +2452,11 @@ public class CoreOptions implements Serializable {
         return options.get(DYNAMIC_BUCKET_INITIAL_BUCKETS);
     }
 
+    @Nullable
+    public MemorySize dynamicBucketIndexMaxMemory() {
+        return options.get(DYNAMIC_BUCKET_INDEX_MAX_MEMORY);
+    }
+
     public Integer dynamicBucketAssignerParallelism() {
         return options.get(DYNAMIC_BUCKET_ASSIGNER_PARALLELISM);
     }
@@ -2237,6 +2475,14 @@ public class CoreOptions implements Serializable {
         return options.getOptional(ROWKIND_FIELD);
     }
 
+    public int spillIoThreads() {
+        return options.get(SPILL_IO_THREADS);
+    }
+
+    public MemorySize spillIoBufferSize() {
+        return options.get(SPILL_IO_BUFFER_SIZE);
+    }
+
     public boolean writeOnly() {
         return options.get(WRITE_ONLY);
     }
@@ -3155,7 +3401,11 @@ public class CoreOptions implements Serializable {
     public enum LookupLocalFileType implements DescribedEnum {
         SORT("sort", "Construct a sorted file for lookup."),
 
-        HASH("hash", "Construct a hash file for lookup.");
+        HASH("hash", "Construct a hash file for lookup."),
+
+        MMAP(
+                "mmap",
+                "Construct a sorted file with prefix compressed keys for lookup, which is read through memory mapping.");
 
         private final String value;
 
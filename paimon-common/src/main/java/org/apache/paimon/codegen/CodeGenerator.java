@@ -52,4 +52,15 @@ public interface CodeGenerator {
     /** Generate a {@link RecordEqualiser} with fields. */
     GeneratedClass<RecordEqualiser> generateRecordEqualiser(
             List<DataType> fieldTypes, int[] fields);
+
+    /**
+     * Generate a {@link RecordAggregator}.
+     *
+     * @param fieldTypes types of the fields.
+     * @param aggFunctions the aggregate function name of each field, only sum, min, max,
+     *     last_value, last_non_null_value, first_non_null_value and primary-key are supported.
+     * @param ignoreRetract whether each field ignores retract messages.
+     */
+    GeneratedClass<RecordAggregator> generateRecordAggregator(
+            List<DataType> fieldTypes, List<String> aggFunctions, boolean[] ignoreRetract);
 }
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.codegen;
+
+import org.apache.paimon.data.InternalRow;
+
+/**
+ * Record aggregator which aggregates fields of input rows into an accumulated row, each field is
+ * aggregated by its own aggregate function.
+ */
+public interface RecordAggregator {
+
+    /** Reset the aggregator to a clean start state. */
+    void reset();
+
+    /** Accumulate an insert or update after row. */
+    void add(InternalRow input);
+
+    /** Retract a delete or update before row. */
+    void retract(InternalRow input);
+
+    /** Returns the accumulated row, a new row is returned for each call. */
+    InternalRow getResult();
+}
@@ -41,4 +41,9 @@ public class Segments {
     public int limitInLastSegment() {
         return limitInLastSegment;
     }
+
+    /** Memory size of the index built on top of the segments, excluding the segments. */
+    public long indexMemorySize() {
+        return 0;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.paimon.data.columnar;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.PartitionInfo;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.RecyclableIterator;
@@ -43,6 +44,13 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
     protected int nextPos;
     protected long nextFilePos;
 
+    // file position of the first row in the batch
+    private long batchStartPos;
+
+    // selected row ids of the batch, only valid when selectedSize >= 0
+    private int[] selected;
+    private int selectedSize = -1;
+
     public ColumnarRowIterator(Path filePath, ColumnarRow row, @Nullable Runnable recycler) {
         super(recycler);
         this.filePath = filePath;
@@ -54,11 +62,58 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
         this.num = row.batch().getNumRows();
         this.nextPos = 0;
         this.nextFilePos = nextFilePos;
+        this.batchStartPos = nextFilePos;
+        this.selectedSize = -1;
+    }
+
+    /**
+     * Evaluates the predicate on the remaining rows of the batch at once, after that {@link
+     * #next()} only returns the rows matching the predicate. Note that the underlying batch is not
+     * filtered.
+     */
+    public void select(Predicate predicate) {
+        int start = selectedSize >= 0 ? 0 : nextPos;
+        int size = selectedSize >= 0 ? selectedSize - nextPos : num - nextPos;
+        if (selectedSize < 0) {
+            if (selected == null || selected.length < size) {
+                selected = new int[num];
+            }
+            for (int i = 0; i < size; i++) {
+                selected[i] = start + i;
+            }
+        } else {
+            System.arraycopy(selected, nextPos, selected, 0, size);
+        }
+        this.selectedSize = predicate.test(row.batch(), selected, size);
+        this.nextPos = 0;
+    }
+
+    /**
+     * Selects the given row ids of the batch, after that {@link #next()} only returns the selected
+     * rows. Must be called before iterating the batch.
+     */
+    public void select(int[] selected, int selectedSize) {
+        if (this.selected == null || this.selected.length < selectedSize) {
+            this.selected = new int[Math.max(num, selectedSize)];
+        }
+        System.arraycopy(selected, 0, this.selected, 0, selectedSize);
+        this.selectedSize = selectedSize;
+        this.nextPos = 0;
     }
 
     @Nullable
     @Override
     public InternalRow next() {
+        if (selectedSize >= 0) {
+            if (nextPos < selectedSize) {
+                int rowId = selected[nextPos++];
+                row.setRowId(rowId);
+                nextFilePos = batchStartPos + rowId + 1;
+                return row;
+            }
+            return null;
+        }
+
         if (nextPos < num) {
             row.setRowId(nextPos++);
             nextFilePos++;
@@ -82,9 +137,16 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
         ColumnarRowIterator newIterator =
                 new ColumnarRowIterator(filePath, row.copy(vectors), recycler);
         newIterator.reset(nextFilePos);
+        copySelection(newIterator);
         return newIterator;
     }
 
+    protected void copySelection(ColumnarRowIterator newIterator) {
+        if (selectedSize >= 0) {
+            newIterator.select(selected, selectedSize);
+        }
+    }
+
     public ColumnarRowIterator mapping(
             @Nullable PartitionInfo partitionInfo, @Nullable int[] indexMapping) {
         if (partitionInfo != null || indexMapping != null) {
@@ -40,6 +40,7 @@ public class VectorizedRowIterator extends ColumnarRowIterator implements Vector
         VectorizedRowIterator newIterator =
                 new VectorizedRowIterator(filePath, row.copy(vectors), recycler);
         newIterator.reset(nextFilePos);
+        copySelection(newIterator);
         return newIterator;
     }
 }
@@ -50,4 +50,9 @@ public abstract class AbstractWritableVector implements WritableColumnVector, Se
     public boolean hasDictionary() {
         return this.dictionary != null;
     }
+
+    @Override
+    public Dictionary getDictionary() {
+        return this.dictionary;
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.utils.BloomFilter64;
+import org.apache.paimon.utils.BloomFilter64.BitSet;
+import org.apache.paimon.utils.IOUtils;
+
+import net.openhft.hashing.LongHashFunction;
+
+import java.io.IOException;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.apache.paimon.fileindex.FileIndexResult.SKIP;
+
+/**
+ * N-gram bloom filter for file index, used to skip files for equal, starts-with, ends-with and
+ * contains predicates on string columns.
+ *
+ * <p>Every value is split into overlapping n-grams of its UTF-8 bytes, and the n-grams are added
+ * into a {@link BloomFilter64}. A file may only contain a value matching the literal if all the
+ * n-grams of the literal are in the filter. Literals shorter than the gram size can not be
+ * checked.
+ */
+public class NGramBloomFilterFileIndex implements FileIndexer {
+
+    private static final int DEFAULT_GRAM_SIZE = 3;
+    private static final int DEFAULT_ITEMS = 1_000_000;
+    private static final double DEFAULT_FPP = 0.1;
+
+    private static final String GRAM_SIZE = "gram-size";
+    private static final String ITEMS = "items";
+    private static final String FPP = "fpp";
+
+    private final int gramSize;
+    private final int items;
+    private final double fpp;
+
+    public NGramBloomFilterFileIndex(DataType dataType, Options options) {
+        if (!dataType.is(DataTypeFamily.CHARACTER_STRING)) {
+            throw new UnsupportedOperationException(
+                    "N-gram bloom filter index only supports string type, but is " + dataType);
+        }
+        this.gramSize = options.getInteger(GRAM_SIZE, DEFAULT_GRAM_SIZE);
+        this.items = options.getInteger(ITEMS, DEFAULT_ITEMS);
+        this.fpp = options.getDouble(FPP, DEFAULT_FPP);
+        if (gramSize <= 0) {
+            throw new IllegalArgumentException("Gram size should be positive, but is " + gramSize);
+        }
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(gramSize, items, fpp);
+    }
+
+    @Override
+    public FileIndexReader createReader(SeekableInputStream inputStream, int start, int length) {
+        try {
+            inputStream.seek(start);
+            byte[] serializedBytes = new byte[length];
+            IOUtils.readFully(inputStream, serializedBytes);
+            return new Reader(serializedBytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static long hash(byte[] bytes, int offset, int gramSize) {
+        return LongHashFunction.xx().hashBytes(bytes, offset, gramSize);
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final int gramSize;
+        private final BloomFilter64 filter;
+
+        public Writer(int gramSize, int items, double fpp) {
+            this.gramSize = gramSize;
+            this.filter = new BloomFilter64(items, fpp);
+        }
+
+        @Override
+        public void write(Object key) {
+            if (key != null) {
+                byte[] bytes = ((BinaryString) key).toBytes();
+                for (int i = 0; i + gramSize <= bytes.length; i++) {
+                    filter.addHash(hash(bytes, i, gramSize));
+                }
+            }
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            int numHashFunctions = filter.getNumHashFunctions();
+            byte[] serialized =
+                    new byte[filter.getBitSet().bitSize() / Byte.SIZE + 2 * Integer.BYTES];
+            // big endian
+            writeInt(serialized, 0, gramSize);
+            writeInt(serialized, 4, numHashFunctions);
+            filter.getBitSet().toByteArray(serialized, 8, serialized.length - 8);
+            return serialized;
+        }
+
+        private static void writeInt(byte[] bytes, int offset, int value) {
+            bytes[offset] = (byte) ((value >>> 24) & 0xFF);
+            bytes[offset + 1] = (byte) ((value >>> 16) & 0xFF);
+            bytes[offset + 2] = (byte) ((value >>> 8) & 0xFF);
+            bytes[offset + 3] = (byte) (value & 0xFF);
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final int gramSize;
+        private final BloomFilter64 filter;
+
+        public Reader(byte[] serializedBytes) {
+            this.gramSize = readInt(serializedBytes, 0);
+            int numHashFunctions = readInt(serializedBytes, 4);
+            BitSet bitSet = new BitSet(serializedBytes, 8);
+            this.filter = new BloomFilter64(numHashFunctions, bitSet);
+        }
+
+        private static int readInt(byte[] bytes, int offset) {
+            return ((bytes[offset] & 0xFF) << 24)
+                    | ((bytes[offset + 1] & 0xFF) << 16)
+                    | ((bytes[offset + 2] & 0xFF) << 8)
+                    | (bytes[offset + 3] & 0xFF);
+        }
+
+        /** All the n-grams of a matched value contain the n-grams of the literal. */
+        private FileIndexResult testGrams(Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            byte[] bytes = ((BinaryString) literal).toBytes();
+            for (int i = 0; i + gramSize <= bytes.length; i++) {
+                if (!filter.testHash(hash(bytes, i, gramSize))) {
+                    return SKIP;
+                }
+            }
+            return REMAIN;
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+
+        @Override
+        public FileIndexResult visitStartsWith(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+
+        @Override
+        public FileIndexResult visitEndsWith(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+
+        @Override
+        public FileIndexResult visitContains(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.zonemap;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.CompareUtils;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import java.io.IOException;
+import java.util.function.IntPredicate;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+
+/**
+ * Zone map for file index, records min, max and null count of every block of rows in a file.
+ *
+ * <p>The result of a predicate is a {@link BitmapIndexResult} selecting the rows of the blocks
+ * which may contain matched values, so that the file format readers can skip the other row groups
+ * or pages and the remaining rows of unmatched blocks are filtered out. It works for any comparable
+ * type, including strings and timestamps, and is most effective for columns sorted within a file.
+ */
+public class ZoneMapFileIndex implements FileIndexer {
+
+    public static final int VERSION_1 = 1;
+
+    private static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private static final String BLOCK_SIZE = "block-size";
+
+    private final DataType dataType;
+    private final int blockSize;
+
+    public ZoneMapFileIndex(DataType dataType, Options options) {
+        if (!isSupported(dataType)) {
+            throw new UnsupportedOperationException(
+                    "Zone map index does not support type " + dataType);
+        }
+        this.dataType = dataType;
+        this.blockSize = options.getInteger(BLOCK_SIZE, DEFAULT_BLOCK_SIZE);
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Block size should be positive, but is " + blockSize);
+        }
+    }
+
+    private static boolean isSupported(DataType dataType) {
+        switch (dataType.getTypeRoot()) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+            case CHAR:
+            case VARCHAR:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(dataType, blockSize);
+    }
+
+    @Override
+    public FileIndexReader createReader(SeekableInputStream inputStream, int start, int length) {
+        try {
+            inputStream.seek(start);
+            byte[] serializedBytes = new byte[length];
+            IOUtils.readFully(inputStream, serializedBytes);
+            return new Reader(dataType, serializedBytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final DataType dataType;
+        private final Serializer<Object> serializer;
+        private final int blockSize;
+        private final DataOutputSerializer blocks;
+
+        private int rowCount;
+        private int blockCount;
+
+        // stats of the current block
+        private int blockRows;
+        private Object min;
+        private Object max;
+        private long nullCount;
+
+        public Writer(DataType dataType, int blockSize) {
+            this.dataType = dataType;
+            this.serializer = InternalSerializers.create(dataType);
+            this.blockSize = blockSize;
+            this.blocks = new DataOutputSerializer(256);
+        }
+
+        @Override
+        public void write(Object key) {
+            if (key == null) {
+                nullCount++;
+            } else {
+                // rows may be reused, copy the values to keep
+                if (min == null || CompareUtils.compareLiteral(dataType, key, min) < 0) {
+                    min = serializer.copy(key);
+                }
+                if (max == null || CompareUtils.compareLiteral(dataType, key, max) > 0) {
+                    max = serializer.copy(key);
+                }
+            }
+            rowCount++;
+            if (++blockRows == blockSize) {
+                finishBlock();
+            }
+        }
+
+        private void finishBlock() {
+            try {
+                blocks.writeLong(nullCount);
+                blocks.writeBoolean(min != null);
+                if (min != null) {
+                    serializer.serialize(min, blocks);
+                    serializer.serialize(max, blocks);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            blockCount++;
+            blockRows = 0;
+            min = null;
+            max = null;
+            nullCount = 0;
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            if (blockRows > 0) {
+                finishBlock();
+            }
+            try {
+                DataOutputSerializer out = new DataOutputSerializer(blocks.length() + 13);
+                out.writeByte(VERSION_1);
+                out.writeInt(blockSize);
+                out.writeInt(rowCount);
+                out.writeInt(blockCount);
+                out.write(blocks.getSharedBuffer(), 0, blocks.length());
+                return out.getCopyOfBuffer();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final DataType dataType;
+        private final int blockSize;
+        private final int rowCount;
+        private final long[] nullCounts;
+        // null if all the values of the block are null
+        private final Object[] mins;
+        private final Object[] maxs;
+
+        public Reader(DataType dataType, byte[] serializedBytes) throws IOException {
+            DataInputDeserializer in = new DataInputDeserializer(serializedBytes);
+            byte version = in.readByte();
+            if (version > VERSION_1) {
+                throw new RuntimeException(
+                        String.format(
+                                "read zone map index file fail, "
+                                        + "your plugin version is lower than %d",
+                                version));
+            }
+
+            this.dataType = dataType;
+            this.blockSize = in.readInt();
+            this.rowCount = in.readInt();
+            int blockCount = in.readInt();
+            this.nullCounts = new long[blockCount];
+            this.mins = new Object[blockCount];
+            this.maxs = new Object[blockCount];
+
+            Serializer<Object> serializer = InternalSerializers.create(dataType);
+            for (int i = 0; i < blockCount; i++) {
+                nullCounts[i] = in.readLong();
+                if (in.readBoolean()) {
+                    mins[i] = serializer.deserialize(in);
+                    maxs[i] = serializer.deserialize(in);
+                }
+            }
+        }
+
+        private int blockRows(int block) {
+            return Math.min(blockSize, rowCount - block * blockSize);
+        }
+
+        private int compare(Object v1, Object v2) {
+            return CompareUtils.compareLiteral(dataType, v1, v2);
+        }
+
+        /** Selects the rows of the blocks passing the test. */
+        private FileIndexResult select(IntPredicate blockTest) {
+            return new BitmapIndexResult(
+                    () -> {
+                        RoaringBitmap32 bitmap = new RoaringBitmap32();
+                        for (int i = 0; i < nullCounts.length; i++) {
+                            if (blockTest.test(i)) {
+                                long start = (long) i * blockSize;
+                                bitmap.addRange(start, start + blockRows(i));
+                            }
+                        }
+                        return bitmap;
+                    });
+        }
+
+        /** Selects the blocks with non-null values passing the test, null literal is unknown. */
+        private FileIndexResult selectValues(Object literal, IntPredicate blockTest) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return select(i -> mins[i] != null && blockTest.test(i));
+        }
+
+        @Override
+        public FileIndexResult visitIsNull(FieldRef fieldRef) {
+            return select(i -> nullCounts[i] > 0);
+        }
+
+        @Override
+        public FileIndexResult visitIsNotNull(FieldRef fieldRef) {
+            return select(i -> nullCounts[i] < blockRows(i));
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            return selectValues(
+                    literal,
+                    i -> compare(mins[i], literal) <= 0 && compare(maxs[i], literal) >= 0);
+        }
+
+        @Override
+        public FileIndexResult visitNotEqual(FieldRef fieldRef, Object literal) {
+            return selectValues(
+                    literal,
+                    i -> compare(mins[i], literal) != 0 || compare(maxs[i], literal) != 0);
+        }
+
+        @Override
+        public FileIndexResult visitLessThan(FieldRef fieldRef, Object literal) {
+            return selectValues(literal, i -> compare(mins[i], literal) < 0);
+        }
+
+        @Override
+        public FileIndexResult visitLessOrEqual(FieldRef fieldRef, Object literal) {
+            return selectValues(literal, i -> compare(mins[i], literal) <= 0);
+        }
+
+        @Override
+        public FileIndexResult visitGreaterThan(FieldRef fieldRef, Object literal) {
+            return selectValues(literal, i -> compare(maxs[i], literal) > 0);
+        }
+
+        @Override
+        public FileIndexResult visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
+            return selectValues(literal, i -> compare(maxs[i], literal) >= 0);
+        }
+
+        @Override
+        public FileIndexResult visitStartsWith(FieldRef fieldRef, Object literal) {
+            if (!dataType.is(DataTypeFamily.CHARACTER_STRING)) {
+                return REMAIN;
+            }
+            // values starting with the prefix are not less than the prefix, and their first bytes
+            // are the prefix, so the first bytes of min should not be greater than the prefix
+            return selectValues(
+                    literal,
+                    i -> {
+                        BinaryString prefix = (BinaryString) literal;
+                        byte[] min = ((BinaryString) mins[i]).toBytes();
+                        BinaryString minPrefix =
+                                BinaryString.fromBytes(
+                                        min, 0, Math.min(min.length, prefix.getSizeInBytes()));
+                        return compare(maxs[i], prefix) >= 0 && compare(minPrefix, prefix) <= 0;
+                    });
+        }
+    }
+}
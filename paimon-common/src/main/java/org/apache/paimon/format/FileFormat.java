@@ -60,6 +60,23 @@ public abstract class FileFormat {
     public abstract FormatReaderFactory createReaderFactory(
             RowType projectedRowType, @Nullable List<Predicate> filters);
 
+    /**
+     * Create a {@link FormatReaderFactory} from the type, with projection and filters pushed down.
+     * Unlike the best-effort filters, the row filters are exact for the read, so the reader may
+     * drop every single row not matching them. Formats not supporting it ignore the row filters.
+     *
+     * @param projectedRowType Type with projection.
+     * @param filters A list of filters in conjunctive form for filtering on a best-effort basis.
+     * @param rowFilters A list of filters in conjunctive form which may filter single rows, null
+     *     if rows must not be dropped.
+     */
+    public FormatReaderFactory createReaderFactory(
+            RowType projectedRowType,
+            @Nullable List<Predicate> filters,
+            @Nullable List<Predicate> rowFilters) {
+        return createReaderFactory(projectedRowType, filters);
+    }
+
     /** Create a {@link FormatWriterFactory} from the type. */
     public abstract FormatWriterFactory createWriterFactory(RowType type);
 
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.SupplierWithIOException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A pool of input streams of the same file, so that positioned reads of a {@link VectoredReadable}
+ * can be issued in parallel even if the positioned read of a single stream is serialized, which is
+ * the case for most object stores. Streams are opened lazily and at most {@code maxStreams} streams
+ * are opened, the callers are blocked when all of them are in use.
+ */
+@ThreadSafe
+public class InputStreamPool<T extends Closeable> implements Closeable {
+
+    private final SupplierWithIOException<T> opener;
+    private final int maxStreams;
+    private final Deque<T> idleStreams;
+
+    private int openedStreams;
+    private boolean closed;
+
+    public InputStreamPool(SupplierWithIOException<T> opener, int maxStreams) {
+        this.opener = opener;
+        this.maxStreams = Math.max(1, maxStreams);
+        this.idleStreams = new ArrayDeque<>();
+    }
+
+    /** Borrow a stream, it must be returned by {@link #release} after use. */
+    public T borrow() throws IOException {
+        synchronized (this) {
+            while (true) {
+                if (closed) {
+                    throw new IOException("Stream pool is already closed.");
+                }
+                if (!idleStreams.isEmpty()) {
+                    return idleStreams.pop();
+                }
+                if (openedStreams < maxStreams) {
+                    openedStreams++;
+                    break;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a stream.");
+                }
+            }
+        }
+
+        // open the stream outside the lock, it may issue remote requests
+        try {
+            return opener.get();
+        } catch (Throwable t) {
+            synchronized (this) {
+                openedStreams--;
+                notifyAll();
+            }
+            throw t;
+        }
+    }
+
+    public void release(T stream) {
+        synchronized (this) {
+            if (!closed) {
+                idleStreams.push(stream);
+                notifyAll();
+                return;
+            }
+        }
+        IOUtils.closeQuietly(stream);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        // streams in use are closed when they are released
+        T stream;
+        while ((stream = pollIdle()) != null) {
+            IOUtils.closeQuietly(stream);
+        }
+    }
+
+    private synchronized T pollIdle() {
+        return idleStreams.poll();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.apache.paimon.options.Options;
+
+import java.io.Serializable;
+
+import static org.apache.paimon.options.CatalogOptions.FILE_IO_VECTORED_READ_BATCH_SIZE;
+import static org.apache.paimon.options.CatalogOptions.FILE_IO_VECTORED_READ_MIN_SEEK;
+import static org.apache.paimon.options.CatalogOptions.FILE_IO_VECTORED_READ_PARALLELISM;
+
+/** Options of {@link VectoredReadable} streams created by a {@link FileIO}. */
+public class VectoredReadOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final VectoredReadOptions DEFAULT = fromOptions(new Options());
+
+    private final int minSeek;
+    private final int batchSize;
+    private final int parallelism;
+
+    public VectoredReadOptions(int minSeek, int batchSize, int parallelism) {
+        this.minSeek = minSeek;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    public int minSeek() {
+        return minSeek;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public static VectoredReadOptions fromOptions(Options options) {
+        return new VectoredReadOptions(
+                (int) options.get(FILE_IO_VECTORED_READ_MIN_SEEK).getBytes(),
+                (int) options.get(FILE_IO_VECTORED_READ_BATCH_SIZE).getBytes(),
+                options.get(FILE_IO_VECTORED_READ_PARALLELISM));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs.cache;
+
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * A {@link FileIO} which reads files through a {@link LocalFileCache}. It should only be used for
+ * immutable files, such as manifest files, all other operations are delegated to the wrapped {@link
+ * FileIO}.
+ */
+public class CachingFileIO implements FileIO {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingFileIO.class);
+
+    private final FileIO fileIO;
+    private final String cacheDirectory;
+    private final long cacheMaxSize;
+
+    private transient volatile LocalFileCache lazyCache;
+
+    public CachingFileIO(FileIO fileIO, String cacheDirectory, long cacheMaxSize) {
+        this.fileIO = fileIO;
+        this.cacheDirectory = cacheDirectory;
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    @Override
+    public boolean isObjectStore() {
+        return fileIO.isObjectStore();
+    }
+
+    @Override
+    public void configure(CatalogContext context) {
+        fileIO.configure(context);
+    }
+
+    @Override
+    public SeekableInputStream newInputStream(Path path) throws IOException {
+        try {
+            java.nio.file.Path local = cache().get(path, () -> fileIO.newInputStream(path));
+            return new LocalFileIO.LocalSeekableInputStream(local.toFile());
+        } catch (IOException e) {
+            if (!fileIO.exists(path)) {
+                throw e;
+            }
+            LOG.warn("Failed to read {} from local cache, read it from file system.", path, e);
+            return fileIO.newInputStream(path);
+        }
+    }
+
+    @Override
+    public PositionOutputStream newOutputStream(Path path, boolean overwrite) throws IOException {
+        if (overwrite) {
+            cache().invalidate(path);
+        }
+        return fileIO.newOutputStream(path, overwrite);
+    }
+
+    @Override
+    public FileStatus getFileStatus(Path path) throws IOException {
+        return fileIO.getFileStatus(path);
+    }
+
+    @Override
+    public FileStatus[] listStatus(Path path) throws IOException {
+        return fileIO.listStatus(path);
+    }
+
+    @Override
+    public boolean exists(Path path) throws IOException {
+        return fileIO.exists(path);
+    }
+
+    @Override
+    public boolean delete(Path path, boolean recursive) throws IOException {
+        cache().invalidate(path);
+        return fileIO.delete(path, recursive);
+    }
+
+    @Override
+    public boolean mkdirs(Path path) throws IOException {
+        return fileIO.mkdirs(path);
+    }
+
+    @Override
+    public boolean rename(Path src, Path dst) throws IOException {
+        cache().invalidate(dst);
+        return fileIO.rename(src, dst);
+    }
+
+    public FileIO wrapped() {
+        return fileIO;
+    }
+
+    private LocalFileCache cache() {
+        if (lazyCache == null) {
+            synchronized (this) {
+                if (lazyCache == null) {
+                    lazyCache = LocalFileCache.getOrCreate(cacheDirectory, cacheMaxSize);
+                }
+            }
+        }
+        return lazyCache;
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs.cache;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.utils.SupplierWithIOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * A cache of immutable remote files on local disk, which can be shared by all processes on the same
+ * host using the same directory.
+ *
+ * <p>Each cached file is stored with a checksum file, the checksum file is published after the data
+ * file with atomic renames, so a file without checksum is never read. Files copied by other
+ * processes are validated against their checksum before they are used for the first time.
+ *
+ * <p>Files are evicted in LRU order once the cached bytes exceed the max size. The size is enforced
+ * by each process on the files it knows, which are the files existing when the cache is created and
+ * the files accessed afterwards.
+ */
+@ThreadSafe
+public class LocalFileCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalFileCache.class);
+
+    private static final String CHECKSUM_SUFFIX = ".crc";
+    private static final String TMP_SUFFIX = ".tmp-";
+    private static final long TMP_FILE_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final Map<String, LocalFileCache> CACHES = new ConcurrentHashMap<>();
+
+    private final java.nio.file.Path directory;
+    private final long maxSize;
+
+    // key -> cached entry, in access order
+    private final LinkedHashMap<String, Entry> entries;
+    private long totalSize;
+
+    @VisibleForTesting
+    LocalFileCache(java.nio.file.Path directory, long maxSize) throws IOException {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        Files.createDirectories(directory);
+        loadExistingFiles();
+    }
+
+    /**
+     * Get the shared cache of the directory in this process. All the users of a directory in the
+     * same process share one cache, the max size of the first user is kept.
+     */
+    public static LocalFileCache getOrCreate(String directory, long maxSize) {
+        java.nio.file.Path path = java.nio.file.Paths.get(directory).toAbsolutePath().normalize();
+        LocalFileCache cache =
+                CACHES.computeIfAbsent(
+                        path.toString(),
+                        dir -> {
+                            try {
+                                return new LocalFileCache(path, maxSize);
+                            } catch (IOException e) {
+                                throw new RuntimeException(
+                                        "Cannot create local file cache in " + dir, e);
+                            }
+                        });
+        if (cache.maxSize != maxSize) {
+            LOG.warn(
+                    "Local file cache in {} has been created with max size {} bytes, "
+                            + "ignore the max size {} bytes.",
+                    path,
+                    cache.maxSize,
+                    maxSize);
+        }
+        return cache;
+    }
+
+    /**
+     * Get the local copy of the remote file, the file is copied from the given stream if it is not
+     * cached yet.
+     */
+    public java.nio.file.Path get(Path remote, SupplierWithIOException<InputStream> remoteStream)
+            throws IOException {
+        String key = key(remote);
+        java.nio.file.Path data = directory.resolve(key);
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null && entry.validated && Files.exists(data)) {
+            touch(data);
+            return data;
+        }
+
+        Long size = validate(key);
+        if (size == null) {
+            size = copy(key, remoteStream);
+        } else {
+            touch(data);
+        }
+        add(key, size);
+        return data;
+    }
+
+    /** Remove the local copy of the remote file. */
+    public void invalidate(Path remote) {
+        String key = key(remote);
+        synchronized (this) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                totalSize -= entry.size;
+            }
+        }
+        delete(key);
+    }
+
+    @VisibleForTesting
+    synchronized long totalSize() {
+        return totalSize;
+    }
+
+    @VisibleForTesting
+    java.nio.file.Path directory() {
+        return directory;
+    }
+
+    @VisibleForTesting
+    static String key(Path remote) {
+        return UUID.nameUUIDFromBytes(remote.toString().getBytes(StandardCharsets.UTF_8))
+                .toString();
+    }
+
+    private void loadExistingFiles() throws IOException {
+        List<java.nio.file.Path> files = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        try (Stream<java.nio.file.Path> stream = Files.list(directory)) {
+            Iterator<java.nio.file.Path> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                java.nio.file.Path file = iterator.next();
+                String name = file.getFileName().toString();
+                if (name.contains(TMP_SUFFIX)) {
+                    // left by a crashed process
+                    if (now - lastModified(file) > TMP_FILE_RETENTION_MILLIS) {
+                        Files.deleteIfExists(file);
+                    }
+                } else if (!name.endsWith(CHECKSUM_SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+
+        files.sort(Comparator.comparingLong(LocalFileCache::lastModified));
+        for (java.nio.file.Path file : files) {
+            try {
+                add(file.getFileName().toString(), Files.size(file), false);
+            } catch (NoSuchFileException ignored) {
+                // evicted by another process
+            }
+        }
+    }
+
+    /** Validate the data file against its checksum, return its size or null if it is invalid. */
+    private Long validate(String key) {
+        java.nio.file.Path data = directory.resolve(key);
+        java.nio.file.Path checksum = directory.resolve(key + CHECKSUM_SUFFIX);
+        if (!Files.exists(checksum)) {
+            return null;
+        }
+
+        try {
+            long expectedSize;
+            long expectedCrc;
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(checksum))) {
+                expectedSize = in.readLong();
+                expectedCrc = in.readLong();
+            }
+
+            CRC32 crc = new CRC32();
+            long size = 0;
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(data)) {
+                int len;
+                while ((len = in.read(buffer)) != -1) {
+                    crc.update(buffer, 0, len);
+                    size += len;
+                }
+            }
+
+            if (size == expectedSize && crc.getValue() == expectedCrc) {
+                return size;
+            }
+            LOG.warn("Checksum of local cached file {} mismatches, copy it again.", data);
+        } catch (IOException e) {
+            LOG.debug("Cannot validate local cached file {}, copy it again.", data, e);
+        }
+        return null;
+    }
+
+    private long copy(String key, SupplierWithIOException<InputStream> remoteStream)
+            throws IOException {
+        String tmpSuffix = TMP_SUFFIX + UUID.randomUUID();
+        java.nio.file.Path tmpData = directory.resolve(key + tmpSuffix);
+        java.nio.file.Path tmpChecksum = directory.resolve(key + CHECKSUM_SUFFIX + tmpSuffix);
+        try {
+            long size;
+            long crc;
+            try (CheckedInputStream in = new CheckedInputStream(remoteStream.get(), new CRC32())) {
+                size = Files.copy(in, tmpData);
+                crc = in.getChecksum().getValue();
+            }
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmpChecksum))) {
+                out.writeLong(size);
+                out.writeLong(crc);
+            }
+
+            // publish the data file before the checksum file, so that readers only see complete
+            // data files, the content is the same if another process publishes the same file
+            move(tmpData, directory.resolve(key));
+            move(tmpChecksum, directory.resolve(key + CHECKSUM_SUFFIX));
+            return size;
+        } finally {
+            Files.deleteIfExists(tmpData);
+            Files.deleteIfExists(tmpChecksum);
+        }
+    }
+
+    private void add(String key, long size) {
+        add(key, size, true);
+    }
+
+    private void add(String key, long size, boolean validated) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Entry previous = entries.put(key, new Entry(size, validated));
+            if (previous != null) {
+                totalSize -= previous.size;
+            }
+            totalSize += size;
+
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (totalSize > maxSize && iterator.hasNext()) {
+                Map.Entry<String, Entry> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                iterator.remove();
+                totalSize -= eldest.getValue().size;
+                evicted.add(eldest.getKey());
+            }
+        }
+        evicted.forEach(this::delete);
+    }
+
+    private void delete(String key) {
+        try {
+            // delete the checksum file first, so that readers never use a deleting data file
+            Files.deleteIfExists(directory.resolve(key + CHECKSUM_SUFFIX));
+            Files.deleteIfExists(directory.resolve(key));
+        } catch (IOException e) {
+            LOG.warn("Failed to delete local cached file {}.", key, e);
+        }
+    }
+
+    private static void move(java.nio.file.Path source, java.nio.file.Path target)
+            throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void touch(java.nio.file.Path file) {
+        try {
+            // let other processes know the recent access when they load the cache
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static long lastModified(java.nio.file.Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static class Entry {
+
+        private final long size;
+        private final boolean validated;
+
+        private Entry(long size, boolean validated) {
+            this.size = size;
+            this.validated = validated;
+        }
+    }
+}
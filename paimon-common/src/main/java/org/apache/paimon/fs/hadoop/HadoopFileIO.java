@@ -22,19 +22,25 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.catalog.CatalogContext;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.InputStreamPool;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.VectoredReadOptions;
+import org.apache.paimon.fs.VectoredReadable;
 import org.apache.paimon.hadoop.SerializableConfiguration;
 import org.apache.paimon.utils.FunctionWithException;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.ReflectionUtils;
+import org.apache.paimon.utils.SupplierWithIOException;
 
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Options;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.lang.reflect.InvocationTargetException;
@@ -54,6 +60,8 @@ public class HadoopFileIO implements FileIO {
 
     protected transient volatile Map<Pair<String, String>, FileSystem> fsMap;
 
+    @Nullable protected VectoredReadOptions vectoredReadOptions;
+
     @VisibleForTesting
     public void setFileSystem(Path path, FileSystem fs) throws IOException {
         org.apache.hadoop.fs.Path hadoopPath = path(path);
@@ -68,12 +76,15 @@ public class HadoopFileIO implements FileIO {
     @Override
     public void configure(CatalogContext context) {
         this.hadoopConf = new SerializableConfiguration(context.hadoopConf());
+        this.vectoredReadOptions = VectoredReadOptions.fromOptions(context.options());
     }
 
     @Override
     public SeekableInputStream newInputStream(Path path) throws IOException {
         org.apache.hadoop.fs.Path hadoopPath = path(path);
-        return new HadoopSeekableInputStream(getFileSystem(hadoopPath).open(hadoopPath));
+        FileSystem fs = getFileSystem(hadoopPath);
+        return new HadoopSeekableInputStream(
+                fs.open(hadoopPath), () -> fs.open(hadoopPath), vectoredReadOptions());
     }
 
     @Override
@@ -175,7 +186,12 @@ public class HadoopFileIO implements FileIO {
         return path.getFileSystem(hadoopConf.get());
     }
 
-    private static class HadoopSeekableInputStream extends SeekableInputStream {
+    private VectoredReadOptions vectoredReadOptions() {
+        return vectoredReadOptions == null ? VectoredReadOptions.DEFAULT : vectoredReadOptions;
+    }
+
+    private static class HadoopSeekableInputStream extends SeekableInputStream
+            implements VectoredReadable {
 
         /**
          * Minimum amount of bytes to skip forward before we issue a seek instead of discarding
@@ -198,8 +214,18 @@ public class HadoopFileIO implements FileIO {
 
         private final FSDataInputStream in;
 
-        private HadoopSeekableInputStream(FSDataInputStream in) {
+        /** Streams for positioned reads, so that ranges of vectored reads are read in parallel. */
+        private final InputStreamPool<FSDataInputStream> preadStreams;
+
+        private final VectoredReadOptions vectoredReadOptions;
+
+        private HadoopSeekableInputStream(
+                FSDataInputStream in,
+                SupplierWithIOException<FSDataInputStream> opener,
+                VectoredReadOptions vectoredReadOptions) {
             this.in = in;
+            this.preadStreams = new InputStreamPool<>(opener, vectoredReadOptions.parallelism());
+            this.vectoredReadOptions = vectoredReadOptions;
         }
 
         @Override
@@ -234,9 +260,35 @@ public class HadoopFileIO implements FileIO {
 
         @Override
         public void close() throws IOException {
+            preadStreams.close();
             in.close();
         }
 
+        @Override
+        public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+            FSDataInputStream stream = preadStreams.borrow();
+            try {
+                return stream.read(position, buffer, offset, length);
+            } finally {
+                preadStreams.release(stream);
+            }
+        }
+
+        @Override
+        public int minSeekForVectorReads() {
+            return vectoredReadOptions.minSeek();
+        }
+
+        @Override
+        public int batchSizeForVectorReads() {
+            return vectoredReadOptions.batchSize();
+        }
+
+        @Override
+        public int parallelismForVectorReads() {
+            return vectoredReadOptions.parallelism();
+        }
+
         /**
          * Positions the stream to the given location. In contrast to {@link #seek(long)}, this
          * method will always issue a "seek" command to the dfs and may not replace it by {@link
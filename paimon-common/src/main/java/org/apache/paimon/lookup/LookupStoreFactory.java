@@ -22,6 +22,7 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.compression.CompressOptions;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.mmap.MmapLookupStoreFactory;
 import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.memory.MemorySlice;
 import org.apache.paimon.options.Options;
@@ -78,6 +79,8 @@ public interface LookupStoreFactory {
                         options.cachePageSize(),
                         options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
                         compression);
+            case MMAP:
+                return new MmapLookupStoreFactory(keyComparator, options.cachePageSize());
             default:
                 throw new IllegalArgumentException(
                         "Unsupported lookup local file type: " + options.lookupLocalFileType());
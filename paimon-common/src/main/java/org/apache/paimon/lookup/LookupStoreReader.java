@@ -22,6 +22,8 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /** Reader, lookup value by key bytes. */
 public interface LookupStoreReader extends Closeable {
@@ -29,4 +31,17 @@ public interface LookupStoreReader extends Closeable {
     /** Lookup value by key. */
     @Nullable
     byte[] lookup(byte[] key) throws IOException;
+
+    /**
+     * Lookup values by keys, the returned list has the same order as the keys and contains null for
+     * the keys which are not found. Stores which are sorted can share work between adjacent keys,
+     * so keys should be sorted by the comparator of the store if possible.
+     */
+    default List<byte[]> lookup(List<byte[]> keys) throws IOException {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            values.add(lookup(key));
+        }
+        return values;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.mmap;
+
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.utils.BloomFilter;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * A {@link LookupStoreFactory} which uses sorted blocks with prefix compressed keys, and reads the
+ * file through memory mapping.
+ */
+public class MmapLookupStoreFactory implements LookupStoreFactory {
+
+    public static final int DEFAULT_RESTART_INTERVAL = 16;
+
+    private final Comparator<MemorySlice> comparator;
+    private final int blockSize;
+    private final int restartInterval;
+
+    public MmapLookupStoreFactory(Comparator<MemorySlice> comparator, int blockSize) {
+        this(comparator, blockSize, DEFAULT_RESTART_INTERVAL);
+    }
+
+    public MmapLookupStoreFactory(
+            Comparator<MemorySlice> comparator, int blockSize, int restartInterval) {
+        this.comparator = comparator;
+        this.blockSize = blockSize;
+        this.restartInterval = restartInterval;
+    }
+
+    @Override
+    public MmapLookupStoreReader createReader(File file, Context context) throws IOException {
+        return new MmapLookupStoreReader(comparator, file, (MmapContext) context);
+    }
+
+    @Override
+    public MmapLookupStoreWriter createWriter(File file, @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
+        return new MmapLookupStoreWriter(file, blockSize, restartInterval, bloomFilter);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.mmap;
+
+import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.memory.MemorySliceInput;
+import org.apache.paimon.memory.MemoryUtils;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.apache.paimon.lookup.mmap.MmapLookupStoreWriter.FOOTER_LENGTH;
+import static org.apache.paimon.lookup.mmap.MmapLookupStoreWriter.MAGIC_NUMBER;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A {@link LookupStoreReader} for mmap store. The file is memory mapped, blocks and the bloom
+ * filter are read in place, so lookups do not copy blocks into heap and do not need block cache.
+ *
+ * <p>A mapping can not be larger than 2 GB, so data blocks are mapped in chunks of whole blocks,
+ * the bloom filter and the index block are mapped separately. All the mappings are released when
+ * the reader is closed.
+ */
+public class MmapLookupStoreReader implements LookupStoreReader {
+
+    private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+
+    private final Comparator<MemorySlice> comparator;
+    private final List<MappedByteBuffer> buffers;
+    private final PrefixBlockReader indexBlock;
+    private final MemorySliceInput indexInput;
+    @Nullable private final BloomFilter bloomFilter;
+
+    // start offsets of the data chunks in the file, and readers of them
+    private final long[] chunkStarts;
+    private final PrefixBlockReader[] chunkReaders;
+
+    public MmapLookupStoreReader(Comparator<MemorySlice> comparator, File file, MmapContext context)
+            throws IOException {
+        this(comparator, file, context, MAX_CHUNK_SIZE);
+    }
+
+    MmapLookupStoreReader(
+            Comparator<MemorySlice> comparator, File file, MmapContext context, long maxChunkSize)
+            throws IOException {
+        this.comparator = comparator;
+        this.buffers = new ArrayList<>();
+        long fileSize = context.fileSize();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // read footer
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_LENGTH);
+            while (footer.hasRemaining()) {
+                if (channel.read(footer, fileSize - FOOTER_LENGTH + footer.position()) < 0) {
+                    throw new EOFException("Unexpected end of lookup file " + file);
+                }
+            }
+            MemorySliceInput footerInput =
+                    MemorySlice.wrap(MemorySegment.wrap(footer.array())).toInput();
+            long bloomFilterOffset = footerInput.readLong();
+            int bloomFilterSize = footerInput.readInt();
+            long bloomFilterExpectedEntries = footerInput.readLong();
+            long indexOffset = footerInput.readLong();
+            int indexLength = footerInput.readInt();
+            int magicNumber = footerInput.readInt();
+            checkArgument(
+                    magicNumber == MAGIC_NUMBER,
+                    "File %s is not a mmap lookup file, magic number is %s.",
+                    file,
+                    magicNumber);
+
+            MemorySegment indexSegment = map(channel, indexOffset, indexLength);
+            this.indexBlock = new PrefixBlockReader(comparator, indexSegment);
+            this.indexBlock.reset(0, indexLength);
+            this.indexInput = MemorySlice.wrap(indexSegment).toInput();
+
+            if (bloomFilterOffset >= 0) {
+                this.bloomFilter = new BloomFilter(bloomFilterExpectedEntries, bloomFilterSize);
+                this.bloomFilter.setMemorySegment(
+                        map(channel, bloomFilterOffset, bloomFilterSize), 0);
+            } else {
+                this.bloomFilter = null;
+            }
+
+            // group the data blocks, which are written contiguously, into chunks
+            List<Long> starts = new ArrayList<>();
+            List<PrefixBlockReader> readers = new ArrayList<>();
+            long chunkStart = 0;
+            long chunkEnd = 0;
+            while (indexBlock.next()) {
+                indexInput.setPosition(indexBlock.valueOffset());
+                long blockOffset = indexInput.readVarLenLong();
+                long blockEnd = blockOffset + indexInput.readVarLenInt();
+                if (blockEnd - chunkStart > maxChunkSize && chunkEnd > chunkStart) {
+                    starts.add(chunkStart);
+                    readers.add(chunkReader(channel, chunkStart, chunkEnd));
+                    chunkStart = chunkEnd;
+                }
+                chunkEnd = blockEnd;
+            }
+            if (chunkEnd > chunkStart) {
+                starts.add(chunkStart);
+                readers.add(chunkReader(channel, chunkStart, chunkEnd));
+            }
+            this.chunkStarts = starts.stream().mapToLong(Long::longValue).toArray();
+            this.chunkReaders = readers.toArray(new PrefixBlockReader[0]);
+        } catch (Throwable t) {
+            releaseBuffers();
+            throw t;
+        }
+    }
+
+    private MemorySegment map(FileChannel channel, long position, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        buffers.add(buffer);
+        return MemorySegment.wrapOffHeapMemory(buffer);
+    }
+
+    private PrefixBlockReader chunkReader(FileChannel channel, long start, long end)
+            throws IOException {
+        return new PrefixBlockReader(comparator, map(channel, start, end - start));
+    }
+
+    @Nullable
+    @Override
+    public byte[] lookup(byte[] key) throws IOException {
+        if (bloomFilter != null && !bloomFilter.testHash(MurmurHashUtils.hashBytes(key))) {
+            return null;
+        }
+
+        MemorySlice keySlice = MemorySlice.wrap(key);
+        // seek the index to the block containing the key
+        if (!indexBlock.seek(keySlice)) {
+            return null;
+        }
+
+        PrefixBlockReader dataBlock = seekDataBlock();
+        return seekValue(dataBlock, keySlice);
+    }
+
+    @Override
+    public List<byte[]> lookup(List<byte[]> keys) throws IOException {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        // the data block of the previous key and the last key of that block, sorted keys falling
+        // into the same block reuse it without seeking the index
+        PrefixBlockReader currentBlock = null;
+        MemorySlice currentBlockLastKey = null;
+        MemorySlice previousKey = null;
+        for (byte[] key : keys) {
+            if (bloomFilter != null && !bloomFilter.testHash(MurmurHashUtils.hashBytes(key))) {
+                values.add(null);
+                continue;
+            }
+
+            MemorySlice keySlice = MemorySlice.wrap(key);
+            if (currentBlock == null
+                    || comparator.compare(keySlice, previousKey) < 0
+                    || comparator.compare(keySlice, currentBlockLastKey) > 0) {
+                if (!indexBlock.seek(keySlice)) {
+                    currentBlock = null;
+                    values.add(null);
+                    continue;
+                }
+                currentBlockLastKey = MemorySlice.wrap(indexBlock.key().copyBytes());
+                currentBlock = seekDataBlock();
+            }
+            previousKey = keySlice;
+            values.add(seekValue(currentBlock, keySlice));
+        }
+        return values;
+    }
+
+    /** Reset the reader of the chunk containing the data block of current index entry. */
+    private PrefixBlockReader seekDataBlock() {
+        indexInput.setPosition(indexBlock.valueOffset());
+        long blockOffset = indexInput.readVarLenLong();
+        int blockLength = indexInput.readVarLenInt();
+        int chunk = Arrays.binarySearch(chunkStarts, blockOffset);
+        if (chunk < 0) {
+            chunk = -chunk - 2;
+        }
+        PrefixBlockReader dataBlock = chunkReaders[chunk];
+        dataBlock.reset((int) (blockOffset - chunkStarts[chunk]), blockLength);
+        return dataBlock;
+    }
+
+    @Nullable
+    private byte[] seekValue(PrefixBlockReader dataBlock, MemorySlice keySlice) {
+        if (dataBlock.seek(keySlice) && comparator.compare(dataBlock.key(), keySlice) == 0) {
+            return dataBlock.copyValue();
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (bloomFilter != null) {
+            bloomFilter.unsetMemorySegment();
+        }
+        // unmap eagerly, the file may be deleted right after closing and the mapping should not
+        // hold the disk space and memory until garbage collection
+        releaseBuffers();
+    }
+
+    private void releaseBuffers() {
+        for (MappedByteBuffer buffer : buffers) {
+            MemoryUtils.freeDirectBuffer(buffer);
+        }
+        buffers.clear();
+    }
+}
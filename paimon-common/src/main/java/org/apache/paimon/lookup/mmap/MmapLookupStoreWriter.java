@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.mmap;
+
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.memory.MemorySliceOutput;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * A {@link LookupStoreWriter} for mmap store. The file is composed of:
+ *
+ * <ul>
+ *   <li>Data blocks: sorted key values, see {@link PrefixBlockWriter}.
+ *   <li>Bloom filter: optional, the bits of the bloom filter.
+ *   <li>Index block: last key of every data block to its offset and length.
+ *   <li>Footer: see {@link #FOOTER_LENGTH}.
+ * </ul>
+ *
+ * <p>Blocks are not compressed, so that they can be read in place from the mapped file.
+ */
+public class MmapLookupStoreWriter implements LookupStoreWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MmapLookupStoreWriter.class);
+
+    public static final int MAGIC_NUMBER = 1296135504;
+
+    /**
+     * Bloom filter offset (long), bloom filter size (int), bloom filter expected entries (long),
+     * index block offset (long), index block length (int) and the magic number (int).
+     */
+    public static final int FOOTER_LENGTH = 36;
+
+    private final BufferedOutputStream fileOutputStream;
+    private final int blockSize;
+    private final PrefixBlockWriter dataBlockWriter;
+    private final PrefixBlockWriter indexBlockWriter;
+    @Nullable private final BloomFilter.Builder bloomFilter;
+
+    private byte[] lastKey;
+    private long position;
+    private long recordCount;
+
+    MmapLookupStoreWriter(
+            File file,
+            int blockSize,
+            int restartInterval,
+            @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
+        this.fileOutputStream = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+        this.blockSize = blockSize;
+        this.dataBlockWriter = new PrefixBlockWriter((int) (blockSize * 1.1), restartInterval);
+        this.indexBlockWriter = new PrefixBlockWriter(blockSize, restartInterval);
+        this.bloomFilter = bloomFilter;
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws IOException {
+        dataBlockWriter.add(key, value);
+        if (bloomFilter != null) {
+            bloomFilter.addHash(MurmurHashUtils.hashBytes(key));
+        }
+
+        lastKey = key;
+
+        if (dataBlockWriter.memory() > blockSize) {
+            flush();
+        }
+
+        recordCount++;
+    }
+
+    private void flush() throws IOException {
+        if (dataBlockWriter.size() == 0) {
+            return;
+        }
+
+        long offset = position;
+        MemorySlice block = dataBlockWriter.finish();
+        writeSlice(block);
+        dataBlockWriter.reset();
+
+        MemorySliceOutput handle = new MemorySliceOutput(16);
+        handle.writeVarLenLong(offset);
+        handle.writeVarLenInt(block.length());
+        indexBlockWriter.add(lastKey, handle.toSlice().copyBytes());
+    }
+
+    @Override
+    public LookupStoreFactory.Context close() throws IOException {
+        // flush current data block
+        flush();
+
+        LOG.info("Number of record: {}", recordCount);
+
+        // write bloom filter
+        long bloomFilterOffset = -1;
+        int bloomFilterSize = 0;
+        long bloomFilterExpectedEntries = 0;
+        if (bloomFilter != null) {
+            MemorySegment buffer = bloomFilter.getBuffer();
+            bloomFilterOffset = position;
+            bloomFilterSize = buffer.size();
+            bloomFilterExpectedEntries = bloomFilter.expectedEntries();
+            writeSlice(MemorySlice.wrap(buffer));
+            LOG.info("Bloom filter size: {} bytes", bloomFilterSize);
+        }
+
+        // write index block
+        long indexOffset = position;
+        MemorySlice indexBlock = indexBlockWriter.finish();
+        writeSlice(indexBlock);
+
+        // write footer
+        MemorySliceOutput footer = new MemorySliceOutput(FOOTER_LENGTH);
+        footer.writeLong(bloomFilterOffset);
+        footer.writeInt(bloomFilterSize);
+        footer.writeLong(bloomFilterExpectedEntries);
+        footer.writeLong(indexOffset);
+        footer.writeInt(indexBlock.length());
+        footer.writeInt(MAGIC_NUMBER);
+        writeSlice(footer.toSlice());
+
+        // close file
+        fileOutputStream.close();
+
+        LOG.info("totalSize: {}", MemorySize.ofBytes(position));
+        return new MmapContext(position);
+    }
+
+    private void writeSlice(MemorySlice slice) throws IOException {
+        fileOutputStream.write(slice.getHeapMemory(), slice.offset(), slice.length());
+        position += slice.length();
+    }
+}
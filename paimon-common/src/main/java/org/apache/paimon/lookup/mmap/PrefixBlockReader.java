@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.mmap;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.memory.MemorySliceInput;
+
+import java.util.Comparator;
+
+/**
+ * A cursor to seek in blocks written by {@link PrefixBlockWriter}. Blocks are read in place from
+ * the segment, the cursor can be reset to other blocks of the same segment.
+ */
+public class PrefixBlockReader {
+
+    private final Comparator<MemorySlice> comparator;
+    private final MemorySegment segment;
+    private final MemorySliceInput input;
+
+    private int blockOffset;
+    private int restartsOffset;
+    private int numRestarts;
+
+    private byte[] keyBuffer;
+    private MemorySegment keySegment;
+    private int keyLength;
+    private int valueOffset;
+    private int valueLength;
+
+    public PrefixBlockReader(Comparator<MemorySlice> comparator, MemorySegment segment) {
+        this.comparator = comparator;
+        this.segment = segment;
+        this.input = MemorySlice.wrap(segment).toInput();
+        this.keyBuffer = new byte[64];
+        this.keySegment = MemorySegment.wrap(keyBuffer);
+    }
+
+    public void reset(int blockOffset, int blockLength) {
+        this.blockOffset = blockOffset;
+        int countOffset = blockOffset + blockLength - 4;
+        this.numRestarts = segment.getInt(countOffset);
+        this.restartsOffset = countOffset - numRestarts * 4;
+        this.keyLength = 0;
+        this.input.setPosition(blockOffset);
+    }
+
+    /**
+     * Move to the next entry of the block, entries are iterated from the first one after {@link
+     * #reset}.
+     *
+     * @return false if there are no more entries in the block.
+     */
+    public boolean next() {
+        if (input.position() >= restartsOffset) {
+            return false;
+        }
+        readEntry();
+        return true;
+    }
+
+    /**
+     * Seek to the first entry whose key is not less than the target key.
+     *
+     * @return false if all keys of the block are less than the target key.
+     */
+    public boolean seek(MemorySlice target) {
+        if (numRestarts == 0) {
+            return false;
+        }
+
+        // binary search restart points to find the last restart point whose key is less than the
+        // target key, keys of restart points are not shared with others and can be compared in
+        // place
+        int left = 0;
+        int right = numRestarts - 1;
+        int start = 0;
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+            if (comparator.compare(restartKey(restartPosition(mid)), target) < 0) {
+                start = mid;
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        input.setPosition(restartPosition(start));
+        while (input.position() < restartsOffset) {
+            readEntry();
+            if (comparator.compare(key(), target) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** The key of current entry, it is only valid until the next seek. */
+    public MemorySlice key() {
+        return new MemorySlice(keySegment, 0, keyLength);
+    }
+
+    public int valueOffset() {
+        return valueOffset;
+    }
+
+    public int valueLength() {
+        return valueLength;
+    }
+
+    public byte[] copyValue() {
+        byte[] value = new byte[valueLength];
+        segment.get(valueOffset, value, 0, valueLength);
+        return value;
+    }
+
+    private int restartPosition(int index) {
+        return blockOffset + segment.getInt(restartsOffset + index * 4);
+    }
+
+    private MemorySlice restartKey(int position) {
+        input.setPosition(position);
+        // shared key length is always 0 for restart points
+        input.readVarLenInt();
+        int length = input.readVarLenInt();
+        input.readVarLenInt();
+        return new MemorySlice(segment, input.position(), length);
+    }
+
+    private void readEntry() {
+        int shared = input.readVarLenInt();
+        int nonShared = input.readVarLenInt();
+        int length = input.readVarLenInt();
+
+        keyLength = shared + nonShared;
+        if (keyLength > keyBuffer.length) {
+            byte[] newBuffer = new byte[Math.max(keyLength, keyBuffer.length * 2)];
+            System.arraycopy(keyBuffer, 0, newBuffer, 0, shared);
+            keyBuffer = newBuffer;
+            keySegment = MemorySegment.wrap(keyBuffer);
+        }
+        int position = input.position();
+        segment.get(position, keyBuffer, shared, nonShared);
+
+        valueOffset = position + nonShared;
+        valueLength = length;
+        input.setPosition(valueOffset + valueLength);
+    }
+}
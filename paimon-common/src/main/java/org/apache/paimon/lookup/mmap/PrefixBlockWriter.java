@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.mmap;
+
+import org.apache.paimon.memory.MemorySlice;
+import org.apache.paimon.memory.MemorySliceOutput;
+import org.apache.paimon.utils.IntArrayList;
+
+/**
+ * Writer to build a block whose keys share prefix with their previous keys.
+ *
+ * <p>Every entry is written as: shared key length, non-shared key length, value length (all var
+ * length ints), non-shared key bytes and value bytes. Every {@code restartInterval} entries, a
+ * restart point stores the full key, the offsets of restart points and their count are appended to
+ * the end of the block.
+ */
+public class PrefixBlockWriter {
+
+    private final int restartInterval;
+    private final IntArrayList restartPositions;
+    private final MemorySliceOutput block;
+
+    private byte[] lastKey;
+    private int size;
+
+    public PrefixBlockWriter(int blockSize, int restartInterval) {
+        this.restartInterval = restartInterval;
+        this.restartPositions = new IntArrayList(32);
+        this.block = new MemorySliceOutput(blockSize + 128);
+    }
+
+    public void reset() {
+        this.restartPositions.clear();
+        this.block.reset();
+        this.lastKey = null;
+        this.size = 0;
+    }
+
+    public void add(byte[] key, byte[] value) {
+        int shared = 0;
+        if (size % restartInterval == 0) {
+            restartPositions.add(block.size());
+        } else {
+            shared = sharedPrefixLength(lastKey, key);
+        }
+
+        block.writeVarLenInt(shared);
+        block.writeVarLenInt(key.length - shared);
+        block.writeVarLenInt(value.length);
+        block.writeBytes(key, shared, key.length - shared);
+        block.writeBytes(value);
+
+        lastKey = key;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int memory() {
+        return block.size() + restartPositions.size() * 4 + 4;
+    }
+
+    public MemorySlice finish() {
+        for (int i = 0; i < restartPositions.size(); i++) {
+            block.writeInt(restartPositions.get(i));
+        }
+        block.writeInt(restartPositions.size());
+        return block.toSlice();
+    }
+
+    private static int sharedPrefixLength(byte[] key1, byte[] key2) {
+        int length = Math.min(key1.length, key2.length);
+        int i = 0;
+        while (i < length && key1[i] == key2[i]) {
+            i++;
+        }
+        return i;
+    }
+}
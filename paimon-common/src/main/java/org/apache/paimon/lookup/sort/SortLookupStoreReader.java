@@ -33,7 +33,9 @@ import javax.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import static org.apache.paimon.lookup.sort.SortLookupStoreUtils.crc32c;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -106,6 +108,46 @@ public class SortLookupStoreReader implements LookupStoreReader {
         return null;
     }
 
+    @Override
+    public List<byte[]> lookup(List<byte[]> keys) throws IOException {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        // the data block of the previous key and the last key of that block, sorted keys falling
+        // into the same block reuse it without seeking the index and reading the block again
+        BlockReader currentBlock = null;
+        MemorySlice currentBlockLastKey = null;
+        MemorySlice previousKey = null;
+        for (byte[] key : keys) {
+            if (bloomFilter != null && !bloomFilter.testHash(MurmurHashUtils.hashBytes(key))) {
+                values.add(null);
+                continue;
+            }
+
+            MemorySlice keySlice = MemorySlice.wrap(key);
+            if (currentBlock == null
+                    || comparator.compare(keySlice, previousKey) < 0
+                    || comparator.compare(keySlice, currentBlockLastKey) > 0) {
+                indexBlockIterator.seekTo(keySlice);
+                if (!indexBlockIterator.hasNext()) {
+                    currentBlock = null;
+                    values.add(null);
+                    continue;
+                }
+
+                BlockEntry indexEntry = indexBlockIterator.next();
+                currentBlockLastKey = indexEntry.getKey();
+                currentBlock =
+                        readBlock(
+                                BlockHandle.readBlockHandle(indexEntry.getValue().toInput()),
+                                false);
+            }
+            previousKey = keySlice;
+
+            BlockIterator current = currentBlock.iterator();
+            values.add(current.seekTo(keySlice) ? current.next().getValue().copyBytes() : null);
+        }
+        return values;
+    }
+
     private BlockIterator getNextBlock() {
         // index block handle, point to the key, value position.
         MemorySlice blockHandle = indexBlockIterator.next().getValue();
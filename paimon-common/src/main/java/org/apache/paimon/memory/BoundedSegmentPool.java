@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.memory;
+
+import java.util.List;
+
+/**
+ * A {@link MemorySegmentPool} which allocates at most {@code maxPages} pages from another pool, so
+ * that several consumers can share the memory of one pool.
+ */
+public class BoundedSegmentPool implements MemorySegmentPool {
+
+    private final MemorySegmentPool pool;
+    private final int maxPages;
+
+    private int numPage;
+
+    public BoundedSegmentPool(MemorySegmentPool pool, int maxPages) {
+        this.pool = pool;
+        this.maxPages = maxPages;
+        this.numPage = 0;
+    }
+
+    @Override
+    public MemorySegment nextSegment() {
+        if (numPage >= maxPages) {
+            return null;
+        }
+
+        MemorySegment segment = pool.nextSegment();
+        if (segment != null) {
+            numPage++;
+        }
+        return segment;
+    }
+
+    @Override
+    public int pageSize() {
+        return pool.pageSize();
+    }
+
+    @Override
+    public void returnAll(List<MemorySegment> memory) {
+        numPage -= memory.size();
+        pool.returnAll(memory);
+    }
+
+    @Override
+    public int freePages() {
+        return Math.min(maxPages - numPage, pool.freePages());
+    }
+}
@@ -20,7 +20,10 @@ package org.apache.paimon.memory;
 
 import org.apache.paimon.utils.Preconditions;
 
+import javax.annotation.Nullable;
+
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -38,6 +41,9 @@ public class MemoryUtils {
     private static final long BUFFER_ADDRESS_FIELD_OFFSET =
             getClassFieldOffset(Buffer.class, "address");
 
+    /** {@code Unsafe#invokeCleaner(ByteBuffer)}, only available since Java 9. */
+    @Nullable private static final Method INVOKE_CLEANER = getInvokeCleaner();
+
     @SuppressWarnings("restriction")
     private static sun.misc.Unsafe getUnsafe() {
         try {
@@ -60,6 +66,15 @@ public class MemoryUtils {
         }
     }
 
+    @Nullable
+    private static Method getInvokeCleaner() {
+        try {
+            return UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
     private static long getClassFieldOffset(
             @SuppressWarnings("SameParameterValue") Class<?> cl, String fieldName) {
         try {
@@ -123,6 +138,37 @@ public class MemoryUtils {
         return offHeapAddress;
     }
 
+    /**
+     * Releases the native memory of a direct or memory mapped {@link ByteBuffer} eagerly, instead
+     * of waiting for it to be garbage collected. A mapped file is unmapped. The buffer and any
+     * segment wrapping it must not be accessed afterwards.
+     *
+     * <p>This is best effort, if the cleaner can not be accessed the memory is still released by
+     * garbage collection.
+     */
+    public static void freeDirectBuffer(ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            return;
+        }
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                // Java 8: ((sun.nio.ch.DirectBuffer) buffer).cleaner().clean()
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    Method cleanMethod = cleaner.getClass().getMethod("clean");
+                    cleanMethod.setAccessible(true);
+                    cleanMethod.invoke(cleaner);
+                }
+            }
+        } catch (Throwable ignored) {
+            // fall back to garbage collection
+        }
+    }
+
     /** Should not be instantiated. */
     private MemoryUtils() {}
 }
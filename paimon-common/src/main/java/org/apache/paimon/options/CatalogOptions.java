@@ -121,6 +121,15 @@ public class CatalogOptions {
                     .noDefaultValue()
                     .withDescription("Controls the maximum memory to cache manifest content.");
 
+    public static final ConfigOption<Boolean> CACHE_MANIFEST_OFF_HEAP =
+            key("cache.manifest.off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to store the cached manifest content in off-heap memory, "
+                                    + "this reduces the GC pressure of long-lived processes "
+                                    + "caching large amount of manifests.");
+
     public static final ConfigOption<Integer> CACHE_SNAPSHOT_MAX_NUM_PER_TABLE =
             key("cache.snapshot.max-num-per-table")
                     .intType()
@@ -128,6 +137,31 @@ public class CatalogOptions {
                     .withDescription(
                             "Controls the max number for snapshots per table in the catalog are cached.");
 
+    public static final ConfigOption<Integer> FILE_IO_VECTORED_READ_PARALLELISM =
+            key("file-io.vectored-read.parallelism")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The max number of concurrent ranged reads issued for a single file "
+                                    + "in vectored reads, for example, reading the column chunks "
+                                    + "of parquet and orc files.");
+
+    public static final ConfigOption<MemorySize> FILE_IO_VECTORED_READ_MIN_SEEK =
+            key("file-io.vectored-read.min-seek")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofKibiBytes(256))
+                    .withDescription(
+                            "Ranges of a vectored read with a gap smaller than this are coalesced "
+                                    + "into a single read.");
+
+    public static final ConfigOption<MemorySize> FILE_IO_VECTORED_READ_BATCH_SIZE =
+            key("file-io.vectored-read.batch-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(4))
+                    .withDescription(
+                            "The size of a single ranged read when a large coalesced range of a "
+                                    + "vectored read is split into parallel reads.");
+
     public static final ConfigOption<Boolean> CASE_SENSITIVE =
             ConfigOptions.key("case-sensitive")
                     .booleanType()
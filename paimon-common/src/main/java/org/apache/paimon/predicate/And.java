@@ -20,6 +20,7 @@ package org.apache.paimon.predicate;
 
 import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +45,18 @@ public class And extends CompoundPredicate.Function {
         return true;
     }
 
+    @Override
+    public int test(
+            VectorizedColumnBatch batch, int[] selected, int size, List<Predicate> children) {
+        for (Predicate child : children) {
+            if (size == 0) {
+                break;
+            }
+            size = child.test(batch, selected, size);
+        }
+        return size;
+    }
+
     @Override
     public boolean test(
             long rowCount,
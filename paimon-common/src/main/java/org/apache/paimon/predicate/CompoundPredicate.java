@@ -20,6 +20,7 @@ package org.apache.paimon.predicate;
 
 import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 
 import java.io.Serializable;
 import java.util.List;
@@ -53,6 +54,11 @@ public class CompoundPredicate implements Predicate {
         return function.test(row, children);
     }
 
+    @Override
+    public int test(VectorizedColumnBatch batch, int[] selected, int size) {
+        return function.test(batch, selected, size, children);
+    }
+
     @Override
     public boolean test(
             long rowCount, InternalRow minValues, InternalRow maxValues, InternalArray nullCounts) {
@@ -100,6 +106,9 @@ public class CompoundPredicate implements Predicate {
                 InternalArray nullCounts,
                 List<Predicate> children);
 
+        public abstract int test(
+                VectorizedColumnBatch batch, int[] selected, int size, List<Predicate> children);
+
         public abstract Optional<Predicate> negate(List<Predicate> children);
 
         public abstract <T> T visit(FunctionVisitor<T> visitor, List<T> children);
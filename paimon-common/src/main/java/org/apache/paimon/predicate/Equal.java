@@ -25,16 +25,16 @@ import java.util.Optional;
 
 import static org.apache.paimon.predicate.CompareUtils.compareLiteral;
 
-/** A {@link NullFalseLeafBinaryFunction} to eval equal. */
-public class Equal extends NullFalseLeafBinaryFunction {
+/** A {@link NullFalseLeafCompareFunction} to eval equal. */
+public class Equal extends NullFalseLeafCompareFunction {
 
     public static final Equal INSTANCE = new Equal();
 
     private Equal() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) == 0;
+    public boolean testCompareResult(int compareResult) {
+        return compareResult == 0;
     }
 
     @Override
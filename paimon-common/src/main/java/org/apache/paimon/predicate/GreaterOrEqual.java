@@ -25,16 +25,16 @@ import java.util.Optional;
 
 import static org.apache.paimon.predicate.CompareUtils.compareLiteral;
 
-/** A {@link NullFalseLeafBinaryFunction} to eval greater or equal. */
-public class GreaterOrEqual extends NullFalseLeafBinaryFunction {
+/** A {@link NullFalseLeafCompareFunction} to eval greater or equal. */
+public class GreaterOrEqual extends NullFalseLeafCompareFunction {
 
     public static final GreaterOrEqual INSTANCE = new GreaterOrEqual();
 
     private GreaterOrEqual() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) <= 0;
+    public boolean testCompareResult(int compareResult) {
+        return compareResult <= 0;
     }
 
     @Override
@@ -26,15 +26,15 @@ import java.util.Optional;
 import static org.apache.paimon.predicate.CompareUtils.compareLiteral;
 
 /** A {@link LeafFunction} to eval greater. */
-public class GreaterThan extends NullFalseLeafBinaryFunction {
+public class GreaterThan extends NullFalseLeafCompareFunction {
 
     public static final GreaterThan INSTANCE = new GreaterThan();
 
     private GreaterThan() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) < 0;
+    public boolean testCompareResult(int compareResult) {
+        return compareResult < 0;
     }
 
     @Override
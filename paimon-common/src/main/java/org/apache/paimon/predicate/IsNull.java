@@ -18,6 +18,7 @@
 
 package org.apache.paimon.predicate;
 
+import org.apache.paimon.data.columnar.ColumnVector;
 import org.apache.paimon.types.DataType;
 
 import java.util.List;
@@ -40,6 +41,18 @@ public class IsNull extends LeafUnaryFunction {
         return nullCount == null || nullCount > 0;
     }
 
+    @Override
+    public int test(
+            DataType type, ColumnVector vector, int[] selected, int size, List<Object> literals) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            if (vector.isNullAt(selected[i])) {
+                selected[hit++] = selected[i];
+            }
+        }
+        return hit;
+    }
+
     @Override
     public Optional<LeafFunction> negate() {
         return Optional.of(IsNotNull.INSTANCE);
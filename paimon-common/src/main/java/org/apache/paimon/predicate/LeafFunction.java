@@ -18,12 +18,17 @@
 
 package org.apache.paimon.predicate;
 
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.types.DataType;
 
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
 
+import static org.apache.paimon.utils.InternalRowUtils.get;
+
 /** Function to test a field with literals. */
 public abstract class LeafFunction implements Serializable {
 
@@ -37,6 +42,23 @@ public abstract class LeafFunction implements Serializable {
             Long nullCount,
             List<Object> literals);
 
+    /**
+     * Test the field of rows at the selected positions, see {@link
+     * Predicate#test(VectorizedColumnBatch, int[], int)}.
+     */
+    public int test(
+            DataType type, ColumnVector vector, int[] selected, int size, List<Object> literals) {
+        ColumnarRow row = new ColumnarRow(new VectorizedColumnBatch(new ColumnVector[] {vector}));
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            row.setRowId(selected[i]);
+            if (test(type, get(row, 0, type), literals)) {
+                selected[hit++] = selected[i];
+            }
+        }
+        return hit;
+    }
+
     public abstract Optional<LeafFunction> negate();
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.paimon.predicate;
 
 import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.data.serializer.ListSerializer;
 import org.apache.paimon.data.serializer.NullableSerializer;
@@ -94,6 +95,11 @@ public class LeafPredicate implements Predicate {
         return function.test(type, get(row, fieldIndex, type), literals);
     }
 
+    @Override
+    public int test(VectorizedColumnBatch batch, int[] selected, int size) {
+        return function.test(type, batch.columns[fieldIndex], selected, size, literals);
+    }
+
     @Override
     public boolean test(
             long rowCount, InternalRow minValues, InternalRow maxValues, InternalArray nullCounts) {
@@ -25,16 +25,16 @@ import java.util.Optional;
 
 import static org.apache.paimon.predicate.CompareUtils.compareLiteral;
 
-/** A {@link NullFalseLeafBinaryFunction} to eval less or equal. */
-public class LessOrEqual extends NullFalseLeafBinaryFunction {
+/** A {@link NullFalseLeafCompareFunction} to eval less or equal. */
+public class LessOrEqual extends NullFalseLeafCompareFunction {
 
     public static final LessOrEqual INSTANCE = new LessOrEqual();
 
     private LessOrEqual() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) >= 0;
+    public boolean testCompareResult(int compareResult) {
+        return compareResult >= 0;
     }
 
     @Override
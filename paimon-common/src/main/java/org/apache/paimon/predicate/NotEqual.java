@@ -25,16 +25,16 @@ import java.util.Optional;
 
 import static org.apache.paimon.predicate.CompareUtils.compareLiteral;
 
-/** A {@link NullFalseLeafBinaryFunction} to eval not equal. */
-public class NotEqual extends NullFalseLeafBinaryFunction {
+/** A {@link NullFalseLeafCompareFunction} to eval not equal. */
+public class NotEqual extends NullFalseLeafCompareFunction {
 
     public static final NotEqual INSTANCE = new NotEqual();
 
     private NotEqual() {}
 
     @Override
-    public boolean test(DataType type, Object field, Object literal) {
-        return compareLiteral(type, literal, field) != 0;
+    public boolean testCompareResult(int compareResult) {
+        return compareResult != 0;
     }
 
     @Override
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+import org.apache.paimon.data.columnar.writable.WritableIntVector;
+import org.apache.paimon.types.DataType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.paimon.predicate.CompareUtils.compareLiteral;
+
+/**
+ * A {@link NullFalseLeafBinaryFunction} which only depends on the result of comparing the literal
+ * to the field. Batches of primitive and string columns are tested in type specialized loops.
+ */
+public abstract class NullFalseLeafCompareFunction extends NullFalseLeafBinaryFunction {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte HIT = 1;
+    private static final byte MISS = 2;
+
+    /**
+     * Test the field by the result of comparing the literal to it.
+     *
+     * @param compareResult {@code literal.compareTo(field)}.
+     */
+    public abstract boolean testCompareResult(int compareResult);
+
+    @Override
+    public boolean test(DataType type, Object field, Object literal) {
+        return testCompareResult(compareLiteral(type, literal, field));
+    }
+
+    @Override
+    public int test(
+            DataType type, ColumnVector vector, int[] selected, int size, List<Object> literals) {
+        Object literal = literals.get(0);
+        if (literal == null) {
+            return 0;
+        }
+
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                if (vector instanceof BooleanColumnVector) {
+                    return testBoolean(
+                            (BooleanColumnVector) vector, (Boolean) literal, selected, size);
+                }
+                break;
+            case TINYINT:
+                if (vector instanceof ByteColumnVector) {
+                    return testByte((ByteColumnVector) vector, (Byte) literal, selected, size);
+                }
+                break;
+            case SMALLINT:
+                if (vector instanceof ShortColumnVector) {
+                    return testShort((ShortColumnVector) vector, (Short) literal, selected, size);
+                }
+                break;
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                if (vector instanceof IntColumnVector) {
+                    return testInt((IntColumnVector) vector, (Integer) literal, selected, size);
+                }
+                break;
+            case BIGINT:
+                if (vector instanceof LongColumnVector) {
+                    return testLong((LongColumnVector) vector, (Long) literal, selected, size);
+                }
+                break;
+            case FLOAT:
+                if (vector instanceof FloatColumnVector) {
+                    return testFloat((FloatColumnVector) vector, (Float) literal, selected, size);
+                }
+                break;
+            case DOUBLE:
+                if (vector instanceof DoubleColumnVector) {
+                    return testDouble(
+                            (DoubleColumnVector) vector, (Double) literal, selected, size);
+                }
+                break;
+            case CHAR:
+            case VARCHAR:
+                if (vector instanceof BytesColumnVector) {
+                    return testString(
+                            (BytesColumnVector) vector, (BinaryString) literal, selected, size);
+                }
+                break;
+            default:
+                break;
+        }
+        return super.test(type, vector, selected, size, literals);
+    }
+
+    private int testBoolean(BooleanColumnVector vector, boolean literal, int[] selected, int size) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Boolean.compare(literal, vector.getBoolean(pos)))) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+
+    private int testByte(ByteColumnVector vector, byte literal, int[] selected, int size) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Byte.compare(literal, vector.getByte(pos)))) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+
+    private int testShort(ShortColumnVector vector, short literal, int[] selected, int size) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Short.compare(literal, vector.getShort(pos)))) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+
+    private int testInt(IntColumnVector vector, int literal, int[] selected, int size) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Integer.compare(literal, vector.getInt(pos)))) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+
+    private int testLong(LongColumnVector vector, long literal, int[] selected, int size) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Long.compare(literal, vector.getLong(pos)))) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+
+    private int testFloat(FloatColumnVector vector, float literal, int[] selected, int size) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Float.compare(literal, vector.getFloat(pos)))) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+
+    private int testDouble(DoubleColumnVector vector, double literal, int[] selected, int size) {
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)
+                    && testCompareResult(Double.compare(literal, vector.getDouble(pos)))) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+
+    private int testString(
+            BytesColumnVector vector, BinaryString literal, int[] selected, int size) {
+        if (vector instanceof WritableColumnVector
+                && ((WritableColumnVector) vector).hasDictionary()) {
+            return testDictionary((WritableColumnVector) vector, literal, selected, size);
+        }
+
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (!vector.isNullAt(pos)) {
+                BytesColumnVector.Bytes bytes = vector.getBytes(pos);
+                BinaryString field = BinaryString.fromBytes(bytes.data, bytes.offset, bytes.len);
+                if (testCompareResult(literal.compareTo(field))) {
+                    selected[hit++] = pos;
+                }
+            }
+        }
+        return hit;
+    }
+
+    /** Each value of the dictionary is only tested once. */
+    private int testDictionary(
+            WritableColumnVector vector, BinaryString literal, int[] selected, int size) {
+        Dictionary dictionary = vector.getDictionary();
+        WritableIntVector ids = vector.getDictionaryIds();
+        byte[] results = new byte[64];
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = selected[i];
+            if (vector.isNullAt(pos)) {
+                continue;
+            }
+
+            int id = ids.getInt(pos);
+            if (id >= results.length) {
+                results = Arrays.copyOf(results, Math.max(id + 1, results.length * 2));
+            }
+            if (results[id] == UNKNOWN) {
+                BinaryString field = BinaryString.fromBytes(dictionary.decodeToBinary(id));
+                results[id] = testCompareResult(literal.compareTo(field)) ? HIT : MISS;
+            }
+            if (results[id] == HIT) {
+                selected[hit++] = pos;
+            }
+        }
+        return hit;
+    }
+}
@@ -20,8 +20,10 @@ package org.apache.paimon.predicate;
 
 import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,42 @@ public class Or extends CompoundPredicate.Function {
         return false;
     }
 
+    @Override
+    public int test(
+            VectorizedColumnBatch batch, int[] selected, int size, List<Predicate> children) {
+        // rows not hit by any child yet
+        int[] remaining = Arrays.copyOf(selected, size);
+        int numRemaining = size;
+        int[] childSelected = new int[size];
+        boolean[] hit = new boolean[batch.getNumRows()];
+        for (Predicate child : children) {
+            if (numRemaining == 0) {
+                break;
+            }
+            System.arraycopy(remaining, 0, childSelected, 0, numRemaining);
+            int numChildHit = child.test(batch, childSelected, numRemaining);
+            for (int i = 0; i < numChildHit; i++) {
+                hit[childSelected[i]] = true;
+            }
+
+            int newRemaining = 0;
+            for (int i = 0; i < numRemaining; i++) {
+                if (!hit[remaining[i]]) {
+                    remaining[newRemaining++] = remaining[i];
+                }
+            }
+            numRemaining = newRemaining;
+        }
+
+        int numHit = 0;
+        for (int i = 0; i < size; i++) {
+            if (hit[selected[i]]) {
+                selected[numHit++] = selected[i];
+            }
+        }
+        return numHit;
+    }
+
     @Override
     public boolean test(
             long rowCount,
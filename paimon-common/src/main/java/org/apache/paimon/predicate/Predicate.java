@@ -21,6 +21,8 @@ package org.apache.paimon.predicate;
 import org.apache.paimon.annotation.Public;
 import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 
 import java.io.Serializable;
 import java.util.Optional;
@@ -41,6 +43,26 @@ public interface Predicate extends Serializable {
      */
     boolean test(InternalRow row);
 
+    /**
+     * Test rows of the batch at the selected positions, positions of hit rows are moved to the
+     * front of {@code selected} in the same order.
+     *
+     * @param selected positions of rows to test, in ascending order.
+     * @param size number of positions to test.
+     * @return the number of hit rows.
+     */
+    default int test(VectorizedColumnBatch batch, int[] selected, int size) {
+        ColumnarRow row = new ColumnarRow(batch);
+        int hit = 0;
+        for (int i = 0; i < size; i++) {
+            row.setRowId(selected[i]);
+            if (test(row)) {
+                selected[hit++] = selected[i];
+            }
+        }
+        return hit;
+    }
+
     /**
      * Test based on the statistical information to determine whether a hit is possible.
      *
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.reader;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRowIterator;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.utils.Filter;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * A {@link RecordReader} filtering records by a {@link Predicate}. Batches of {@link
+ * ColumnarRowIterator} are evaluated column by column with a selection vector, other batches are
+ * filtered row by row.
+ */
+public class PredicateFilterRecordReader implements RecordReader<InternalRow> {
+
+    private final RecordReader<InternalRow> reader;
+    private final Predicate predicate;
+
+    public PredicateFilterRecordReader(RecordReader<InternalRow> reader, Predicate predicate) {
+        this.reader = reader;
+        this.predicate = predicate;
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<InternalRow> readBatch() throws IOException {
+        RecordIterator<InternalRow> iterator = reader.readBatch();
+        if (iterator == null) {
+            return null;
+        }
+
+        if (iterator instanceof ColumnarRowIterator) {
+            ColumnarRowIterator columnarIterator = (ColumnarRowIterator) iterator;
+            columnarIterator.select(predicate);
+            if (columnarIterator instanceof VectorizedRecordIterator) {
+                // the batch still contains unselected rows, must not be exposed to the consumers
+                return columnarIterator.filter(Filter.alwaysTrue());
+            }
+            return columnarIterator;
+        }
+        return iterator.filter(predicate::test);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -22,6 +22,8 @@ import it.unimi.dsi.fastutil.ints.Int2ShortOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 
+import java.util.Arrays;
+
 /** Int to short hash map. */
 public class Int2ShortHashMap {
 
@@ -51,6 +53,12 @@ public class Int2ShortHashMap {
         return map.size();
     }
 
+    public int[] sortedKeys() {
+        int[] keys = map.keySet().toIntArray();
+        Arrays.sort(keys);
+        return keys;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
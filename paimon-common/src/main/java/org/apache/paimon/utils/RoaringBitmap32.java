@@ -128,6 +128,10 @@ public class RoaringBitmap32 {
         roaringBitmap.clear();
     }
 
+    public void addRange(final long rangeStart, final long rangeEnd) {
+        roaringBitmap.add(rangeStart, rangeEnd);
+    }
+
     public void flip(final long rangeStart, final long rangeEnd) {
         roaringBitmap.flip(rangeStart, rangeEnd);
     }
@@ -19,19 +19,31 @@
 package org.apache.paimon.fileindex.bitmapindex;
 
 import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexFormat;
+import org.apache.paimon.fileindex.FileIndexPredicate;
 import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
 import org.apache.paimon.fileindex.FileIndexWriter;
 import org.apache.paimon.fileindex.bitmap.BitmapFileIndex;
+import org.apache.paimon.fileindex.bitmap.BitmapFileIndexFactory;
 import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
 import org.apache.paimon.fs.ByteArraySeekableStream;
 import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
 import org.apache.paimon.types.VarCharType;
 import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
+import java.util.Collections;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.apache.paimon.fileindex.FileIndexResult.SKIP;
 
 /** test for {@link BitmapFileIndex}. */
 public class TestBitmapFileIndex {
@@ -43,6 +55,43 @@ public class TestBitmapFileIndex {
         assert bitmap.equals(RoaringBitmap32.bitmapOf(0, 2, 4));
     }
 
+    @Test
+    public void testOrWithNonBitmapResult() throws Exception {
+        IntType dataType = new IntType();
+        BitmapFileIndex bitmapFileIndex = new BitmapFileIndex(dataType, null);
+        FileIndexWriter writer = bitmapFileIndex.createWriter();
+        Object[] arr = {1, 2, 1};
+        for (Object o : arr) {
+            writer.write(o);
+        }
+
+        BitmapIndexResult result = new BitmapIndexResult(() -> RoaringBitmap32.bitmapOf(0, 2));
+        assert result.or(REMAIN) == REMAIN;
+        assert result.or(SKIP) == result;
+
+        // column "a" is indexed, column "b" is not, "a = 1 OR b = 5" should keep all the rows
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FileIndexFormat.Writer formatWriter = FileIndexFormat.createWriter(out)) {
+            formatWriter.writeColumnIndexes(
+                    Collections.singletonMap(
+                            "a",
+                            Collections.singletonMap(
+                                    BitmapFileIndexFactory.BITMAP_INDEX,
+                                    writer.serializedBytes())));
+        }
+        RowType rowType = RowType.of(new DataType[] {dataType, dataType}, new String[] {"a", "b"});
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        try (FileIndexPredicate predicate = new FileIndexPredicate(out.toByteArray(), rowType)) {
+            FileIndexResult indexed = predicate.evaluate(builder.equal(0, 1));
+            assert ((BitmapIndexResult) indexed).get().equals(RoaringBitmap32.bitmapOf(0, 2));
+
+            FileIndexResult or =
+                    predicate.evaluate(
+                            PredicateBuilder.or(builder.equal(0, 1), builder.equal(1, 5)));
+            assert or == REMAIN;
+        }
+    }
+
     @Test
     public void testBitmapIndex1() {
         VarCharType dataType = new VarCharType();
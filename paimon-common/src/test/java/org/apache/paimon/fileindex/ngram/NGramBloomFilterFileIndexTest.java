@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link NGramBloomFilterFileIndex}. */
+public class NGramBloomFilterFileIndexTest {
+
+    private static FileIndexReader createReader(Options options, List<String> values) {
+        NGramBloomFilterFileIndex index = new NGramBloomFilterFileIndex(DataTypes.STRING(), options);
+        FileIndexWriter writer = index.createWriter();
+        values.forEach(v -> writer.write(v == null ? null : BinaryString.fromString(v)));
+        byte[] serializedBytes = writer.serializedBytes();
+        return index.createReader(
+                new ByteArraySeekableStream(serializedBytes), 0, serializedBytes.length);
+    }
+
+    private static Options options(int gramSize) {
+        return new Options(
+                new HashMap<String, String>() {
+                    {
+                        put("gram-size", String.valueOf(gramSize));
+                        put("items", "10000");
+                        put("fpp", "0.01");
+                    }
+                });
+    }
+
+    @Test
+    public void testStringPredicates() {
+        List<String> values = new ArrayList<>();
+        values.add("ERROR connection refused by 10.0.0.1");
+        values.add("INFO request served in 12ms");
+        values.add(null);
+        values.add("中文日志");
+        FileIndexReader reader = createReader(options(3), values);
+
+        assertThat(reader.visitContains(null, BinaryString.fromString("refused")).remain())
+                .isTrue();
+        assertThat(reader.visitStartsWith(null, BinaryString.fromString("ERROR")).remain())
+                .isTrue();
+        assertThat(reader.visitEndsWith(null, BinaryString.fromString("12ms")).remain()).isTrue();
+        assertThat(reader.visitEqual(null, BinaryString.fromString(values.get(1))).remain())
+                .isTrue();
+        assertThat(reader.visitContains(null, BinaryString.fromString("日志")).remain()).isTrue();
+
+        assertThat(reader.visitContains(null, BinaryString.fromString("timeout")).remain())
+                .isFalse();
+        assertThat(reader.visitStartsWith(null, BinaryString.fromString("WARN")).remain())
+                .isFalse();
+        assertThat(reader.visitEndsWith(null, BinaryString.fromString("99ms")).remain())
+                .isFalse();
+        assertThat(reader.visitEqual(null, BinaryString.fromString("INFO done")).remain())
+                .isFalse();
+
+        // literals shorter than the gram size can not be checked
+        assertThat(reader.visitContains(null, BinaryString.fromString("zz")).remain()).isTrue();
+        assertThat(reader.visitContains(null, null).remain()).isTrue();
+    }
+
+    @Test
+    public void testContainsByRandom() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(UUID.randomUUID().toString());
+        }
+        FileIndexReader reader = createReader(options(4), values);
+
+        for (String value : values) {
+            String literal = value.substring(9, 23);
+            assertThat(reader.visitContains(null, BinaryString.fromString(literal)).remain())
+                    .isTrue();
+        }
+
+        int errorCount = 0;
+        int num = 10000;
+        for (int i = 0; i < num; i++) {
+            String literal = UUID.randomUUID().toString().substring(9, 23);
+            if (reader.visitContains(null, BinaryString.fromString(literal)).remain()) {
+                errorCount++;
+            }
+        }
+        assertThat((double) errorCount / num).isLessThan(0.01);
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThatThrownBy(() -> new NGramBloomFilterFileIndex(DataTypes.INT(), new Options()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
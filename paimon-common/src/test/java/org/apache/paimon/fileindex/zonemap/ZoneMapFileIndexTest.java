@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.zonemap;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link ZoneMapFileIndex}. */
+public class ZoneMapFileIndexTest {
+
+    private static FileIndexReader createReader(
+            DataType type, int blockSize, List<Object> values) {
+        Options options = new Options();
+        options.setInteger("block-size", blockSize);
+        ZoneMapFileIndex index = new ZoneMapFileIndex(type, options);
+        FileIndexWriter writer = index.createWriter();
+        values.forEach(writer::write);
+        byte[] serializedBytes = writer.serializedBytes();
+        return index.createReader(
+                new ByteArraySeekableStream(serializedBytes), 0, serializedBytes.length);
+    }
+
+    private static RoaringBitmap32 rangeOf(long start, long end) {
+        RoaringBitmap32 bitmap = new RoaringBitmap32();
+        bitmap.addRange(start, end);
+        return bitmap;
+    }
+
+    private static RoaringBitmap32 selection(FileIndexResult result) {
+        assertThat(result).isInstanceOf(BitmapIndexResult.class);
+        return ((BitmapIndexResult) result).get();
+    }
+
+    @Test
+    public void testSortedInt() {
+        // 25 rows in blocks of 10, the last block has 5 rows
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            values.add(i);
+        }
+        FileIndexReader reader = createReader(DataTypes.INT(), 10, values);
+
+        assertThat(selection(reader.visitLessThan(null, 10))).isEqualTo(rangeOf(0, 10));
+        assertThat(selection(reader.visitLessOrEqual(null, 10))).isEqualTo(rangeOf(0, 20));
+        assertThat(selection(reader.visitGreaterThan(null, 19))).isEqualTo(rangeOf(20, 25));
+        assertThat(selection(reader.visitGreaterOrEqual(null, 19))).isEqualTo(rangeOf(10, 25));
+        assertThat(selection(reader.visitEqual(null, 15))).isEqualTo(rangeOf(10, 20));
+        assertThat(selection(reader.visitIn(null, Arrays.asList(3, 23))))
+                .isEqualTo(RoaringBitmap32.or(rangeOf(0, 10), rangeOf(20, 25)));
+        assertThat(selection(reader.visitNotEqual(null, 15))).isEqualTo(rangeOf(0, 25));
+        assertThat(selection(reader.visitIsNotNull(null))).isEqualTo(rangeOf(0, 25));
+
+        assertThat(reader.visitGreaterThan(null, 24).remain()).isFalse();
+        assertThat(reader.visitLessThan(null, 0).remain()).isFalse();
+        assertThat(reader.visitEqual(null, 100).remain()).isFalse();
+        assertThat(reader.visitIsNull(null).remain()).isFalse();
+        assertThat(reader.visitEqual(null, null)).isEqualTo(REMAIN);
+    }
+
+    @Test
+    public void testNulls() {
+        // block 0: all nulls, block 1: values and nulls, block 2: constant value
+        List<Object> values =
+                new ArrayList<>(Arrays.asList(null, null, null, 5L, null, 7L, 3L, 3L, 3L));
+        FileIndexReader reader = createReader(DataTypes.BIGINT(), 3, values);
+
+        assertThat(selection(reader.visitIsNull(null))).isEqualTo(rangeOf(0, 6));
+        assertThat(selection(reader.visitIsNotNull(null))).isEqualTo(rangeOf(3, 9));
+        assertThat(selection(reader.visitLessThan(null, 100L))).isEqualTo(rangeOf(3, 9));
+        assertThat(selection(reader.visitNotEqual(null, 3L))).isEqualTo(rangeOf(3, 6));
+        assertThat(selection(reader.visitEqual(null, 3L))).isEqualTo(rangeOf(6, 9));
+    }
+
+    @Test
+    public void testString() {
+        List<Object> values = new ArrayList<>();
+        for (String s : new String[] {"apple", "apricot", "banana", "cherry", "grape", "中文"}) {
+            values.add(BinaryString.fromString(s));
+        }
+        FileIndexReader reader = createReader(DataTypes.STRING(), 2, values);
+
+        assertThat(selection(reader.visitLessThan(null, BinaryString.fromString("b"))))
+                .isEqualTo(rangeOf(0, 2));
+        assertThat(selection(reader.visitGreaterThan(null, BinaryString.fromString("h"))))
+                .isEqualTo(rangeOf(4, 6));
+        assertThat(selection(reader.visitStartsWith(null, BinaryString.fromString("ap"))))
+                .isEqualTo(rangeOf(0, 2));
+        assertThat(selection(reader.visitStartsWith(null, BinaryString.fromString("ch"))))
+                .isEqualTo(rangeOf(2, 4));
+        assertThat(selection(reader.visitStartsWith(null, BinaryString.fromString("中"))))
+                .isEqualTo(rangeOf(4, 6));
+        assertThat(reader.visitStartsWith(null, BinaryString.fromString("d")).remain()).isFalse();
+        // not supported predicates
+        assertThat(reader.visitContains(null, BinaryString.fromString("x"))).isEqualTo(REMAIN);
+    }
+
+    @Test
+    public void testTimestamp() {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(Timestamp.fromEpochMillis(1_000L * i, i));
+        }
+        Collections.shuffle(values.subList(0, 50));
+        FileIndexReader reader = createReader(DataTypes.TIMESTAMP(9), 50, values);
+
+        assertThat(
+                        selection(
+                                reader.visitGreaterOrEqual(
+                                        null, Timestamp.fromEpochMillis(49_000L, 49))))
+                .isEqualTo(rangeOf(0, 100));
+        assertThat(
+                        selection(
+                                reader.visitGreaterThan(
+                                        null, Timestamp.fromEpochMillis(49_000L, 49))))
+                .isEqualTo(rangeOf(50, 100));
+        assertThat(
+                        selection(
+                                reader.visitLessThan(
+                                        null, Timestamp.fromEpochMillis(49_000L, 50))))
+                .isEqualTo(rangeOf(0, 50));
+    }
+
+    @Test
+    public void testOrWithoutSelection() {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            values.add(i);
+        }
+        FileIndexReader reader = createReader(DataTypes.INT(), 10, values);
+
+        // the other side can not be filtered, all the rows should remain
+        assertThat(reader.visitLessThan(null, 5).or(REMAIN)).isEqualTo(REMAIN);
+        assertThat(selection(reader.visitLessThan(null, 5).and(REMAIN)))
+                .isEqualTo(rangeOf(0, 10));
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThatThrownBy(() -> new ZoneMapFileIndex(DataTypes.BOOLEAN(), new Options()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> new ZoneMapFileIndex(DataTypes.BYTES(), new Options()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -23,10 +23,15 @@ import org.apache.paimon.fs.hadoop.HadoopFileIO;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.RawLocalFileSystem;
 import org.apache.hadoop.util.VersionInfo;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assumptions.assumeThat;
 
 /** Behavior tests for Hadoop Local. */
@@ -62,4 +67,38 @@ class HadoopLocalFileIOBehaviorTest extends FileIOBehaviorTestBase {
 
         super.testMkdirsFailsForExistingFile();
     }
+
+    @Test
+    public void testVectoredRead() throws Exception {
+        FileIO fileIO = getFileSystem();
+        Path file = new Path(getBasePath(), "vectored");
+        byte[] bytes = new byte[1024 * 1024];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        random.nextBytes(bytes);
+        try (PositionOutputStream out = fileIO.newOutputStream(file, false)) {
+            out.write(bytes);
+        }
+
+        List<FileRange> ranges = new ArrayList<>();
+        int offset = 0;
+        while (true) {
+            offset += random.nextInt(64 * 1024);
+            int length = random.nextInt(64 * 1024) + 1;
+            if (offset + length > bytes.length) {
+                break;
+            }
+            ranges.add(FileRange.createFileRange(offset, length));
+            offset += length;
+        }
+
+        try (SeekableInputStream in = fileIO.newInputStream(file)) {
+            assertThat(in).isInstanceOf(VectoredReadable.class);
+            ((VectoredReadable) in).readVectored(ranges);
+            for (FileRange range : ranges) {
+                byte[] expected = new byte[range.getLength()];
+                System.arraycopy(bytes, (int) range.getOffset(), expected, 0, range.getLength());
+                assertThat(range.getData().get()).isEqualTo(expected);
+            }
+        }
+    }
 }
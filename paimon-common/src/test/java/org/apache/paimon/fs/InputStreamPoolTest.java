@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link InputStreamPool}. */
+public class InputStreamPoolTest {
+
+    @Test
+    public void testReuseStreams() throws Exception {
+        List<TestStream> opened = new ArrayList<>();
+        InputStreamPool<TestStream> pool =
+                new InputStreamPool<>(
+                        () -> {
+                            TestStream stream = new TestStream();
+                            opened.add(stream);
+                            return stream;
+                        },
+                        2);
+
+        TestStream s1 = pool.borrow();
+        pool.release(s1);
+        assertThat(pool.borrow()).isSameAs(s1);
+        TestStream s2 = pool.borrow();
+        assertThat(s2).isNotSameAs(s1);
+        assertThat(opened).hasSize(2);
+
+        pool.release(s1);
+        pool.close();
+        assertThat(s1.closed).isTrue();
+        assertThat(s2.closed).isFalse();
+
+        // streams in use are closed when they are released
+        pool.release(s2);
+        assertThat(s2.closed).isTrue();
+        assertThatThrownBy(pool::borrow).hasMessageContaining("closed");
+    }
+
+    @Test
+    public void testMaxStreams() throws Exception {
+        int maxStreams = 3;
+        AtomicInteger openedCount = new AtomicInteger();
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        InputStreamPool<TestStream> pool =
+                new InputStreamPool<>(
+                        () -> {
+                            openedCount.incrementAndGet();
+                            return new TestStream();
+                        },
+                        maxStreams);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    TestStream stream = pool.borrow();
+                                    try {
+                                        maxInUse.accumulateAndGet(
+                                                inUse.incrementAndGet(), Math::max);
+                                        Thread.sleep(1);
+                                        inUse.decrementAndGet();
+                                    } finally {
+                                        pool.release(stream);
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(openedCount.get()).isLessThanOrEqualTo(maxStreams);
+        assertThat(maxInUse.get()).isLessThanOrEqualTo(maxStreams);
+        pool.close();
+    }
+
+    private static class TestStream implements Closeable {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs.cache;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link LocalFileCache} and {@link CachingFileIO}. */
+public class LocalFileCacheTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testCacheHit() throws IOException {
+        LocalFileCache cache = new LocalFileCache(tempDir, 1024);
+        AtomicInteger opened = new AtomicInteger();
+        Path remote = new Path("oss://bucket/manifest-1");
+
+        for (int i = 0; i < 3; i++) {
+            java.nio.file.Path local = cache.get(remote, () -> open(opened, "hello"));
+            assertThat(Files.readAllBytes(local)).isEqualTo(bytes("hello"));
+        }
+        assertThat(opened.get()).isEqualTo(1);
+        assertThat(cache.totalSize()).isEqualTo(5);
+
+        cache.invalidate(remote);
+        assertThat(cache.totalSize()).isEqualTo(0);
+        cache.get(remote, () -> open(opened, "hello"));
+        assertThat(opened.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws IOException {
+        LocalFileCache cache = new LocalFileCache(tempDir, 10);
+        AtomicInteger opened = new AtomicInteger();
+        Path file1 = new Path("oss://bucket/manifest-1");
+        Path file2 = new Path("oss://bucket/manifest-2");
+        Path file3 = new Path("oss://bucket/manifest-3");
+
+        cache.get(file1, () -> open(opened, "aaaa"));
+        cache.get(file2, () -> open(opened, "bbbb"));
+        // access file1, file2 becomes the eldest
+        cache.get(file1, () -> open(opened, "aaaa"));
+        cache.get(file3, () -> open(opened, "cccc"));
+
+        assertThat(opened.get()).isEqualTo(3);
+        assertThat(cache.totalSize()).isEqualTo(8);
+        assertThat(tempDir.resolve(LocalFileCache.key(file1))).exists();
+        assertThat(tempDir.resolve(LocalFileCache.key(file2))).doesNotExist();
+        assertThat(tempDir.resolve(LocalFileCache.key(file3))).exists();
+    }
+
+    @Test
+    public void testShareAndValidateFiles() throws IOException {
+        AtomicInteger opened = new AtomicInteger();
+        Path file1 = new Path("oss://bucket/manifest-1");
+        Path file2 = new Path("oss://bucket/manifest-2");
+
+        LocalFileCache cache1 = new LocalFileCache(tempDir, 1024);
+        cache1.get(file1, () -> open(opened, "aaaa"));
+        cache1.get(file2, () -> open(opened, "bbbb"));
+        assertThat(opened.get()).isEqualTo(2);
+
+        // corrupt file2 as if it was partially written
+        Files.write(tempDir.resolve(LocalFileCache.key(file2)), bytes("bb"));
+
+        // another process reuses valid files and copies corrupted files again
+        LocalFileCache cache2 = new LocalFileCache(tempDir, 1024);
+        assertThat(cache2.totalSize()).isEqualTo(6);
+        java.nio.file.Path local1 = cache2.get(file1, () -> open(opened, "aaaa"));
+        java.nio.file.Path local2 = cache2.get(file2, () -> open(opened, "bbbb"));
+        assertThat(opened.get()).isEqualTo(3);
+        assertThat(Files.readAllBytes(local1)).isEqualTo(bytes("aaaa"));
+        assertThat(Files.readAllBytes(local2)).isEqualTo(bytes("bbbb"));
+        assertThat(cache2.totalSize()).isEqualTo(8);
+    }
+
+    @Test
+    public void testGetOrCreate() {
+        String directory = tempDir.resolve("shared").toString();
+        LocalFileCache cache = LocalFileCache.getOrCreate(directory, 1024);
+        assertThat(LocalFileCache.getOrCreate(directory + "/", 1024)).isSameAs(cache);
+        // a different max size falls back to the existing cache
+        assertThat(LocalFileCache.getOrCreate(directory, 2048)).isSameAs(cache);
+    }
+
+    @Test
+    public void testCachingFileIO() throws IOException {
+        FileIO fileIO = LocalFileIO.create();
+        Path file = new Path(tempDir.resolve("remote").resolve("manifest-1").toString());
+        fileIO.writeFile(file, "hello", false);
+
+        CachingFileIO cachingFileIO =
+                new CachingFileIO(fileIO, tempDir.resolve("cache").toString(), 1024);
+        assertThat(read(cachingFileIO, file)).isEqualTo("hello");
+
+        // the cached copy is served even if the remote file changes under it
+        fileIO.overwriteFileUtf8(file, "world");
+        assertThat(read(cachingFileIO, file)).isEqualTo("hello");
+
+        cachingFileIO.delete(file, false);
+        assertThat(fileIO.exists(file)).isFalse();
+        assertThat(tempDir.resolve("cache").resolve(LocalFileCache.key(file))).doesNotExist();
+    }
+
+    private static String read(FileIO fileIO, Path file) throws IOException {
+        try (SeekableInputStream in = fileIO.newInputStream(file)) {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static ByteArrayInputStream open(AtomicInteger opened, String content) {
+        opened.incrementAndGet();
+        return new ByteArrayInputStream(bytes(content));
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
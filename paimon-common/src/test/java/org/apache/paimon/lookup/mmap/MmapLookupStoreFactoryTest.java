@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.mmap;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.lookup.LookupStoreFactory.Context;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.BloomFilter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link MmapLookupStoreFactory}. */
+@ExtendWith(ParameterizedTestExtension.class)
+public class MmapLookupStoreFactoryTest {
+
+    private static final int VALUE_COUNT = 1_000_000;
+    private static final int QUERY_COUNT = 10_000;
+
+    private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
+    private final boolean bloomFilterEnabled;
+    private final int restartInterval;
+
+    @TempDir Path tempDir;
+
+    private File file;
+
+    public MmapLookupStoreFactoryTest(List<Object> var) {
+        this.bloomFilterEnabled = (Boolean) var.get(0);
+        this.restartInterval = (Integer) var.get(1);
+    }
+
+    @SuppressWarnings("unused")
+    @Parameters(name = "enableBf&restartInterval-{0}")
+    public static List<List<Object>> getVarSeg() {
+        return Arrays.asList(
+                Arrays.asList(true, 1),
+                Arrays.asList(false, 1),
+                Arrays.asList(true, 16),
+                Arrays.asList(false, 16));
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        if (!file.createNewFile()) {
+            throw new IOException("Can not create file: " + file);
+        }
+    }
+
+    @TestTemplate
+    public void testNormal() throws IOException {
+        MmapLookupStoreFactory factory =
+                new MmapLookupStoreFactory(Comparator.naturalOrder(), 1024, restartInterval);
+
+        MmapLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        // only even numbers are written
+        for (int i = 0; i < VALUE_COUNT; i += 2) {
+            byte[] bytes = toBytes(i);
+            writer.put(bytes, bytes);
+        }
+        Context context = writer.close();
+
+        MmapLookupStoreReader reader = factory.createReader(file, context);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            int query = rnd.nextInt(VALUE_COUNT);
+            byte[] value = reader.lookup(toBytes(query));
+            if (query % 2 == 0) {
+                assertThat(fromBytes(value)).isEqualTo(query);
+            } else {
+                assertThat(value).isNull();
+            }
+        }
+
+        assertThat(reader.lookup(toBytes(0))).isNotNull();
+        assertThat(reader.lookup(toBytes(VALUE_COUNT - 2))).isNotNull();
+        assertThat(reader.lookup(toBytes(VALUE_COUNT + 1000))).isNull();
+        assertThat(reader.lookup(toBytes(-1))).isNull();
+
+        reader.close();
+    }
+
+    @TestTemplate
+    public void testChunks() throws IOException {
+        MmapLookupStoreFactory factory =
+                new MmapLookupStoreFactory(Comparator.naturalOrder(), 1024, restartInterval);
+
+        MmapLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        int count = 100_000;
+        for (int i = 0; i < count; i += 2) {
+            byte[] bytes = toBytes(i);
+            writer.put(bytes, bytes);
+        }
+        MmapContext context = (MmapContext) writer.close();
+
+        // map data blocks in chunks of about 16 KB
+        MmapLookupStoreReader reader =
+                new MmapLookupStoreReader(Comparator.naturalOrder(), file, context, 16 * 1024);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            int query = rnd.nextInt(count);
+            byte[] value = reader.lookup(toBytes(query));
+            if (query % 2 == 0) {
+                assertThat(fromBytes(value)).isEqualTo(query);
+            } else {
+                assertThat(value).isNull();
+            }
+        }
+        assertThat(reader.lookup(toBytes(0))).isNotNull();
+        assertThat(reader.lookup(toBytes(count - 2))).isNotNull();
+        assertThat(reader.lookup(toBytes(count + 1000))).isNull();
+        reader.close();
+    }
+
+    @TestTemplate
+    public void testBatchLookup() throws IOException {
+        MmapLookupStoreFactory factory =
+                new MmapLookupStoreFactory(Comparator.naturalOrder(), 1024, restartInterval);
+
+        MmapLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        int count = 100_000;
+        for (int i = 0; i < count; i += 2) {
+            byte[] bytes = toBytes(i);
+            writer.put(bytes, bytes);
+        }
+        MmapContext context = (MmapContext) writer.close();
+
+        MmapLookupStoreReader reader =
+                new MmapLookupStoreReader(Comparator.naturalOrder(), file, context, 16 * 1024);
+        // sorted keys, including keys in the same block, missing keys and out of range keys
+        List<Integer> queries = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries.add(rnd.nextInt(count + 1000));
+        }
+        queries.sort(Comparator.comparing(i -> new String(toBytes(i), StandardCharsets.UTF_8)));
+        // unsorted keys are also supported
+        queries.add(0);
+
+        List<byte[]> keys = new ArrayList<>();
+        queries.forEach(q -> keys.add(toBytes(q)));
+        List<byte[]> values = reader.lookup(keys);
+        assertThat(values).hasSize(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            int query = queries.get(i);
+            if (query % 2 == 0 && query < count) {
+                assertThat(fromBytes(values.get(i))).isEqualTo(query);
+            } else {
+                assertThat(values.get(i)).isNull();
+            }
+        }
+        reader.close();
+    }
+
+    @TestTemplate
+    public void testEmpty() throws IOException {
+        MmapLookupStoreFactory factory =
+                new MmapLookupStoreFactory(Comparator.naturalOrder(), 1024, restartInterval);
+
+        MmapLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        Context context = writer.close();
+
+        MmapLookupStoreReader reader = factory.createReader(file, context);
+        byte[] bytes = toBytes(rnd.nextInt(VALUE_COUNT));
+        assertThat(reader.lookup(bytes)).isNull();
+        reader.close();
+    }
+
+    @TestTemplate
+    public void testRowKey() throws IOException {
+        RowCompactedSerializer keySerializer =
+                new RowCompactedSerializer(
+                        RowType.of(new VarCharType(Integer.MAX_VALUE), new IntType()));
+        MmapLookupStoreFactory factory =
+                new MmapLookupStoreFactory(
+                        keySerializer.createSliceComparator(), 4 * 1024, restartInterval);
+        MmapLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        // keys sharing long prefixes, with different lengths
+        String prefix = "a-long-shared-prefix-of-the-keys-";
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            writer.put(toBytes(keySerializer, prefix + pad(i / 100), i), toBytes(i));
+        }
+        Context context = writer.close();
+
+        MmapLookupStoreReader reader = factory.createReader(file, context);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            int query = rnd.nextInt(count);
+            byte[] key = toBytes(keySerializer, prefix + pad(query / 100), query);
+            assertThat(fromBytes(reader.lookup(key))).isEqualTo(query);
+        }
+
+        assertThat(reader.lookup(toBytes(keySerializer, prefix + pad(1), 1))).isNull();
+        assertThat(reader.lookup(toBytes(keySerializer, prefix, 0))).isNull();
+        assertThat(reader.lookup(toBytes(keySerializer, "b", 0))).isNull();
+
+        reader.close();
+    }
+
+    private BloomFilter.Builder createBloomFiler(boolean enabled) {
+        if (!enabled) {
+            return null;
+        }
+        return BloomFilter.builder(100, 0.01);
+    }
+
+    private String pad(int i) {
+        return String.format("%05d", i);
+    }
+
+    private byte[] toBytes(RowCompactedSerializer serializer, String s, int i) {
+        return serializer.serializeToBytes(GenericRow.of(BinaryString.fromString(s), i));
+    }
+
+    private byte[] toBytes(int i) {
+        return String.valueOf(VALUE_COUNT + i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int fromBytes(byte[] bytes) {
+        return Integer.parseInt(new String(bytes, StandardCharsets.UTF_8)) - VALUE_COUNT;
+    }
+}
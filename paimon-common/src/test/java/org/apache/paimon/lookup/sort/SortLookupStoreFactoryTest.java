@@ -39,6 +39,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -114,6 +115,61 @@ public class SortLookupStoreFactoryTest {
         assertThat(cacheManager.indexCache().asMap()).isEmpty();
     }
 
+    @TestTemplate
+    public void testBatchLookup() throws IOException {
+        int valueCount = 100_000;
+        CacheManager cacheManager = new CacheManager(MemorySize.ofMebiBytes(1));
+        SortLookupStoreFactory factory =
+                new SortLookupStoreFactory(Comparator.naturalOrder(), cacheManager, 1024, compress);
+
+        SortLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        // only even numbers are written
+        for (int i = 0; i < valueCount; i += 2) {
+            byte[] bytes = toBytes(i);
+            writer.put(bytes, bytes);
+        }
+        Context context = writer.close();
+
+        SortLookupStoreReader reader = factory.createReader(file, context);
+
+        // sorted keys, with duplicates and keys out of range
+        List<Integer> queries = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries.add(rnd.nextInt(valueCount + 100));
+        }
+        queries.sort(Comparator.naturalOrder());
+        checkBatchLookup(reader, queries, valueCount);
+
+        // unsorted keys should also return correct results
+        queries.clear();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries.add(rnd.nextInt(valueCount + 100));
+        }
+        checkBatchLookup(reader, queries, valueCount);
+
+        reader.close();
+    }
+
+    private void checkBatchLookup(
+            SortLookupStoreReader reader, List<Integer> queries, int valueCount)
+            throws IOException {
+        List<byte[]> keys = new ArrayList<>();
+        for (int query : queries) {
+            keys.add(toBytes(query));
+        }
+        List<byte[]> values = reader.lookup(keys);
+        assertThat(values).hasSize(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            int query = queries.get(i);
+            if (query % 2 == 0 && query < valueCount) {
+                assertThat(fromBytes(values.get(i))).isEqualTo(query);
+            } else {
+                assertThat(values.get(i)).isNull();
+            }
+        }
+    }
+
     @TestTemplate
     public void testEmpty() throws IOException {
         CacheManager cacheManager = new CacheManager(MemorySize.ofMebiBytes(1));
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.ColumnarRowIterator;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.VarCharType;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link Predicate#test(VectorizedColumnBatch, int[], int)}. */
+public class PredicateBatchTest {
+
+    private static final int NUM_ROWS = 1000;
+
+    private static final String[] WORDS = {"apple", "banana", "cherry", "date", "elder", "fig"};
+
+    private final PredicateBuilder builder =
+            new PredicateBuilder(
+                    RowType.of(
+                            new IntType(), new BigIntType(), new VarCharType(), new VarCharType()));
+
+    @Test
+    public void testRandomPredicates() {
+        Random random = new Random(ThreadLocalRandom.current().nextLong());
+        VectorizedColumnBatch batch = createBatch(random);
+        for (int i = 0; i < 500; i++) {
+            Predicate predicate = randomPredicate(random, 3);
+            assertSelection(batch, predicate, allRows());
+            assertSelection(batch, predicate, randomRows(random));
+        }
+    }
+
+    @Test
+    public void testNullLiteral() {
+        VectorizedColumnBatch batch = createBatch(new Random(0));
+        int[] selected = allRows();
+        assertThat(builder.equal(0, null).test(batch, selected, NUM_ROWS)).isEqualTo(0);
+        assertThat(builder.lessThan(2, null).test(batch, selected, NUM_ROWS)).isEqualTo(0);
+    }
+
+    @Test
+    public void testColumnarRowIteratorSelect() throws Exception {
+        VectorizedColumnBatch batch = createBatch(new Random(0));
+        ColumnarRowIterator iterator =
+                new ColumnarRowIterator(new Path("/test"), new ColumnarRow(batch), null);
+        iterator.reset(100);
+        // consume the first row before selecting
+        assertThat(iterator.next()).isNotNull();
+
+        Predicate predicate = builder.greaterThan(0, 50);
+        iterator.select(predicate);
+        ColumnarRow row = new ColumnarRow(batch);
+        InternalRow next;
+        int count = 0;
+        while ((next = iterator.next()) != null) {
+            int rowId = (int) (iterator.returnedPosition() - 100);
+            assertThat(rowId).isGreaterThan(0);
+            row.setRowId(rowId);
+            assertThat(predicate.test(row)).isTrue();
+            assertThat(next.getInt(0)).isEqualTo(row.getInt(0));
+            count++;
+        }
+
+        int expected = 0;
+        for (int i = 1; i < NUM_ROWS; i++) {
+            row.setRowId(i);
+            if (predicate.test(row)) {
+                expected++;
+            }
+        }
+        assertThat(count).isEqualTo(expected);
+    }
+
+    private void assertSelection(VectorizedColumnBatch batch, Predicate predicate, int[] rows) {
+        ColumnarRow row = new ColumnarRow(batch);
+        List<Integer> expected = new ArrayList<>();
+        for (int rowId : rows) {
+            row.setRowId(rowId);
+            if (predicate.test(row)) {
+                expected.add(rowId);
+            }
+        }
+
+        int[] selected = Arrays.copyOf(rows, rows.length);
+        int size = predicate.test(batch, selected, selected.length);
+        List<Integer> actual = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            actual.add(selected[i]);
+        }
+        assertThat(actual).as(predicate.toString()).isEqualTo(expected);
+    }
+
+    private int[] allRows() {
+        int[] rows = new int[NUM_ROWS];
+        for (int i = 0; i < NUM_ROWS; i++) {
+            rows[i] = i;
+        }
+        return rows;
+    }
+
+    private int[] randomRows(Random random) {
+        return Arrays.stream(allRows()).filter(i -> random.nextBoolean()).toArray();
+    }
+
+    private Predicate randomPredicate(Random random, int depth) {
+        if (depth == 0 || random.nextInt(3) == 0) {
+            return randomLeaf(random);
+        }
+        List<Predicate> children = new ArrayList<>();
+        int numChildren = random.nextInt(3) + 2;
+        for (int i = 0; i < numChildren; i++) {
+            children.add(randomPredicate(random, depth - 1));
+        }
+        return random.nextBoolean()
+                ? PredicateBuilder.and(children)
+                : PredicateBuilder.or(children);
+    }
+
+    private Predicate randomLeaf(Random random) {
+        int field = random.nextInt(4);
+        Object literal;
+        switch (field) {
+            case 0:
+                literal = random.nextInt(100);
+                break;
+            case 1:
+                literal = (long) random.nextInt(100);
+                break;
+            default:
+                literal = BinaryString.fromString(WORDS[random.nextInt(WORDS.length)]);
+                break;
+        }
+
+        switch (random.nextInt(10)) {
+            case 0:
+                return builder.equal(field, literal);
+            case 1:
+                return builder.notEqual(field, literal);
+            case 2:
+                return builder.lessThan(field, literal);
+            case 3:
+                return builder.lessOrEqual(field, literal);
+            case 4:
+                return builder.greaterThan(field, literal);
+            case 5:
+                return builder.greaterOrEqual(field, literal);
+            case 6:
+                return builder.isNull(field);
+            case 7:
+                return builder.isNotNull(field);
+            case 8:
+                return builder.in(field, Arrays.asList(literal, null));
+            default:
+                return field >= 2
+                        ? builder.startsWith(field, BinaryString.fromString("b"))
+                        : builder.greaterThan(field, literal);
+        }
+    }
+
+    private VectorizedColumnBatch createBatch(Random random) {
+        HeapIntVector intVector = new HeapIntVector(NUM_ROWS);
+        HeapLongVector longVector = new HeapLongVector(NUM_ROWS);
+        HeapBytesVector bytesVector = new HeapBytesVector(NUM_ROWS);
+        HeapBytesVector dictVector = new HeapBytesVector(NUM_ROWS);
+        HeapIntVector dictIds = dictVector.reserveDictionaryIds(NUM_ROWS);
+        dictVector.setDictionary(new WordsDictionary());
+        for (int i = 0; i < NUM_ROWS; i++) {
+            if (random.nextInt(10) == 0) {
+                intVector.setNullAt(i);
+            } else {
+                intVector.setInt(i, random.nextInt(100));
+            }
+
+            if (random.nextInt(10) == 0) {
+                longVector.setNullAt(i);
+            } else {
+                longVector.setLong(i, random.nextInt(100));
+            }
+
+            if (random.nextInt(10) == 0) {
+                bytesVector.appendBytes(i, new byte[0], 0, 0);
+                bytesVector.setNullAt(i);
+            } else {
+                byte[] bytes = WORDS[random.nextInt(WORDS.length)].getBytes(StandardCharsets.UTF_8);
+                bytesVector.appendBytes(i, bytes, 0, bytes.length);
+            }
+
+            if (random.nextInt(10) == 0) {
+                dictVector.setNullAt(i);
+            } else {
+                dictIds.setInt(i, random.nextInt(WORDS.length));
+            }
+        }
+
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(
+                        new ColumnVector[] {intVector, longVector, bytesVector, dictVector});
+        batch.setNumRows(NUM_ROWS);
+        return batch;
+    }
+
+    private static class WordsDictionary implements Dictionary {
+
+        @Override
+        public int decodeToInt(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long decodeToLong(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float decodeToFloat(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double decodeToDouble(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] decodeToBinary(int id) {
+            return WORDS[id].getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Timestamp decodeToTimestamp(int id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.cache.CachingFileIO;
 import org.apache.paimon.index.HashIndexFile;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.manifest.IndexManifestFile;
@@ -33,6 +34,7 @@ import org.apache.paimon.operation.ChangelogDeletion;
 import org.apache.paimon.operation.FileStoreCommitImpl;
 import org.apache.paimon.operation.ManifestsReader;
 import org.apache.paimon.operation.PartitionExpire;
+import org.apache.paimon.operation.PlanState;
 import org.apache.paimon.operation.SnapshotDeletion;
 import org.apache.paimon.operation.TagDeletion;
 import org.apache.paimon.options.MemorySize;
@@ -76,6 +78,7 @@ import static org.apache.paimon.utils.Preconditions.checkArgument;
 abstract class AbstractFileStore<T> implements FileStore<T> {
 
     protected final FileIO fileIO;
+    protected final FileIO metadataFileIO;
     protected final SchemaManager schemaManager;
     protected final TableSchema schema;
     protected final String tableName;
@@ -86,6 +89,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
     @Nullable private final SegmentsCache<Path> writeManifestCache;
     @Nullable private SegmentsCache<Path> readManifestCache;
     @Nullable private Cache<Path, Snapshot> snapshotCache;
+    @Nullable private PlanState planState;
 
     protected AbstractFileStore(
             FileIO fileIO,
@@ -96,6 +100,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
             RowType partitionType,
             CatalogEnvironment catalogEnvironment) {
         this.fileIO = fileIO;
+        this.metadataFileIO = metadataFileIO(fileIO, options);
         this.schemaManager = schemaManager;
         this.schema = schema;
         this.tableName = tableName;
@@ -107,6 +112,15 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                         options.pageSize(), options.writeManifestCache(), Long.MAX_VALUE);
     }
 
+    /** Immutable metadata files are read through local cache if it is configured. */
+    private static FileIO metadataFileIO(FileIO fileIO, CoreOptions options) {
+        String cacheDir = options.metadataLocalCacheDir();
+        if (cacheDir == null) {
+            return fileIO;
+        }
+        return new CachingFileIO(fileIO, cacheDir, options.metadataLocalCacheMaxSize().getBytes());
+    }
+
     @Override
     public FileStorePathFactory pathFactory() {
         return pathFactory(options.fileFormatString());
@@ -164,7 +178,12 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
 
     @Override
     public SnapshotManager snapshotManager() {
-        return new SnapshotManager(fileIO, options.path(), options.branch(), snapshotCache);
+        return new SnapshotManager(
+                fileIO,
+                options.path(),
+                options.branch(),
+                snapshotCache,
+                options.snapshotTimelineEnabled());
     }
 
     @Override
@@ -172,9 +191,25 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
         return manifestFileFactory(false);
     }
 
+    @Nullable
+    protected synchronized PlanState planState() {
+        if (planState == null && options.scanPlanStateMaxFiles() > 0) {
+            planState =
+                    new PlanState(
+                            snapshotManager(),
+                            manifestListFactory(),
+                            manifestFileFactory(),
+                            options.scanPlanStateMaxFiles(),
+                            options.scanPlanStateMaxMemorySize(),
+                            options.scanPlanStateMaxDeltaSnapshots(),
+                            options.scanManifestParallelism());
+        }
+        return planState;
+    }
+
     protected ManifestFile.Factory manifestFileFactory(boolean forWrite) {
         return new ManifestFile.Factory(
-                fileIO,
+                metadataFileIO,
                 schemaManager,
                 partitionType,
                 options.manifestFormat(),
@@ -191,7 +226,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
 
     protected ManifestList.Factory manifestListFactory(boolean forWrite) {
         return new ManifestList.Factory(
-                fileIO,
+                metadataFileIO,
                 options.manifestFormat(),
                 options.manifestCompression(),
                 pathFactory(),
@@ -201,7 +236,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
     @Override
     public IndexManifestFile.Factory indexManifestFileFactory() {
         return new IndexManifestFile.Factory(
-                fileIO,
+                metadataFileIO,
                 options.manifestFormat(),
                 options.manifestCompression(),
                 pathFactory(),
@@ -228,7 +263,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
         return new StatsFileHandler(
                 snapshotManager(),
                 schemaManager,
-                new StatsFile(fileIO, pathFactory().statsFileFactory()));
+                new StatsFile(metadataFileIO, pathFactory().statsFileFactory()));
     }
 
     protected ManifestsReader newManifestsReader(boolean forWrite) {
@@ -285,9 +320,12 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 newStatsFileHandler(),
                 bucketMode(),
                 options.scanManifestParallelism(),
+                options.manifestWriteParallelism(),
                 callbacks,
                 options.commitMaxRetries(),
-                options.commitTimeout());
+                options.commitTimeout(),
+                options.commitMinRetryWait(),
+                options.commitMaxRetryWait());
     }
 
     @Override
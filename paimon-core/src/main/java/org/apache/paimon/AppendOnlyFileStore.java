@@ -151,15 +151,20 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                     return Optional.empty();
                 };
 
-        return new AppendOnlyFileStoreScan(
-                newManifestsReader(forWrite),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                manifestFileFactory(forWrite),
-                options.scanManifestParallelism(),
-                options.fileIndexReadEnabled());
+        AppendOnlyFileStoreScan scan =
+                new AppendOnlyFileStoreScan(
+                        newManifestsReader(forWrite),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        manifestFileFactory(forWrite),
+                        options.scanManifestParallelism(),
+                        options.fileIndexReadEnabled());
+        if (!forWrite) {
+            scan.withPlanState(planState());
+        }
+        return scan;
     }
 
     @Override
@@ -215,19 +215,24 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                     }
                     return Optional.empty();
                 };
-        return new KeyValueFileStoreScan(
-                newManifestsReader(forWrite),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                keyValueFieldsExtractor,
-                manifestFileFactory(forWrite),
-                options.scanManifestParallelism(),
-                options.deletionVectorsEnabled(),
-                options.mergeEngine(),
-                options.changelogProducer(),
-                options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        KeyValueFileStoreScan scan =
+                new KeyValueFileStoreScan(
+                        newManifestsReader(forWrite),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        keyValueFieldsExtractor,
+                        manifestFileFactory(forWrite),
+                        options.scanManifestParallelism(),
+                        options.deletionVectorsEnabled(),
+                        options.mergeEngine(),
+                        options.changelogProducer(),
+                        options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        if (!forWrite) {
+            scan.withPlanState(planState());
+        }
+        return scan;
     }
 
     @Override
@@ -45,6 +45,7 @@ import java.util.Optional;
 import static org.apache.paimon.options.CatalogOptions.CACHE_ENABLED;
 import static org.apache.paimon.options.CatalogOptions.CACHE_EXPIRATION_INTERVAL_MS;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_MAX_MEMORY;
+import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_OFF_HEAP;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_SMALL_FILE_THRESHOLD;
 import static org.apache.paimon.options.CatalogOptions.CACHE_PARTITION_MAX_NUM;
@@ -85,7 +86,11 @@ public class CachingCatalog extends DelegateCatalog {
                     "When cache.expiration-interval is set to negative or 0, the catalog cache should be disabled.");
         }
         this.snapshotMaxNumPerTable = options.get(CACHE_SNAPSHOT_MAX_NUM_PER_TABLE);
-        this.manifestCache = SegmentsCache.create(manifestMaxMemory, manifestCacheThreshold);
+        this.manifestCache =
+                SegmentsCache.create(
+                        manifestMaxMemory,
+                        manifestCacheThreshold,
+                        options.get(CACHE_MANIFEST_OFF_HEAP));
 
         this.cachedPartitionMaxNum = options.get(CACHE_PARTITION_MAX_NUM);
         init(Ticker.systemTicker());
@@ -26,7 +26,9 @@ import org.apache.paimon.utils.Pair;
 import org.apache.paimon.shade.guava30.com.google.common.cache.Cache;
 import org.apache.paimon.shade.guava30.com.google.common.cache.CacheBuilder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -98,12 +100,37 @@ public class CodeGenUtils {
                 () -> getCodeGenerator().generateRecordEqualiser(fieldTypes, fields));
     }
 
+    public static RecordAggregator newRecordAggregator(
+            List<DataType> fieldTypes, List<String> aggFunctions, boolean[] ignoreRetract) {
+        List<Object> extraKey = new ArrayList<>(aggFunctions);
+        for (boolean ignore : ignoreRetract) {
+            extraKey.add(ignore);
+        }
+        return generate(
+                RecordAggregator.class,
+                fieldTypes,
+                IntStream.range(0, fieldTypes.size()).toArray(),
+                extraKey,
+                () ->
+                        getCodeGenerator()
+                                .generateRecordAggregator(fieldTypes, aggFunctions, ignoreRetract));
+    }
+
     private static <T> T generate(
             Class<?> classType,
             List<DataType> fields,
             int[] fieldsIndex,
             Supplier<GeneratedClass<T>> supplier) {
-        ClassKey classKey = new ClassKey(classType, fields, fieldsIndex);
+        return generate(classType, fields, fieldsIndex, Collections.emptyList(), supplier);
+    }
+
+    private static <T> T generate(
+            Class<?> classType,
+            List<DataType> fields,
+            int[] fieldsIndex,
+            List<Object> extraKey,
+            Supplier<GeneratedClass<T>> supplier) {
+        ClassKey classKey = new ClassKey(classType, fields, fieldsIndex, extraKey);
 
         try {
             Pair<Class<?>, Object[]> result =
@@ -153,10 +180,17 @@ public class CodeGenUtils {
 
         private final int[] fieldsIndex;
 
-        public ClassKey(Class<?> classType, List<DataType> fields, int[] fieldsIndex) {
+        private final List<Object> extraKey;
+
+        public ClassKey(
+                Class<?> classType,
+                List<DataType> fields,
+                int[] fieldsIndex,
+                List<Object> extraKey) {
             this.classType = classType;
             this.fields = fields;
             this.fieldsIndex = fieldsIndex;
+            this.extraKey = extraKey;
         }
 
         @Override
@@ -170,12 +204,13 @@ public class CodeGenUtils {
             ClassKey classKey = (ClassKey) o;
             return Objects.equals(classType, classKey.classType)
                     && Objects.equals(fields, classKey.fields)
-                    && Arrays.equals(fieldsIndex, classKey.fieldsIndex);
+                    && Arrays.equals(fieldsIndex, classKey.fieldsIndex)
+                    && Objects.equals(extraKey, classKey.extraKey);
         }
 
         @Override
         public int hashCode() {
-            int result = Objects.hash(classType, fields);
+            int result = Objects.hash(classType, fields, extraKey);
             result = 31 * result + Arrays.hashCode(fieldsIndex);
             return result;
         }
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.disk;
+
+import org.apache.paimon.memory.Buffer;
+import org.apache.paimon.memory.MemorySegment;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * An asynchronous {@link BufferFileReader} implementation. The I/O threads prefetch a bounded
+ * number of blocks ahead of the caller, so that the caller can process the current block while the
+ * next ones are being read. The prefetching starts at the first {@link #readInto} call.
+ *
+ * <p>The buffers are taken from the buffer budget of the {@link IOManager}. If it is exhausted, the
+ * blocks are read synchronously by the caller.
+ */
+public class AsyncBufferFileReader extends AbstractFileIOChannel implements BufferFileReader {
+
+    private static final long IO_WAIT_MILLIS = 100;
+
+    private final ExecutorService executor;
+    private final Semaphore bufferBudget;
+    private final int maxPrefetchBlocks;
+    private final BufferFileChannelReader reader;
+
+    private final Object lock = new Object();
+    private final Deque<Buffer> readBlocks = new ArrayDeque<>();
+    private final Deque<MemorySegment> freeSegments = new ArrayDeque<>();
+
+    private boolean started;
+    private int allocatedBytes;
+    private boolean reading;
+    private boolean ioReachedEndOfFile;
+    private boolean closed;
+    private IOException error;
+
+    private boolean hasReachedEndOfFile;
+
+    protected AsyncBufferFileReader(
+            ID channelID, ExecutorService executor, Semaphore bufferBudget, int maxPrefetchBlocks)
+            throws IOException {
+        super(channelID, false);
+        this.executor = executor;
+        this.bufferBudget = bufferBudget;
+        this.maxPrefetchBlocks = maxPrefetchBlocks;
+        this.reader = new BufferFileChannelReader(fileChannel);
+    }
+
+    @Override
+    public void readInto(Buffer buffer) throws IOException {
+        checkArgument(buffer.getSize() == 0, "Buffer not empty");
+        Buffer block;
+        synchronized (lock) {
+            if (!started) {
+                // the blocks can not be larger than the buffer of the caller
+                started = true;
+                int size = buffer.getMaxCapacity();
+                for (int i = 0; i < maxPrefetchBlocks && bufferBudget.tryAcquire(size); i++) {
+                    freeSegments.add(MemorySegment.wrap(new byte[size]));
+                    allocatedBytes += size;
+                }
+            }
+
+            if (allocatedBytes == 0) {
+                // no buffer is available, read in the caller thread
+                hasReachedEndOfFile = reader.readBufferFromFileChannel(buffer);
+                return;
+            }
+
+            prefetch();
+            while ((block = readBlocks.poll()) == null) {
+                checkError();
+                if (ioReachedEndOfFile) {
+                    throw new IllegalStateException("Channel has reached the end of file.");
+                }
+                waitForReader();
+            }
+            hasReachedEndOfFile = ioReachedEndOfFile && readBlocks.isEmpty();
+        }
+
+        int size = block.getSize();
+        if (size > buffer.getMaxCapacity()) {
+            throw new IllegalStateException(
+                    "Buffer is too small for data: "
+                            + buffer.getMaxCapacity()
+                            + " bytes available, but "
+                            + size
+                            + " needed.");
+        }
+        block.getMemorySegment().copyTo(0, buffer.getMemorySegment(), 0, size);
+        buffer.setSize(size);
+
+        synchronized (lock) {
+            freeSegments.add(block.getMemorySegment());
+            prefetch();
+        }
+    }
+
+    private void prefetch() {
+        if (!reading
+                && !ioReachedEndOfFile
+                && !closed
+                && error == null
+                && !freeSegments.isEmpty()) {
+            reading = true;
+            try {
+                executor.execute(this::readBlocks);
+            } catch (RejectedExecutionException e) {
+                reading = false;
+                error = new IOException("The I/O manager has been closed.", e);
+            }
+        }
+    }
+
+    private void readBlocks() {
+        while (true) {
+            MemorySegment segment;
+            synchronized (lock) {
+                segment = freeSegments.poll();
+                if (segment == null || closed || ioReachedEndOfFile) {
+                    if (segment != null) {
+                        freeSegments.add(segment);
+                    }
+                    reading = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            Buffer block = Buffer.create(segment);
+            boolean endOfFile;
+            try {
+                endOfFile = reader.readBufferFromFileChannel(block);
+            } catch (Throwable t) {
+                synchronized (lock) {
+                    error =
+                            t instanceof IOException
+                                    ? (IOException) t
+                                    : new IOException(
+                                            "Failed to read block from " + id.getPath(), t);
+                    reading = false;
+                    lock.notifyAll();
+                }
+                return;
+            }
+
+            synchronized (lock) {
+                readBlocks.add(block);
+                ioReachedEndOfFile = endOfFile;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void waitForReader() throws IOException {
+        try {
+            lock.wait(IO_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for block reads.");
+        }
+        if (reading && executor.isTerminated()) {
+            // the read task has been dropped by closing the I/O manager
+            reading = false;
+            error = new IOException("The I/O manager has been closed.");
+        }
+    }
+
+    private void checkError() throws IOException {
+        if (error != null) {
+            throw new IOException("Asynchronous read from " + id.getPath() + " failed.", error);
+        }
+    }
+
+    @Override
+    public boolean hasReachedEndOfFile() {
+        return hasReachedEndOfFile;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+            try {
+                // wait for the in-flight read before closing the file channel
+                while (reading) {
+                    waitForReader();
+                }
+            } finally {
+                readBlocks.clear();
+                freeSegments.clear();
+                bufferBudget.release(allocatedBytes);
+                allocatedBytes = 0;
+            }
+        }
+        super.close();
+    }
+}
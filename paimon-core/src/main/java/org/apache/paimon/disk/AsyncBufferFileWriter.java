@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.disk;
+
+import org.apache.paimon.memory.Buffer;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.FileIOUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * An asynchronous {@link BufferFileWriter} implementation. The blocks are copied into a bounded
+ * number of buffers and written by the I/O threads, so that the caller can prepare the next block
+ * while the previous one is being written. The blocks of one channel are always written in order.
+ *
+ * <p>The buffers are taken from the buffer budget of the {@link IOManager}. If it is exhausted, the
+ * blocks are written synchronously by the caller.
+ */
+public class AsyncBufferFileWriter extends AbstractFileIOChannel implements BufferFileWriter {
+
+    private static final long IO_WAIT_MILLIS = 100;
+
+    private final ExecutorService executor;
+    private final Semaphore bufferBudget;
+    private final int maxPendingBlocks;
+
+    private final Object lock = new Object();
+    private final Deque<Buffer> pendingBlocks = new ArrayDeque<>();
+    private final Deque<MemorySegment> freeSegments = new ArrayDeque<>();
+    private final ByteBuffer header = ByteBuffer.allocateDirect(4);
+
+    private int allocatedSegments;
+    private int allocatedBytes;
+    private boolean writing;
+    private IOException error;
+
+    protected AsyncBufferFileWriter(
+            ID channelID, ExecutorService executor, Semaphore bufferBudget, int maxPendingBlocks)
+            throws IOException {
+        super(channelID, true);
+        this.executor = executor;
+        this.bufferBudget = bufferBudget;
+        this.maxPendingBlocks = maxPendingBlocks;
+    }
+
+    @Override
+    public void writeBlock(Buffer buffer) throws IOException {
+        int size = buffer.getSize();
+        MemorySegment segment = nextFreeSegment(size);
+        if (segment == null) {
+            // no buffer is available, write the block after the queued ones in the caller thread
+            flush();
+            writeToChannel(buffer);
+            return;
+        }
+
+        buffer.getMemorySegment().copyTo(0, segment, 0, size);
+        synchronized (lock) {
+            pendingBlocks.add(Buffer.create(segment, size));
+            if (!writing) {
+                writing = true;
+                try {
+                    executor.execute(this::writePendingBlocks);
+                } catch (RejectedExecutionException e) {
+                    writing = false;
+                    pendingBlocks.clear();
+                    error = new IOException("The I/O manager has been closed.", e);
+                    checkError();
+                }
+            }
+        }
+    }
+
+    /** Returns a segment to copy the block into, or null if no buffer can be allocated. */
+    private MemorySegment nextFreeSegment(int size) throws IOException {
+        synchronized (lock) {
+            while (true) {
+                checkError();
+                MemorySegment segment = freeSegments.poll();
+                if (segment != null && segment.size() >= size) {
+                    return segment;
+                }
+                if (segment != null) {
+                    // too small for the block, allocate a larger one instead
+                    releaseSegment(segment);
+                }
+                if (allocatedSegments < maxPendingBlocks && bufferBudget.tryAcquire(size)) {
+                    allocatedSegments++;
+                    allocatedBytes += size;
+                    return MemorySegment.wrap(new byte[size]);
+                }
+                if (allocatedSegments == 0) {
+                    return null;
+                }
+                waitForWriter();
+            }
+        }
+    }
+
+    private void releaseSegment(MemorySegment segment) {
+        allocatedSegments--;
+        allocatedBytes -= segment.size();
+        bufferBudget.release(segment.size());
+    }
+
+    private void writePendingBlocks() {
+        while (true) {
+            Buffer buffer;
+            synchronized (lock) {
+                buffer = pendingBlocks.poll();
+                if (buffer == null || error != null) {
+                    pendingBlocks.clear();
+                    writing = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                writeToChannel(buffer);
+            } catch (Throwable t) {
+                synchronized (lock) {
+                    error =
+                            t instanceof IOException
+                                    ? (IOException) t
+                                    : new IOException(
+                                            "Failed to write block to " + id.getPath(), t);
+                }
+            }
+
+            synchronized (lock) {
+                freeSegments.add(buffer.getMemorySegment());
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void writeToChannel(Buffer buffer) throws IOException {
+        header.clear();
+        header.putInt(buffer.getSize());
+        header.flip();
+        FileIOUtils.writeCompletely(fileChannel, header);
+        FileIOUtils.writeCompletely(fileChannel, buffer.getNioBuffer(0, buffer.getSize()));
+    }
+
+    /** Waits until all the written blocks are flushed to the file channel. */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            while (writing) {
+                waitForWriter();
+            }
+            checkError();
+        }
+    }
+
+    private void waitForWriter() throws IOException {
+        try {
+            lock.wait(IO_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for block writes.");
+        }
+        if (writing && executor.isTerminated()) {
+            // the write task has been dropped by closing the I/O manager
+            writing = false;
+            error = new IOException("The I/O manager has been closed.");
+        }
+    }
+
+    private void checkError() throws IOException {
+        if (error != null) {
+            throw new IOException("Asynchronous write to " + id.getPath() + " failed.", error);
+        }
+    }
+
+    @Override
+    public long getSize() throws IOException {
+        flush();
+        return super.getSize();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            synchronized (lock) {
+                freeSegments.clear();
+                bufferBudget.release(allocatedBytes);
+                allocatedSegments = 0;
+                allocatedBytes = 0;
+            }
+            super.close();
+        }
+    }
+}
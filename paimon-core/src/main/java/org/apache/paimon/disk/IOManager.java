@@ -51,4 +51,8 @@ public interface IOManager extends AutoCloseable {
     static IOManager create(String[] tempDirs) {
         return new IOManagerImpl(tempDirs);
     }
+
+    static IOManager create(String[] tempDirs, int ioThreadsPerDir, long asyncBufferSize) {
+        return new IOManagerImpl(ioThreadsPerDir, asyncBufferSize, tempDirs);
+    }
 }
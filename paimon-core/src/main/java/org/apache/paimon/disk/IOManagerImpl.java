@@ -18,9 +18,11 @@
 
 package org.apache.paimon.disk;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.disk.FileIOChannel.Enumerator;
 import org.apache.paimon.disk.FileIOChannel.ID;
 import org.apache.paimon.utils.Preconditions;
+import org.apache.paimon.utils.ThreadPoolUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +32,10 @@ import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 /** The facade for the provided I/O manager services. */
@@ -39,10 +45,21 @@ public class IOManagerImpl implements IOManager {
 
     private static final String DIR_NAME_PREFIX = "io";
 
+    /** The number of blocks an asynchronous channel buffers ahead of its caller. */
+    private static final int ASYNC_CHANNEL_BUFFERS = 2;
+
     private final String[] tempDirs;
 
     private final FileChannelManager fileChannelManager;
 
+    private final int ioThreadsPerDir;
+
+    /** The I/O threads of the spilling directories, empty if the channels are synchronous. */
+    private final Map<File, ExecutorService> ioExecutors;
+
+    /** Bytes of the heap buffers which the asynchronous channels may allocate. */
+    private final Semaphore asyncBufferBudget;
+
     // -------------------------------------------------------------------------
     //               Constructors / Destructors
     // -------------------------------------------------------------------------
@@ -53,9 +70,53 @@ public class IOManagerImpl implements IOManager {
      * @param tempDirs The basic directories for files underlying anonymous channels.
      */
     public IOManagerImpl(String... tempDirs) {
+        this(0, tempDirs);
+    }
+
+    /**
+     * Constructs a new IOManager.
+     *
+     * @param ioThreadsPerDir The number of I/O threads per spilling directory which write and
+     *     prefetch the blocks of the channels asynchronously, 0 means the channels are synchronous.
+     * @param tempDirs The basic directories for files underlying anonymous channels.
+     */
+    public IOManagerImpl(int ioThreadsPerDir, String... tempDirs) {
+        this(
+                ioThreadsPerDir,
+                CoreOptions.SPILL_IO_BUFFER_SIZE.defaultValue().getBytes(),
+                tempDirs);
+    }
+
+    /**
+     * Constructs a new IOManager.
+     *
+     * @param ioThreadsPerDir The number of I/O threads per spilling directory which write and
+     *     prefetch the blocks of the channels asynchronously, 0 means the channels are synchronous.
+     * @param asyncBufferSize The max bytes of the buffers of all the asynchronous channels, the
+     *     channels read and write synchronously once it is exhausted.
+     * @param tempDirs The basic directories for files underlying anonymous channels.
+     */
+    public IOManagerImpl(int ioThreadsPerDir, long asyncBufferSize, String... tempDirs) {
+        Preconditions.checkArgument(
+                ioThreadsPerDir >= 0, "The number of I/O threads must not be negative.");
+        Preconditions.checkArgument(
+                asyncBufferSize >= 0, "The size of I/O buffers must not be negative.");
         this.tempDirs = tempDirs;
         this.fileChannelManager =
                 new FileChannelManagerImpl(Preconditions.checkNotNull(tempDirs), DIR_NAME_PREFIX);
+        this.ioThreadsPerDir = ioThreadsPerDir;
+        this.ioExecutors = new HashMap<>();
+        this.asyncBufferBudget = new Semaphore((int) Math.min(asyncBufferSize, Integer.MAX_VALUE));
+        if (ioThreadsPerDir > 0) {
+            // threads are started lazily and exit when the channels are idle
+            File[] paths = fileChannelManager.getPaths();
+            for (int i = 0; i < paths.length; i++) {
+                ioExecutors.put(
+                        paths[i],
+                        ThreadPoolUtils.createCachedThreadPool(
+                                ioThreadsPerDir, "paimon-spill-io-" + i));
+            }
+        }
         if (LOG.isInfoEnabled()) {
             LOG.info(
                     "Created a new {} for spilling of task related data to disk (joins, sorting, ...). Used directories:\n\t{}",
@@ -69,6 +130,7 @@ public class IOManagerImpl implements IOManager {
     /** Removes all temporary files. */
     @Override
     public void close() throws Exception {
+        ioExecutors.values().forEach(ExecutorService::shutdownNow);
         fileChannelManager.close();
     }
 
@@ -131,12 +193,27 @@ public class IOManagerImpl implements IOManager {
 
     @Override
     public BufferFileWriter createBufferFileWriter(FileIOChannel.ID channelID) throws IOException {
-        return new BufferFileWriterImpl(channelID);
+        return ioThreadsPerDir > 0
+                ? new AsyncBufferFileWriter(
+                        channelID, ioExecutor(channelID), asyncBufferBudget, ASYNC_CHANNEL_BUFFERS)
+                : new BufferFileWriterImpl(channelID);
     }
 
     @Override
     public BufferFileReader createBufferFileReader(FileIOChannel.ID channelID) throws IOException {
-        return new BufferFileReaderImpl(channelID);
+        return ioThreadsPerDir > 0
+                ? new AsyncBufferFileReader(
+                        channelID, ioExecutor(channelID), asyncBufferBudget, ASYNC_CHANNEL_BUFFERS)
+                : new BufferFileReaderImpl(channelID);
+    }
+
+    private ExecutorService ioExecutor(FileIOChannel.ID channelID) {
+        ExecutorService executor = ioExecutors.get(channelID.getPathFile().getParentFile());
+        if (executor == null) {
+            File[] paths = fileChannelManager.getPaths();
+            executor = ioExecutors.get(paths[Math.abs(channelID.hashCode() % paths.length)]);
+        }
+        return executor;
     }
 
     public static String[] splitPaths(@Nonnull String separatedPaths) {
@@ -21,17 +21,25 @@ package org.apache.paimon.index;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.BucketAssignerMetrics;
 import org.apache.paimon.utils.SnapshotManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
 /** Assign bucket for key hashcode. */
 public class HashBucketAssigner implements BucketAssigner {
@@ -46,7 +54,18 @@ public class HashBucketAssigner implements BucketAssigner {
     private final int assignId;
     private final long targetBucketRowNumber;
 
-    private final Map<BinaryRow, PartitionIndex> partitionIndex;
+    private final LinkedHashMap<BinaryRow, PartitionIndex> partitionIndex;
+
+    @Nullable private IOManager ioManager;
+    private long maxIndexMemory;
+    private long usedIndexMemory;
+    private long hitKeys;
+    private long assignedKeys;
+    @Nullable private BucketAssignerMetrics metrics;
+
+    // read by metric reporter threads, partitionIndex is changed by every access
+    private volatile int numPartitions;
+    private volatile int numSpilledPartitions;
 
     public HashBucketAssigner(
             SnapshotManager snapshotManager,
@@ -63,7 +82,24 @@ public class HashBucketAssigner implements BucketAssigner {
         this.numAssigners = numAssigners;
         this.assignId = assignId;
         this.targetBucketRowNumber = targetBucketRowNumber;
-        this.partitionIndex = new HashMap<>();
+        // access order, spill the least recently used partition index first
+        this.partitionIndex = new LinkedHashMap<>(16, 0.75f, true);
+        this.maxIndexMemory = Long.MAX_VALUE;
+    }
+
+    /**
+     * Bound the memory of partition indexes, once exceeded, the least recently used partition
+     * indexes are spilled to disk.
+     */
+    public HashBucketAssigner withIndexMemory(long maxIndexMemory, IOManager ioManager) {
+        this.maxIndexMemory = maxIndexMemory;
+        this.ioManager = ioManager;
+        return this;
+    }
+
+    public HashBucketAssigner withMetricRegistry(MetricRegistry registry, String tableName) {
+        this.metrics = new BucketAssignerMetrics(registry, tableName, this);
+        return this;
     }
 
     /** Assign a bucket for key hash of a record. */
@@ -82,9 +118,23 @@ public class HashBucketAssigner implements BucketAssigner {
             partition = partition.copy();
             index = loadIndex(partition, partitionHash);
             this.partitionIndex.put(partition, index);
+            numPartitions = partitionIndex.size();
+            usedIndexMemory += index.memorySize();
+        } else if (index.isSpilled()) {
+            restore(index);
         }
 
+        int sizeBefore = index.size();
         int assigned = index.assign(hash, this::isMyBucket);
+        assignedKeys++;
+        if (index.size() == sizeBefore) {
+            hitKeys++;
+        } else {
+            usedIndexMemory += PartitionIndex.BYTES_PER_KEY;
+            if (usedIndexMemory > maxIndexMemory) {
+                spill(index);
+            }
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Assign " + assigned + " to the partition " + partition + " key hash " + hash);
@@ -142,7 +192,13 @@ public class HashBucketAssigner implements BucketAssigner {
                                 latestCommittedIdentifier,
                                 commitIdentifier);
                     }
+                    usedIndexMemory -= index.memorySize();
+                    if (index.isSpilled()) {
+                        numSpilledPartitions--;
+                    }
+                    index.deleteSpilledFile();
                     iterator.remove();
+                    numPartitions = partitionIndex.size();
                 }
             }
             index.accessed = false;
@@ -154,6 +210,77 @@ public class HashBucketAssigner implements BucketAssigner {
         return partitionIndex.keySet();
     }
 
+    /** Ratio of assigned keys which have been assigned before. */
+    public double hitRate() {
+        return assignedKeys == 0 ? 0 : (double) hitKeys / assignedKeys;
+    }
+
+    public long usedIndexMemory() {
+        return usedIndexMemory;
+    }
+
+    public int numPartitions() {
+        return numPartitions;
+    }
+
+    public int numSpilledPartitions() {
+        return numSpilledPartitions;
+    }
+
+    private void restore(PartitionIndex index) {
+        try {
+            index.restore();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        numSpilledPartitions--;
+        usedIndexMemory += index.memorySize();
+        if (usedIndexMemory > maxIndexMemory) {
+            spill(index);
+        }
+    }
+
+    private void spill(PartitionIndex current) {
+        checkNotNull(ioManager, "IOManager is required to spill partition index.");
+        for (Map.Entry<BinaryRow, PartitionIndex> entry : partitionIndex.entrySet()) {
+            if (usedIndexMemory <= maxIndexMemory) {
+                break;
+            }
+
+            PartitionIndex index = entry.getValue();
+            if (index == current || index.isSpilled()) {
+                continue;
+            }
+
+            long memorySize = index.memorySize();
+            try {
+                index.spill(ioManager);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            usedIndexMemory -= memorySize;
+            numSpilledPartitions++;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(
+                        "Spilled index of partition {} with {} keys.",
+                        entry.getKey(),
+                        index.size());
+            }
+        }
+    }
+
+    /** Delete the spilled files and unregister metrics. */
+    public void close() {
+        partitionIndex.values().forEach(PartitionIndex::deleteSpilledFile);
+        partitionIndex.clear();
+        numPartitions = 0;
+        numSpilledPartitions = 0;
+        usedIndexMemory = 0;
+        if (metrics != null) {
+            metrics.close();
+        }
+    }
+
     private int computeAssignId(int partitionHash, int keyHash) {
         return BucketAssigner.computeAssigner(partitionHash, keyHash, numChannels, numAssigners);
     }
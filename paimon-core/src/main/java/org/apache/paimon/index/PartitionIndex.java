@@ -19,34 +19,62 @@
 package org.apache.paimon.index;
 
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.FileIOChannel;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.utils.Int2ShortHashMap;
 import org.apache.paimon.utils.IntIterator;
 
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.IntPredicate;
 
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.utils.Preconditions.checkState;
 
-/** Bucket Index Per Partition. */
+/**
+ * Bucket Index Per Partition.
+ *
+ * <p>Keys are kept in a primitive open addressing hash map, which can be spilled to a local file
+ * sorted by key hash when the memory of the assigner is exhausted. Non-full buckets are kept in a
+ * queue, so assigning a new key is O(1).
+ */
 public class PartitionIndex {
 
-    public final Int2ShortHashMap hash2Bucket;
+    /** Estimated bytes of a key in {@link Int2ShortHashMap}, considering its load factor. */
+    public static final int BYTES_PER_KEY = 10;
+
+    @Nullable private Int2ShortHashMap hash2Bucket;
 
-    public final Map<Integer, Long> nonFullBucketInformation;
+    private long[] bucketRowNumbers;
 
-    public final Set<Integer> totalBucket;
+    private final ArrayDeque<Integer> nonFullBuckets;
+
+    private final BitSet totalBucket;
 
     private final long targetBucketRowNumber;
 
+    private int nextNewBucket;
+
+    private int size;
+
+    @Nullable private FileIOChannel.ID spilledChannel;
+
     public boolean accessed;
 
     public long lastAccessedCommitIdentifier;
@@ -56,15 +84,27 @@ public class PartitionIndex {
             Map<Integer, Long> bucketInformation,
             long targetBucketRowNumber) {
         this.hash2Bucket = hash2Bucket;
-        this.nonFullBucketInformation = bucketInformation;
-        this.totalBucket = new HashSet<>(bucketInformation.keySet());
+        this.size = hash2Bucket.size();
+        int maxBucket = bucketInformation.keySet().stream().mapToInt(i -> i).max().orElse(-1);
+        this.bucketRowNumbers = new long[maxBucket + 1];
+        this.totalBucket = new BitSet();
+        this.nonFullBuckets = new ArrayDeque<>();
+        new TreeMap<>(bucketInformation)
+                .forEach(
+                        (bucket, number) -> {
+                            bucketRowNumbers[bucket] = number;
+                            totalBucket.set(bucket);
+                            nonFullBuckets.add(bucket);
+                        });
         this.targetBucketRowNumber = targetBucketRowNumber;
+        this.nextNewBucket = 0;
         this.lastAccessedCommitIdentifier = Long.MIN_VALUE;
         this.accessed = true;
     }
 
     public int assign(int hash, IntPredicate bucketFilter) {
         accessed = true;
+        checkState(hash2Bucket != null, "Partition index is spilled, restore it first.");
 
         // 1. is it a key that has appeared before
         if (hash2Bucket.containsKey(hash)) {
@@ -72,39 +112,116 @@ public class PartitionIndex {
         }
 
         // 2. find bucket from existing buckets
-        Iterator<Map.Entry<Integer, Long>> iterator =
-                nonFullBucketInformation.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<Integer, Long> entry = iterator.next();
-            Integer bucket = entry.getKey();
-            Long number = entry.getValue();
-            if (number < targetBucketRowNumber) {
-                entry.setValue(number + 1);
-                hash2Bucket.put(hash, bucket.shortValue());
+        while (!nonFullBuckets.isEmpty()) {
+            int bucket = nonFullBuckets.peekFirst();
+            if (bucketRowNumbers[bucket] < targetBucketRowNumber) {
+                bucketRowNumbers[bucket]++;
+                putKey(hash, bucket);
                 return bucket;
             } else {
-                iterator.remove();
+                nonFullBuckets.pollFirst();
             }
         }
 
-        // 3. create a new bucket
-        for (int i = 0; i < Short.MAX_VALUE; i++) {
-            if (bucketFilter.test(i) && !totalBucket.contains(i)) {
-                hash2Bucket.put(hash, (short) i);
-                nonFullBucketInformation.put(i, 1L);
-                totalBucket.add(i);
+        // 3. create a new bucket, buckets are never removed, so the candidates before
+        // nextNewBucket have been used or filtered
+        for (int i = nextNewBucket; i < Short.MAX_VALUE; i++) {
+            if (bucketFilter.test(i) && !totalBucket.get(i)) {
+                nextNewBucket = i + 1;
+                if (i >= bucketRowNumbers.length) {
+                    bucketRowNumbers =
+                            Arrays.copyOf(
+                                    bucketRowNumbers,
+                                    Math.min(
+                                            Math.max(i + 1, bucketRowNumbers.length * 2),
+                                            Short.MAX_VALUE));
+                }
+                bucketRowNumbers[i] = 1;
+                nonFullBuckets.add(i);
+                totalBucket.set(i);
+                putKey(hash, i);
                 return i;
             }
         }
 
-        @SuppressWarnings("OptionalGetWithoutIsPresent")
-        int maxBucket = totalBucket.stream().mapToInt(Integer::intValue).max().getAsInt();
+        int maxBucket = totalBucket.length() - 1;
         throw new RuntimeException(
                 String.format(
                         "Too more bucket %s, you should increase target bucket row number %s.",
                         maxBucket, targetBucketRowNumber));
     }
 
+    private void putKey(int hash, int bucket) {
+        hash2Bucket.put(hash, (short) bucket);
+        size++;
+    }
+
+    /** Number of keys in this index, including the spilled keys. */
+    public int size() {
+        return size;
+    }
+
+    public long memorySize() {
+        return hash2Bucket == null ? 0 : (long) size * BYTES_PER_KEY;
+    }
+
+    public boolean isSpilled() {
+        return spilledChannel != null;
+    }
+
+    /** Spill the keys to a local file sorted by key hash, bucket information stays in memory. */
+    public void spill(IOManager ioManager) throws IOException {
+        checkState(hash2Bucket != null, "Partition index is already spilled.");
+        FileIOChannel.ID channel = ioManager.createChannel();
+        try (DataOutputStream out =
+                new DataOutputStream(
+                        new BufferedOutputStream(
+                                Files.newOutputStream(channel.getPathFile().toPath())))) {
+            int[] keys = hash2Bucket.sortedKeys();
+            out.writeInt(keys.length);
+            for (int key : keys) {
+                out.writeInt(key);
+                out.writeShort(hash2Bucket.get(key));
+            }
+        } catch (IOException e) {
+            deleteQuietly(channel);
+            throw e;
+        }
+        this.spilledChannel = channel;
+        this.hash2Bucket = null;
+    }
+
+    /** Restore the keys from the spilled file. */
+    public void restore() throws IOException {
+        checkState(spilledChannel != null, "Partition index is not spilled.");
+        try (DataInputStream in =
+                new DataInputStream(
+                        new BufferedInputStream(
+                                Files.newInputStream(spilledChannel.getPathFile().toPath())))) {
+            int count = in.readInt();
+            Int2ShortHashMap map = new Int2ShortHashMap(count);
+            for (int i = 0; i < count; i++) {
+                map.put(in.readInt(), in.readShort());
+            }
+            this.hash2Bucket = map;
+        }
+        deleteSpilledFile();
+    }
+
+    public void deleteSpilledFile() {
+        if (spilledChannel != null) {
+            deleteQuietly(spilledChannel);
+            spilledChannel = null;
+        }
+    }
+
+    private static void deleteQuietly(FileIOChannel.ID channel) {
+        try {
+            Files.deleteIfExists(channel.getPathFile().toPath());
+        } catch (IOException ignored) {
+        }
+    }
+
     public static PartitionIndex loadIndex(
             IndexFileHandler indexFileHandler,
             BinaryRow partition,
@@ -47,10 +47,10 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -91,7 +91,8 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
         this.pathFactory = pathFactory;
         this.asyncThreshold = asyncThreshold;
         this.partition = partition;
-        this.formatReaderMappings = new HashMap<>();
+        // readers may be created concurrently, e.g. by compaction and lookup file prebuild threads
+        this.formatReaderMappings = new ConcurrentHashMap<>();
         this.dvFactory = dvFactory;
     }
 
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemoryUtils;
+import org.apache.paimon.utils.MathUtils;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import javax.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A map from bytes to bytes. Records are appended to off-heap {@link MemorySegment} pages and
+ * indexed by an open addressing hash table with linear probing.
+ *
+ * <p>Pages are never modified in place: an update appends a new version of the record and re-points
+ * the index slot, a delete only clears the slot. Once the garbage left behind exceeds the live
+ * data, the live records are copied to fresh pages and the old pages are released.
+ *
+ * <p>The pages of the maps sharing a memory counter are limited to a max memory size, a {@link
+ * MemoryExceededException} is thrown if a page can not be allocated. Pages are freed explicitly
+ * when they are released, instead of waiting for garbage collection.
+ *
+ * <p>Record layout: key length (4 bytes) | value length (4 bytes) | key bytes | value bytes.
+ *
+ * <p>This class is not thread-safe.
+ */
+public class InMemoryBytesMap {
+
+    private static final long EMPTY = -1L;
+
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int INIT_CAPACITY = 1024;
+
+    private static final double LOAD_FACTOR = 0.5;
+
+    private final int pageSize;
+    private final long maxMemorySize;
+    private final AtomicLong allocatedMemory;
+
+    private List<MemorySegment> pages;
+    private List<ByteBuffer> buffers;
+    private long memorySize;
+    private MemorySegment currentPage;
+    private int currentPageOffset;
+
+    private long[] addresses;
+    private int[] hashes;
+    private int mask;
+    private int growThreshold;
+    private int size;
+
+    private long recordBytes;
+    private long garbageBytes;
+
+    public InMemoryBytesMap(int pageSize) {
+        this(pageSize, Long.MAX_VALUE, new AtomicLong());
+    }
+
+    /**
+     * @param maxMemorySize the max bytes of pages of all the maps sharing the memory counter.
+     * @param allocatedMemory the bytes of pages allocated by the maps sharing it.
+     */
+    public InMemoryBytesMap(int pageSize, long maxMemorySize, AtomicLong allocatedMemory) {
+        this.pageSize = pageSize;
+        this.maxMemorySize = maxMemorySize;
+        this.allocatedMemory = allocatedMemory;
+        this.pages = new ArrayList<>();
+        this.buffers = new ArrayList<>();
+        initIndex(INIT_CAPACITY);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Total bytes of allocated pages. */
+    public long memorySize() {
+        return memorySize;
+    }
+
+    public boolean containsKey(byte[] key) {
+        return addresses[findSlot(key, hash(key))] != EMPTY;
+    }
+
+    @Nullable
+    public byte[] get(byte[] key) {
+        long address = addresses[findSlot(key, hash(key))];
+        if (address == EMPTY) {
+            return null;
+        }
+
+        MemorySegment page = page(address);
+        int offset = offset(address);
+        byte[] value = new byte[page.getInt(offset + 4)];
+        page.get(offset + RECORD_HEADER_SIZE + page.getInt(offset), value);
+        return value;
+    }
+
+    public void put(byte[] key, byte[] value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        long address = append(key, value);
+        if (addresses[slot] == EMPTY) {
+            addresses[slot] = address;
+            hashes[slot] = hash;
+            if (++size > growThreshold) {
+                initIndex(addresses.length * 2);
+            }
+        } else {
+            garbageBytes += recordLength(addresses[slot]);
+            addresses[slot] = address;
+        }
+        maybeCompact();
+    }
+
+    /** Remove the key and return true if it was present. */
+    public boolean remove(byte[] key) {
+        int slot = findSlot(key, hash(key));
+        if (addresses[slot] == EMPTY) {
+            return false;
+        }
+
+        garbageBytes += recordLength(addresses[slot]);
+
+        // backward shift deletion, keep probe sequences intact without tombstones
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (addresses[next] == EMPTY) {
+                break;
+            }
+            int ideal = hashes[next] & mask;
+            boolean movable =
+                    hole <= next
+                            ? (ideal <= hole || ideal > next)
+                            : (ideal <= hole && ideal > next);
+            if (movable) {
+                addresses[hole] = addresses[next];
+                hashes[hole] = hashes[next];
+                hole = next;
+            }
+        }
+        addresses[hole] = EMPTY;
+        size--;
+        maybeCompact();
+        return true;
+    }
+
+    /** Release all pages. */
+    public void clear() {
+        freePages(buffers, memorySize);
+        pages = new ArrayList<>();
+        buffers = new ArrayList<>();
+        memorySize = 0;
+        currentPage = null;
+        currentPageOffset = 0;
+        recordBytes = 0;
+        garbageBytes = 0;
+        size = 0;
+        addresses = null;
+        initIndex(INIT_CAPACITY);
+    }
+
+    private int findSlot(byte[] key, int hash) {
+        MemorySegment keySegment = null;
+        int slot = hash & mask;
+        while (true) {
+            long address = addresses[slot];
+            if (address == EMPTY) {
+                return slot;
+            }
+            if (hashes[slot] == hash) {
+                MemorySegment page = page(address);
+                int offset = offset(address);
+                if (page.getInt(offset) == key.length) {
+                    if (keySegment == null) {
+                        keySegment = MemorySegment.wrap(key);
+                    }
+                    if (page.equalTo(keySegment, offset + RECORD_HEADER_SIZE, 0, key.length)) {
+                        return slot;
+                    }
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private long append(byte[] key, byte[] value) {
+        int length = RECORD_HEADER_SIZE + key.length + value.length;
+        if (currentPage == null || currentPageOffset + length > currentPage.size()) {
+            // a record never spans pages, records larger than a page get a page of their own
+            currentPage = allocatePage(Math.max(pageSize, length));
+            currentPageOffset = 0;
+        }
+
+        int offset = currentPageOffset;
+        currentPage.putInt(offset, key.length);
+        currentPage.putInt(offset + 4, value.length);
+        currentPage.put(offset + RECORD_HEADER_SIZE, key);
+        currentPage.put(offset + RECORD_HEADER_SIZE + key.length, value);
+        currentPageOffset += length;
+        recordBytes += length;
+        return address(pages.size() - 1, offset);
+    }
+
+    private MemorySegment allocatePage(int size) {
+        long allocated = allocatedMemory.addAndGet(size);
+        if (allocated > maxMemorySize) {
+            allocatedMemory.addAndGet(-size);
+            throw new MemoryExceededException(
+                    String.format(
+                            "Cannot allocate a page of %s bytes, %s bytes of the max memory size "
+                                    + "%s bytes are in use.",
+                            size, allocated - size, maxMemorySize));
+        }
+
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.allocateDirect(size);
+        } catch (Throwable t) {
+            allocatedMemory.addAndGet(-size);
+            throw t;
+        }
+        MemorySegment page = MemorySegment.wrapOffHeapMemory(buffer);
+        pages.add(page);
+        buffers.add(buffer);
+        memorySize += size;
+        return page;
+    }
+
+    private void freePages(List<ByteBuffer> buffers, long size) {
+        for (ByteBuffer buffer : buffers) {
+            MemoryUtils.freeDirectBuffer(buffer);
+        }
+        allocatedMemory.addAndGet(-size);
+    }
+
+    private void maybeCompact() {
+        if (garbageBytes < pageSize || garbageBytes * 2 < recordBytes) {
+            return;
+        }
+        // live records are copied before the old pages are released, skip compaction if they do
+        // not fit in the memory limit, garbage is kept until then
+        if (allocatedMemory.get() + recordBytes - garbageBytes > maxMemorySize) {
+            return;
+        }
+
+        List<MemorySegment> oldPages = pages;
+        List<ByteBuffer> oldBuffers = buffers;
+        long oldMemorySize = memorySize;
+        MemorySegment oldCurrentPage = currentPage;
+        int oldCurrentPageOffset = currentPageOffset;
+        pages = new ArrayList<>();
+        buffers = new ArrayList<>();
+        memorySize = 0;
+        currentPage = null;
+        currentPageOffset = 0;
+        long[] newAddresses = new long[addresses.length];
+        long newRecordBytes = 0;
+        try {
+            for (int i = 0; i < addresses.length; i++) {
+                long address = addresses[i];
+                if (address == EMPTY) {
+                    newAddresses[i] = EMPTY;
+                    continue;
+                }
+
+                MemorySegment page = oldPages.get((int) (address >>> 32));
+                int offset = offset(address);
+                int length = RECORD_HEADER_SIZE + page.getInt(offset) + page.getInt(offset + 4);
+                if (currentPage == null || currentPageOffset + length > currentPage.size()) {
+                    currentPage = allocatePage(Math.max(pageSize, length));
+                    currentPageOffset = 0;
+                }
+                page.copyTo(offset, currentPage, currentPageOffset, length);
+                newAddresses[i] = address(pages.size() - 1, currentPageOffset);
+                currentPageOffset += length;
+                newRecordBytes += length;
+            }
+        } catch (MemoryExceededException e) {
+            // keep the old pages, the map stays usable with its garbage
+            freePages(buffers, memorySize);
+            pages = oldPages;
+            buffers = oldBuffers;
+            memorySize = oldMemorySize;
+            currentPage = oldCurrentPage;
+            currentPageOffset = oldCurrentPageOffset;
+            return;
+        }
+
+        freePages(oldBuffers, oldMemorySize);
+        addresses = newAddresses;
+        recordBytes = newRecordBytes;
+        garbageBytes = 0;
+    }
+
+    private void initIndex(int capacity) {
+        long[] oldAddresses = addresses;
+        int[] oldHashes = hashes;
+
+        capacity = MathUtils.roundDownToPowerOf2(capacity);
+        addresses = new long[capacity];
+        Arrays.fill(addresses, EMPTY);
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        growThreshold = (int) (capacity * LOAD_FACTOR);
+
+        if (oldAddresses != null) {
+            for (int i = 0; i < oldAddresses.length; i++) {
+                if (oldAddresses[i] != EMPTY) {
+                    int slot = oldHashes[i] & mask;
+                    while (addresses[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    addresses[slot] = oldAddresses[i];
+                    hashes[slot] = oldHashes[i];
+                }
+            }
+        }
+    }
+
+    private int recordLength(long address) {
+        MemorySegment page = page(address);
+        int offset = offset(address);
+        return RECORD_HEADER_SIZE + page.getInt(offset) + page.getInt(offset + 4);
+    }
+
+    private MemorySegment page(long address) {
+        return pages.get((int) (address >>> 32));
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+
+    private static long address(int pageIndex, int offset) {
+        return ((long) pageIndex << 32) | offset;
+    }
+
+    private static int hash(byte[] key) {
+        return MurmurHashUtils.hashBytes(key);
+    }
+
+    /** Thrown when the pages exceed the max memory size. */
+    public static class MemoryExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public MemoryExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.utils.ListDelimitedSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/** In-memory {@link ListState}, values of a key are stored as a delimited list. */
+public class InMemoryListState<K, V> extends InMemoryState<K, V> implements ListState<K, V> {
+
+    private final ListDelimitedSerializer listSerializer = new ListDelimitedSerializer();
+
+    public InMemoryListState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, InMemoryBytesMap map) {
+        super(keySerializer, valueSerializer, map);
+    }
+
+    @Override
+    public void add(K key, V value) throws IOException {
+        byte[] keyBytes = serializeKey(key);
+        byte[] valueBytes = serializeValue(value);
+        byte[] previous = map.get(keyBytes);
+        map.put(
+                keyBytes,
+                previous == null
+                        ? valueBytes
+                        : listSerializer.serializeList(Arrays.asList(previous, valueBytes)));
+    }
+
+    @Override
+    public List<V> get(K key) throws IOException {
+        byte[] valueBytes = map.get(serializeKey(key));
+        if (valueBytes == null) {
+            return Collections.emptyList();
+        }
+        return listSerializer.deserializeList(valueBytes, valueSerializer);
+    }
+
+    @Override
+    public byte[] serializeList(List<byte[]> valueList) throws IOException {
+        return listSerializer.serializeList(valueList);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * In-memory {@link SetState}, values of a key are stored as a sequence of length prefixed value
+ * bytes.
+ */
+public class InMemorySetState<K, V> extends InMemoryState<K, V> implements SetState<K, V> {
+
+    private final DataInputDeserializer setInputView = new DataInputDeserializer();
+
+    private final DataOutputSerializer setOutputView = new DataOutputSerializer(64);
+
+    public InMemorySetState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, InMemoryBytesMap map) {
+        super(keySerializer, valueSerializer, map);
+    }
+
+    @Override
+    public List<V> get(K key) throws IOException {
+        byte[] setBytes = map.get(serializeKey(key));
+        if (setBytes == null) {
+            return Collections.emptyList();
+        }
+
+        List<byte[]> elements = deserializeSet(setBytes);
+        List<V> values = new ArrayList<>(elements.size());
+        for (byte[] element : elements) {
+            values.add(deserializeValue(element));
+        }
+        return values;
+    }
+
+    @Override
+    public void retract(K key, V value) throws IOException {
+        byte[] keyBytes = serializeKey(key);
+        byte[] setBytes = map.get(keyBytes);
+        if (setBytes == null) {
+            return;
+        }
+
+        byte[] valueBytes = serializeValue(value);
+        List<byte[]> elements = deserializeSet(setBytes);
+        if (elements.removeIf(element -> Arrays.equals(element, valueBytes))) {
+            if (elements.isEmpty()) {
+                map.remove(keyBytes);
+            } else {
+                map.put(keyBytes, serializeSet(elements));
+            }
+        }
+    }
+
+    @Override
+    public void add(K key, V value) throws IOException {
+        checkArgument(value != null);
+
+        byte[] keyBytes = serializeKey(key);
+        byte[] valueBytes = serializeValue(value);
+        byte[] setBytes = map.get(keyBytes);
+        List<byte[]> elements = setBytes == null ? new ArrayList<>() : deserializeSet(setBytes);
+        for (byte[] element : elements) {
+            if (Arrays.equals(element, valueBytes)) {
+                return;
+            }
+        }
+        elements.add(valueBytes);
+        map.put(keyBytes, serializeSet(elements));
+    }
+
+    private List<byte[]> deserializeSet(byte[] setBytes) throws IOException {
+        setInputView.setBuffer(setBytes);
+        List<byte[]> elements = new ArrayList<>();
+        while (setInputView.available() > 0) {
+            byte[] element = new byte[setInputView.readInt()];
+            setInputView.readFully(element);
+            elements.add(element);
+        }
+        return elements;
+    }
+
+    private byte[] serializeSet(List<byte[]> elements) throws IOException {
+        setOutputView.clear();
+        for (byte[] element : elements) {
+            setOutputView.writeInt(element.length);
+            setOutputView.write(element);
+        }
+        return setOutputView.getCopyOfBuffer();
+    }
+}
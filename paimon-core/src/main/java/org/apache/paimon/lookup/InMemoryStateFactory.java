@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Factory to create in-memory states. Unlike {@link RocksDBStateFactory}, states keep all records
+ * in memory, so there is no disk IO or JNI call on lookup, but the data must fit in memory. Lookup
+ * results are not cached, the lru cache size is ignored.
+ *
+ * <p>The pages of all the states are limited to a max memory size, an {@link
+ * InMemoryBytesMap.MemoryExceededException} is thrown when the states do not fit in it.
+ */
+public class InMemoryStateFactory implements StateFactory {
+
+    private final int pageSize;
+    private final long maxMemorySize;
+    private final AtomicLong allocatedMemory = new AtomicLong();
+
+    private final List<InMemoryBytesMap> maps = new ArrayList<>();
+
+    public InMemoryStateFactory(int pageSize) {
+        this(pageSize, Long.MAX_VALUE);
+    }
+
+    public InMemoryStateFactory(int pageSize, long maxMemorySize) {
+        this.pageSize = pageSize;
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    @Override
+    public <K, V> InMemoryValueState<K, V> valueState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return new InMemoryValueState<>(keySerializer, valueSerializer, createMap());
+    }
+
+    @Override
+    public <K, V> InMemorySetState<K, V> setState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return new InMemorySetState<>(keySerializer, valueSerializer, createMap());
+    }
+
+    @Override
+    public <K, V> InMemoryListState<K, V> listState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        return new InMemoryListState<>(keySerializer, valueSerializer, createMap());
+    }
+
+    @Override
+    public boolean preferBulkLoad() {
+        return false;
+    }
+
+    private InMemoryBytesMap createMap() {
+        InMemoryBytesMap map = new InMemoryBytesMap(pageSize, maxMemorySize, allocatedMemory);
+        maps.add(map);
+        return map;
+    }
+
+    /** Total bytes of memory held by the states of this factory. */
+    public long memorySize() {
+        return allocatedMemory.get();
+    }
+
+    @Override
+    public void close() {
+        maps.forEach(InMemoryBytesMap::clear);
+        maps.clear();
+    }
+}
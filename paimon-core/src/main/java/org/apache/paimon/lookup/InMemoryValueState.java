@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.serializer.Serializer;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/** In-memory {@link ValueState}. */
+public class InMemoryValueState<K, V> extends InMemoryState<K, V> implements ValueState<K, V> {
+
+    public InMemoryValueState(
+            Serializer<K> keySerializer, Serializer<V> valueSerializer, InMemoryBytesMap map) {
+        super(keySerializer, valueSerializer, map);
+    }
+
+    @Override
+    @Nullable
+    public V get(K key) throws IOException {
+        byte[] valueBytes = map.get(serializeKey(key));
+        return valueBytes == null ? null : deserializeValue(valueBytes);
+    }
+
+    @Override
+    public void put(K key, V value) throws IOException {
+        checkArgument(value != null);
+        map.put(serializeKey(key), serializeValue(value));
+    }
+
+    @Override
+    public void delete(K key) throws IOException {
+        map.remove(serializeKey(key));
+    }
+}
@@ -40,7 +40,7 @@ import java.io.IOException;
 import java.util.Arrays;
 
 /** Rocksdb state for key value. */
-public abstract class RocksDBState<K, V, CacheV> {
+public abstract class RocksDBState<K, V, CacheV> implements State<K, V> {
 
     protected final RocksDBStateFactory stateFactory;
 
@@ -85,12 +85,26 @@ public abstract class RocksDBState<K, V, CacheV> {
                         .build();
     }
 
+    @Override
     public byte[] serializeKey(K key) throws IOException {
         keyOutView.clear();
         keySerializer.serialize(key, keyOutView);
         return keyOutView.getCopyOfBuffer();
     }
 
+    @Override
+    public byte[] serializeValue(V value) throws IOException {
+        valueOutputView.clear();
+        valueSerializer.serialize(value, valueOutputView);
+        return valueOutputView.getCopyOfBuffer();
+    }
+
+    @Override
+    public V deserializeValue(byte[] valueBytes) throws IOException {
+        valueInputView.setBuffer(valueBytes);
+        return valueSerializer.deserialize(valueInputView);
+    }
+
     protected ByteArray wrap(byte[] bytes) {
         return new ByteArray(bytes);
     }
@@ -99,8 +113,9 @@ public abstract class RocksDBState<K, V, CacheV> {
         return new Reference(bytes);
     }
 
+    @Override
     public BulkLoader createBulkLoader() {
-        return new BulkLoader(db, stateFactory.options(), columnFamily, stateFactory.path());
+        return new RocksDBBulkLoader(db, stateFactory.options(), columnFamily, stateFactory.path());
     }
 
     public static BinaryExternalSortBuffer createBulkLoadSorter(
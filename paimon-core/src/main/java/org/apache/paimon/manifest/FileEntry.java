@@ -19,7 +19,6 @@
 package org.apache.paimon.manifest;
 
 import org.apache.paimon.data.BinaryRow;
-import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.Preconditions;
@@ -263,13 +262,11 @@ public interface FileEntry {
         return result;
     }
 
-    static Filter<InternalRow> deletedFilter() {
-        Function<InternalRow, FileKind> getter = ManifestEntrySerializer.kindGetter();
-        return row -> getter.apply(row) == FileKind.DELETE;
+    static ManifestEntryRowFilter deletedFilter() {
+        return new ManifestEntryRowFilter().withKind(FileKind.DELETE);
     }
 
-    static Filter<InternalRow> addFilter() {
-        Function<InternalRow, FileKind> getter = ManifestEntrySerializer.kindGetter();
-        return row -> getter.apply(row) == FileKind.ADD;
+    static ManifestEntryRowFilter addFilter() {
+        return new ManifestEntryRowFilter().withKind(FileKind.ADD);
     }
 }
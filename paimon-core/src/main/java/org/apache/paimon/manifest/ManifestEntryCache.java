@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.RandomAccessInputView;
+import org.apache.paimon.data.Segments;
+import org.apache.paimon.data.SimpleCollectingOutputView;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BiFunctionWithIOE;
+import org.apache.paimon.utils.CloseableIterator;
+import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.FunctionWithIOException;
+import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.LongArrayList;
+import org.apache.paimon.utils.ObjectSerializer;
+import org.apache.paimon.utils.ObjectsCache;
+import org.apache.paimon.utils.SegmentsCache;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An {@link ObjectsCache} for {@link ManifestEntry}s, which caches entries as {@link
+ * ManifestEntrySegments}. When reading with a {@link ManifestEntryRowFilter}, kind, partition,
+ * bucket and level are evaluated on the primitive columns, rejected entries are never mapped from
+ * the pages, and the partition predicate is evaluated once per distinct partition.
+ */
+@ThreadSafe
+public class ManifestEntryCache extends ObjectsCache<Path, ManifestEntry> {
+
+    private static final Function<InternalRow, FileKind> KIND_GETTER =
+            ManifestEntrySerializer.kindGetter();
+    private static final Function<InternalRow, BinaryRow> PARTITION_GETTER =
+            ManifestEntrySerializer.partitionGetter();
+    private static final Function<InternalRow, Integer> BUCKET_GETTER =
+            ManifestEntrySerializer.bucketGetter();
+    private static final Function<InternalRow, Integer> TOTAL_BUCKET_GETTER =
+            ManifestEntrySerializer.totalBucketGetter();
+    private static final Function<InternalRow, Integer> LEVEL_GETTER =
+            ManifestEntrySerializer.levelGetter();
+
+    public ManifestEntryCache(
+            SegmentsCache<Path> cache,
+            ObjectSerializer<ManifestEntry> projectedSerializer,
+            RowType formatSchema,
+            FunctionWithIOException<Path, Long> fileSizeFunction,
+            BiFunctionWithIOE<Path, Long, CloseableIterator<InternalRow>> reader) {
+        super(cache, projectedSerializer, formatSchema, fileSizeFunction, reader);
+    }
+
+    @Override
+    protected List<ManifestEntry> readFromSegments(
+            Segments segments, Filter<InternalRow> readFilter, Filter<ManifestEntry> readVFilter)
+            throws IOException {
+        if (!(segments instanceof ManifestEntrySegments)
+                || !(readFilter instanceof ManifestEntryRowFilter)) {
+            return super.readFromSegments(segments, readFilter, readVFilter);
+        }
+
+        ManifestEntrySegments indexed = (ManifestEntrySegments) segments;
+        ManifestEntryRowFilter filter = (ManifestEntryRowFilter) readFilter;
+        List<ManifestEntry> entries = new ArrayList<>();
+        int rowCount = indexed.rowCount();
+        if (rowCount == 0) {
+            return entries;
+        }
+
+        BinaryRow[] partitions = indexed.partitions();
+        boolean[] partitionMatched = new boolean[partitions.length];
+        boolean anyPartitionMatched = false;
+        for (int i = 0; i < partitions.length; i++) {
+            partitionMatched[i] = filter.testPartition(partitions[i]);
+            anyPartitionMatched |= partitionMatched[i];
+        }
+        if (!anyPartitionMatched) {
+            return entries;
+        }
+
+        InternalRowSerializer formatSerializer = this.formatSerializer.get();
+        RandomAccessInputView view =
+                new RandomAccessInputView(
+                        segments.segments(), cache.pageSize(), segments.limitInLastSegment());
+        BinaryRow binaryRow = new BinaryRow(formatSerializer.getArity());
+        for (int i = 0; i < rowCount; i++) {
+            if (!partitionMatched[indexed.partitionId(i)]
+                    || !filter.testKind(indexed.kind(i))
+                    || !filter.testBucketAndLevel(
+                            indexed.bucket(i), indexed.totalBuckets(i), indexed.level(i))) {
+                continue;
+            }
+
+            view.setReadPosition(indexed.position(i));
+            formatSerializer.mapFromPages(binaryRow, view);
+            if (filter.testFileName(binaryRow)) {
+                ManifestEntry entry = projectedSerializer.fromRow(binaryRow);
+                if (readVFilter.test(entry)) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    protected Segments readSegments(
+            Path key, @Nullable Long fileSize, Filter<InternalRow> loadFilter) {
+        InternalRowSerializer formatSerializer = this.formatSerializer.get();
+        try (CloseableIterator<InternalRow> iterator = reader.apply(key, fileSize)) {
+            ArrayList<MemorySegment> segments = new ArrayList<>();
+            SimpleCollectingOutputView output =
+                    new SimpleCollectingOutputView(
+                            segments, cache::allocateSegment, cache.pageSize());
+            LongArrayList positions = new LongArrayList(64);
+            ByteArrayOutputStream kinds = new ByteArrayOutputStream(64);
+            IntArrayList partitionIds = new IntArrayList(64);
+            Map<BinaryRow, Integer> partitionDictionary = new HashMap<>();
+            List<BinaryRow> partitions = new ArrayList<>();
+            IntArrayList buckets = new IntArrayList(64);
+            IntArrayList totalBuckets = new IntArrayList(64);
+            IntArrayList levels = new IntArrayList(64);
+            while (iterator.hasNext()) {
+                InternalRow row = iterator.next();
+                if (loadFilter.test(row)) {
+                    BinaryRow partition = PARTITION_GETTER.apply(row);
+                    Integer partitionId = partitionDictionary.get(partition);
+                    if (partitionId == null) {
+                        partitionId = partitions.size();
+                        partitionDictionary.put(partition, partitionId);
+                        partitions.add(partition);
+                    }
+
+                    positions.add(output.getCurrentOffset());
+                    kinds.write(KIND_GETTER.apply(row).toByteValue());
+                    partitionIds.add(partitionId);
+                    buckets.add(BUCKET_GETTER.apply(row));
+                    totalBuckets.add(TOTAL_BUCKET_GETTER.apply(row));
+                    levels.add(LEVEL_GETTER.apply(row));
+                    formatSerializer.serializeToPages(row, output);
+                }
+            }
+            return new ManifestEntrySegments(
+                    segments,
+                    output.getCurrentPositionInSegment(),
+                    positions.toArray(),
+                    kinds.toByteArray(),
+                    partitionIds.toArray(),
+                    partitions.toArray(new BinaryRow[0]),
+                    buckets.toArray(),
+                    totalBuckets.toArray(),
+                    levels.toArray());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.partition.PartitionPredicate;
+import org.apache.paimon.utils.BiFilter;
+import org.apache.paimon.utils.Filter;
+
+import javax.annotation.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * A {@link Filter} on the serialized rows of {@link ManifestEntry}. Besides testing a whole row,
+ * its conditions can be evaluated separately on primitive columns, see {@link ManifestEntryCache}.
+ *
+ * <p>Implemented to {@link InternalRow} is for performance (No deserialization).
+ */
+public class ManifestEntryRowFilter implements Filter<InternalRow> {
+
+    private static final Function<InternalRow, FileKind> KIND_GETTER =
+            ManifestEntrySerializer.kindGetter();
+    private static final Function<InternalRow, BinaryRow> PARTITION_GETTER =
+            ManifestEntrySerializer.partitionGetter();
+    private static final Function<InternalRow, Integer> BUCKET_GETTER =
+            ManifestEntrySerializer.bucketGetter();
+    private static final Function<InternalRow, Integer> TOTAL_BUCKET_GETTER =
+            ManifestEntrySerializer.totalBucketGetter();
+    private static final Function<InternalRow, Integer> LEVEL_GETTER =
+            ManifestEntrySerializer.levelGetter();
+    private static final Function<InternalRow, String> FILE_NAME_GETTER =
+            ManifestEntrySerializer.fileNameGetter();
+
+    @Nullable private FileKind kind;
+    @Nullable private PartitionPredicate partitionFilter;
+    @Nullable private Filter<Integer> bucketFilter;
+    @Nullable private BiFilter<Integer, Integer> totalAwareBucketFilter;
+    @Nullable private Filter<Integer> levelFilter;
+    @Nullable private Filter<String> fileNameFilter;
+
+    public ManifestEntryRowFilter withKind(@Nullable FileKind kind) {
+        this.kind = kind;
+        return this;
+    }
+
+    public ManifestEntryRowFilter withPartitionFilter(@Nullable PartitionPredicate filter) {
+        this.partitionFilter = filter;
+        return this;
+    }
+
+    public ManifestEntryRowFilter withBucketFilter(@Nullable Filter<Integer> filter) {
+        this.bucketFilter = filter;
+        return this;
+    }
+
+    public ManifestEntryRowFilter withTotalAwareBucketFilter(
+            @Nullable BiFilter<Integer, Integer> filter) {
+        this.totalAwareBucketFilter = filter;
+        return this;
+    }
+
+    public ManifestEntryRowFilter withLevelFilter(@Nullable Filter<Integer> filter) {
+        this.levelFilter = filter;
+        return this;
+    }
+
+    public ManifestEntryRowFilter withFileNameFilter(@Nullable Filter<String> filter) {
+        this.fileNameFilter = filter;
+        return this;
+    }
+
+    @Override
+    public boolean test(InternalRow row) {
+        if (kind != null && KIND_GETTER.apply(row) != kind) {
+            return false;
+        }
+
+        if (partitionFilter != null && !partitionFilter.test(PARTITION_GETTER.apply(row))) {
+            return false;
+        }
+
+        if (!testBucketAndLevel(
+                BUCKET_GETTER.apply(row),
+                TOTAL_BUCKET_GETTER.apply(row),
+                levelFilter == null ? 0 : LEVEL_GETTER.apply(row))) {
+            return false;
+        }
+
+        return testFileName(row);
+    }
+
+    /** Test a deserialized {@link ManifestEntry} with the same conditions. */
+    public boolean testEntry(ManifestEntry entry) {
+        return (kind == null || entry.kind() == kind)
+                && testPartition(entry.partition())
+                && testBucketAndLevel(entry.bucket(), entry.totalBuckets(), entry.file().level())
+                && (fileNameFilter == null || fileNameFilter.test(entry.file().fileName()));
+    }
+
+    public boolean testKind(byte kindValue) {
+        return kind == null || kind.toByteValue() == kindValue;
+    }
+
+    public boolean testPartition(BinaryRow partition) {
+        return partitionFilter == null || partitionFilter.test(partition);
+    }
+
+    public boolean testBucketAndLevel(int bucket, int totalBuckets, int level) {
+        if (bucketFilter != null && !bucketFilter.test(bucket)) {
+            return false;
+        }
+
+        if (totalAwareBucketFilter != null && !totalAwareBucketFilter.test(bucket, totalBuckets)) {
+            return false;
+        }
+
+        return levelFilter == null || levelFilter.test(level);
+    }
+
+    /** Test the conditions which can only be evaluated on the whole row. */
+    public boolean testFileName(InternalRow row) {
+        return fileNameFilter == null || fileNameFilter.test(FILE_NAME_GETTER.apply(row));
+    }
+}
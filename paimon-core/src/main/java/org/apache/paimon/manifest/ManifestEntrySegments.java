@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.Segments;
+import org.apache.paimon.memory.MemorySegment;
+
+import java.util.ArrayList;
+
+/**
+ * {@link Segments} of serialized {@link ManifestEntry}s with a columnar index: the start position
+ * of every entry in the pages, and its kind, partition, bucket, total buckets and level as
+ * primitive columns. Partitions are dictionary encoded, one manifest usually contains only a few
+ * partitions.
+ */
+public class ManifestEntrySegments extends Segments {
+
+    private static final int BINARY_ROW_MEMORY_SIZE = 64;
+
+    private final long[] positions;
+    private final byte[] kinds;
+    private final int[] partitionIds;
+    private final BinaryRow[] partitions;
+    private final int[] buckets;
+    private final int[] totalBuckets;
+    private final int[] levels;
+
+    public ManifestEntrySegments(
+            ArrayList<MemorySegment> segments,
+            int limitInLastSegment,
+            long[] positions,
+            byte[] kinds,
+            int[] partitionIds,
+            BinaryRow[] partitions,
+            int[] buckets,
+            int[] totalBuckets,
+            int[] levels) {
+        super(segments, limitInLastSegment);
+        this.positions = positions;
+        this.kinds = kinds;
+        this.partitionIds = partitionIds;
+        this.partitions = partitions;
+        this.buckets = buckets;
+        this.totalBuckets = totalBuckets;
+        this.levels = levels;
+    }
+
+    public int rowCount() {
+        return positions.length;
+    }
+
+    public long position(int row) {
+        return positions[row];
+    }
+
+    public byte kind(int row) {
+        return kinds[row];
+    }
+
+    public int partitionId(int row) {
+        return partitionIds[row];
+    }
+
+    public BinaryRow[] partitions() {
+        return partitions;
+    }
+
+    public int bucket(int row) {
+        return buckets[row];
+    }
+
+    public int totalBuckets(int row) {
+        return totalBuckets[row];
+    }
+
+    public int level(int row) {
+        return levels[row];
+    }
+
+    @Override
+    public long indexMemorySize() {
+        long size = (long) positions.length * (8 + 1 + 4 + 4 + 4 + 4);
+        for (BinaryRow partition : partitions) {
+            size += BINARY_ROW_MEMORY_SIZE + partition.getSizeInBytes();
+        }
+        return size;
+    }
+}
@@ -31,16 +31,23 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.SimpleStatsConverter;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.ObjectsCache;
 import org.apache.paimon.utils.ObjectsFile;
 import org.apache.paimon.utils.PathFactory;
 import org.apache.paimon.utils.SegmentsCache;
 import org.apache.paimon.utils.VersionedObjectSerializer;
 
+import org.apache.paimon.shade.guava30.com.google.common.collect.Lists;
+
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apache.paimon.utils.ManifestReadThreadPool.randomlyExecuteSequentialReturn;
 
 /**
  * This file includes several {@link ManifestEntry}s, representing the additional changes since last
@@ -48,6 +55,8 @@ import java.util.List;
  */
 public class ManifestFile extends ObjectsFile<ManifestEntry> {
 
+    @VisibleForTesting static final int PARALLEL_WRITE_MIN_BATCH_SIZE = 10_000;
+
     private final SchemaManager schemaManager;
     private final RowType partitionType;
     private final FormatWriterFactory writerFactory;
@@ -80,6 +89,13 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         this.suggestedFileSize = suggestedFileSize;
     }
 
+    @Override
+    protected ObjectsCache<Path, ManifestEntry> createCache(
+            SegmentsCache<Path> cache, RowType formatType) {
+        return new ManifestEntryCache(
+                cache, serializer, formatType, this::fileSize, this::createIterator);
+    }
+
     @VisibleForTesting
     public long suggestedFileSize() {
         return suggestedFileSize;
@@ -110,6 +126,60 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         return writer.result();
     }
 
+    /**
+     * Write several {@link ManifestEntry}s into manifest files with multiple threads. If the
+     * parallelism is larger than 1, the entries are split into one batch per thread, but no
+     * smaller than {@link #PARALLEL_WRITE_MIN_BATCH_SIZE} entries. Each batch is written by a
+     * rolling writer of the suggested file size, the result is in the order of the entries.
+     *
+     * <p>NOTE: This method is atomic.
+     */
+    public List<ManifestFileMeta> write(
+            List<ManifestEntry> entries, @Nullable Integer manifestWriteParallelism) {
+        if (manifestWriteParallelism == null
+                || manifestWriteParallelism <= 1
+                || entries.size() <= PARALLEL_WRITE_MIN_BATCH_SIZE) {
+            return write(entries);
+        }
+
+        int batchSize =
+                Math.max(
+                        PARALLEL_WRITE_MIN_BATCH_SIZE,
+                        (entries.size() + manifestWriteParallelism - 1)
+                                / manifestWriteParallelism);
+        // files written by finished batches, once aborted, running batches delete their own files
+        List<ManifestFileMeta> written = new ArrayList<>();
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        try {
+            List<ManifestFileMeta> result = new ArrayList<>();
+            randomlyExecuteSequentialReturn(
+                            batch -> {
+                                if (aborted.get()) {
+                                    return Collections.<ManifestFileMeta>emptyList();
+                                }
+                                List<ManifestFileMeta> metas = write(batch);
+                                synchronized (written) {
+                                    if (aborted.get()) {
+                                        metas.forEach(meta -> delete(meta.fileName()));
+                                    } else {
+                                        written.addAll(metas);
+                                    }
+                                }
+                                return metas;
+                            },
+                            Lists.partition(entries, batchSize),
+                            manifestWriteParallelism)
+                    .forEachRemaining(result::add);
+            return result;
+        } catch (Throwable e) {
+            synchronized (written) {
+                aborted.set(true);
+                written.forEach(meta -> delete(meta.fileName()));
+            }
+            throw e;
+        }
+    }
+
     public RollingFileWriter<ManifestEntry, ManifestFileMeta> createRollingWriter() {
         return new RollingFileWriter<>(
                 () -> new ManifestEntryWriter(writerFactory, pathFactory.newPath(), compression),
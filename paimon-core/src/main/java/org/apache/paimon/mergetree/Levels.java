@@ -45,6 +45,8 @@ public class Levels {
 
     private final List<DropFileCallback> dropFileCallbacks = new ArrayList<>();
 
+    private final List<AddFileCallback> addFileCallbacks = new ArrayList<>();
+
     public Levels(
             Comparator<InternalRow> keyComparator, List<DataFileMeta> inputFiles, int numLevels) {
         this.keyComparator = keyComparator;
@@ -94,6 +96,10 @@ public class Levels {
         dropFileCallbacks.add(callback);
     }
 
+    public void addAddFileCallback(AddFileCallback callback) {
+        addFileCallbacks.add(callback);
+    }
+
     public void addLevel0File(DataFileMeta file) {
         checkArgument(file.level() == 0);
         level0.add(file);
@@ -173,6 +179,19 @@ public class Levels {
                 droppedFiles.forEach(callback::notifyDropFile);
             }
         }
+
+        if (addFileCallbacks.size() > 0) {
+            Set<String> beforeFiles =
+                    before.stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+            for (DataFileMeta file : after) {
+                // exclude upgrade files
+                if (!beforeFiles.contains(file.fileName())) {
+                    for (AddFileCallback callback : addFileCallbacks) {
+                        callback.notifyAddFile(file);
+                    }
+                }
+            }
+        }
     }
 
     private void updateLevel(int level, List<DataFileMeta> before, List<DataFileMeta> after) {
@@ -201,4 +220,10 @@ public class Levels {
 
         void notifyDropFile(String file);
     }
+
+    /** A callback to notify adding file. */
+    public interface AddFileCallback {
+
+        void notifyAddFile(DataFileMeta file);
+    }
 }
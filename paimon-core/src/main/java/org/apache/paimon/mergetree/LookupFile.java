@@ -38,6 +38,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.List;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
 import static org.apache.paimon.utils.InternalRowPartitionComputer.partToSimpleString;
@@ -76,6 +77,18 @@ public class LookupFile {
         return res;
     }
 
+    public List<byte[]> get(List<byte[]> keys) throws IOException {
+        checkArgument(!isClosed);
+        requestCount += keys.size();
+        List<byte[]> res = reader.lookup(keys);
+        for (byte[] value : res) {
+            if (value != null) {
+                hitCount++;
+            }
+        }
+        return res;
+    }
+
     public DataFileMeta remoteFile() {
         return remoteFile;
     }
@@ -26,26 +26,40 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BiFunctionWithIOE;
 import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.IOFunction;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
 
 import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import static org.apache.paimon.utils.VarLengthIntUtils.MAX_VAR_LONG_SIZE;
@@ -53,10 +67,13 @@ import static org.apache.paimon.utils.VarLengthIntUtils.decodeLong;
 import static org.apache.paimon.utils.VarLengthIntUtils.encodeLong;
 
 /** Provide lookup by key. */
-public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
+public class LookupLevels<T> implements Levels.DropFileCallback, Levels.AddFileCallback, Closeable {
+
+    private static final AtomicLong PREBUILD_SEQUENCE = new AtomicLong();
 
     private final Levels levels;
     private final Comparator<InternalRow> keyComparator;
+    private final RowType keyType;
     private final RowCompactedSerializer keySerializer;
     private final ValueProcessor<T> valueProcessor;
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
@@ -66,6 +83,10 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     private final Cache<String, LookupFile> lookupFileCache;
     private final Set<String> ownCachedFiles;
+    private final Map<String, PrebuildTask> prebuildTasks;
+
+    @Nullable private Executor prebuildExecutor;
+    @Nullable private CompactionMetrics.Reporter metricsReporter;
 
     public LookupLevels(
             Levels levels,
@@ -79,6 +100,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             Cache<String, LookupFile> lookupFileCache) {
         this.levels = levels;
         this.keyComparator = keyComparator;
+        this.keyType = keyType;
         this.keySerializer = new RowCompactedSerializer(keyType);
         this.valueProcessor = valueProcessor;
         this.fileReaderFactory = fileReaderFactory;
@@ -86,8 +108,25 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         this.lookupStoreFactory = lookupStoreFactory;
         this.bfGenerator = bfGenerator;
         this.lookupFileCache = lookupFileCache;
-        this.ownCachedFiles = new HashSet<>();
+        this.ownCachedFiles = ConcurrentHashMap.newKeySet();
+        this.prebuildTasks = new ConcurrentHashMap<>();
         levels.addDropFileCallback(this);
+        levels.addAddFileCallback(this);
+    }
+
+    /**
+     * Build lookup files of the files newly added to non-zero levels in the given executor, so that
+     * lookups do not need to wait for building them. The executor should order the submitted tasks
+     * by their natural order, see {@link #createPrebuildQueue()}.
+     */
+    public LookupLevels<T> withPrebuildExecutor(@Nullable Executor prebuildExecutor) {
+        this.prebuildExecutor = prebuildExecutor;
+        return this;
+    }
+
+    public LookupLevels<T> withMetricsReporter(@Nullable CompactionMetrics.Reporter reporter) {
+        this.metricsReporter = reporter;
+        return this;
     }
 
     public Levels getLevels() {
@@ -104,16 +143,84 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         return ownCachedFiles;
     }
 
+    @VisibleForTesting
+    Set<String> prebuildingFiles() {
+        return prebuildTasks.keySet();
+    }
+
     @Override
     public void notifyDropFile(String file) {
+        PrebuildTask task = prebuildTasks.remove(file);
+        if (task != null) {
+            task.drop();
+        }
         lookupFileCache.invalidate(file);
     }
 
+    @Override
+    public void notifyAddFile(DataFileMeta file) {
+        // level 0 files are short-lived and are never looked up by compaction
+        if (prebuildExecutor == null
+                || file.level() == 0
+                || lookupFileCache.getIfPresent(file.fileName()) != null) {
+            return;
+        }
+
+        PrebuildTask task = new PrebuildTask(file);
+        prebuildTasks.put(file.fileName(), task);
+        prebuildExecutor.execute(task);
+    }
+
     @Nullable
     public T lookup(InternalRow key, int startLevel) throws IOException {
         return LookupUtils.lookup(levels, key, startLevel, this::lookup, this::lookupLevel0);
     }
 
+    /**
+     * Lookup multiple keys at once, the returned list has the same order as the keys and contains
+     * null for the keys which are not found. Keys are sorted and serialized only once, then each
+     * level is walked in key order, so that keys falling into the same file are looked up together.
+     */
+    public List<T> lookup(List<InternalRow> keys, int startLevel) throws IOException {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Integer[] order = new Integer[keys.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (o1, o2) -> keyComparator.compare(keys.get(o1), keys.get(o2)));
+
+        List<InternalRow> sortedKeys = new ArrayList<>(keys.size());
+        List<byte[]> sortedKeyBytes = new ArrayList<>(keys.size());
+        for (int index : order) {
+            InternalRow key = keys.get(index);
+            sortedKeys.add(key);
+            sortedKeyBytes.add(keySerializer.serializeToBytes(key));
+        }
+
+        BiFunctionWithIOE<int[], DataFileMeta, List<T>> fileLookup =
+                (positions, file) -> lookup(sortedKeys, sortedKeyBytes, positions, file);
+        List<T> sortedResults =
+                LookupUtils.lookup(
+                        levels,
+                        sortedKeys.size(),
+                        startLevel,
+                        (positions, level) ->
+                                LookupUtils.lookup(
+                                        keyComparator, sortedKeys, positions, level, fileLookup),
+                        (positions, level0) ->
+                                LookupUtils.lookupLevel0(
+                                        keyComparator, sortedKeys, positions, level0, fileLookup));
+
+        List<T> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        for (int i = 0; i < order.length; i++) {
+            results.set(order[i], sortedResults.get(i));
+        }
+        return results;
+    }
+
     @Nullable
     private T lookupLevel0(InternalRow key, TreeSet<DataFileMeta> level0) throws IOException {
         return LookupUtils.lookupLevel0(keyComparator, key, level0, this::lookup);
@@ -130,7 +237,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         boolean newCreatedLookupFile = false;
         if (lookupFile == null) {
-            lookupFile = createLookupFile(file);
+            lookupFile = takeOrCreateLookupFile(file);
             newCreatedLookupFile = true;
         }
 
@@ -151,7 +258,66 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 key, lookupFile.remoteFile().level(), valueBytes, file.fileName());
     }
 
-    private LookupFile createLookupFile(DataFileMeta file) throws IOException {
+    private List<T> lookup(
+            List<InternalRow> keys, List<byte[]> keyBytes, int[] positions, DataFileMeta file)
+            throws IOException {
+        LookupFile lookupFile = lookupFileCache.getIfPresent(file.fileName());
+
+        boolean newCreatedLookupFile = false;
+        if (lookupFile == null) {
+            lookupFile = takeOrCreateLookupFile(file);
+            newCreatedLookupFile = true;
+        }
+
+        List<byte[]> valueBytes;
+        try {
+            List<byte[]> fileKeyBytes = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                fileKeyBytes.add(keyBytes.get(position));
+            }
+            valueBytes = lookupFile.get(fileKeyBytes);
+        } finally {
+            if (newCreatedLookupFile) {
+                lookupFileCache.put(file.fileName(), lookupFile);
+            }
+        }
+
+        List<T> results = new ArrayList<>(positions.length);
+        int level = lookupFile.remoteFile().level();
+        for (int i = 0; i < positions.length; i++) {
+            byte[] bytes = valueBytes.get(i);
+            results.add(
+                    bytes == null
+                            ? null
+                            : valueProcessor.readFromDisk(
+                                    keys.get(positions[i]), level, bytes, file.fileName()));
+        }
+        return results;
+    }
+
+    /**
+     * Take the lookup file built by the prebuild task of the file, or create it if there is no
+     * prebuild task. Lookup files built in background are only put into the cache by the lookup
+     * thread, so that eviction never closes a file which is being read.
+     */
+    private LookupFile takeOrCreateLookupFile(DataFileMeta file) throws IOException {
+        long started = System.currentTimeMillis();
+        PrebuildTask task = prebuildTasks.remove(file.fileName());
+        LookupFile lookupFile = task == null ? null : task.take();
+        if (lookupFile == null) {
+            lookupFile = createLookupFile(file, keySerializer, valueProcessor);
+        }
+        if (metricsReporter != null) {
+            metricsReporter.reportLookupFileBuildWaitTime(System.currentTimeMillis() - started);
+        }
+        return lookupFile;
+    }
+
+    private LookupFile createLookupFile(
+            DataFileMeta file,
+            RowCompactedSerializer keySerializer,
+            ValueProcessor<T> valueProcessor)
+            throws IOException {
         File localFile = localFileFactory.apply(file.fileName());
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
@@ -200,6 +366,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     @Override
     public void close() throws IOException {
+        for (PrebuildTask task : prebuildTasks.values()) {
+            task.drop();
+        }
+        prebuildTasks.clear();
+
         Set<String> toClean = new HashSet<>(ownCachedFiles);
         for (String cachedFile : toClean) {
             lookupFileCache.invalidate(cachedFile);
@@ -218,14 +389,126 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         }
 
         T readFromDisk(InternalRow key, int level, byte[] valueBytes, String fileName);
+
+        /** Create a processor which can be used in another thread. */
+        ValueProcessor<T> duplicate();
+    }
+
+    /**
+     * Create the work queue for the executor of {@link #withPrebuildExecutor}, which builds files
+     * of lower levels first, since lower levels are looked up first and their files are smaller.
+     */
+    public static BlockingQueue<Runnable> createPrebuildQueue() {
+        return new PriorityBlockingQueue<>();
+    }
+
+    /** A task to build the lookup file of a newly added file in background. */
+    private class PrebuildTask implements Runnable, Comparable<PrebuildTask> {
+
+        private final DataFileMeta file;
+        private final long sequence;
+
+        private boolean started;
+        private boolean dropped;
+        private boolean done;
+        @Nullable private LookupFile result;
+        @Nullable private Throwable error;
+
+        private PrebuildTask(DataFileMeta file) {
+            this.file = file;
+            this.sequence = PREBUILD_SEQUENCE.getAndIncrement();
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (started || dropped) {
+                    return;
+                }
+                started = true;
+            }
+
+            LookupFile lookupFile = null;
+            Throwable error = null;
+            try {
+                lookupFile =
+                        createLookupFile(
+                                file,
+                                new RowCompactedSerializer(keyType),
+                                valueProcessor.duplicate());
+            } catch (Throwable t) {
+                error = t;
+            }
+
+            synchronized (this) {
+                if (dropped && lookupFile != null) {
+                    closeLookupFile(lookupFile);
+                    lookupFile = null;
+                }
+                this.result = lookupFile;
+                this.error = error;
+                this.done = true;
+                notifyAll();
+            }
+        }
+
+        /** Take the built lookup file, build it in current thread if the task is not started. */
+        @Nullable
+        private LookupFile take() throws IOException {
+            run();
+            synchronized (this) {
+                while (!done) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException(
+                                "Interrupted while waiting for lookup file of " + file.fileName());
+                    }
+                }
+
+                if (error != null) {
+                    throw error instanceof IOException
+                            ? (IOException) error
+                            : new IOException(error);
+                }
+                LookupFile lookupFile = result;
+                result = null;
+                return lookupFile;
+            }
+        }
+
+        private synchronized void drop() {
+            dropped = true;
+            if (result != null) {
+                closeLookupFile(result);
+                result = null;
+            }
+        }
+
+        private void closeLookupFile(LookupFile lookupFile) {
+            try {
+                lookupFile.close(RemovalCause.EXPLICIT);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public int compareTo(PrebuildTask other) {
+            int result = Integer.compare(file.level(), other.file.level());
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
     }
 
     /** A {@link ValueProcessor} to return {@link KeyValue}. */
     public static class KeyValueProcessor implements ValueProcessor<KeyValue> {
 
+        private final RowType valueType;
         private final RowCompactedSerializer valueSerializer;
 
         public KeyValueProcessor(RowType valueType) {
+            this.valueType = valueType;
             this.valueSerializer = new RowCompactedSerializer(valueType);
         }
 
@@ -252,6 +535,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             RowKind rowKind = RowKind.fromByteValue(bytes[bytes.length - 1]);
             return new KeyValue().replace(key, sequenceNumber, rowKind, value).setLevel(level);
         }
+
+        @Override
+        public KeyValueProcessor duplicate() {
+            return new KeyValueProcessor(valueType);
+        }
     }
 
     /** A {@link ValueProcessor} to return {@link Boolean} only. */
@@ -273,14 +561,21 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         public Boolean readFromDisk(InternalRow key, int level, byte[] bytes, String fileName) {
             return Boolean.TRUE;
         }
+
+        @Override
+        public ContainsValueProcessor duplicate() {
+            return this;
+        }
     }
 
     /** A {@link ValueProcessor} to return {@link PositionedKeyValue}. */
     public static class PositionedKeyValueProcessor implements ValueProcessor<PositionedKeyValue> {
+        private final RowType valueType;
         private final boolean persistValue;
         private final RowCompactedSerializer valueSerializer;
 
         public PositionedKeyValueProcessor(RowType valueType, boolean persistValue) {
+            this.valueType = valueType;
             this.persistValue = persistValue;
             this.valueSerializer = persistValue ? new RowCompactedSerializer(valueType) : null;
         }
@@ -331,6 +626,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 return new PositionedKeyValue(null, fileName, rowPosition);
             }
         }
+
+        @Override
+        public PositionedKeyValueProcessor duplicate() {
+            return new PositionedKeyValueProcessor(valueType, persistValue);
+        }
     }
 
     /** {@link KeyValue} with file name and row position for DeletionVector. */
@@ -22,9 +22,12 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.utils.BiFunctionWithIOE;
+import org.apache.paimon.utils.IntArrayList;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.TreeSet;
@@ -118,6 +121,157 @@ public class LookupUtils {
         return index < files.size() ? lookup.apply(target, files.get(index)) : null;
     }
 
+    // ==================== Batch lookup ======================
+    //
+    // Batch lookup works on a list of keys sorted by the key comparator. Each step receives the
+    // positions (ascending) of the keys it should look up, and returns the results aligned with
+    // the positions, null for the keys which are not found.
+
+    public static <T> List<T> lookup(
+            Levels levels,
+            int numKeys,
+            int startLevel,
+            BiFunctionWithIOE<int[], SortedRun, List<T>> lookup,
+            BiFunctionWithIOE<int[], TreeSet<DataFileMeta>, List<T>> level0Lookup)
+            throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(numKeys, null));
+        int[] positions = new int[numKeys];
+        for (int i = 0; i < numKeys; i++) {
+            positions[i] = i;
+        }
+
+        for (int i = startLevel; i < levels.numberOfLevels() && positions.length > 0; i++) {
+            List<T> levelResults =
+                    i == 0
+                            ? level0Lookup.apply(positions, levels.level0())
+                            : lookup.apply(positions, levels.runOfLevel(i));
+            positions = collect(positions, levelResults, results);
+        }
+
+        return results;
+    }
+
+    public static <T> List<T> lookupLevel0(
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            int[] positions,
+            TreeSet<DataFileMeta> level0,
+            BiFunctionWithIOE<int[], DataFileMeta, List<T>> lookup)
+            throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(positions.length, null));
+        int[] offsets = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            offsets[i] = i;
+        }
+
+        for (DataFileMeta file : level0) {
+            if (offsets.length == 0) {
+                break;
+            }
+
+            IntArrayList fileOffsets = new IntArrayList(offsets.length);
+            for (int offset : offsets) {
+                InternalRow target = keys.get(positions[offset]);
+                if (keyComparator.compare(file.maxKey(), target) >= 0
+                        && keyComparator.compare(file.minKey(), target) <= 0) {
+                    fileOffsets.add(offset);
+                }
+            }
+            if (fileOffsets.isEmpty()) {
+                continue;
+            }
+
+            int[] fileOffsetArray = fileOffsets.toArray();
+            int[] filePositions = new int[fileOffsetArray.length];
+            for (int i = 0; i < fileOffsetArray.length; i++) {
+                filePositions[i] = positions[fileOffsetArray[i]];
+            }
+            List<T> fileResults = lookup.apply(filePositions, file);
+
+            IntArrayList remaining = new IntArrayList(offsets.length);
+            int j = 0;
+            for (int offset : offsets) {
+                if (j < fileOffsetArray.length && fileOffsetArray[j] == offset) {
+                    T result = fileResults.get(j++);
+                    if (result != null) {
+                        results.set(offset, result);
+                        continue;
+                    }
+                }
+                remaining.add(offset);
+            }
+            offsets = remaining.toArray();
+        }
+
+        return results;
+    }
+
+    public static <T> List<T> lookup(
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            int[] positions,
+            SortedRun level,
+            BiFunctionWithIOE<int[], DataFileMeta, List<T>> lookup)
+            throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(positions.length, null));
+        if (level.isEmpty()) {
+            return results;
+        }
+
+        // files and keys are both sorted, walk them together and assign each key to the first
+        // file whose max key is not less than the key
+        List<DataFileMeta> files = level.files();
+        int fileIndex = 0;
+        int i = 0;
+        while (i < positions.length && fileIndex < files.size()) {
+            DataFileMeta file = files.get(fileIndex);
+            if (keyComparator.compare(file.maxKey(), keys.get(positions[i])) < 0) {
+                fileIndex++;
+                continue;
+            }
+
+            int start = i;
+            IntArrayList filePositions = new IntArrayList(positions.length - start);
+            for (; i < positions.length; i++) {
+                InternalRow target = keys.get(positions[i]);
+                if (keyComparator.compare(file.maxKey(), target) < 0) {
+                    break;
+                }
+                // keys before the min key of the file do not exist in this level
+                if (keyComparator.compare(file.minKey(), target) <= 0) {
+                    filePositions.add(positions[i]);
+                }
+            }
+            fileIndex++;
+            if (filePositions.isEmpty()) {
+                continue;
+            }
+
+            List<T> fileResults = lookup.apply(filePositions.toArray(), file);
+            int j = 0;
+            for (int k = start; k < i && j < fileResults.size(); k++) {
+                if (positions[k] == filePositions.get(j)) {
+                    results.set(k, fileResults.get(j++));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private static <T> int[] collect(int[] positions, List<T> levelResults, List<T> results) {
+        IntArrayList remaining = new IntArrayList(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            T result = levelResults.get(i);
+            if (result == null) {
+                remaining.add(positions[i]);
+            } else {
+                results.set(positions[i], result);
+            }
+        }
+        return remaining.toArray();
+    }
+
     public static int fileKibiBytes(File file) {
         long kibiBytes = file.length() >> 10;
         if (kibiBytes > Integer.MAX_VALUE) {
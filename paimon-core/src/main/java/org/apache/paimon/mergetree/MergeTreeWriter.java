@@ -33,6 +33,7 @@ import org.apache.paimon.io.DataIncrement;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.memory.BoundedSegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
@@ -52,6 +53,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
@@ -72,6 +76,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
     @Nullable private final FieldsComparator userDefinedSeqComparator;
+    @Nullable private final ExecutorService flushExecutor;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> deletedFiles;
@@ -86,6 +91,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private WriteBuffer writeBuffer;
     private boolean isInsertOnly;
 
+    // the buffer flushed in background and the spare buffer, only used with flushExecutor
+    @Nullable private WriteBuffer flushingWriteBuffer;
+    @Nullable private Future<FlushResult> flushFuture;
+    @Nullable private WriteBuffer spareWriteBuffer;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             MemorySize maxDiskSize,
@@ -100,7 +110,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             boolean commitForceCompact,
             ChangelogProducer changelogProducer,
             @Nullable CommitIncrement increment,
-            @Nullable FieldsComparator userDefinedSeqComparator) {
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            @Nullable ExecutorService flushExecutor) {
         this.writeBufferSpillable = writeBufferSpillable;
         this.maxDiskSize = maxDiskSize;
         this.sortMaxFan = sortMaxFan;
@@ -116,6 +127,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
         this.userDefinedSeqComparator = userDefinedSeqComparator;
+        this.flushExecutor = flushExecutor;
 
         this.newFiles = new LinkedHashSet<>();
         this.deletedFiles = new LinkedHashSet<>();
@@ -148,17 +160,29 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        userDefinedSeqComparator,
-                        memoryPool,
-                        writeBufferSpillable,
-                        maxDiskSize,
-                        sortMaxFan,
-                        sortCompression,
-                        ioManager);
+        // each buffer needs at least 3 pages
+        int halfPages = memoryPool.freePages() / 2;
+        if (flushExecutor != null && halfPages >= 3) {
+            // one buffer accepts records while the other one is flushed in background
+            this.writeBuffer = createWriteBuffer(new BoundedSegmentPool(memoryPool, halfPages));
+            this.spareWriteBuffer =
+                    createWriteBuffer(new BoundedSegmentPool(memoryPool, halfPages));
+        } else {
+            this.writeBuffer = createWriteBuffer(memoryPool);
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                userDefinedSeqComparator,
+                memoryPool,
+                writeBufferSpillable,
+                maxDiskSize,
+                sortMaxFan,
+                sortCompression,
+                ioManager);
     }
 
     @Override
@@ -166,7 +190,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         long sequenceNumber = newSequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            flushWriteBuffer(false, false, true);
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -196,11 +220,17 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (flushingWriteBuffer != null) {
+            occupancy += flushingWriteBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
     public void flushMemory() throws Exception {
+        // the buffer flushed in background is part of the memory occupancy, release it first
+        finishBackgroundFlush();
         boolean success = writeBuffer.flushMemory();
         if (!success) {
             flushWriteBuffer(false, false);
@@ -209,54 +239,117 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        flushWriteBuffer(waitForLatestCompaction, forcedFullCompaction, false);
+    }
+
+    /**
+     * Flushes the write buffer into level 0 files.
+     *
+     * @param allowBackground whether the buffer can be flushed in background, otherwise all the
+     *     records are flushed when this method returns.
+     */
+    private void flushWriteBuffer(
+            boolean waitForLatestCompaction, boolean forcedFullCompaction, boolean allowBackground)
+            throws Exception {
+        // at most one buffer is flushed in background
+        finishBackgroundFlush();
+
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    (changelogProducer == ChangelogProducer.INPUT && !isInsertOnly)
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
-
-            try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                writeBuffer.clear();
-                if (changelogWriter != null) {
-                    changelogWriter.close();
+            if (allowBackground && spareWriteBuffer != null) {
+                WriteBuffer buffer = writeBuffer;
+                buffer.prepareForAsyncFlush();
+                boolean insertOnly = isInsertOnly;
+                flushingWriteBuffer = buffer;
+                flushFuture = flushExecutor.submit(() -> flush(buffer, insertOnly));
+                writeBuffer = spareWriteBuffer;
+                spareWriteBuffer = null;
+            } else {
+                FlushResult result;
+                try {
+                    result = flush(writeBuffer, isInsertOnly);
+                } finally {
+                    writeBuffer.clear();
                 }
-                dataWriter.close();
+                addFlushResult(result);
             }
+        }
+
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
+
+    private void finishBackgroundFlush() throws Exception {
+        if (flushFuture == null) {
+            return;
+        }
 
-            List<DataFileMeta> dataMetas = dataWriter.result();
+        FlushResult result;
+        try {
+            result = flushFuture.get();
+        } catch (ExecutionException e) {
+            recycleFlushingBuffer();
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+        recycleFlushingBuffer();
+        addFlushResult(result);
+    }
+
+    private void recycleFlushingBuffer() {
+        // memory is returned in the writer thread, the memory pool is not thread safe
+        flushingWriteBuffer.clear();
+        spareWriteBuffer = flushingWriteBuffer;
+        flushingWriteBuffer = null;
+        flushFuture = null;
+    }
+
+    /** Sorts, merges and writes the records of the buffer, this does not modify the writer. */
+    private FlushResult flush(WriteBuffer buffer, boolean insertOnly) throws Exception {
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                (changelogProducer == ChangelogProducer.INPUT && !insertOnly)
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } finally {
             if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
-            } else if (changelogProducer == ChangelogProducer.INPUT && isInsertOnly) {
-                List<DataFileMeta> changelogMetas = new ArrayList<>();
-                for (DataFileMeta dataMeta : dataMetas) {
-                    String newFileName = writerFactory.newChangelogFileName(0);
-                    DataFileMeta changelogMeta = dataMeta.rename(newFileName);
-                    writerFactory.copyFile(dataMeta, changelogMeta);
-                    changelogMetas.add(changelogMeta);
-                }
-                newFilesChangelog.addAll(changelogMetas);
+                changelogWriter.close();
             }
+            dataWriter.close();
+        }
 
+        List<DataFileMeta> dataMetas = dataWriter.result();
+        List<DataFileMeta> changelogMetas = new ArrayList<>();
+        if (changelogWriter != null) {
+            changelogMetas.addAll(changelogWriter.result());
+        } else if (changelogProducer == ChangelogProducer.INPUT && insertOnly) {
             for (DataFileMeta dataMeta : dataMetas) {
-                newFiles.add(dataMeta);
-                compactManager.addNewFile(dataMeta);
+                String newFileName = writerFactory.newChangelogFileName(0);
+                DataFileMeta changelogMeta = dataMeta.rename(newFileName);
+                writerFactory.copyFile(dataMeta, changelogMeta);
+                changelogMetas.add(changelogMeta);
             }
         }
+        return new FlushResult(dataMetas, changelogMetas);
+    }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+    private void addFlushResult(FlushResult result) {
+        newFilesChangelog.addAll(result.changelogFiles);
+        for (DataFileMeta dataMeta : result.dataFiles) {
+            newFiles.add(dataMeta);
+            compactManager.addNewFile(dataMeta);
+        }
     }
 
     @Override
@@ -364,6 +457,13 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        try {
+            // files of the background flush are deleted below
+            finishBackgroundFlush();
+        } catch (Exception ignored) {
+            // files of a failed flush are cleaned up by the rolling writers
+        }
+
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -402,4 +502,16 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             compactDeletionFile.clean();
         }
     }
+
+    /** Files written by flushing a write buffer. */
+    private static class FlushResult {
+
+        private final List<DataFileMeta> dataFiles;
+        private final List<DataFileMeta> changelogFiles;
+
+        private FlushResult(List<DataFileMeta> dataFiles, List<DataFileMeta> changelogFiles) {
+            this.dataFiles = dataFiles;
+            this.changelogFiles = changelogFiles;
+        }
+    }
 }
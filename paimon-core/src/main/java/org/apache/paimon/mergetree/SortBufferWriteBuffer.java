@@ -147,6 +147,13 @@ public class SortBufferWriteBuffer implements WriteBuffer {
         return buffer.flushMemory();
     }
 
+    @Override
+    public void prepareForAsyncFlush() throws IOException {
+        if (buffer instanceof BinaryExternalSortBuffer) {
+            ((BinaryExternalSortBuffer) buffer).completeSpilling();
+        }
+    }
+
     @Override
     public void forEach(
             Comparator<InternalRow> keyComparator,
@@ -51,6 +51,12 @@ public interface WriteBuffer {
     /** Flush memory, return false if not supported. */
     boolean flushMemory() throws IOException;
 
+    /**
+     * Prepares this buffer to be flushed by {@link #forEach} in another thread, after this call
+     * {@link #forEach} does not interact with the memory pool.
+     */
+    void prepareForAsyncFlush() throws IOException;
+
     /**
      * Performs the given action for each remaining element in this buffer until all elements have
      * been processed or the action throws an exception.
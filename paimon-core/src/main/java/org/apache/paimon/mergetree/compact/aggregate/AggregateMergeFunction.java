@@ -20,18 +20,32 @@ package org.apache.paimon.mergetree.compact.aggregate;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.CodeGenUtils;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.aggregate.factory.FieldAggregatorFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldFirstNonNullValueAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldLastNonNullValueAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldLastValueAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldMaxAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldMinAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldPrimaryKeyAggFactory;
+import org.apache.paimon.mergetree.compact.aggregate.factory.FieldSumAggFactory;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.types.DataTypeRoot;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.utils.Projection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -105,6 +119,8 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
 
         private static final long serialVersionUID = 1L;
 
+        private static final Logger LOG = LoggerFactory.getLogger(Factory.class);
+
         private final CoreOptions options;
         private final List<String> tableNames;
         private final List<DataType> tableTypes;
@@ -132,6 +148,8 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
             }
 
             FieldAggregator[] fieldAggregators = new FieldAggregator[fieldNames.size()];
+            List<String> aggFunctions = new ArrayList<>(fieldNames.size());
+            boolean[] ignoreRetracts = new boolean[fieldNames.size()];
             String defaultAggFunc = options.fieldsDefaultFunc();
             for (int i = 0; i < fieldNames.size(); i++) {
                 String fieldName = fieldNames.get(i);
@@ -150,9 +168,64 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
                                 isPrimaryKey,
                                 options,
                                 fieldName);
+                aggFunctions.add(
+                        isPrimaryKey
+                                ? FieldPrimaryKeyAggFactory.NAME
+                                : strAggFunc == null
+                                        ? FieldLastNonNullValueAggFactory.NAME
+                                        : strAggFunc);
+                ignoreRetracts[i] = ignoreRetract;
+            }
+
+            if (options.aggregationCodegenEnabled() && supportCodeGen(fieldTypes, aggFunctions)) {
+                try {
+                    return new CodeGenAggregateMergeFunction(
+                            CodeGenUtils.newRecordAggregator(
+                                    fieldTypes, aggFunctions, ignoreRetracts));
+                } catch (Exception e) {
+                    LOG.warn(
+                            "Failed to generate aggregate merge function, fall back to the"
+                                    + " generic one.",
+                            e);
+                }
             }
 
             return new AggregateMergeFunction(createFieldGetters(fieldTypes), fieldAggregators);
         }
+
+        private static boolean supportCodeGen(
+                List<DataType> fieldTypes, List<String> aggFunctions) {
+            for (int i = 0; i < fieldTypes.size(); i++) {
+                DataTypeRoot type = fieldTypes.get(i).getTypeRoot();
+                switch (aggFunctions.get(i)) {
+                    case FieldSumAggFactory.NAME:
+                        if (!isPrimitiveNumeric(type)) {
+                            return false;
+                        }
+                        break;
+                    case FieldMinAggFactory.NAME:
+                    case FieldMaxAggFactory.NAME:
+                        if (!isPrimitiveNumeric(type)
+                                && type != DataTypeRoot.DATE
+                                && type != DataTypeRoot.TIME_WITHOUT_TIME_ZONE) {
+                            return false;
+                        }
+                        break;
+                    case FieldLastValueAggFactory.NAME:
+                    case FieldLastNonNullValueAggFactory.NAME:
+                    case FieldFirstNonNullValueAggFactory.NAME:
+                    case FieldPrimaryKeyAggFactory.NAME:
+                        break;
+                    default:
+                        return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isPrimitiveNumeric(DataTypeRoot type) {
+            return type.getFamilies().contains(DataTypeFamily.NUMERIC)
+                    && type != DataTypeRoot.DECIMAL;
+        }
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact.aggregate;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.RecordAggregator;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.types.RowKind;
+
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * A {@link MergeFunction} which pre-aggregates fields with a generated {@link RecordAggregator}. It
+ * produces the same result as {@link AggregateMergeFunction}, without boxing primitive fields.
+ */
+public class CodeGenAggregateMergeFunction implements MergeFunction<KeyValue> {
+
+    private final RecordAggregator aggregator;
+
+    private KeyValue latestKv;
+    private KeyValue reused;
+
+    public CodeGenAggregateMergeFunction(RecordAggregator aggregator) {
+        this.aggregator = aggregator;
+    }
+
+    @Override
+    public void reset() {
+        this.latestKv = null;
+        aggregator.reset();
+    }
+
+    @Override
+    public void add(KeyValue kv) {
+        latestKv = kv;
+        if (kv.valueKind() == RowKind.INSERT || kv.valueKind() == RowKind.UPDATE_AFTER) {
+            aggregator.add(kv.value());
+        } else {
+            aggregator.retract(kv.value());
+        }
+    }
+
+    @Override
+    public KeyValue getResult() {
+        checkNotNull(
+                latestKv,
+                "Trying to get result from merge function without any input. This is unexpected.");
+
+        if (reused == null) {
+            reused = new KeyValue();
+        }
+        InternalRow row = aggregator.getResult();
+        return reused.replace(latestKv.key(), latestKv.sequenceNumber(), RowKind.INSERT, row);
+    }
+}
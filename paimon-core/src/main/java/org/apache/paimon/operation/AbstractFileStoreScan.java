@@ -24,8 +24,10 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.manifest.BucketEntry;
 import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestEntryRowFilter;
 import org.apache.paimon.manifest.ManifestEntrySerializer;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
@@ -88,6 +90,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private ManifestCacheFilter manifestCacheFilter = null;
     private ScanMetrics scanMetrics = null;
     private boolean dropStats;
+    @Nullable private PlanState planState;
 
     public AbstractFileStoreScan(
             ManifestsReader manifestsReader,
@@ -222,6 +225,15 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return this;
     }
 
+    /**
+     * Plan with the given {@link PlanState}, the state is only used to plan all files of a
+     * snapshot.
+     */
+    public AbstractFileStoreScan withPlanState(@Nullable PlanState planState) {
+        this.planState = planState;
+        return this;
+    }
+
     @Nullable
     @Override
     public Integer parallelism() {
@@ -236,14 +248,31 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     @Override
     public Plan plan() {
         long started = System.nanoTime();
-        ManifestsReader.Result manifestsResult = readManifests();
-        Snapshot snapshot = manifestsResult.snapshot;
-        List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
-
-        Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
-        List<ManifestEntry> files = new ArrayList<>();
-        while (iterator.hasNext()) {
-            files.add(iterator.next());
+        Snapshot snapshot;
+        List<ManifestEntry> files;
+        int scannedManifests;
+        long allDataFiles;
+        PlanState.Result stateResult = readPlanState();
+        if (stateResult != null) {
+            snapshot = stateResult.snapshot;
+            files = dropStats ? dropStats(stateResult.files) : stateResult.files;
+            scannedManifests = stateResult.scannedManifests;
+            allDataFiles = stateResult.totalFiles;
+        } else {
+            ManifestsReader.Result manifestsResult = readManifests();
+            snapshot = manifestsResult.snapshot;
+            List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
+
+            Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
+            files = new ArrayList<>();
+            while (iterator.hasNext()) {
+                files.add(iterator.next());
+            }
+            scannedManifests = manifests.size();
+            allDataFiles =
+                    manifestsResult.allManifests.stream()
+                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
+                            .sum();
         }
 
         if (wholeBucketFilterEnabled()) {
@@ -270,14 +299,10 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
         long scanDuration = (System.nanoTime() - started) / 1_000_000;
         if (scanMetrics != null) {
-            long allDataFiles =
-                    manifestsResult.allManifests.stream()
-                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
-                            .sum();
             scanMetrics.reportScan(
                     new ScanStats(
                             scanDuration,
-                            manifests.size(),
+                            scannedManifests,
                             allDataFiles - result.size(),
                             result.size()));
         }
@@ -359,7 +384,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             boolean useSequential) {
         Set<Identifier> deletedEntries =
                 FileEntry.readDeletedEntries(
-                        manifest -> readManifest(manifest, FileEntry.deletedFilter(), null),
+                        manifest -> readManifest(manifest, FileKind.DELETE, null),
                         manifests,
                         parallelism);
 
@@ -373,7 +398,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                         converter.apply(
                                 readManifest(
                                         manifest,
-                                        FileEntry.addFilter(),
+                                        FileKind.ADD,
                                         entry -> !deletedEntries.contains(entry.identifier())));
         if (useSequential) {
             return sequentialBatchedExecute(processor, manifests, parallelism).iterator();
@@ -399,6 +424,27 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return manifestsReader.read(specifiedSnapshot, scanMode);
     }
 
+    @Nullable
+    private PlanState.Result readPlanState() {
+        if (planState == null || scanMode != ScanMode.ALL) {
+            return null;
+        }
+
+        Snapshot snapshot =
+                specifiedSnapshot == null ? snapshotManager.latestSnapshot() : specifiedSnapshot;
+        if (snapshot == null) {
+            return null;
+        }
+
+        ManifestEntryRowFilter rowFilter = createEntryRowFilter(FileKind.ADD);
+        return planState.read(
+                snapshot,
+                entry ->
+                        rowFilter.testEntry(entry)
+                                && (manifestEntryFilter == null || manifestEntryFilter.test(entry))
+                                && filterByStats(entry));
+    }
+
     // ------------------------------------------------------------------------
     // Start Thread Safe Methods: The following methods need to be thread safe because they will be
     // called by multiple threads
@@ -429,7 +475,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     private List<ManifestEntry> readManifest(
             ManifestFileMeta manifest,
-            @Nullable Filter<InternalRow> additionalFilter,
+            @Nullable FileKind kind,
             @Nullable Filter<ManifestEntry> additionalTFilter) {
         List<ManifestEntry> entries =
                 manifestFileFactory
@@ -440,22 +486,26 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                                 manifest.fileName(),
                                 manifest.fileSize(),
                                 createCacheRowFilter(),
-                                createEntryRowFilter().and(additionalFilter),
+                                createEntryRowFilter(kind),
                                 entry ->
                                         (additionalTFilter == null || additionalTFilter.test(entry))
                                                 && (manifestEntryFilter == null
                                                         || manifestEntryFilter.test(entry))
                                                 && filterByStats(entry));
         if (dropStats) {
-            List<ManifestEntry> copied = new ArrayList<>(entries.size());
-            for (ManifestEntry entry : entries) {
-                copied.add(dropStats(entry));
-            }
-            entries = copied;
+            entries = dropStats(entries);
         }
         return entries;
     }
 
+    private List<ManifestEntry> dropStats(List<ManifestEntry> entries) {
+        List<ManifestEntry> copied = new ArrayList<>(entries.size());
+        for (ManifestEntry entry : entries) {
+            copied.add(dropStats(entry));
+        }
+        return copied;
+    }
+
     protected ManifestEntry dropStats(ManifestEntry entry) {
         return entry.copyWithoutStats();
     }
@@ -482,36 +532,14 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
      *
      * <p>Implemented to {@link InternalRow} is for performance (No deserialization).
      */
-    private Filter<InternalRow> createEntryRowFilter() {
-        Function<InternalRow, BinaryRow> partitionGetter =
-                ManifestEntrySerializer.partitionGetter();
-        Function<InternalRow, Integer> bucketGetter = ManifestEntrySerializer.bucketGetter();
-        Function<InternalRow, Integer> totalBucketGetter =
-                ManifestEntrySerializer.totalBucketGetter();
-        Function<InternalRow, String> fileNameGetter = ManifestEntrySerializer.fileNameGetter();
-        PartitionPredicate partitionFilter = manifestsReader.partitionFilter();
-        Function<InternalRow, Integer> levelGetter = ManifestEntrySerializer.levelGetter();
-        return row -> {
-            if ((partitionFilter != null && !partitionFilter.test(partitionGetter.apply(row)))) {
-                return false;
-            }
-
-            int bucket = bucketGetter.apply(row);
-            if (bucketFilter != null && !bucketFilter.test(bucket)) {
-                return false;
-            }
-
-            if (totalAwareBucketFilter != null
-                    && !totalAwareBucketFilter.test(bucket, totalBucketGetter.apply(row))) {
-                return false;
-            }
-
-            if (levelFilter != null && !levelFilter.test(levelGetter.apply(row))) {
-                return false;
-            }
-
-            return fileNameFilter == null || fileNameFilter.test((fileNameGetter.apply(row)));
-        };
+    private ManifestEntryRowFilter createEntryRowFilter(@Nullable FileKind kind) {
+        return new ManifestEntryRowFilter()
+                .withKind(kind)
+                .withPartitionFilter(manifestsReader.partitionFilter())
+                .withBucketFilter(bucketFilter)
+                .withTotalAwareBucketFilter(totalAwareBucketFilter)
+                .withLevelFilter(levelFilter)
+                .withFileNameFilter(fileNameFilter);
     }
 
     // ------------------------------------------------------------------------
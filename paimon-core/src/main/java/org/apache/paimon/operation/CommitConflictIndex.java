@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.table.source.ScanMode;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The live files of the partitions a committer writes to, grouped by partition and bucket. The
+ * index is kept across retries and commits of the same committer: to check a newer snapshot, only
+ * the delta manifests of the snapshots committed in between are read and applied to the touched
+ * buckets, instead of reading all entries of the changed partitions again.
+ *
+ * <p>Only the partitions of the latest request are retained, so the index never holds more than the
+ * partitions of one commit. It falls back to reading all entries of the changed partitions when the
+ * checked snapshot is too far away, has been expired or has been rolled back.
+ */
+class CommitConflictIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommitConflictIndex.class);
+
+    private final SnapshotManager snapshotManager;
+    private final FileStoreScan scan;
+    private final int maxDeltaSnapshots;
+
+    private final Map<BinaryRow, Map<Integer, List<SimpleFileEntry>>> partitions;
+    @Nullable private Snapshot snapshot;
+
+    CommitConflictIndex(
+            SnapshotManager snapshotManager, FileStoreScan scan, int maxDeltaSnapshots) {
+        this.snapshotManager = snapshotManager;
+        this.scan = scan;
+        this.maxDeltaSnapshots = maxDeltaSnapshots;
+        this.partitions = new HashMap<>();
+    }
+
+    /**
+     * Read the merged entries of the given snapshot in the partitions and buckets touched by the
+     * changes.
+     */
+    List<SimpleFileEntry> baseEntries(Snapshot target, Collection<? extends FileEntry> changes) {
+        Map<BinaryRow, Set<Integer>> buckets = new LinkedHashMap<>();
+        for (FileEntry change : changes) {
+            buckets.computeIfAbsent(change.partition(), p -> new HashSet<>()).add(change.bucket());
+        }
+
+        try {
+            update(target, buckets.keySet());
+        } catch (Throwable e) {
+            reset();
+            throw new RuntimeException("Cannot read manifest entries from changed partitions.", e);
+        }
+
+        List<SimpleFileEntry> result = new ArrayList<>();
+        for (Map.Entry<BinaryRow, Set<Integer>> entry : buckets.entrySet()) {
+            Map<Integer, List<SimpleFileEntry>> partition = partitions.get(entry.getKey());
+            for (int bucket : entry.getValue()) {
+                result.addAll(partition.getOrDefault(bucket, Collections.emptyList()));
+            }
+        }
+        return result;
+    }
+
+    void reset() {
+        this.snapshot = null;
+        this.partitions.clear();
+    }
+
+    @Nullable
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    int numPartitions() {
+        return partitions.size();
+    }
+
+    private void update(Snapshot target, Set<BinaryRow> requested) {
+        partitions.keySet().retainAll(requested);
+        if (!partitions.isEmpty() && !canApplyDeltas(target)) {
+            partitions.clear();
+        }
+
+        if (!partitions.isEmpty() && target.id() > snapshot.id()) {
+            try {
+                applyDeltas(target);
+            } catch (FileNotFoundException e) {
+                LOG.info(
+                        "Snapshots between {} and {} have been expired, reload conflict index.",
+                        snapshot.id(),
+                        target.id());
+                partitions.clear();
+            }
+        }
+        this.snapshot = target;
+
+        List<BinaryRow> missing = new ArrayList<>();
+        for (BinaryRow partition : requested) {
+            if (!partitions.containsKey(partition)) {
+                missing.add(partition);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<SimpleFileEntry> entries =
+                    scan.withSnapshot(target)
+                            .withKind(ScanMode.ALL)
+                            .withPartitionFilter(missing)
+                            .readSimpleEntries();
+            missing.forEach(p -> partitions.put(p, new HashMap<>()));
+            for (SimpleFileEntry entry : entries) {
+                partitions
+                        .get(entry.partition())
+                        .computeIfAbsent(entry.bucket(), b -> new ArrayList<>())
+                        .add(entry);
+            }
+        }
+    }
+
+    private boolean canApplyDeltas(Snapshot target) {
+        if (snapshot == null
+                || target.id() < snapshot.id()
+                || target.id() - snapshot.id() > maxDeltaSnapshots) {
+            return false;
+        }
+
+        // the table may have been rolled back and committed again since the last check
+        if (target.id() == snapshot.id()) {
+            return Objects.equals(target, snapshot);
+        }
+        try {
+            return Objects.equals(snapshotManager.tryGetSnapshot(snapshot.id()), snapshot);
+        } catch (FileNotFoundException e) {
+            return false;
+        }
+    }
+
+    private void applyDeltas(Snapshot target) throws FileNotFoundException {
+        List<BinaryRow> indexed = new ArrayList<>(partitions.keySet());
+        List<SimpleFileEntry> deltas = new ArrayList<>();
+        for (long id = snapshot.id() + 1; id <= target.id(); id++) {
+            Snapshot delta = id == target.id() ? target : snapshotManager.tryGetSnapshot(id);
+            deltas.addAll(
+                    scan.withSnapshot(delta)
+                            .withKind(ScanMode.DELTA)
+                            .withPartitionFilter(indexed)
+                            .readSimpleEntries());
+        }
+
+        // merge the deltas into the touched buckets only
+        Map<BinaryRow, Map<Integer, List<SimpleFileEntry>>> grouped = new HashMap<>();
+        for (SimpleFileEntry entry : deltas) {
+            grouped.computeIfAbsent(entry.partition(), p -> new HashMap<>())
+                    .computeIfAbsent(entry.bucket(), b -> new ArrayList<>())
+                    .add(entry);
+        }
+        for (Map.Entry<BinaryRow, Map<Integer, List<SimpleFileEntry>>> entry : grouped.entrySet()) {
+            Map<Integer, List<SimpleFileEntry>> partition = partitions.get(entry.getKey());
+            for (Map.Entry<Integer, List<SimpleFileEntry>> bucket : entry.getValue().entrySet()) {
+                List<SimpleFileEntry> entries =
+                        new ArrayList<>(
+                                partition.getOrDefault(bucket.getKey(), Collections.emptyList()));
+                entries.addAll(bucket.getValue());
+                List<SimpleFileEntry> merged = new ArrayList<>(FileEntry.mergeEntries(entries));
+                if (merged.isEmpty()) {
+                    partition.remove(bucket.getKey());
+                } else {
+                    partition.put(bucket.getKey(), merged);
+                }
+            }
+        }
+    }
+}
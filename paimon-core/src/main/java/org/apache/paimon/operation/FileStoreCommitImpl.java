@@ -64,7 +64,6 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -76,6 +75,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
@@ -132,17 +133,27 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     @Nullable private final Comparator<InternalRow> keyComparator;
     private final String branchName;
     @Nullable private final Integer manifestReadParallelism;
+    @Nullable private final Integer manifestWriteParallelism;
     private final List<CommitCallback> commitCallbacks;
     private final StatsFileHandler statsFileHandler;
     private final BucketMode bucketMode;
     private long commitTimeout;
     private final int commitMaxRetries;
+    private final long commitMinRetryWait;
+    private final long commitMaxRetryWait;
+    private final CommitConflictIndex conflictIndex;
+    private final boolean snapshotTimelineEnabled;
 
     @Nullable private Lock lock;
     private boolean ignoreEmptyCommit;
     private CommitMetrics commitMetrics;
     @Nullable private PartitionExpire partitionExpire;
 
+    private long conflictCheckNanos;
+    private long retryWaitNanos;
+    private long manifestWriteNanos;
+    private long manifestBytesWritten;
+
     public FileStoreCommitImpl(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -167,9 +178,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             StatsFileHandler statsFileHandler,
             BucketMode bucketMode,
             @Nullable Integer manifestReadParallelism,
+            @Nullable Integer manifestWriteParallelism,
             List<CommitCallback> commitCallbacks,
             int commitMaxRetries,
-            long commitTimeout) {
+            long commitTimeout,
+            long commitMinRetryWait,
+            long commitMaxRetryWait) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.tableName = tableName;
@@ -194,9 +208,16 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.keyComparator = keyComparator;
         this.branchName = branchName;
         this.manifestReadParallelism = manifestReadParallelism;
+        this.manifestWriteParallelism = manifestWriteParallelism;
         this.commitCallbacks = commitCallbacks;
         this.commitMaxRetries = commitMaxRetries;
         this.commitTimeout = commitTimeout;
+        this.commitMinRetryWait = commitMinRetryWait;
+        this.commitMaxRetryWait = commitMaxRetryWait;
+        this.conflictIndex =
+                new CommitConflictIndex(
+                        snapshotManager, scan, options.commitConflictIndexMaxDeltaSnapshots());
+        this.snapshotTimelineEnabled = options.snapshotTimelineEnabled();
 
         this.lock = null;
         this.ignoreEmptyCommit = true;
@@ -269,6 +290,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
 
         long started = System.nanoTime();
+        conflictCheckNanos = 0;
+        retryWaitNanos = 0;
+        manifestWriteNanos = 0;
+        manifestBytesWritten = 0;
         int generatedSnapshot = 0;
         int attempts = 0;
         Snapshot latestSnapshot = null;
@@ -304,14 +329,16 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 // files.
                 latestSnapshot = snapshotManager.latestSnapshot();
                 if (latestSnapshot != null && checkAppendFiles) {
+                    long checkStarted = System.nanoTime();
                     // it is possible that some partitions only have compact changes,
                     // so we need to contain all changes
-                    baseEntries.addAll(
-                            readAllEntriesFromChangedPartitions(
-                                    latestSnapshot, appendTableFiles, compactTableFiles));
+                    List<ManifestEntry> changes = new ArrayList<>(appendTableFiles);
+                    changes.addAll(compactTableFiles);
+                    baseEntries.addAll(conflictIndex.baseEntries(latestSnapshot, changes));
                     noConflictsOrFail(
                             latestSnapshot.commitUser(), baseEntries, appendSimpleEntries);
                     safeLatestSnapshotId = latestSnapshot.id();
+                    conflictCheckNanos += System.nanoTime() - checkStarted;
                 }
 
                 attempts +=
@@ -340,11 +367,13 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 // This optimization is mainly used to decrease the number of times we read from
                 // files.
                 if (safeLatestSnapshotId != null) {
+                    long checkStarted = System.nanoTime();
                     baseEntries.addAll(appendSimpleEntries);
                     noConflictsOrFail(
                             latestSnapshot.commitUser(),
                             baseEntries,
                             SimpleFileEntry.from(compactTableFiles));
+                    conflictCheckNanos += System.nanoTime() - checkStarted;
                     // assume this compact commit follows just after the append commit created above
                     safeLatestSnapshotId += 1;
                 }
@@ -394,7 +423,11 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         compactChangelogFiles,
                         commitDuration,
                         generatedSnapshots,
-                        attempts);
+                        attempts,
+                        conflictCheckNanos / 1_000_000,
+                        retryWaitNanos / 1_000_000,
+                        manifestWriteNanos / 1_000_000,
+                        manifestBytesWritten);
         commitMetrics.reportCommit(commitStats);
     }
 
@@ -412,6 +445,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
 
         long started = System.nanoTime();
+        conflictCheckNanos = 0;
+        retryWaitNanos = 0;
+        manifestWriteNanos = 0;
+        manifestBytesWritten = 0;
         int generatedSnapshot = 0;
         int attempts = 0;
         List<ManifestEntry> appendTableFiles = new ArrayList<>();
@@ -769,11 +806,45 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                 commitTimeout, retryCount));
             }
 
+            commitRetryWait(retryCount);
             retryCount++;
         }
         return retryCount + 1;
     }
 
+    private List<ManifestFileMeta> writeManifestFiles(List<ManifestEntry> entries) {
+        long writeStarted = System.nanoTime();
+        List<ManifestFileMeta> manifests = manifestFile.write(entries, manifestWriteParallelism);
+        for (ManifestFileMeta manifest : manifests) {
+            manifestBytesWritten += manifest.fileSize();
+        }
+        manifestWriteNanos += System.nanoTime() - writeStarted;
+        return manifests;
+    }
+
+    /**
+     * Wait before the next attempt with an exponential backoff, the random jitter spreads the
+     * attempts of concurrent committers which failed on the same snapshot. Without a min retry
+     * wait, the next attempt is made immediately.
+     */
+    private void commitRetryWait(int retryCount) {
+        if (commitMinRetryWait <= 0) {
+            return;
+        }
+        long retryWait =
+                Math.min(commitMinRetryWait << Math.min(retryCount, 30), commitMaxRetryWait);
+        retryWait += ThreadLocalRandom.current().nextLong(retryWait / 5 + 1);
+        long waitStarted = System.nanoTime();
+        try {
+            TimeUnit.MILLISECONDS.sleep(retryWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            retryWaitNanos += System.nanoTime() - waitStarted;
+        }
+    }
+
     private int tryOverwrite(
             @Nullable PartitionPredicate partitionFilter,
             List<ManifestEntry> changes,
@@ -862,38 +933,23 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
         }
 
-        List<SimpleFileEntry> baseDataFiles = new ArrayList<>();
         if (latestSnapshot != null && conflictCheck.shouldCheck(latestSnapshot.id())) {
             // latestSnapshotId is different from the snapshot id we've checked for conflicts,
-            // so we have to check again
+            // so we have to check again, the conflict index only reads the snapshots committed
+            // since the last check
+            long checkStarted = System.nanoTime();
             try {
-                List<BinaryRow> changedPartitions =
-                        deltaFiles.stream()
-                                .map(ManifestEntry::partition)
-                                .distinct()
-                                .collect(Collectors.toList());
-                if (retryResult != null && retryResult.latestSnapshot != null) {
-                    baseDataFiles = new ArrayList<>(retryResult.baseDataFiles);
-                    List<SimpleFileEntry> incremental =
-                            readIncrementalChanges(
-                                    retryResult.latestSnapshot, latestSnapshot, changedPartitions);
-                    if (!incremental.isEmpty()) {
-                        baseDataFiles.addAll(incremental);
-                        baseDataFiles = new ArrayList<>(FileEntry.mergeEntries(baseDataFiles));
-                    }
-                } else {
-                    baseDataFiles =
-                            readAllEntriesFromChangedPartitions(latestSnapshot, changedPartitions);
-                }
                 noConflictsOrFail(
                         latestSnapshot.commitUser(),
-                        baseDataFiles,
+                        conflictIndex.baseEntries(latestSnapshot, deltaFiles),
                         SimpleFileEntry.from(deltaFiles));
             } catch (Exception e) {
                 if (retryResult != null) {
                     retryResult.cleanAll();
                 }
                 throw e;
+            } finally {
+                conflictCheckNanos += System.nanoTime() - checkStarted;
             }
         }
 
@@ -929,6 +985,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
 
             // try to merge old manifest files to create base manifest list
+            long writeStarted = System.nanoTime();
             mergeAfterManifests =
                     ManifestFileMerger.merge(
                             mergeBeforeManifests,
@@ -937,7 +994,18 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             manifestMergeMinCount,
                             manifestFullCompactionSize.getBytes(),
                             partitionType,
-                            manifestReadParallelism);
+                            manifestReadParallelism,
+                            manifestWriteParallelism);
+            Set<String> mergeBeforeNames =
+                    mergeBeforeManifests.stream()
+                            .map(ManifestFileMeta::fileName)
+                            .collect(Collectors.toSet());
+            for (ManifestFileMeta manifest : mergeAfterManifests) {
+                if (!mergeBeforeNames.contains(manifest.fileName())) {
+                    manifestBytesWritten += manifest.fileSize();
+                }
+            }
+            manifestWriteNanos += System.nanoTime() - writeStarted;
             baseManifestList = manifestList.write(mergeAfterManifests);
 
             // the added records subtract the deleted records from
@@ -957,11 +1025,11 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 }
             } else {
                 // write new delta files into manifest files
-                deltaManifestList = manifestList.write(manifestFile.write(deltaFiles));
+                deltaManifestList = manifestList.write(writeManifestFiles(deltaFiles));
 
                 // write changelog into manifest files
                 if (!changelogFiles.isEmpty()) {
-                    changelogManifestList = manifestList.write(manifestFile.write(changelogFiles));
+                    changelogManifestList = manifestList.write(writeManifestFiles(changelogFiles));
                 }
             }
 
@@ -1057,12 +1125,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         commitTime));
         cleanUpNoReuseTmpManifests(baseManifestList, mergeBeforeManifests, mergeAfterManifests);
         return new RetryResult(
-                deltaManifestList,
-                changelogManifestList,
-                oldIndexManifest,
-                indexManifest,
-                latestSnapshot,
-                baseDataFiles);
+                deltaManifestList, changelogManifestList, oldIndexManifest, indexManifest);
     }
 
     public void compactManifest() {
@@ -1084,6 +1147,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                 commitTimeout, retryCount));
             }
 
+            commitRetryWait(retryCount);
             retryCount++;
         }
     }
@@ -1132,7 +1196,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             1,
                             1,
                             partitionType,
-                            manifestReadParallelism);
+                            manifestReadParallelism,
+                            manifestWriteParallelism);
 
             if (new HashSet<>(mergeBeforeManifests).equals(new HashSet<>(mergeAfterManifests))) {
                 // no need to commit this snapshot, because no compact were happened
@@ -1176,6 +1241,16 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
+    private void commitTimeline(Snapshot newSnapshot) {
+        // the timeline is only an index of snapshots, failing to update it must not fail the
+        // commit, readers fall back to snapshot files for missing snapshots
+        try {
+            snapshotManager.commitTimeline(newSnapshot);
+        } catch (Exception e) {
+            LOG.warn("Failed to update snapshot timeline for snapshot #{}.", newSnapshot.id(), e);
+        }
+    }
+
     private boolean commitSnapshotImpl(Snapshot newSnapshot, Path newSnapshotPath) {
         try {
             Callable<Boolean> callable =
@@ -1187,18 +1262,25 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         }
                         return committed;
                     };
+            boolean committed;
             if (lock != null) {
-                return lock.runWithLock(
-                        () ->
-                                // fs.rename may not returns false if target file
-                                // already exists, or even not atomic
-                                // as we're relying on external locking, we can first
-                                // check if file exist then rename to work around this
-                                // case
-                                !fileIO.exists(newSnapshotPath) && callable.call());
+                committed =
+                        lock.runWithLock(
+                                () ->
+                                        // fs.rename may not returns false if target file
+                                        // already exists, or even not atomic
+                                        // as we're relying on external locking, we can first
+                                        // check if file exist then rename to work around this
+                                        // case
+                                        !fileIO.exists(newSnapshotPath) && callable.call());
             } else {
-                return callable.call();
+                committed = callable.call();
+            }
+            // outside the lock, completing a timeline segment reads the snapshots of the segment
+            if (committed && snapshotTimelineEnabled) {
+                commitTimeline(newSnapshot);
             }
+            return committed;
         } catch (Throwable e) {
             // exception when performing the atomic rename,
             // we cannot clean up because we can't determine the success
@@ -1216,44 +1298,6 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
-    private List<SimpleFileEntry> readIncrementalChanges(
-            Snapshot from, Snapshot to, List<BinaryRow> changedPartitions) {
-        List<SimpleFileEntry> entries = new ArrayList<>();
-        for (long i = from.id() + 1; i <= to.id(); i++) {
-            List<SimpleFileEntry> delta =
-                    scan.withSnapshot(i)
-                            .withKind(ScanMode.DELTA)
-                            .withPartitionFilter(changedPartitions)
-                            .readSimpleEntries();
-            entries.addAll(delta);
-        }
-        return entries;
-    }
-
-    @SafeVarargs
-    private final List<SimpleFileEntry> readAllEntriesFromChangedPartitions(
-            Snapshot snapshot, List<ManifestEntry>... changes) {
-        List<BinaryRow> changedPartitions =
-                Arrays.stream(changes)
-                        .flatMap(Collection::stream)
-                        .map(ManifestEntry::partition)
-                        .distinct()
-                        .collect(Collectors.toList());
-        return readAllEntriesFromChangedPartitions(snapshot, changedPartitions);
-    }
-
-    private List<SimpleFileEntry> readAllEntriesFromChangedPartitions(
-            Snapshot snapshot, List<BinaryRow> changedPartitions) {
-        try {
-            return scan.withSnapshot(snapshot)
-                    .withKind(ScanMode.ALL)
-                    .withPartitionFilter(changedPartitions)
-                    .readSimpleEntries();
-        } catch (Throwable e) {
-            throw new RuntimeException("Cannot read manifest entries from changed partitions.", e);
-        }
-    }
-
     private void noConflictsOrFail(
             String baseCommitUser,
             List<SimpleFileEntry> baseEntries,
@@ -1574,22 +1618,15 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         private final String oldIndexManifest;
         private final String newIndexManifest;
 
-        private final Snapshot latestSnapshot;
-        private final List<SimpleFileEntry> baseDataFiles;
-
         private RetryResult(
                 String deltaManifestList,
                 String changelogManifestList,
                 String oldIndexManifest,
-                String newIndexManifest,
-                Snapshot latestSnapshot,
-                List<SimpleFileEntry> baseDataFiles) {
+                String newIndexManifest) {
             this.deltaManifestList = deltaManifestList;
             this.changelogManifestList = changelogManifestList;
             this.oldIndexManifest = oldIndexManifest;
             this.newIndexManifest = newIndexManifest;
-            this.latestSnapshot = latestSnapshot;
-            this.baseDataFiles = baseDataFiles;
         }
 
         private void cleanAll() {
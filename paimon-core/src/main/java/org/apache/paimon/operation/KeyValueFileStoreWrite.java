@@ -61,6 +61,7 @@ import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
@@ -90,6 +91,7 @@ import static org.apache.paimon.CoreOptions.ChangelogProducer.FULL_COMPACTION;
 import static org.apache.paimon.CoreOptions.MergeEngine.DEDUPLICATE;
 import static org.apache.paimon.lookup.LookupStoreFactory.bfGenerator;
 import static org.apache.paimon.mergetree.LookupFile.localFilePrefix;
+import static org.apache.paimon.utils.ThreadPoolUtils.createCachedThreadPool;
 
 /** {@link FileStoreWrite} for {@link KeyValueFileStore}. */
 public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
@@ -110,6 +112,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final String commitUser;
     @Nullable private final RecordLevelExpire recordLevelExpire;
     @Nullable private Cache<String, LookupFile> lookupFileCache;
+    @Nullable private ExecutorService lookupFilePrebuildExecutor;
+    @Nullable private ExecutorService writeBufferFlushExecutor;
 
     public KeyValueFileStoreWrite(
             FileIO fileIO,
@@ -224,7 +228,21 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 options.commitForceCompact(),
                 options.changelogProducer(),
                 restoreIncrement,
-                UserDefinedSeqComparator.create(valueType, options));
+                UserDefinedSeqComparator.create(valueType, options),
+                writeBufferFlushExecutor());
+    }
+
+    @Nullable
+    private ExecutorService writeBufferFlushExecutor() {
+        int threads = options.writeBufferFlushThreads();
+        if (threads <= 0) {
+            return null;
+        }
+
+        if (writeBufferFlushExecutor == null) {
+            writeBufferFlushExecutor = createCachedThreadPool(threads, "write-buffer-flush");
+        }
+        return writeBufferFlushExecutor;
     }
 
     @VisibleForTesting
@@ -244,6 +262,11 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         } else {
             Comparator<InternalRow> keyComparator = keyComparatorSupplier.get();
             @Nullable FieldsComparator userDefinedSeqComparator = udsComparatorSupplier.get();
+            @Nullable
+            CompactionMetrics.Reporter metricsReporter =
+                    compactionMetrics == null
+                            ? null
+                            : compactionMetrics.createReporter(partition, bucket);
             CompactRewriter rewriter =
                     createRewriter(
                             partition,
@@ -251,7 +274,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             keyComparator,
                             userDefinedSeqComparator,
                             levels,
-                            dvMaintainer);
+                            dvMaintainer,
+                            metricsReporter);
             return new MergeTreeCompactManager(
                     compactExecutor,
                     levels,
@@ -260,9 +284,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                     options.compactionFileSize(true),
                     options.numSortedRunStopTrigger(),
                     rewriter,
-                    compactionMetrics == null
-                            ? null
-                            : compactionMetrics.createReporter(partition, bucket),
+                    metricsReporter,
                     dvMaintainer,
                     options.prepareCommitWaitCompaction());
         }
@@ -274,7 +296,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             Comparator<InternalRow> keyComparator,
             @Nullable FieldsComparator userDefinedSeqComparator,
             Levels levels,
-            @Nullable DeletionVectorsMaintainer dvMaintainer) {
+            @Nullable DeletionVectorsMaintainer dvMaintainer,
+            @Nullable CompactionMetrics.Reporter metricsReporter) {
         DeletionVector.Factory dvFactory = DeletionVector.factory(dvMaintainer);
         FileReaderFactory<KeyValue> readerFactory =
                 readerFactoryBuilder.build(partition, bucket, dvFactory);
@@ -333,7 +356,13 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             return new LookupMergeTreeCompactRewriter(
                     maxLevel,
                     mergeEngine,
-                    createLookupLevels(partition, bucket, levels, processor, lookupReaderFactory),
+                    createLookupLevels(
+                            partition,
+                            bucket,
+                            levels,
+                            processor,
+                            lookupReaderFactory,
+                            metricsReporter),
                     readerFactory,
                     writerFactory,
                     keyComparator,
@@ -360,7 +389,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             int bucket,
             Levels levels,
             LookupLevels.ValueProcessor<T> valueProcessor,
-            FileReaderFactory<KeyValue> readerFactory) {
+            FileReaderFactory<KeyValue> readerFactory,
+            @Nullable CompactionMetrics.Reporter metricsReporter) {
         if (ioManager == null) {
             throw new RuntimeException(
                     "Can not use lookup, there is no temp disk directory to use.");
@@ -378,19 +408,38 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             options.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
         }
         return new LookupLevels<>(
-                levels,
-                keyComparatorSupplier.get(),
-                keyType,
-                valueProcessor,
-                readerFactory::createRecordReader,
-                file ->
-                        ioManager
-                                .createChannel(
-                                        localFilePrefix(partitionType, partition, bucket, file))
-                                .getPathFile(),
-                lookupStoreFactory,
-                bfGenerator(options),
-                lookupFileCache);
+                        levels,
+                        keyComparatorSupplier.get(),
+                        keyType,
+                        valueProcessor,
+                        readerFactory::createRecordReader,
+                        file ->
+                                ioManager
+                                        .createChannel(
+                                                localFilePrefix(
+                                                        partitionType, partition, bucket, file))
+                                        .getPathFile(),
+                        lookupStoreFactory,
+                        bfGenerator(options),
+                        lookupFileCache)
+                .withPrebuildExecutor(lookupFilePrebuildExecutor())
+                .withMetricsReporter(metricsReporter);
+    }
+
+    @Nullable
+    private ExecutorService lookupFilePrebuildExecutor() {
+        // deletion vectors of the files may be updated by compaction while building
+        int threads = options.lookupCacheFilePrebuildThreads();
+        if (threads <= 0 || options.lookupStrategy().deletionVector) {
+            return null;
+        }
+
+        if (lookupFilePrebuildExecutor == null) {
+            lookupFilePrebuildExecutor =
+                    createCachedThreadPool(
+                            threads, "lookup-file-prebuild", LookupLevels.createPrebuildQueue());
+        }
+        return lookupFilePrebuildExecutor;
     }
 
     @Override
@@ -401,6 +450,12 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     @Override
     public void close() throws Exception {
         super.close();
+        if (lookupFilePrebuildExecutor != null) {
+            lookupFilePrebuildExecutor.shutdownNow();
+        }
+        if (writeBufferFlushExecutor != null) {
+            writeBufferFlushExecutor.shutdownNow();
+        }
         if (lookupFileCache != null) {
             lookupFileCache.invalidateAll();
         }
@@ -28,6 +28,7 @@ import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.partition.PartitionPredicate;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.Pair;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -43,7 +45,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
+import static org.apache.paimon.utils.ManifestReadThreadPool.randomlyExecuteSequentialReturn;
+import static org.apache.paimon.utils.ManifestReadThreadPool.sequentialBatchedExecute;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** Util for merging manifest files. */
@@ -65,8 +71,34 @@ public class ManifestFileMerger {
             long manifestFullCompactionSize,
             RowType partitionType,
             @Nullable Integer manifestReadParallelism) {
+        return merge(
+                input,
+                manifestFile,
+                suggestedMetaSize,
+                suggestedMinMetaCount,
+                manifestFullCompactionSize,
+                partitionType,
+                manifestReadParallelism,
+                null);
+    }
+
+    /**
+     * Merge several {@link ManifestFileMeta}s with multiple threads. The produced manifest files
+     * are the same as merging with a single thread.
+     *
+     * <p>NOTE: This method is atomic.
+     */
+    public static List<ManifestFileMeta> merge(
+            List<ManifestFileMeta> input,
+            ManifestFile manifestFile,
+            long suggestedMetaSize,
+            int suggestedMinMetaCount,
+            long manifestFullCompactionSize,
+            RowType partitionType,
+            @Nullable Integer manifestReadParallelism,
+            @Nullable Integer manifestWriteParallelism) {
         // these are the newly created manifest files, clean them up if exception occurs
-        List<ManifestFileMeta> newFilesForAbort = new ArrayList<>();
+        List<ManifestFileMeta> newFilesForAbort = Collections.synchronizedList(new ArrayList<>());
 
         try {
             Optional<List<ManifestFileMeta>> fullCompacted =
@@ -86,7 +118,8 @@ public class ManifestFileMerger {
                                     manifestFile,
                                     suggestedMetaSize,
                                     suggestedMinMetaCount,
-                                    manifestReadParallelism));
+                                    manifestReadParallelism,
+                                    manifestWriteParallelism));
         } catch (Throwable e) {
             // exception occurs, clean up and rethrow
             for (ManifestFileMeta manifest : newFilesForAbort) {
@@ -102,8 +135,11 @@ public class ManifestFileMerger {
             ManifestFile manifestFile,
             long suggestedMetaSize,
             int suggestedMinMetaCount,
-            @Nullable Integer manifestReadParallelism) {
-        List<ManifestFileMeta> result = new ArrayList<>();
+            @Nullable Integer manifestReadParallelism,
+            @Nullable Integer manifestWriteParallelism) {
+        // each group is either merged into new files or kept as it is, groups are independent
+        // from each other, so they can be merged in parallel and concatenated in order
+        List<List<ManifestFileMeta>> groups = new ArrayList<>();
         List<ManifestFileMeta> candidates = new ArrayList<>();
         long totalSize = 0;
         // merge existing small manifest files
@@ -112,45 +148,93 @@ public class ManifestFileMerger {
             candidates.add(manifest);
             if (totalSize >= suggestedMetaSize) {
                 // reach suggested file size, perform merging and produce new file
-                mergeCandidates(
-                        candidates,
-                        manifestFile,
-                        result,
-                        newFilesForAbort,
-                        manifestReadParallelism);
-                candidates.clear();
+                groups.add(candidates);
+                candidates = new ArrayList<>();
                 totalSize = 0;
             }
         }
 
         // merge the last bit of manifests if there are too many
         if (candidates.size() >= suggestedMinMetaCount) {
-            mergeCandidates(
-                    candidates, manifestFile, result, newFilesForAbort, manifestReadParallelism);
+            groups.add(candidates);
         } else {
-            result.addAll(candidates);
+            candidates.forEach(manifest -> groups.add(Collections.singletonList(manifest)));
+        }
+
+        if (manifestWriteParallelism == null || manifestWriteParallelism <= 1) {
+            List<ManifestFileMeta> result = new ArrayList<>();
+            for (List<ManifestFileMeta> group : groups) {
+                result.addAll(
+                        mergeCandidates(
+                                group, manifestFile, newFilesForAbort, manifestReadParallelism));
+            }
+            return result;
+        }
+
+        // merge the groups in parallel, each group reads its manifests in its own thread to not
+        // wait for the same thread pool, once aborted, running merges delete their own files
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        try {
+            List<ManifestFileMeta> result = new ArrayList<>();
+            randomlyExecuteSequentialReturn(
+                            group -> {
+                                if (aborted.get() || group.size() == 1) {
+                                    return group;
+                                }
+                                List<ManifestFileMeta> merged =
+                                        mergeCandidates(group, manifestFile);
+                                synchronized (newFilesForAbort) {
+                                    if (aborted.get()) {
+                                        merged.forEach(m -> manifestFile.delete(m.fileName()));
+                                    } else {
+                                        newFilesForAbort.addAll(merged);
+                                    }
+                                }
+                                return merged;
+                            },
+                            groups,
+                            manifestWriteParallelism)
+                    .forEachRemaining(result::add);
+            return result;
+        } catch (Throwable e) {
+            synchronized (newFilesForAbort) {
+                aborted.set(true);
+            }
+            throw e;
         }
-        return result;
     }
 
-    private static void mergeCandidates(
+    private static List<ManifestFileMeta> mergeCandidates(
             List<ManifestFileMeta> candidates,
             ManifestFile manifestFile,
-            List<ManifestFileMeta> result,
             List<ManifestFileMeta> newMetas,
             @Nullable Integer manifestReadParallelism) {
         if (candidates.size() == 1) {
-            result.add(candidates.get(0));
-            return;
+            return candidates;
         }
 
         Map<FileEntry.Identifier, ManifestEntry> map = new LinkedHashMap<>();
         FileEntry.mergeEntries(manifestFile, candidates, map, manifestReadParallelism);
-        if (!map.isEmpty()) {
-            List<ManifestFileMeta> merged = manifestFile.write(new ArrayList<>(map.values()));
-            result.addAll(merged);
-            newMetas.addAll(merged);
+        if (map.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ManifestFileMeta> merged = manifestFile.write(new ArrayList<>(map.values()));
+        newMetas.addAll(merged);
+        return merged;
+    }
+
+    /** Merge the candidates reading the manifests in the current thread. */
+    private static List<ManifestFileMeta> mergeCandidates(
+            List<ManifestFileMeta> candidates, ManifestFile manifestFile) {
+        Map<FileEntry.Identifier, ManifestEntry> map = new LinkedHashMap<>();
+        for (ManifestFileMeta candidate : candidates) {
+            FileEntry.mergeEntries(
+                    manifestFile.read(candidate.fileName(), candidate.fileSize()), map);
+        }
+        if (map.isEmpty()) {
+            return Collections.emptyList();
         }
+        return manifestFile.write(new ArrayList<>(map.values()));
     }
 
     public static Optional<List<ManifestFileMeta>> tryFullCompaction(
@@ -229,29 +313,38 @@ public class ManifestFileMerger {
             return Optional.empty();
         }
 
+        // read and filter the files with multiple threads, write them in order with a single
+        // writer, so that the produced files do not depend on the parallelism
+        Function<ManifestFileMeta, List<Pair<ManifestFileMeta, List<ManifestEntry>>>> processor =
+                file -> {
+                    List<ManifestEntry> entries = new ArrayList<>();
+                    boolean requireChange = mustChange.test(file);
+                    for (ManifestEntry entry :
+                            manifestFile.read(file.fileName(), file.fileSize())) {
+                        if (entry.kind() == FileKind.DELETE) {
+                            continue;
+                        }
+
+                        if (deleteEntries.contains(entry.identifier())) {
+                            requireChange = true;
+                        } else {
+                            entries.add(entry);
+                        }
+                    }
+                    return Collections.singletonList(Pair.of(file, requireChange ? entries : null));
+                };
+
         RollingFileWriter<ManifestEntry, ManifestFileMeta> writer =
                 manifestFile.createRollingWriter();
         Exception exception = null;
         try {
-            for (ManifestFileMeta file : toBeMerged) {
-                List<ManifestEntry> entries = new ArrayList<>();
-                boolean requireChange = mustChange.test(file);
-                for (ManifestEntry entry : manifestFile.read(file.fileName(), file.fileSize())) {
-                    if (entry.kind() == FileKind.DELETE) {
-                        continue;
-                    }
-
-                    if (deleteEntries.contains(entry.identifier())) {
-                        requireChange = true;
-                    } else {
-                        entries.add(entry);
-                    }
-                }
-
-                if (requireChange) {
-                    writer.write(entries);
+            for (Pair<ManifestFileMeta, List<ManifestEntry>> filtered :
+                    sequentialBatchedExecute(
+                            processor, new ArrayList<>(toBeMerged), manifestReadParallelism)) {
+                if (filtered.getRight() != null) {
+                    writer.write(filtered.getRight());
                 } else {
-                    result.add(file);
+                    result.add(filtered.getLeft());
                 }
             }
         } catch (Exception e) {
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.stats.SimpleStats;
+import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The merged live {@link ManifestEntry}s of the latest planned snapshot of a table. To plan a newer
+ * snapshot, only the delta manifests of the snapshots in between are read and applied to the state,
+ * so that the planning cost depends on the amount of changes instead of the table size.
+ *
+ * <p>The state holds at most {@code maxFiles} entries of at most {@code maxMemorySize} estimated
+ * bytes. Once the table grows beyond it, the state is dropped and planning falls back to reading
+ * all manifests. The state is rebuilt by a full plan once the planned snapshot is more than {@code
+ * maxDeltaSnapshots} snapshots away, since the table may have shrunk in between.
+ */
+@ThreadSafe
+public class PlanState {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PlanState.class);
+
+    private final SnapshotManager snapshotManager;
+    private final ManifestList.Factory manifestListFactory;
+    private final ManifestFile.Factory manifestFileFactory;
+    private final long maxFiles;
+    private final long maxMemorySize;
+    private final int maxDeltaSnapshots;
+    @Nullable private final Integer parallelism;
+
+    @Nullable private Snapshot snapshot;
+    @Nullable private Map<Identifier, ManifestEntry> files;
+    @Nullable private Long exceededSnapshotId;
+
+    public PlanState(
+            SnapshotManager snapshotManager,
+            ManifestList.Factory manifestListFactory,
+            ManifestFile.Factory manifestFileFactory,
+            long maxFiles,
+            long maxMemorySize,
+            int maxDeltaSnapshots,
+            @Nullable Integer parallelism) {
+        this.snapshotManager = snapshotManager;
+        this.manifestListFactory = manifestListFactory;
+        this.manifestFileFactory = manifestFileFactory;
+        this.maxFiles = maxFiles;
+        this.maxMemorySize = maxMemorySize;
+        this.maxDeltaSnapshots = maxDeltaSnapshots;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Read the live files of the given snapshot which pass the filter.
+     *
+     * @return null if the state can not serve this snapshot, the caller should read manifests
+     */
+    @Nullable
+    public synchronized Result read(Snapshot target, Filter<ManifestEntry> filter) {
+        if (snapshot != null && target.id() < snapshot.id()) {
+            // do not move the state backwards for time travel
+            return null;
+        }
+        if (exceededSnapshotId != null && target.id() - exceededSnapshotId <= maxDeltaSnapshots) {
+            // do not rebuild an exceeded state for every plan
+            return null;
+        }
+
+        int scannedManifests = 0;
+        if (snapshot == null || target.id() - snapshot.id() > maxDeltaSnapshots) {
+            scannedManifests = load(target);
+        } else if (target.id() > snapshot.id()) {
+            try {
+                scannedManifests = applyDeltas(target);
+            } catch (FileNotFoundException e) {
+                LOG.info(
+                        "Snapshots between {} and {} have been expired, reload plan state.",
+                        snapshot.id(),
+                        target.id());
+                scannedManifests = load(target);
+            } catch (Throwable t) {
+                reset();
+                throw t;
+            }
+        }
+
+        if (files == null) {
+            return null;
+        }
+
+        List<ManifestEntry> result = new ArrayList<>();
+        for (ManifestEntry entry : files.values()) {
+            if (entry.kind() == FileKind.ADD && filter.test(entry)) {
+                result.add(entry);
+            }
+        }
+        return new Result(snapshot, files.size(), scannedManifests, result);
+    }
+
+    public synchronized void reset() {
+        this.snapshot = null;
+        this.files = null;
+    }
+
+    private int load(Snapshot target) {
+        reset();
+        List<ManifestFileMeta> manifests = manifestListFactory.create().readDataManifests(target);
+        Map<Identifier, ManifestEntry> newFiles = new LinkedHashMap<>();
+        FileEntry.mergeEntries(manifestFileFactory.create(), manifests, newFiles, parallelism);
+        if (!checkSize(target, newFiles)) {
+            return manifests.size();
+        }
+
+        this.exceededSnapshotId = null;
+        this.snapshot = target;
+        this.files = newFiles;
+        return manifests.size();
+    }
+
+    private int applyDeltas(Snapshot target) throws FileNotFoundException {
+        ManifestList manifestList = manifestListFactory.create();
+        ManifestFile manifestFile = manifestFileFactory.create();
+        int scannedManifests = 0;
+        for (long id = snapshot.id() + 1; id <= target.id(); id++) {
+            Snapshot delta = id == target.id() ? target : snapshotManager.tryGetSnapshot(id);
+            List<ManifestFileMeta> manifests = manifestList.readDeltaManifests(delta);
+            FileEntry.mergeEntries(manifestFile, manifests, files, parallelism);
+            scannedManifests += manifests.size();
+            this.snapshot = delta;
+        }
+
+        if (!checkSize(target, files)) {
+            reset();
+        }
+        return scannedManifests;
+    }
+
+    private boolean checkSize(Snapshot target, Map<Identifier, ManifestEntry> files) {
+        if (files.size() > maxFiles) {
+            LOG.info(
+                    "The number of live files {} of snapshot {} exceeds the max files {} of plan "
+                            + "state, drop plan state.",
+                    files.size(),
+                    target.id(),
+                    maxFiles);
+            exceededSnapshotId = target.id();
+            return false;
+        }
+
+        long memorySize = 0;
+        for (ManifestEntry entry : files.values()) {
+            memorySize += estimateMemorySize(entry);
+        }
+        if (memorySize > maxMemorySize) {
+            LOG.info(
+                    "The estimated memory size {} of the live files of snapshot {} exceeds the max "
+                            + "memory size {} of plan state, drop plan state.",
+                    memorySize,
+                    target.id(),
+                    maxMemorySize);
+            exceededSnapshotId = target.id();
+            return false;
+        }
+        return true;
+    }
+
+    /** Estimates the heap bytes of an entry, dominated by its keys and statistics. */
+    private static long estimateMemorySize(ManifestEntry entry) {
+        DataFileMeta file = entry.file();
+        // object headers and fields of the entry, its identifier, file meta and map node
+        long size = 512;
+        size += entry.partition().getSizeInBytes();
+        size += file.fileName().length();
+        size += file.minKey().getSizeInBytes() + file.maxKey().getSizeInBytes();
+        size += estimateMemorySize(file.keyStats()) + estimateMemorySize(file.valueStats());
+        for (String extraFile : file.extraFiles()) {
+            size += extraFile.length();
+        }
+        if (file.embeddedIndex() != null) {
+            size += file.embeddedIndex().length;
+        }
+        return size;
+    }
+
+    private static long estimateMemorySize(SimpleStats stats) {
+        return stats.minValues().getSizeInBytes()
+                + stats.maxValues().getSizeInBytes()
+                + stats.nullCounts().getSizeInBytes();
+    }
+
+    /** Result of reading {@link PlanState}. */
+    public static class Result {
+
+        public final Snapshot snapshot;
+        public final long totalFiles;
+        public final int scannedManifests;
+        public final List<ManifestEntry> files;
+
+        public Result(
+                Snapshot snapshot,
+                long totalFiles,
+                int scannedManifests,
+                List<ManifestEntry> files) {
+            this.snapshot = snapshot;
+            this.totalFiles = totalFiles;
+            this.scannedManifests = scannedManifests;
+            this.files = files;
+        }
+    }
+}
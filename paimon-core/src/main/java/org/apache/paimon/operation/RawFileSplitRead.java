@@ -152,8 +152,9 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         List<ReaderSupplier<InternalRow>> suppliers = new ArrayList<>();
 
         List<DataField> readTableFields = readRowType.getFields();
+        // files are read without merging, so the filters are exact and may filter single rows
         Builder formatReaderMappingBuilder =
-                new Builder(formatDiscover, readTableFields, TableSchema::fields, filters);
+                new Builder(formatDiscover, readTableFields, TableSchema::fields, filters, true);
 
         for (int i = 0; i < files.size(); i++) {
             DataFileMeta file = files.get(i);
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.index.HashBucketAssigner;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics for dynamic bucket assigner. */
+public class BucketAssignerMetrics {
+
+    private static final String GROUP_NAME = "bucketAssigner";
+
+    public static final String INDEX_HIT_RATE = "indexHitRate";
+    public static final String INDEX_MEMORY_SIZE = "indexMemorySizeByte";
+    public static final String NUM_PARTITIONS = "numPartitions";
+    public static final String NUM_SPILLED_PARTITIONS = "numSpilledPartitions";
+
+    private final MetricGroup metricGroup;
+
+    public BucketAssignerMetrics(
+            MetricRegistry registry, String tableName, HashBucketAssigner assigner) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(INDEX_HIT_RATE, assigner::hitRate);
+        metricGroup.gauge(INDEX_MEMORY_SIZE, assigner::usedIndexMemory);
+        metricGroup.gauge(NUM_PARTITIONS, assigner::numPartitions);
+        metricGroup.gauge(NUM_SPILLED_PARTITIONS, assigner::numSpilledPartitions);
+    }
+
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -47,6 +47,16 @@ public class CommitMetrics {
     @VisibleForTesting static final String LAST_COMMIT_DURATION = "lastCommitDuration";
     @VisibleForTesting static final String COMMIT_DURATION = "commitDuration";
     @VisibleForTesting static final String LAST_COMMIT_ATTEMPTS = "lastCommitAttempts";
+
+    @VisibleForTesting
+    static final String LAST_CONFLICT_CHECK_DURATION = "lastConflictCheckDuration";
+
+    @VisibleForTesting static final String LAST_RETRY_WAIT_DURATION = "lastRetryWaitDuration";
+
+    @VisibleForTesting
+    static final String LAST_MANIFEST_WRITE_DURATION = "lastManifestWriteDuration";
+
+    @VisibleForTesting static final String LAST_MANIFEST_BYTES_WRITTEN = "lastManifestBytesWritten";
     @VisibleForTesting static final String LAST_TABLE_FILES_ADDED = "lastTableFilesAdded";
     @VisibleForTesting static final String LAST_TABLE_FILES_DELETED = "lastTableFilesDeleted";
     @VisibleForTesting static final String LAST_TABLE_FILES_APPENDED = "lastTableFilesAppended";
@@ -84,6 +94,18 @@ public class CommitMetrics {
                 LAST_COMMIT_DURATION, () -> latestCommit == null ? 0L : latestCommit.getDuration());
         metricGroup.gauge(
                 LAST_COMMIT_ATTEMPTS, () -> latestCommit == null ? 0L : latestCommit.getAttempts());
+        metricGroup.gauge(
+                LAST_CONFLICT_CHECK_DURATION,
+                () -> latestCommit == null ? 0L : latestCommit.getConflictCheckDuration());
+        metricGroup.gauge(
+                LAST_RETRY_WAIT_DURATION,
+                () -> latestCommit == null ? 0L : latestCommit.getRetryWaitDuration());
+        metricGroup.gauge(
+                LAST_MANIFEST_WRITE_DURATION,
+                () -> latestCommit == null ? 0L : latestCommit.getManifestWriteDuration());
+        metricGroup.gauge(
+                LAST_MANIFEST_BYTES_WRITTEN,
+                () -> latestCommit == null ? 0L : latestCommit.getManifestBytesWritten());
         metricGroup.gauge(
                 LAST_GENERATED_SNAPSHOTS,
                 () -> latestCommit == null ? 0L : latestCommit.getGeneratedSnapshots());
@@ -54,6 +54,10 @@ public class CommitStats {
     private final long generatedSnapshots;
     private final long numPartitionsWritten;
     private final long numBucketsWritten;
+    private final long conflictCheckDuration;
+    private final long retryWaitDuration;
+    private final long manifestWriteDuration;
+    private final long manifestBytesWritten;
 
     public CommitStats(
             List<ManifestEntry> appendTableFiles,
@@ -62,7 +66,11 @@ public class CommitStats {
             List<ManifestEntry> compactChangelogFiles,
             long commitDuration,
             int generatedSnapshots,
-            int attempts) {
+            int attempts,
+            long conflictCheckDuration,
+            long retryWaitDuration,
+            long manifestWriteDuration,
+            long manifestBytesWritten) {
         List<ManifestEntry> addedTableFiles = new ArrayList<>(appendTableFiles);
         List<ManifestEntry> compactAfterFiles =
                 compactTableFiles.stream()
@@ -101,6 +109,10 @@ public class CommitStats {
         this.duration = commitDuration;
         this.generatedSnapshots = generatedSnapshots;
         this.attempts = attempts;
+        this.conflictCheckDuration = conflictCheckDuration;
+        this.retryWaitDuration = retryWaitDuration;
+        this.manifestWriteDuration = manifestWriteDuration;
+        this.manifestBytesWritten = manifestBytesWritten;
     }
 
     @VisibleForTesting
@@ -227,4 +239,24 @@ public class CommitStats {
     public long getCompactionOutputFileSize() {
         return compactionOutputFileSize;
     }
+
+    @VisibleForTesting
+    protected long getConflictCheckDuration() {
+        return conflictCheckDuration;
+    }
+
+    @VisibleForTesting
+    protected long getRetryWaitDuration() {
+        return retryWaitDuration;
+    }
+
+    @VisibleForTesting
+    protected long getManifestWriteDuration() {
+        return manifestWriteDuration;
+    }
+
+    @VisibleForTesting
+    protected long getManifestBytesWritten() {
+        return manifestBytesWritten;
+    }
 }
@@ -48,6 +48,7 @@ public class CompactionMetrics {
     public static final String MAX_COMPACTION_OUTPUT_SIZE = "maxCompactionOutputSize";
     public static final String AVG_COMPACTION_INPUT_SIZE = "avgCompactionInputSize";
     public static final String AVG_COMPACTION_OUTPUT_SIZE = "avgCompactionOutputSize";
+    public static final String LOOKUP_FILE_BUILD_WAIT_TIME = "lookupFileBuildWaitTime";
     private static final long BUSY_MEASURE_MILLIS = 60_000;
     private static final int COMPACTION_TIME_WINDOW = 100;
 
@@ -57,6 +58,7 @@ public class CompactionMetrics {
     private final Queue<Long> compactionTimes;
     private Counter compactionsCompletedCounter;
     private Counter compactionsQueuedCounter;
+    private Counter lookupFileBuildWaitTimeCounter;
 
     public CompactionMetrics(MetricRegistry registry, String tableName) {
         this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
@@ -93,6 +95,7 @@ public class CompactionMetrics {
 
         compactionsCompletedCounter = metricGroup.counter(COMPACTION_COMPLETED_COUNT);
         compactionsQueuedCounter = metricGroup.counter(COMPACTION_QUEUED_COUNT);
+        lookupFileBuildWaitTimeCounter = metricGroup.counter(LOOKUP_FILE_BUILD_WAIT_TIME);
     }
 
     private LongStream getLevel0FileCountStream() {
@@ -139,6 +142,8 @@ public class CompactionMetrics {
 
         void reportCompactionOutputSize(long bytes);
 
+        void reportLookupFileBuildWaitTime(long millis);
+
         void unregister();
     }
 
@@ -201,6 +206,11 @@ public class CompactionMetrics {
             compactionsQueuedCounter.dec();
         }
 
+        @Override
+        public void reportLookupFileBuildWaitTime(long millis) {
+            lookupFileBuildWaitTimeCounter.inc(millis);
+        }
+
         @Override
         public void unregister() {
             reporters.remove(key);
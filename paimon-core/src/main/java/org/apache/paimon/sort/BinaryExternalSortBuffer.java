@@ -214,6 +214,16 @@ public class BinaryExternalSortBuffer implements SortBuffer {
         }
     }
 
+    /**
+     * Spills the records in memory if some records are already spilled, so that {@link
+     * #sortedIterator()} only reads the spilled files and does not release any memory.
+     */
+    public void completeSpilling() throws IOException {
+        if (!spillChannelIDs.isEmpty()) {
+            spill();
+        }
+    }
+
     @Override
     public final MutableObjectIterator<BinaryRow> sortedIterator() throws IOException {
         if (spillChannelIDs.isEmpty()) {
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.stats;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.InternalRowUtils;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Extracts exact statistics of a column in a {@link DataSplit} from the value stats of its data
+ * files, so that MIN, MAX and COUNT of the column can be answered without reading the files.
+ *
+ * <p>The stats of a split are only exact if the split is raw convertible (no merging is needed),
+ * has no deletion files and all of its files are written with the given schema. Besides, min and
+ * max of string and binary columns are never exact because they may be truncated according to
+ * {@code metadata.stats-mode}, min and max of floating point columns are not used because the
+ * file formats ignore NaN in their statistics.
+ */
+public class SplitColumnStatsExtractor {
+
+    private final long schemaId;
+    private final RowType rowType;
+    private final SimpleStatsEvolution evolution;
+
+    public SplitColumnStatsExtractor(TableSchema schema) {
+        this.schemaId = schema.id();
+        this.rowType = schema.logicalRowType();
+        this.evolution = new SimpleStatsEvolution(rowType, null, null);
+    }
+
+    /** Whether min and max of the type may be answered from the stats. */
+    public static boolean supportsMinMax(DataType type) {
+        switch (type.getTypeRoot()) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case DECIMAL:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the exact stats of the field in the split, or null if the split must be read to know
+     * them.
+     */
+    @Nullable
+    public ColumnStats extract(DataSplit split, int fieldIndex) {
+        if (!split.rawConvertible()) {
+            return null;
+        }
+        Optional<List<DeletionFile>> deletionFiles = split.deletionFiles();
+        if (deletionFiles.isPresent() && deletionFiles.get().stream().anyMatch(f -> f != null)) {
+            return null;
+        }
+
+        DataType type = rowType.getTypeAt(fieldIndex);
+        InternalRow.FieldGetter getter = InternalRow.createFieldGetter(type, fieldIndex);
+        boolean minMaxAvailable = supportsMinMax(type);
+        long nonNullCount = 0;
+        Object min = null;
+        Object max = null;
+        for (DataFileMeta file : split.dataFiles()) {
+            if (file.schemaId() != schemaId) {
+                return null;
+            }
+
+            SimpleStatsEvolution.Result stats =
+                    evolution.evolution(file.valueStats(), file.rowCount(), file.valueStatsCols());
+            if (stats.nullCounts().isNullAt(fieldIndex)) {
+                return null;
+            }
+            long fileNonNullCount = file.rowCount() - stats.nullCounts().getLong(fieldIndex);
+            nonNullCount += fileNonNullCount;
+            if (!minMaxAvailable || fileNonNullCount == 0) {
+                continue;
+            }
+
+            Object fileMin = getter.getFieldOrNull(stats.minValues());
+            Object fileMax = getter.getFieldOrNull(stats.maxValues());
+            if (fileMin == null || fileMax == null) {
+                minMaxAvailable = false;
+                continue;
+            }
+            if (min == null || InternalRowUtils.compare(fileMin, min, type.getTypeRoot()) < 0) {
+                min = fileMin;
+            }
+            if (max == null || InternalRowUtils.compare(fileMax, max, type.getTypeRoot()) > 0) {
+                max = fileMax;
+            }
+        }
+
+        return minMaxAvailable
+                ? new ColumnStats(nonNullCount, min, max, true)
+                : new ColumnStats(nonNullCount, null, null, false);
+    }
+
+    /** Exact statistics of a column. */
+    public static class ColumnStats {
+
+        private final long nonNullCount;
+        @Nullable private final Object min;
+        @Nullable private final Object max;
+        private final boolean minMaxAvailable;
+
+        public ColumnStats(
+                long nonNullCount,
+                @Nullable Object min,
+                @Nullable Object max,
+                boolean minMaxAvailable) {
+            this.nonNullCount = nonNullCount;
+            this.min = min;
+            this.max = max;
+            this.minMaxAvailable = minMaxAvailable;
+        }
+
+        public long nonNullCount() {
+            return nonNullCount;
+        }
+
+        /** Whether {@link #min()} and {@link #max()} are exact. */
+        public boolean minMaxAvailable() {
+            return minMaxAvailable;
+        }
+
+        /** Min value in internal data structure, null if all the values are null. */
+        @Nullable
+        public Object min() {
+            return min;
+        }
+
+        /** Max value in internal data structure, null if all the values are null. */
+        @Nullable
+        public Object max() {
+            return max;
+        }
+    }
+}
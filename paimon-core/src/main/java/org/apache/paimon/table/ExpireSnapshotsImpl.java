@@ -256,6 +256,7 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         }
 
         writeEarliestHint(endExclusiveId);
+        snapshotManager.expireTimeline(earliestId, endExclusiveId);
         return (int) (endExclusiveId - beginInclusiveId);
     }
 
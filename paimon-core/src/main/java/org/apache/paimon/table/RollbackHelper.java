@@ -113,6 +113,8 @@ public class RollbackHelper {
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+        // timeline segments of the deleted snapshots are written again by new commits
+        snapshotManager.deleteTimeline(retainedSnapshot.id() + 1, latest);
 
         // delete snapshot files first, cannot be read now
         // it is possible that some snapshots have been expired
@@ -45,14 +45,18 @@ import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.CoreOptions.MergeEngine.DEDUPLICATE;
@@ -83,6 +87,15 @@ public class LocalTableQuery implements TableQuery {
 
     @Nullable private Filter<InternalRow> cacheRowFilter;
 
+    private final InternalRowSerializer keySerializer;
+
+    /** Lookup results of hot keys, only valid while the version of their bucket is unchanged. */
+    @Nullable private final Cache<ResultCacheKey, CachedResult> resultCache;
+
+    private final Map<BinaryRow, Map<Integer, Long>> bucketVersions;
+
+    @Nullable private InternalRowSerializer valueSerializer;
+
     public LocalTableQuery(FileStoreTable table) {
         this.options = table.coreOptions();
         this.tableView = new HashMap<>();
@@ -98,6 +111,16 @@ public class LocalTableQuery implements TableQuery {
         this.partitionType = table.schema().logicalPartitionType();
         RowType keyType = readerFactoryBuilder.keyType();
         this.keyComparatorSupplier = new KeyComparatorSupplier(readerFactoryBuilder.keyType());
+        this.keySerializer = InternalSerializers.create(keyType);
+        this.bucketVersions = new HashMap<>();
+        int resultCacheRows = options.lookupResultCacheRows();
+        this.resultCache =
+                resultCacheRows > 0
+                        ? Caffeine.newBuilder()
+                                .maximumSize(resultCacheRows)
+                                .executor(Runnable::run)
+                                .build()
+                        : null;
         this.lookupStoreFactory =
                 LookupStoreFactory.create(
                         options,
@@ -124,11 +147,17 @@ public class LocalTableQuery implements TableQuery {
         }
     }
 
-    public void refreshFiles(
+    public synchronized void refreshFiles(
             BinaryRow partition,
             int bucket,
             List<DataFileMeta> beforeFiles,
             List<DataFileMeta> dataFiles) {
+        if (resultCache != null) {
+            // cached results of this bucket become stale, they are evicted as the cache fills up
+            bucketVersions
+                    .computeIfAbsent(partition.copy(), k -> new HashMap<>())
+                    .merge(bucket, 1L, Long::sum);
+        }
         LookupLevels<KeyValue> lookupLevels =
                 tableView.computeIfAbsent(partition, k -> new HashMap<>()).get(bucket);
         if (lookupLevels == null) {
@@ -187,16 +216,98 @@ public class LocalTableQuery implements TableQuery {
     @Override
     public synchronized InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
             throws IOException {
-        Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
-        if (buckets == null || buckets.isEmpty()) {
+        LookupLevels<KeyValue> lookupLevels = lookupLevels(partition, bucket);
+        if (lookupLevels == null) {
             return null;
         }
-        LookupLevels<KeyValue> lookupLevels = buckets.get(bucket);
+
+        if (resultCache == null) {
+            return toValue(lookupLevels.lookup(key, startLevel));
+        }
+
+        ResultCacheKey cacheKey = cacheKey(partition, bucket, key);
+        CachedResult cached = resultCache.getIfPresent(cacheKey);
+        if (cached == null) {
+            cached = cacheResult(cacheKey, toValue(lookupLevels.lookup(key, startLevel)));
+        }
+        return cached.value;
+    }
+
+    @Override
+    public synchronized List<InternalRow> lookup(
+            BinaryRow partition, int bucket, List<InternalRow> keys) throws IOException {
+        LookupLevels<KeyValue> lookupLevels = lookupLevels(partition, bucket);
         if (lookupLevels == null) {
+            return new ArrayList<>(Collections.nCopies(keys.size(), null));
+        }
+
+        if (resultCache == null) {
+            List<KeyValue> kvs = lookupLevels.lookup(keys, startLevel);
+            List<InternalRow> values = new ArrayList<>(kvs.size());
+            for (KeyValue kv : kvs) {
+                values.add(toValue(kv));
+            }
+            return values;
+        }
+
+        List<InternalRow> values = new ArrayList<>(keys.size());
+        List<ResultCacheKey> missedCacheKeys = new ArrayList<>();
+        List<InternalRow> missedKeys = new ArrayList<>();
+        List<Integer> missedPositions = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            ResultCacheKey cacheKey = cacheKey(partition, bucket, keys.get(i));
+            CachedResult cached = resultCache.getIfPresent(cacheKey);
+            if (cached == null) {
+                values.add(null);
+                missedCacheKeys.add(cacheKey);
+                missedKeys.add(cacheKey.key);
+                missedPositions.add(i);
+            } else {
+                values.add(cached.value);
+            }
+        }
+
+        if (!missedKeys.isEmpty()) {
+            List<KeyValue> kvs = lookupLevels.lookup(missedKeys, startLevel);
+            for (int i = 0; i < kvs.size(); i++) {
+                CachedResult cached = cacheResult(missedCacheKeys.get(i), toValue(kvs.get(i)));
+                values.set(missedPositions.get(i), cached.value);
+            }
+        }
+        return values;
+    }
+
+    private ResultCacheKey cacheKey(BinaryRow partition, int bucket, InternalRow key) {
+        long version = 0;
+        Map<Integer, Long> versions = bucketVersions.get(partition);
+        if (versions != null) {
+            version = versions.getOrDefault(bucket, 0L);
+        }
+        return new ResultCacheKey(
+                partition.copy(), bucket, version, keySerializer.toBinaryRow(key).copy());
+    }
+
+    private CachedResult cacheResult(ResultCacheKey cacheKey, @Nullable InternalRow value) {
+        if (valueSerializer == null) {
+            valueSerializer = createValueSerializer();
+        }
+        CachedResult cached =
+                new CachedResult(value == null ? null : valueSerializer.toBinaryRow(value).copy());
+        Preconditions.checkNotNull(resultCache).put(cacheKey, cached);
+        return cached;
+    }
+
+    @Nullable
+    private LookupLevels<KeyValue> lookupLevels(BinaryRow partition, int bucket) {
+        Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
+        if (buckets == null || buckets.isEmpty()) {
             return null;
         }
+        return buckets.get(bucket);
+    }
 
-        KeyValue kv = lookupLevels.lookup(key, startLevel);
+    @Nullable
+    private static InternalRow toValue(@Nullable KeyValue kv) {
         if (kv == null || kv.valueKind().isRetract()) {
             return null;
         } else {
@@ -205,8 +316,13 @@ public class LocalTableQuery implements TableQuery {
     }
 
     @Override
-    public LocalTableQuery withValueProjection(int[] projection) {
+    public synchronized LocalTableQuery withValueProjection(int[] projection) {
         this.readerFactoryBuilder.withReadValueType(rowType.project(projection));
+        this.valueSerializer = null;
+        if (resultCache != null) {
+            // cached results are of the previous projection
+            resultCache.invalidateAll();
+        }
         return this;
     }
 
@@ -237,6 +353,55 @@ public class LocalTableQuery implements TableQuery {
         if (lookupFileCache != null) {
             lookupFileCache.invalidateAll();
         }
+        if (resultCache != null) {
+            resultCache.invalidateAll();
+        }
         tableView.clear();
     }
+
+    /** Key of a cached lookup result. */
+    private static class ResultCacheKey {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final long bucketVersion;
+        private final BinaryRow key;
+
+        private ResultCacheKey(BinaryRow partition, int bucket, long bucketVersion, BinaryRow key) {
+            this.partition = partition;
+            this.bucket = bucket;
+            this.bucketVersion = bucketVersion;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResultCacheKey that = (ResultCacheKey) o;
+            return bucket == that.bucket
+                    && bucketVersion == that.bucketVersion
+                    && partition.equals(that.partition)
+                    && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, bucket, bucketVersion, key);
+        }
+    }
+
+    /** A cached lookup result, the value is null if the key does not exist. */
+    private static class CachedResult {
+
+        @Nullable private final InternalRow value;
+
+        private CachedResult(@Nullable InternalRow value) {
+            this.value = value;
+        }
+    }
 }
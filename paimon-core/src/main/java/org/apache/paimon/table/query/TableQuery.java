@@ -26,6 +26,8 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /** A query of Table to perform lookup. */
 public interface TableQuery extends Closeable {
@@ -37,4 +39,17 @@ public interface TableQuery extends Closeable {
 
     @Nullable
     InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException;
+
+    /**
+     * Lookup multiple keys of the same partition and bucket, the returned list has the same order
+     * as the keys and contains null for the keys which are not found.
+     */
+    default List<InternalRow> lookup(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        List<InternalRow> values = new ArrayList<>(keys.size());
+        for (InternalRow key : keys) {
+            values.add(lookup(partition, bucket, key));
+        }
+        return values;
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.operation.DefaultValueAssigner;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateProjectionConverter;
+import org.apache.paimon.reader.PredicateFilterRecordReader;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.RowType;
@@ -116,7 +117,6 @@ public abstract class AbstractDataTableRead<T> implements InnerTableRead {
             predicate = optional.get();
         }
 
-        Predicate finalFilter = predicate;
-        return reader.filter(finalFilter::test);
+        return new PredicateFilterRecordReader(reader, predicate);
     }
 }
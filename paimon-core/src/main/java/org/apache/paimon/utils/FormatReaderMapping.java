@@ -130,16 +130,32 @@ public class FormatReaderMapping {
         private final List<DataField> readTableFields;
         private final Function<TableSchema, List<DataField>> fieldsExtractor;
         @Nullable private final List<Predicate> filters;
+        private final boolean filterRows;
 
         public Builder(
                 FileFormatDiscover formatDiscover,
                 List<DataField> readTableFields,
                 Function<TableSchema, List<DataField>> fieldsExtractor,
                 @Nullable List<Predicate> filters) {
+            this(formatDiscover, readTableFields, fieldsExtractor, filters, false);
+        }
+
+        /**
+         * @param filterRows whether the filters are exact for the read, so that the format readers
+         *     may drop single rows not matching them. Merge reads must not drop rows since an old
+         *     record may be needed to merge with a newer one.
+         */
+        public Builder(
+                FileFormatDiscover formatDiscover,
+                List<DataField> readTableFields,
+                Function<TableSchema, List<DataField>> fieldsExtractor,
+                @Nullable List<Predicate> filters,
+                boolean filterRows) {
             this.formatDiscover = formatDiscover;
             this.readTableFields = readTableFields;
             this.fieldsExtractor = fieldsExtractor;
             this.filters = filters;
+            this.filterRows = filterRows;
         }
 
         /**
@@ -186,6 +202,10 @@ public class FormatReaderMapping {
 
             // build read filters
             List<Predicate> readFilters = readFilters(filters, tableSchema, dataSchema);
+            // filters devolved to an old schema may be inexact for the file, for example after
+            // changing the type of a field, so only files of the table schema filter rows
+            List<Predicate> rowFilters =
+                    filterRows && tableSchema.id() == dataSchema.id() ? readFilters : null;
 
             return new FormatReaderMapping(
                     indexCastMapping.getIndexMapping(),
@@ -194,7 +214,7 @@ public class FormatReaderMapping {
                     partitionMapping,
                     formatDiscover
                             .discover(formatIdentifier)
-                            .createReaderFactory(readRowType, readFilters),
+                            .createReaderFactory(readRowType, readFilters, rowFilters),
                     dataSchema,
                     readFilters);
         }
@@ -25,7 +25,6 @@ import org.apache.paimon.data.Segments;
 import org.apache.paimon.data.SimpleCollectingOutputView;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.memory.MemorySegment;
-import org.apache.paimon.memory.MemorySegmentSource;
 import org.apache.paimon.operation.metrics.CacheMetrics;
 import org.apache.paimon.types.RowType;
 
@@ -43,11 +42,11 @@ import static org.apache.paimon.utils.ObjectsFile.readFromIterator;
 @ThreadSafe
 public class ObjectsCache<K, V> {
 
-    private final SegmentsCache<K> cache;
-    private final ObjectSerializer<V> projectedSerializer;
-    private final ThreadLocal<InternalRowSerializer> formatSerializer;
-    private final FunctionWithIOException<K, Long> fileSizeFunction;
-    private final BiFunctionWithIOE<K, Long, CloseableIterator<InternalRow>> reader;
+    protected final SegmentsCache<K> cache;
+    protected final ObjectSerializer<V> projectedSerializer;
+    protected final ThreadLocal<InternalRowSerializer> formatSerializer;
+    protected final FunctionWithIOException<K, Long> fileSizeFunction;
+    protected final BiFunctionWithIOE<K, Long, CloseableIterator<InternalRow>> reader;
 
     @Nullable private CacheMetrics cacheMetrics;
 
@@ -100,7 +99,7 @@ public class ObjectsCache<K, V> {
         }
     }
 
-    private List<V> readFromSegments(
+    protected List<V> readFromSegments(
             Segments segments, Filter<InternalRow> readFilter, Filter<V> readVFilter)
             throws IOException {
         InternalRowSerializer formatSerializer = this.formatSerializer.get();
@@ -124,14 +123,14 @@ public class ObjectsCache<K, V> {
         }
     }
 
-    private Segments readSegments(K key, @Nullable Long fileSize, Filter<InternalRow> loadFilter) {
+    protected Segments readSegments(
+            K key, @Nullable Long fileSize, Filter<InternalRow> loadFilter) {
         InternalRowSerializer formatSerializer = this.formatSerializer.get();
         try (CloseableIterator<InternalRow> iterator = reader.apply(key, fileSize)) {
             ArrayList<MemorySegment> segments = new ArrayList<>();
-            MemorySegmentSource segmentSource =
-                    () -> MemorySegment.allocateHeapMemory(cache.pageSize());
             SimpleCollectingOutputView output =
-                    new SimpleCollectingOutputView(segments, segmentSource, cache.pageSize());
+                    new SimpleCollectingOutputView(
+                            segments, cache::allocateSegment, cache.pageSize());
             while (iterator.hasNext()) {
                 InternalRow row = iterator.next();
                 if (loadFilter.test(row)) {
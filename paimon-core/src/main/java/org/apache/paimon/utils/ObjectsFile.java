@@ -66,15 +66,16 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
         this.writerFactory = writerFactory;
         this.compression = compression;
         this.pathFactory = pathFactory;
-        this.cache =
-                cache == null
-                        ? null
-                        : new ObjectsCache<>(
-                                cache,
-                                serializer,
-                                formatType,
-                                this::fileSize,
-                                this::createIterator);
+        this.cache = cache == null ? null : createCache(cache, formatType);
+    }
+
+    /**
+     * Create the {@link ObjectsCache} on top of the given {@link SegmentsCache}. Note: this is
+     * invoked by the constructor, subclass fields are not initialized yet.
+     */
+    protected ObjectsCache<Path, T> createCache(SegmentsCache<Path> cache, RowType formatType) {
+        return new ObjectsCache<>(
+                cache, serializer, formatType, this::fileSize, this::createIterator);
     }
 
     public ObjectsFile<T> withCacheMetrics(@Nullable CacheMetrics cacheMetrics) {
@@ -175,13 +176,13 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
         }
     }
 
-    private CloseableIterator<InternalRow> createIterator(Path file, @Nullable Long fileSize)
+    protected CloseableIterator<InternalRow> createIterator(Path file, @Nullable Long fileSize)
             throws IOException {
         return FileUtils.createFormatReader(fileIO, readerFactory, file, fileSize)
                 .toCloseableIterator();
     }
 
-    private long fileSize(Path file) throws IOException {
+    protected long fileSize(Path file) throws IOException {
         try {
             return fileIO.getFileSize(file);
         } catch (IOException e) {
@@ -19,6 +19,7 @@
 package org.apache.paimon.utils;
 
 import org.apache.paimon.data.Segments;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
@@ -37,8 +38,14 @@ public class SegmentsCache<T> {
     private final Cache<T, Segments> cache;
     private final MemorySize maxMemorySize;
     private final long maxElementSize;
+    private final boolean offHeap;
 
     public SegmentsCache(int pageSize, MemorySize maxMemorySize, long maxElementSize) {
+        this(pageSize, maxMemorySize, maxElementSize, false);
+    }
+
+    public SegmentsCache(
+            int pageSize, MemorySize maxMemorySize, long maxElementSize, boolean offHeap) {
         this.pageSize = pageSize;
         this.cache =
                 Caffeine.newBuilder()
@@ -49,6 +56,7 @@ public class SegmentsCache<T> {
                         .build();
         this.maxMemorySize = maxMemorySize;
         this.maxElementSize = maxElementSize;
+        this.offHeap = offHeap;
     }
 
     public int pageSize() {
@@ -63,6 +71,17 @@ public class SegmentsCache<T> {
         return maxElementSize;
     }
 
+    public boolean offHeap() {
+        return offHeap;
+    }
+
+    /** Allocates a page to hold cached content. */
+    public MemorySegment allocateSegment() {
+        return offHeap
+                ? MemorySegment.allocateOffHeapMemory(pageSize)
+                : MemorySegment.allocateHeapMemory(pageSize);
+    }
+
     @Nullable
     public Segments getIfPresents(T key) {
         return cache.getIfPresent(key);
@@ -73,22 +92,38 @@ public class SegmentsCache<T> {
     }
 
     private int weigh(T cacheKey, Segments segments) {
-        return OBJECT_MEMORY_SIZE + segments.segments().size() * pageSize;
+        return (int)
+                (OBJECT_MEMORY_SIZE
+                        + segments.segments().size() * pageSize
+                        + segments.indexMemorySize());
     }
 
     @Nullable
     public static <T> SegmentsCache<T> create(MemorySize maxMemorySize, long maxElementSize) {
-        return create((int) PAGE_SIZE.defaultValue().getBytes(), maxMemorySize, maxElementSize);
+        return create(maxMemorySize, maxElementSize, false);
+    }
+
+    @Nullable
+    public static <T> SegmentsCache<T> create(
+            MemorySize maxMemorySize, long maxElementSize, boolean offHeap) {
+        return create(
+                (int) PAGE_SIZE.defaultValue().getBytes(), maxMemorySize, maxElementSize, offHeap);
     }
 
     @Nullable
     public static <T> SegmentsCache<T> create(
             int pageSize, MemorySize maxMemorySize, long maxElementSize) {
+        return create(pageSize, maxMemorySize, maxElementSize, false);
+    }
+
+    @Nullable
+    public static <T> SegmentsCache<T> create(
+            int pageSize, MemorySize maxMemorySize, long maxElementSize, boolean offHeap) {
         if (maxMemorySize.getBytes() == 0) {
             return null;
         }
 
-        return new SegmentsCache<>(pageSize, maxMemorySize, maxElementSize);
+        return new SegmentsCache<>(pageSize, maxMemorySize, maxElementSize, offHeap);
     }
 
     public long estimatedSize() {
@@ -42,8 +42,10 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
@@ -71,6 +73,7 @@ public class SnapshotManager implements Serializable {
     private static final String CHANGELOG_PREFIX = "changelog-";
     public static final String EARLIEST = "EARLIEST";
     public static final String LATEST = "LATEST";
+    public static final String TIMELINE_PREFIX = "TIMELINE-";
     private static final int READ_HINT_RETRY_NUM = 3;
     private static final int READ_HINT_RETRY_INTERVAL = 1;
 
@@ -78,6 +81,7 @@ public class SnapshotManager implements Serializable {
     private final Path tablePath;
     private final String branch;
     @Nullable private final Cache<Path, Snapshot> cache;
+    private final boolean timelineEnabled;
 
     public SnapshotManager(FileIO fileIO, Path tablePath) {
         this(fileIO, tablePath, DEFAULT_MAIN_BRANCH);
@@ -93,14 +97,28 @@ public class SnapshotManager implements Serializable {
             Path tablePath,
             @Nullable String branchName,
             @Nullable Cache<Path, Snapshot> cache) {
+        this(fileIO, tablePath, branchName, cache, false);
+    }
+
+    /**
+     * @param timelineEnabled whether the {@link SnapshotTimeline} is used, which is enabled by
+     *     {@code snapshot.timeline.enabled}.
+     */
+    public SnapshotManager(
+            FileIO fileIO,
+            Path tablePath,
+            @Nullable String branchName,
+            @Nullable Cache<Path, Snapshot> cache,
+            boolean timelineEnabled) {
         this.fileIO = fileIO;
         this.tablePath = tablePath;
         this.branch = BranchManager.normalizeBranch(branchName);
         this.cache = cache;
+        this.timelineEnabled = timelineEnabled;
     }
 
     public SnapshotManager copyWithBranch(String branchName) {
-        return new SnapshotManager(fileIO, tablePath, branchName);
+        return new SnapshotManager(fileIO, tablePath, branchName, null, timelineEnabled);
     }
 
     public FileIO fileIO() {
@@ -133,6 +151,10 @@ public class SnapshotManager implements Serializable {
         return new Path(branchPath(tablePath, branch) + "/snapshot");
     }
 
+    public Path timelineSegmentPath(long segmentIndex) {
+        return new Path(snapshotDirectory(), TIMELINE_PREFIX + segmentIndex);
+    }
+
     public void invalidateCache() {
         if (cache != null) {
             cache.invalidateAll();
@@ -268,6 +290,24 @@ public class SnapshotManager implements Serializable {
         }
     }
 
+    private long changelogOrSnapshotTimeMillis(SnapshotTimeline timeline, long snapshotId) {
+        return timeline.contains(snapshotId)
+                ? timeline.timeMillis(snapshotId)
+                : changelogOrSnapshot(snapshotId).timeMillis();
+    }
+
+    private long timeMillis(SnapshotTimeline timeline, long snapshotId) {
+        return timeline.contains(snapshotId)
+                ? timeline.timeMillis(snapshotId)
+                : snapshot(snapshotId).timeMillis();
+    }
+
+    private @Nullable Long watermark(SnapshotTimeline timeline, long snapshotId) {
+        return timeline.contains(snapshotId)
+                ? timeline.watermark(snapshotId)
+                : snapshot(snapshotId).watermark();
+    }
+
     /**
      * Returns the latest snapshot earlier than the timestamp mills. A non-existent snapshot may be
      * returned if all snapshots are equal to or later than the timestamp mills.
@@ -286,13 +326,14 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        if (changelogOrSnapshot(earliest).timeMillis() >= timestampMills) {
+        SnapshotTimeline timeline = timeline();
+        if (changelogOrSnapshotTimeMillis(timeline, earliest) >= timestampMills) {
             return earliest - 1;
         }
 
         while (earliest < latest) {
             long mid = (earliest + latest + 1) / 2;
-            if (changelogOrSnapshot(mid).timeMillis() < timestampMills) {
+            if (changelogOrSnapshotTimeMillis(timeline, mid) < timestampMills) {
                 earliest = mid;
             } else {
                 latest = mid - 1;
@@ -312,26 +353,25 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        Snapshot earliestSnapShot = snapshot(earliest);
-        if (earliestSnapShot.timeMillis() > timestampMills) {
-            return earliestSnapShot;
+        SnapshotTimeline timeline = timeline();
+        if (timeMillis(timeline, earliest) > timestampMills) {
+            return snapshot(earliest);
         }
-        Snapshot finalSnapshot = null;
+        Long finalSnapshot = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            long commitTime = snapshot.timeMillis();
+            long commitTime = timeMillis(timeline, mid);
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
             } else if (commitTime < timestampMills) {
                 earliest = mid + 1; // Search in the right half
-                finalSnapshot = snapshot;
+                finalSnapshot = mid;
             } else {
-                finalSnapshot = snapshot; // Found the exact match
+                finalSnapshot = mid; // Found the exact match
                 break;
             }
         }
-        return finalSnapshot;
+        return finalSnapshot == null ? null : snapshot(finalSnapshot);
     }
 
     /**
@@ -345,42 +385,45 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        Snapshot latestSnapShot = snapshot(latest);
-        if (latestSnapShot.timeMillis() < timestampMills) {
+        SnapshotTimeline timeline = timeline();
+        if (timeMillis(timeline, latest) < timestampMills) {
             return null;
         }
-        Snapshot finalSnapshot = null;
+        Long finalSnapshot = null;
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            long commitTime = snapshot.timeMillis();
+            long commitTime = timeMillis(timeline, mid);
             if (commitTime > timestampMills) {
                 latest = mid - 1; // Search in the left half
-                finalSnapshot = snapshot;
+                finalSnapshot = mid;
             } else if (commitTime < timestampMills) {
                 earliest = mid + 1; // Search in the right half
             } else {
-                finalSnapshot = snapshot; // Found the exact match
+                finalSnapshot = mid; // Found the exact match
                 break;
             }
         }
-        return finalSnapshot;
+        return finalSnapshot == null ? null : snapshot(finalSnapshot);
     }
 
     public @Nullable Snapshot earlierOrEqualWatermark(long watermark) {
         Long earliest = earliestSnapshotId();
         Long latest = latestSnapshotId();
+        if (earliest == null || latest == null) {
+            return null;
+        }
+        SnapshotTimeline timeline = timeline();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
-        if (earliest == null || latest == null || snapshot(latest).watermark() == Long.MIN_VALUE) {
+        if (watermark(timeline, latest) == Long.MIN_VALUE) {
             return null;
         }
         Long earliestWatermark = null;
         // find the first snapshot with watermark
-        if ((earliestWatermark = snapshot(earliest).watermark()) == null) {
+        if ((earliestWatermark = watermark(timeline, earliest)) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = watermark(timeline, earliest);
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -393,17 +436,17 @@ public class SnapshotManager implements Serializable {
         if (earliestWatermark >= watermark) {
             return snapshot(earliest);
         }
-        Snapshot finalSnapshot = null;
+        Long finalSnapshot = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            Long commitWatermark = snapshot.watermark();
+            long snapshotId = mid;
+            Long commitWatermark = watermark(timeline, mid);
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = watermark(timeline, mid);
                     if (commitWatermark != null) {
                         break;
                     }
@@ -416,30 +459,34 @@ public class SnapshotManager implements Serializable {
                     latest = mid - 1; // Search in the left half
                 } else if (commitWatermark < watermark) {
                     earliest = mid + 1; // Search in the right half
-                    finalSnapshot = snapshot;
+                    finalSnapshot = snapshotId;
                 } else {
-                    finalSnapshot = snapshot; // Found the exact match
+                    finalSnapshot = snapshotId; // Found the exact match
                     break;
                 }
             }
         }
-        return finalSnapshot;
+        return finalSnapshot == null ? null : snapshot(finalSnapshot);
     }
 
     public @Nullable Snapshot laterOrEqualWatermark(long watermark) {
         Long earliest = earliestSnapshotId();
         Long latest = latestSnapshotId();
+        if (earliest == null || latest == null) {
+            return null;
+        }
+        SnapshotTimeline timeline = timeline();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
-        if (earliest == null || latest == null || snapshot(latest).watermark() == Long.MIN_VALUE) {
+        if (watermark(timeline, latest) == Long.MIN_VALUE) {
             return null;
         }
         Long earliestWatermark = null;
         // find the first snapshot with watermark
-        if ((earliestWatermark = snapshot(earliest).watermark()) == null) {
+        if ((earliestWatermark = watermark(timeline, earliest)) == null) {
             while (earliest < latest) {
                 earliest++;
-                earliestWatermark = snapshot(earliest).watermark();
+                earliestWatermark = watermark(timeline, earliest);
                 if (earliestWatermark != null) {
                     break;
                 }
@@ -452,17 +499,17 @@ public class SnapshotManager implements Serializable {
         if (earliestWatermark >= watermark) {
             return snapshot(earliest);
         }
-        Snapshot finalSnapshot = null;
+        Long finalSnapshot = null;
 
         while (earliest <= latest) {
             long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            Long commitWatermark = snapshot.watermark();
+            long snapshotId = mid;
+            Long commitWatermark = watermark(timeline, mid);
             if (commitWatermark == null) {
                 // find the first snapshot with watermark
                 while (mid >= earliest) {
                     mid--;
-                    commitWatermark = snapshot(mid).watermark();
+                    commitWatermark = watermark(timeline, mid);
                     if (commitWatermark != null) {
                         break;
                     }
@@ -473,16 +520,16 @@ public class SnapshotManager implements Serializable {
             } else {
                 if (commitWatermark > watermark) {
                     latest = mid - 1; // Search in the left half
-                    finalSnapshot = snapshot;
+                    finalSnapshot = snapshotId;
                 } else if (commitWatermark < watermark) {
                     earliest = mid + 1; // Search in the right half
                 } else {
-                    finalSnapshot = snapshot; // Found the exact match
+                    finalSnapshot = snapshotId; // Found the exact match
                     break;
                 }
             }
         }
-        return finalSnapshot;
+        return finalSnapshot == null ? null : snapshot(finalSnapshot);
     }
 
     public long snapshotCount() throws IOException {
@@ -654,7 +701,8 @@ public class SnapshotManager implements Serializable {
             String name = path.getName();
             return !name.startsWith(SNAPSHOT_PREFIX)
                     && !name.equals(EARLIEST)
-                    && !name.equals(LATEST);
+                    && !name.equals(LATEST)
+                    && !name.startsWith(TIMELINE_PREFIX);
         };
     }
 
@@ -678,7 +726,15 @@ public class SnapshotManager implements Serializable {
                         earliestSnapshotId(),
                         "Latest snapshot id is not null, but earliest snapshot id is null. "
                                 + "This is unexpected.");
+        SnapshotTimeline timeline = timeline();
         for (long id = latestId; id >= earliestId; id--) {
+            if (timeline.contains(id)) {
+                if (user.equals(timeline.commitUser(id))) {
+                    return Optional.of(snapshot(id));
+                }
+                continue;
+            }
+
             Snapshot snapshot;
             try {
                 snapshot = snapshot(id);
@@ -730,13 +786,25 @@ public class SnapshotManager implements Serializable {
         long minSearchedIdentifier = identifiers.stream().min(Long::compareTo).get();
         List<Snapshot> matchedSnapshots = new ArrayList<>();
         Set<Long> remainingIdentifiers = new HashSet<>(identifiers);
+        SnapshotTimeline timeline = timeline();
         for (long id = latestId; id >= earliestId && !remainingIdentifiers.isEmpty(); id--) {
-            Snapshot snapshot = snapshot(id);
-            if (user.equals(snapshot.commitUser())) {
-                if (remainingIdentifiers.remove(snapshot.commitIdentifier())) {
-                    matchedSnapshots.add(snapshot);
+            String commitUser;
+            long commitIdentifier;
+            Snapshot snapshot = null;
+            if (timeline.contains(id)) {
+                commitUser = timeline.commitUser(id);
+                commitIdentifier = timeline.commitIdentifier(id);
+            } else {
+                snapshot = snapshot(id);
+                commitUser = snapshot.commitUser();
+                commitIdentifier = snapshot.commitIdentifier();
+            }
+
+            if (user.equals(commitUser)) {
+                if (remainingIdentifiers.remove(commitIdentifier)) {
+                    matchedSnapshots.add(snapshot == null ? snapshot(id) : snapshot);
                 }
-                if (snapshot.commitIdentifier() <= minSearchedIdentifier) {
+                if (commitIdentifier <= minSearchedIdentifier) {
                     break;
                 }
             }
@@ -744,6 +812,120 @@ public class SnapshotManager implements Serializable {
         return matchedSnapshots;
     }
 
+    /**
+     * Returns the {@link SnapshotTimeline}, its segments are read lazily. Segments which do not
+     * exist or cannot be read are ignored, so that callers just fall back to snapshot files. The
+     * timeline is empty if it is not enabled, no segment is read then.
+     */
+    public SnapshotTimeline timeline() {
+        return timelineEnabled
+                ? new SnapshotTimeline(this::readTimelineSegment)
+                : new SnapshotTimeline(segmentIndex -> null);
+    }
+
+    @Nullable
+    private SnapshotTimelineSegment readTimelineSegment(long segmentIndex) {
+        Path path = timelineSegmentPath(segmentIndex);
+        try {
+            SnapshotTimelineSegment segment =
+                    SnapshotTimelineSegment.fromJson(fileIO.readFileUtf8(path));
+            if (segment.version() == SnapshotTimelineSegment.CURRENT_VERSION
+                    && segment.firstId() == SnapshotTimeline.firstIdOfSegment(segmentIndex)
+                    && segment.size() == SnapshotTimeline.SEGMENT_SIZE) {
+                return segment;
+            }
+        } catch (FileNotFoundException ignored) {
+        } catch (Exception e) {
+            LOG.warn("Failed to read snapshot timeline segment {}, ignore it.", path, e);
+        }
+        return null;
+    }
+
+    /**
+     * Add a newly committed snapshot to the {@link SnapshotTimeline}. The segment of the snapshot
+     * is written once it is complete. The previous segment is also written if it is missing, e.g.
+     * because it was completed by a snapshot committed without the timeline.
+     */
+    public void commitTimeline(Snapshot snapshot) throws IOException {
+        long segmentIndex = SnapshotTimeline.segmentIndex(snapshot.id());
+        if (snapshot.id() == SnapshotTimeline.lastIdOfSegment(segmentIndex)) {
+            writeTimelineSegment(segmentIndex, snapshot);
+        } else if (snapshot.id() == SnapshotTimeline.firstIdOfSegment(segmentIndex)
+                && segmentIndex > 0
+                && !fileIO.exists(timelineSegmentPath(segmentIndex - 1))) {
+            writeTimelineSegment(segmentIndex - 1, null);
+        }
+    }
+
+    private void writeTimelineSegment(long segmentIndex, @Nullable Snapshot lastSnapshot)
+            throws IOException {
+        long firstId = SnapshotTimeline.firstIdOfSegment(segmentIndex);
+        long lastId = SnapshotTimeline.lastIdOfSegment(segmentIndex);
+        List<Path> paths = new ArrayList<>();
+        for (long id = firstId; id <= lastId; id++) {
+            if (lastSnapshot == null || id != lastSnapshot.id()) {
+                paths.add(snapshotPath(id));
+            }
+        }
+
+        Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+        if (lastSnapshot != null) {
+            snapshots.put(lastSnapshot.id(), lastSnapshot);
+        }
+        collectSnapshots(
+                path -> {
+                    try {
+                        Snapshot snapshot = Snapshot.tryFromPath(fileIO, path);
+                        snapshots.put(snapshot.id(), snapshot);
+                    } catch (FileNotFoundException ignored) {
+                    }
+                },
+                paths);
+        if (snapshots.size() < SnapshotTimeline.SEGMENT_SIZE) {
+            // some snapshots are expired, the segment is not needed anymore
+            return;
+        }
+
+        SnapshotTimelineSegment segment = new SnapshotTimelineSegment();
+        for (long id = firstId; id <= lastId; id++) {
+            segment.add(snapshots.get(id));
+        }
+        // segments are immutable, fails if it has been written by another committer
+        fileIO.tryToWriteAtomic(timelineSegmentPath(segmentIndex), segment.toJson());
+    }
+
+    /**
+     * Delete the timeline segments of the expired snapshots. Segments which still contain
+     * snapshots from {@code endExclusiveId} are kept.
+     */
+    public void expireTimeline(long beginInclusiveId, long endExclusiveId) {
+        if (!timelineEnabled || beginInclusiveId < 1 || endExclusiveId <= beginInclusiveId) {
+            return;
+        }
+        deleteTimelineSegments(
+                SnapshotTimeline.segmentIndex(beginInclusiveId),
+                SnapshotTimeline.segmentIndex(endExclusiveId) - 1);
+    }
+
+    /**
+     * Delete the timeline segments which contain snapshots from {@code fromId} to {@code toId},
+     * used when these snapshots are rolled back.
+     */
+    public void deleteTimeline(long fromId, long toId) {
+        if (toId < fromId) {
+            return;
+        }
+        deleteTimelineSegments(
+                SnapshotTimeline.segmentIndex(Math.max(1, fromId)),
+                SnapshotTimeline.segmentIndex(Math.max(1, toId)));
+    }
+
+    private void deleteTimelineSegments(long fromIndex, long toIndex) {
+        for (long index = fromIndex; index <= toIndex; index++) {
+            fileIO.deleteQuietly(timelineSegmentPath(index));
+        }
+    }
+
     public void commitChangelog(Changelog changelog, long id) throws IOException {
         fileIO.writeFile(longLivedChangelogPath(id), changelog.toJson(), true);
     }
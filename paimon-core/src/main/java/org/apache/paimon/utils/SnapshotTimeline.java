@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot.CommitKind;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * An index of snapshots, holding the fields used to search snapshots by time, watermark and commit
+ * user, so that these searches do not need to read every snapshot file.
+ *
+ * <p>The timeline is stored as immutable {@link SnapshotTimelineSegment}s of {@link #SEGMENT_SIZE}
+ * snapshots, aligned by snapshot id. A segment is written once all of its snapshots are committed
+ * and is never rewritten, so committing costs no more than one segment and concurrent committers
+ * cannot overwrite each other. Segments are read lazily, only for the snapshots being searched.
+ *
+ * <p>The timeline is only a cache: snapshots which are not in the timeline, such as the latest
+ * snapshots of an incomplete segment, must be read from snapshot files.
+ */
+public class SnapshotTimeline {
+
+    public static final int SEGMENT_SIZE = 16;
+
+    private final LongFunction<SnapshotTimelineSegment> segmentReader;
+    private final Map<Long, Optional<SnapshotTimelineSegment>> segments;
+
+    /**
+     * @param segmentReader reads the segment of the given index, returns null if it does not exist
+     *     or cannot be read.
+     */
+    public SnapshotTimeline(LongFunction<SnapshotTimelineSegment> segmentReader) {
+        this.segmentReader = segmentReader;
+        this.segments = new HashMap<>();
+    }
+
+    /** Index of the segment which the snapshot belongs to. */
+    public static long segmentIndex(long snapshotId) {
+        checkArgument(snapshotId > 0, "Snapshot id must be positive, but is %s.", snapshotId);
+        return (snapshotId - 1) / SEGMENT_SIZE;
+    }
+
+    public static long firstIdOfSegment(long segmentIndex) {
+        return segmentIndex * SEGMENT_SIZE + 1;
+    }
+
+    public static long lastIdOfSegment(long segmentIndex) {
+        return (segmentIndex + 1) * SEGMENT_SIZE;
+    }
+
+    public boolean contains(long snapshotId) {
+        return snapshotId > 0 && segment(snapshotId) != null;
+    }
+
+    public long timeMillis(long snapshotId) {
+        return checkedSegment(snapshotId).timeMillis(snapshotId);
+    }
+
+    @Nullable
+    public Long watermark(long snapshotId) {
+        return checkedSegment(snapshotId).watermark(snapshotId);
+    }
+
+    public String commitUser(long snapshotId) {
+        return checkedSegment(snapshotId).commitUser(snapshotId);
+    }
+
+    public long commitIdentifier(long snapshotId) {
+        return checkedSegment(snapshotId).commitIdentifier(snapshotId);
+    }
+
+    public CommitKind commitKind(long snapshotId) {
+        return checkedSegment(snapshotId).commitKind(snapshotId);
+    }
+
+    @Nullable
+    private SnapshotTimelineSegment segment(long snapshotId) {
+        return segments
+                .computeIfAbsent(
+                        segmentIndex(snapshotId),
+                        index -> Optional.ofNullable(segmentReader.apply(index)))
+                .orElse(null);
+    }
+
+    private SnapshotTimelineSegment checkedSegment(long snapshotId) {
+        SnapshotTimelineSegment segment = segment(snapshotId);
+        checkArgument(segment != null, "Snapshot #%s is not in the timeline.", snapshotId);
+        return segment;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.Snapshot.CommitKind;
+
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonCreator;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonGetter;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonIgnore;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.apache.paimon.shade.jackson2.com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A segment of the {@link SnapshotTimeline}, holding the fields of consecutive snapshots used to
+ * search snapshots by time, watermark and commit user.
+ *
+ * <p>Columns are stored separately and commit users are dictionary encoded to keep the file small.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SnapshotTimelineSegment {
+
+    public static final int CURRENT_VERSION = 1;
+
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_FIRST_ID = "firstId";
+    private static final String FIELD_TIME_MILLIS = "timeMillis";
+    private static final String FIELD_WATERMARKS = "watermarks";
+    private static final String FIELD_COMMIT_USERS = "commitUsers";
+    private static final String FIELD_COMMIT_USER_INDEXES = "commitUserIndexes";
+    private static final String FIELD_COMMIT_IDENTIFIERS = "commitIdentifiers";
+    private static final String FIELD_COMMIT_KINDS = "commitKinds";
+
+    private final int version;
+    private long firstId;
+    private final List<Long> timeMillis;
+    private final List<Long> watermarks;
+    private final List<String> commitUsers;
+    private final List<Long> commitIdentifiers;
+    private final List<CommitKind> commitKinds;
+
+    public SnapshotTimelineSegment() {
+        this.version = CURRENT_VERSION;
+        this.firstId = 0;
+        this.timeMillis = new ArrayList<>();
+        this.watermarks = new ArrayList<>();
+        this.commitUsers = new ArrayList<>();
+        this.commitIdentifiers = new ArrayList<>();
+        this.commitKinds = new ArrayList<>();
+    }
+
+    @JsonCreator
+    public SnapshotTimelineSegment(
+            @JsonProperty(FIELD_VERSION) int version,
+            @JsonProperty(FIELD_FIRST_ID) long firstId,
+            @JsonProperty(FIELD_TIME_MILLIS) List<Long> timeMillis,
+            @JsonProperty(FIELD_WATERMARKS) List<Long> watermarks,
+            @JsonProperty(FIELD_COMMIT_USERS) List<String> commitUserDictionary,
+            @JsonProperty(FIELD_COMMIT_USER_INDEXES) List<Integer> commitUserIndexes,
+            @JsonProperty(FIELD_COMMIT_IDENTIFIERS) List<Long> commitIdentifiers,
+            @JsonProperty(FIELD_COMMIT_KINDS) List<CommitKind> commitKinds) {
+        int size = timeMillis.size();
+        checkArgument(
+                watermarks.size() == size
+                        && commitUserIndexes.size() == size
+                        && commitIdentifiers.size() == size
+                        && commitKinds.size() == size,
+                "Columns of snapshot timeline segment have different sizes.");
+        this.version = version;
+        this.firstId = firstId;
+        this.timeMillis = new ArrayList<>(timeMillis);
+        this.watermarks = new ArrayList<>(watermarks);
+        this.commitUsers = new ArrayList<>(size);
+        for (int index : commitUserIndexes) {
+            commitUsers.add(commitUserDictionary.get(index));
+        }
+        this.commitIdentifiers = new ArrayList<>(commitIdentifiers);
+        this.commitKinds = new ArrayList<>(commitKinds);
+    }
+
+    @JsonGetter(FIELD_VERSION)
+    public int version() {
+        return version;
+    }
+
+    @JsonGetter(FIELD_FIRST_ID)
+    public long firstId() {
+        return firstId;
+    }
+
+    @JsonGetter(FIELD_TIME_MILLIS)
+    private List<Long> timeMillisColumn() {
+        return timeMillis;
+    }
+
+    @JsonGetter(FIELD_WATERMARKS)
+    private List<Long> watermarksColumn() {
+        return watermarks;
+    }
+
+    @JsonGetter(FIELD_COMMIT_USERS)
+    private List<String> commitUserDictionary() {
+        List<String> dictionary = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        for (String user : commitUsers) {
+            if (indexes.putIfAbsent(user, dictionary.size()) == null) {
+                dictionary.add(user);
+            }
+        }
+        return dictionary;
+    }
+
+    @JsonGetter(FIELD_COMMIT_USER_INDEXES)
+    private List<Integer> commitUserIndexes() {
+        List<Integer> result = new ArrayList<>(commitUsers.size());
+        Map<String, Integer> indexes = new HashMap<>();
+        for (String user : commitUsers) {
+            Integer index = indexes.get(user);
+            if (index == null) {
+                index = indexes.size();
+                indexes.put(user, index);
+            }
+            result.add(index);
+        }
+        return result;
+    }
+
+    @JsonGetter(FIELD_COMMIT_IDENTIFIERS)
+    private List<Long> commitIdentifiersColumn() {
+        return commitIdentifiers;
+    }
+
+    @JsonGetter(FIELD_COMMIT_KINDS)
+    private List<CommitKind> commitKindsColumn() {
+        return commitKinds;
+    }
+
+    public int size() {
+        return timeMillis.size();
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return timeMillis.isEmpty();
+    }
+
+    /** Id of the last snapshot, only valid if this segment is not empty. */
+    public long lastId() {
+        return firstId + size() - 1;
+    }
+
+    public boolean contains(long snapshotId) {
+        return snapshotId >= firstId && snapshotId - firstId < size();
+    }
+
+    public long timeMillis(long snapshotId) {
+        return timeMillis.get(index(snapshotId));
+    }
+
+    @Nullable
+    public Long watermark(long snapshotId) {
+        return watermarks.get(index(snapshotId));
+    }
+
+    public String commitUser(long snapshotId) {
+        return commitUsers.get(index(snapshotId));
+    }
+
+    public long commitIdentifier(long snapshotId) {
+        return commitIdentifiers.get(index(snapshotId));
+    }
+
+    public CommitKind commitKind(long snapshotId) {
+        return commitKinds.get(index(snapshotId));
+    }
+
+    /** Append a snapshot, its id must directly follow the last snapshot of this segment. */
+    public void add(Snapshot snapshot) {
+        if (isEmpty()) {
+            firstId = snapshot.id();
+        } else {
+            checkArgument(
+                    snapshot.id() == lastId() + 1,
+                    "Snapshot #%s does not follow the last snapshot #%s of the segment.",
+                    snapshot.id(),
+                    lastId());
+        }
+        timeMillis.add(snapshot.timeMillis());
+        watermarks.add(snapshot.watermark());
+        commitUsers.add(snapshot.commitUser());
+        commitIdentifiers.add(snapshot.commitIdentifier());
+        commitKinds.add(snapshot.commitKind());
+    }
+
+    private int index(long snapshotId) {
+        checkArgument(contains(snapshotId), "Snapshot #%s is not in the segment.", snapshotId);
+        return (int) (snapshotId - firstId);
+    }
+
+    public String toJson() {
+        return JsonSerdeUtil.toFlatJson(this);
+    }
+
+    public static SnapshotTimelineSegment fromJson(String json) {
+        return JsonSerdeUtil.fromJson(json, SnapshotTimelineSegment.class);
+    }
+}
@@ -18,13 +18,24 @@
 
 package org.apache.paimon.disk;
 
+import org.apache.paimon.memory.Buffer;
+import org.apache.paimon.memory.MemorySegment;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
 
+import static org.apache.paimon.disk.BufferFileWriterReaderTest.fillBufferWithAscendingNumbers;
+import static org.apache.paimon.disk.BufferFileWriterReaderTest.verifyBufferFilledWithAscendingNumbers;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link IOManager}. */
 public class IOManagerTest {
@@ -71,4 +82,72 @@ public class IOManagerTest {
             }
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    public void testWriteReadChannel(int ioThreadsPerDir) throws Exception {
+        try (IOManager ioMan = new IOManagerImpl(ioThreadsPerDir, tempDir.toString())) {
+            writeAndReadChannel(ioMan);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 16 * 1024, 64 * 1024})
+    public void testAsyncBufferBudget(int asyncBufferSize) throws Exception {
+        // the channels fall back to synchronous I/O once the buffers are exhausted
+        try (IOManager ioMan = new IOManagerImpl(2, asyncBufferSize, tempDir.toString())) {
+            writeAndReadChannel(ioMan);
+        }
+    }
+
+    @Test
+    public void testCloseReaderAfterIOManagerClosed() throws Exception {
+        IOManager ioMan = new IOManagerImpl(1, tempDir.toString());
+        FileIOChannel.ID channel = ioMan.createChannel();
+        BufferFileWriter writer = ioMan.createBufferFileWriter(channel);
+        Buffer buffer = Buffer.create(MemorySegment.allocateHeapMemory(1024));
+        fillBufferWithAscendingNumbers(buffer, 0, 1024);
+        writer.writeBlock(buffer);
+        writer.close();
+
+        BufferFileReader reader = ioMan.createBufferFileReader(channel);
+        ioMan.close();
+
+        // the prefetching can not be scheduled anymore, the reader fails and closes at once
+        Buffer readBuffer = Buffer.create(MemorySegment.allocateHeapMemory(1024));
+        assertThatThrownBy(() -> reader.readInto(readBuffer))
+                .isInstanceOf(IOException.class)
+                .hasRootCauseInstanceOf(RejectedExecutionException.class);
+        reader.close();
+    }
+
+    private static void writeAndReadChannel(IOManager ioMan) throws Exception {
+        Random random = new Random();
+        int bufferSize = 32 * 1024;
+        FileIOChannel.ID channel = ioMan.createChannel();
+        int numBuffers = 1024;
+        int currentNumber = 0;
+
+        // the buffer is modified right after each write
+        BufferFileWriter writer = ioMan.createBufferFileWriter(channel);
+        Buffer buffer = Buffer.create(MemorySegment.allocateHeapMemory(bufferSize));
+        for (int i = 0; i < numBuffers; i++) {
+            int size = (random.nextInt(bufferSize / 4) + 1) * 4;
+            currentNumber = fillBufferWithAscendingNumbers(buffer, currentNumber, size);
+            writer.writeBlock(buffer);
+        }
+        writer.close();
+
+        BufferFileReader reader = ioMan.createBufferFileReader(channel);
+        int expectedNumber = 0;
+        for (int i = 0; i < numBuffers; i++) {
+            assertThat(reader.hasReachedEndOfFile()).isFalse();
+            Buffer readBuffer = Buffer.create(MemorySegment.allocateHeapMemory(bufferSize));
+            reader.readInto(readBuffer);
+            expectedNumber = verifyBufferFilledWithAscendingNumbers(readBuffer, expectedNumber);
+        }
+        assertThat(reader.hasReachedEndOfFile()).isTrue();
+        assertThat(expectedNumber).isEqualTo(currentNumber);
+        reader.closeAndDelete();
+    }
 }
@@ -20,19 +20,26 @@ package org.apache.paimon.index;
 
 import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.CompactIncrement;
 import org.apache.paimon.io.DataIncrement;
 import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.metrics.TestMetricRegistry;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.utils.Pair;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,6 +98,48 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
                 .hasMessageContaining("This is a bug, record assign id");
     }
 
+    @Test
+    public void testSpillIndex() throws Exception {
+        try (IOManager ioManager = IOManager.create(tempPath.toString())) {
+            TestMetricRegistry registry = new TestMetricRegistry();
+            HashBucketAssigner assigner =
+                    createAssigner(1, 1, 0)
+                            .withIndexMemory(PartitionIndex.BYTES_PER_KEY * 10, ioManager)
+                            .withMetricRegistry(registry, "t");
+
+            Map<Pair<Integer, Integer>, Integer> assigned = new HashMap<>();
+            for (int partition = 0; partition < 5; partition++) {
+                for (int hash = 0; hash < 8; hash++) {
+                    assigned.put(Pair.of(partition, hash), assigner.assign(row(partition), hash));
+                }
+            }
+            assertThat(assigner.numSpilledPartitions()).isEqualTo(4);
+            assertThat(assigner.usedIndexMemory()).isEqualTo(PartitionIndex.BYTES_PER_KEY * 8);
+
+            // restore spilled partitions, keys should be assigned to the same buckets
+            for (int partition = 0; partition < 5; partition++) {
+                for (int hash = 0; hash < 8; hash++) {
+                    assertThat(assigner.assign(row(partition), hash))
+                            .isEqualTo(assigned.get(Pair.of(partition, hash)));
+                }
+            }
+            assertThat(assigner.hitRate()).isEqualTo(0.5);
+            assertThat(assigner.numPartitions()).isEqualTo(5);
+            assertThat(assigner.numSpilledPartitions()).isEqualTo(4);
+
+            // a restored partition can continue to assign new keys
+            assertThat(assigner.assign(row(0), 100)).isEqualTo(1);
+
+            assigner.close();
+            assertThat(assigner.numPartitions()).isEqualTo(0);
+            assertThat(assigner.numSpilledPartitions()).isEqualTo(0);
+            try (Stream<java.nio.file.Path> files = Files.walk(tempPath)) {
+                assertThat(files.filter(Files::isRegularFile))
+                        .noneMatch(file -> file.toString().endsWith(".channel"));
+            }
+        }
+    }
+
     @Test
     public void testPartitionCopy() {
         HashBucketAssigner assigner = createAssigner(1, 1, 0);
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link InMemoryBytesMap}. */
+public class InMemoryBytesMapTest {
+
+    @Test
+    public void testRandomOperations() {
+        InMemoryBytesMap map = new InMemoryBytesMap(1024);
+        Map<Integer, byte[]> expected = new HashMap<>();
+        Random rnd = new Random();
+        for (int i = 0; i < 100_000; i++) {
+            int key = rnd.nextInt(5000);
+            int op = rnd.nextInt(10);
+            if (op < 6) {
+                // values may be larger than a page
+                byte[] value = new byte[rnd.nextInt(10) == 0 ? 2000 : rnd.nextInt(20)];
+                rnd.nextBytes(value);
+                map.put(key(key), value);
+                expected.put(key, value);
+            } else if (op < 8) {
+                assertThat(map.remove(key(key))).isEqualTo(expected.remove(key) != null);
+            } else {
+                assertThat(map.get(key(key))).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int key = 0; key < 5000; key++) {
+            assertThat(map.get(key(key))).isEqualTo(expected.get(key));
+            assertThat(map.containsKey(key(key))).isEqualTo(expected.containsKey(key));
+        }
+
+        map.clear();
+        assertThat(map.size()).isEqualTo(0);
+        assertThat(map.memorySize()).isEqualTo(0);
+        assertThat(map.get(key(1))).isNull();
+    }
+
+    @Test
+    public void testGarbageIsCompacted() {
+        InMemoryBytesMap map = new InMemoryBytesMap(1024);
+        byte[] value = new byte[100];
+        for (int i = 0; i < 10_000; i++) {
+            map.put(key(i % 10), value);
+        }
+        // 10 live records of 112 bytes, old versions must not be retained
+        assertThat(map.size()).isEqualTo(10);
+        assertThat(map.memorySize()).isLessThanOrEqualTo(4 * 1024);
+    }
+
+    @Test
+    public void testMaxMemorySize() {
+        AtomicLong allocatedMemory = new AtomicLong();
+        InMemoryBytesMap map1 = new InMemoryBytesMap(1024, 6 * 1024, allocatedMemory);
+        InMemoryBytesMap map2 = new InMemoryBytesMap(1024, 6 * 1024, allocatedMemory);
+        byte[] value = new byte[100];
+        for (int i = 0; i < 18; i++) {
+            map1.put(key(i), value);
+        }
+        for (int i = 0; i < 9; i++) {
+            map2.put(key(i), value);
+        }
+        assertThat(allocatedMemory.get()).isEqualTo(3 * 1024);
+
+        // updates are compacted without exceeding the limit
+        for (int i = 0; i < 1000; i++) {
+            map2.put(key(i % 9), value);
+            assertThat(allocatedMemory.get()).isLessThanOrEqualTo(6 * 1024);
+        }
+        assertThat(map2.size()).isEqualTo(9);
+
+        // the limit is shared by the maps
+        assertThatThrownBy(
+                        () -> {
+                            for (int i = 18; i < 100; i++) {
+                                map1.put(key(i), value);
+                            }
+                        })
+                .isInstanceOf(InMemoryBytesMap.MemoryExceededException.class);
+        assertThatThrownBy(() -> map1.put(key(0), new byte[5000]))
+                .isInstanceOf(InMemoryBytesMap.MemoryExceededException.class);
+
+        // released pages are returned to the limit
+        map1.clear();
+        assertThat(allocatedMemory.get()).isEqualTo(map2.memorySize());
+        map2.clear();
+        assertThat(allocatedMemory.get()).isEqualTo(0);
+        map1.put(key(0), new byte[3000]);
+        assertThat(map1.get(key(0))).hasSize(3000);
+    }
+
+    private static byte[] key(int key) {
+        return ByteBuffer.allocate(4).putInt(key).array();
+    }
+}
@@ -161,6 +161,61 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         assertEquivalentEntries(input, merged);
     }
 
+    @ParameterizedTest
+    @ValueSource(longs = {200, Long.MAX_VALUE})
+    public void testParallelMerge(long fullCompactionThreshold) {
+        List<ManifestFileMeta> input = createBaseManifestFileMetas(true);
+        addDeltaManifests(input, true);
+
+        List<ManifestFileMeta> sequential =
+                ManifestFileMerger.merge(
+                        input,
+                        manifestFile,
+                        500,
+                        3,
+                        fullCompactionThreshold,
+                        getPartitionType(),
+                        null,
+                        1);
+        List<ManifestFileMeta> parallel =
+                ManifestFileMerger.merge(
+                        input,
+                        manifestFile,
+                        500,
+                        3,
+                        fullCompactionThreshold,
+                        getPartitionType(),
+                        4,
+                        4);
+
+        // the produced files do not depend on the parallelism
+        assertThat(parallel).hasSameSizeAs(sequential);
+        for (int i = 0; i < sequential.size(); i++) {
+            assertSameContent(sequential.get(i), parallel.get(i), manifestFile);
+        }
+    }
+
+    @Test
+    public void testParallelWrite() {
+        List<ManifestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < ManifestFile.PARALLEL_WRITE_MIN_BATCH_SIZE * 2 + 10; i++) {
+            entries.add(makeEntry(true, String.valueOf(i), i % 10));
+        }
+
+        // entries are not split without parallelism
+        assertThat(manifestFile.write(entries, null)).hasSize(1);
+        assertThat(manifestFile.write(entries, 1)).hasSize(1);
+
+        // batches are not smaller than the minimum batch size
+        List<ManifestFileMeta> written = manifestFile.write(entries, 4);
+        assertThat(written).hasSize(3);
+        List<ManifestEntry> actual = new ArrayList<>();
+        for (ManifestFileMeta meta : written) {
+            actual.addAll(manifestFile.read(meta.fileName(), meta.fileSize()));
+        }
+        assertThat(actual).isEqualTo(entries);
+    }
+
     @Test
     public void testMergeWithoutDelta() {
 
@@ -25,15 +25,20 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.StatsTestUtils;
 import org.apache.paimon.utils.FailingFileIO;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.SegmentsCache;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -68,6 +73,40 @@ public class ManifestFileTest {
         assertThat(actualEntries).isEqualTo(entries);
     }
 
+    @RepeatedTest(10)
+    public void testReadFromCacheWithRowFilter() {
+        List<ManifestEntry> entries = generateData();
+        SegmentsCache<Path> cache =
+                new SegmentsCache<>(1024, MemorySize.ofMebiBytes(16), Long.MAX_VALUE, true);
+        ManifestFile manifestFile = createManifestFile(tempDir.toString(), cache);
+        List<ManifestFileMeta> metas = manifestFile.write(entries);
+
+        int bucket = entries.get(0).bucket();
+        for (FileKind kind : new FileKind[] {null, FileKind.ADD, FileKind.DELETE}) {
+            ManifestEntryRowFilter filter =
+                    new ManifestEntryRowFilter().withKind(kind).withBucketFilter(b -> b == bucket);
+            List<ManifestEntry> expected =
+                    entries.stream()
+                            .filter(e -> kind == null || e.kind() == kind)
+                            .filter(e -> e.bucket() == bucket)
+                            .collect(Collectors.toList());
+            // first round loads the cache, second round reads the cached columns
+            for (int i = 0; i < 2; i++) {
+                List<ManifestEntry> actual = new ArrayList<>();
+                for (ManifestFileMeta meta : metas) {
+                    actual.addAll(
+                            manifestFile.read(
+                                    meta.fileName(),
+                                    meta.fileSize(),
+                                    Filter.alwaysTrue(),
+                                    filter,
+                                    Filter.alwaysTrue()));
+                }
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -94,6 +133,10 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String pathStr) {
+        return createManifestFile(pathStr, null);
+    }
+
+    private ManifestFile createManifestFile(String pathStr, @Nullable SegmentsCache<Path> cache) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -118,7 +161,7 @@ public class ManifestFileTest {
                         "zstd",
                         pathFactory,
                         suggestedFileSize,
-                        null)
+                        cache)
                 .create();
     }
 
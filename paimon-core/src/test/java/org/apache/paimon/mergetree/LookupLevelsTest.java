@@ -48,6 +48,7 @@ import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.ThreadPoolUtils;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -64,6 +65,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
 import static org.apache.paimon.io.DataFileTestUtils.row;
@@ -266,6 +269,102 @@ public class LookupLevelsTest {
         assertThat(kv.value().getInt(1)).isEqualTo(11);
     }
 
+    @Test
+    public void testBatchLookup() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(1, 0), kv(7, 0)),
+                                newFile(0, kv(4, 4), kv(8, 8)),
+                                newFile(1, kv(1, 11), kv(2, 22)),
+                                newFile(1, kv(4, 44), kv(5, 55)),
+                                newFile(1, kv(7, 77), kv(8, 88)),
+                                newFile(2, kv(2, 222), kv(3, 333), kv(10, 1010))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // unsorted keys with duplicates and keys not exist
+        List<InternalRow> keys = new ArrayList<>();
+        for (int key : new int[] {10, 3, 0, 8, 1, 6, 2, 8, 11, 4, 5, 7, 9}) {
+            keys.add(row(key));
+        }
+
+        for (int startLevel = 0; startLevel < 3; startLevel++) {
+            List<KeyValue> results = lookupLevels.lookup(keys, startLevel);
+            assertThat(results).hasSize(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                KeyValue expected = lookupLevels.lookup(keys.get(i), startLevel);
+                KeyValue actual = results.get(i);
+                if (expected == null) {
+                    assertThat(actual).isNull();
+                } else {
+                    assertThat(actual).isNotNull();
+                    assertThat(actual.key().getInt(0)).isEqualTo(keys.get(i).getInt(0));
+                    assertThat(actual.level()).isEqualTo(expected.level());
+                    assertThat(actual.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+                }
+            }
+        }
+
+        assertThat(lookupLevels.lookup(Collections.emptyList(), 0)).isEmpty();
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPrebuildLookupFiles() throws Exception {
+        Levels levels = new Levels(comparator, Collections.emptyList(), 3);
+        ExecutorService executor =
+                ThreadPoolUtils.createCachedThreadPool(
+                        2, "lookup-file-prebuild-test", LookupLevels.createPrebuildQueue());
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10))
+                        .withPrebuildExecutor(executor);
+
+        DataFileMeta level0File = newFile(0, kv(5, 55));
+        DataFileMeta level1File = newFile(1, kv(1, 11), kv(3, 33));
+        DataFileMeta level2File = newFile(2, kv(2, 22), kv(3, 333));
+        levels.update(Collections.emptyList(), Arrays.asList(level0File, level1File, level2File));
+
+        // level 0 files are not prebuilt
+        assertThat(lookupLevels.prebuildingFiles())
+                .containsExactlyInAnyOrder(level1File.fileName(), level2File.fileName());
+
+        KeyValue kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+
+        kv = lookupLevels.lookup(row(2), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(2);
+        assertThat(kv.value().getInt(1)).isEqualTo(22);
+
+        assertThat(lookupLevels.prebuildingFiles()).isEmpty();
+        assertThat(lookupLevels.lookupFiles().asMap().keySet())
+                .containsExactlyInAnyOrder(level1File.fileName(), level2File.fileName());
+
+        // drop a prebuilt file which is never looked up
+        DataFileMeta newFile = newFile(1, kv(7, 77));
+        levels.update(Collections.emptyList(), Collections.singletonList(newFile));
+        assertThat(lookupLevels.prebuildingFiles()).containsExactly(newFile.fileName());
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        levels.update(Collections.singletonList(newFile), Collections.emptyList());
+        assertThat(lookupLevels.prebuildingFiles()).isEmpty();
+        assertThat(lookupLevels.cachedFiles())
+                .containsExactlyInAnyOrder(level1File.fileName(), level2File.fileName());
+
+        lookupLevels.close();
+        assertThat(lookupLevels.cachedFiles()).isEmpty();
+        String[] lookupFiles =
+                tempDir.toFile().list((dir, name) -> name.startsWith(LOOKUP_FILE_PREFIX));
+        assertThat(lookupFiles).isEmpty();
+    }
+
     private LookupLevels<KeyValue> createLookupLevels(Levels levels, MemorySize maxDiskSize) {
         return new LookupLevels<>(
                 levels,
@@ -28,6 +28,7 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileStatus;
@@ -39,6 +40,9 @@ import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.AbstractCompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
@@ -71,6 +75,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -86,6 +92,7 @@ import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
@@ -360,6 +367,63 @@ public abstract class MergeTreeTestBase {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testWriteManyWithBackgroundFlush() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        try {
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList()),
+                            ChangelogProducer.INPUT,
+                            flushExecutor,
+                            new HeapMemorySegmentPool(8 * options.pageSize(), options.pageSize()));
+            doTestWriteReadWithChangelog(3, 20_000, false);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPreemptMemoryWithBackgroundFlush() throws Exception {
+        ThreadPoolExecutor flushExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        try (IOManager ioManager = IOManager.create(tempDir.toString())) {
+            List<MemoryOwner> owners = new ArrayList<>();
+            MemoryPoolFactory poolFactory =
+                    new MemoryPoolFactory(
+                                    new HeapMemorySegmentPool(
+                                            16 * options.pageSize(), options.pageSize()))
+                            .addOwners(owners);
+            MergeTreeWriter first = createSpillableMergeTreeWriter(flushExecutor, ioManager);
+            owners.add(first);
+            poolFactory.notifyNewOwner(first);
+            MergeTreeWriter second = createSpillableMergeTreeWriter(flushExecutor, ioManager);
+            owners.add(second);
+            poolFactory.notifyNewOwner(second);
+
+            // fill the first buffer of the first writer until it is flushed in background
+            int key = 0;
+            while (flushExecutor.getTaskCount() == 0) {
+                first.write(new KeyValue().replace(row(key), RowKind.INSERT, row(key)));
+                key++;
+            }
+            long occupancy = first.memoryOccupancy();
+
+            // the second writer preempts the memory of the first one, most of it is held by the
+            // buffer flushed in background
+            for (int i = 0; i < 1_000_000 && poolFactory.bufferPreemptCount() == 0; i++) {
+                second.write(new KeyValue().replace(row(i), RowKind.INSERT, row(i)));
+            }
+            assertThat(poolFactory.bufferPreemptCount()).isGreaterThan(0);
+            assertThat(first.memoryOccupancy()).isLessThan(occupancy / 2);
+
+            first.close();
+            second.close();
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
     @Test
     public void testChangelog() throws Exception {
         writer =
@@ -500,29 +564,63 @@ public abstract class MergeTreeTestBase {
             List<DataFileMeta> files,
             MergeTreeCompactManager compactManager,
             ChangelogProducer changelogProducer) {
-        long maxSequenceNumber =
-                files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
-        MergeTreeWriter writer =
-                new MergeTreeWriter(
-                        false,
-                        MemorySize.ofKibiBytes(10),
-                        128,
-                        CompressOptions.defaultOptions(),
-                        null,
-                        compactManager,
-                        maxSequenceNumber,
-                        comparator,
-                        DeduplicateMergeFunction.factory().create(),
-                        writerFactory,
-                        options.commitForceCompact(),
-                        changelogProducer,
-                        null,
-                        null);
-        writer.setMemoryPool(
+        return createMergeTreeWriter(
+                files,
+                compactManager,
+                changelogProducer,
+                null,
                 new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            ChangelogProducer changelogProducer,
+            @Nullable ExecutorService flushExecutor,
+            MemorySegmentPool memoryPool) {
+        MergeTreeWriter writer =
+                newMergeTreeWriter(files, compactManager, changelogProducer, flushExecutor, null);
+        writer.setMemoryPool(memoryPool);
         return writer;
     }
 
+    private MergeTreeWriter createSpillableMergeTreeWriter(
+            ExecutorService flushExecutor, IOManager ioManager) {
+        return newMergeTreeWriter(
+                Collections.emptyList(),
+                createCompactManager(service, Collections.emptyList()),
+                ChangelogProducer.NONE,
+                flushExecutor,
+                ioManager);
+    }
+
+    /** Creates a writer without memory pool, the write buffer is spillable with an io manager. */
+    private MergeTreeWriter newMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            ChangelogProducer changelogProducer,
+            @Nullable ExecutorService flushExecutor,
+            @Nullable IOManager ioManager) {
+        long maxSequenceNumber =
+                files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
+        return new MergeTreeWriter(
+                ioManager != null,
+                MemorySize.ofKibiBytes(10),
+                128,
+                CompressOptions.defaultOptions(),
+                ioManager,
+                compactManager,
+                maxSequenceNumber,
+                comparator,
+                DeduplicateMergeFunction.factory().create(),
+                writerFactory,
+                options.commitForceCompact(),
+                changelogProducer,
+                null,
+                null,
+                flushExecutor);
+    }
+
     private MergeTreeCompactManager createCompactManager(
             ExecutorService compactExecutor, List<DataFileMeta> files) {
         CompactStrategy strategy =
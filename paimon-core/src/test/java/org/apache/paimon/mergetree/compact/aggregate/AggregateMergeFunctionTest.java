@@ -23,6 +23,7 @@ import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
 
@@ -30,7 +31,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
+import static org.apache.paimon.CoreOptions.AGGREGATION_CODEGEN_ENABLED;
 import static org.apache.paimon.CoreOptions.FIELDS_DEFAULT_AGG_FUNC;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -132,6 +136,93 @@ class AggregateMergeFunctionTest {
                                 BinaryString.fromString("1/2/3/4/5")));
     }
 
+    @Test
+    void testCodeGenAggFunc() {
+        Options options = new Options();
+        options.set(AGGREGATION_CODEGEN_ENABLED, true);
+        options.set("fields.a.aggregate-function", "sum");
+        options.set("fields.b.aggregate-function", "min");
+        options.set("fields.b.ignore-retract", "true");
+        options.set("fields.c.aggregate-function", "max");
+        options.set("fields.c.ignore-retract", "true");
+        options.set("fields.d.aggregate-function", "last_value");
+        options.set("fields.e.aggregate-function", "first_non_null_value");
+        options.set("fields.e.ignore-retract", "true");
+        options.set("fields.f.aggregate-function", "sum");
+        List<String> names = Arrays.asList("k", "a", "b", "c", "d", "e", "f", "g");
+        List<DataType> types =
+                Arrays.asList(
+                        DataTypes.INT(),
+                        DataTypes.BIGINT(),
+                        DataTypes.INT(),
+                        DataTypes.DOUBLE(),
+                        DataTypes.STRING(),
+                        DataTypes.SMALLINT(),
+                        DataTypes.TINYINT(),
+                        DataTypes.STRING());
+
+        MergeFunction<KeyValue> generated =
+                AggregateMergeFunction.factory(
+                                options, names, types, Collections.singletonList("k"))
+                        .create();
+        assertThat(generated).isInstanceOf(CodeGenAggregateMergeFunction.class);
+        options.set(AGGREGATION_CODEGEN_ENABLED, false);
+        MergeFunction<KeyValue> interpreted =
+                AggregateMergeFunction.factory(
+                                options, names, types, Collections.singletonList("k"))
+                        .create();
+        assertThat(interpreted).isInstanceOf(AggregateMergeFunction.class);
+
+        Random random = new Random();
+        RowKind[] kinds = RowKind.values();
+        for (int i = 0; i < 100; i++) {
+            generated.reset();
+            interpreted.reset();
+            int numRecords = random.nextInt(20) + 1;
+            for (int j = 0; j < numRecords; j++) {
+                GenericRow row =
+                        GenericRow.of(
+                                1,
+                                random.nextBoolean() ? null : random.nextLong(),
+                                random.nextBoolean() ? null : random.nextInt(),
+                                random.nextBoolean() ? null : random.nextDouble(),
+                                random.nextBoolean()
+                                        ? null
+                                        : BinaryString.fromString(String.valueOf(j)),
+                                random.nextBoolean() ? null : (short) random.nextInt(),
+                                random.nextBoolean() ? null : (byte) random.nextInt(),
+                                random.nextBoolean()
+                                        ? null
+                                        : BinaryString.fromString(String.valueOf(j)));
+                KeyValue kv =
+                        new KeyValue()
+                                .replace(
+                                        GenericRow.of(1),
+                                        j,
+                                        kinds[random.nextInt(kinds.length)],
+                                        row);
+                generated.add(kv);
+                interpreted.add(kv);
+            }
+            assertThat(generated.getResult().value()).isEqualTo(interpreted.getResult().value());
+        }
+    }
+
+    @Test
+    void testCodeGenFallback() {
+        Options options = new Options();
+        options.set(AGGREGATION_CODEGEN_ENABLED, true);
+        options.set("fields.a.aggregate-function", "listagg");
+        MergeFunction<KeyValue> aggregateFunction =
+                AggregateMergeFunction.factory(
+                                options,
+                                Arrays.asList("k", "a"),
+                                Arrays.asList(DataTypes.INT(), DataTypes.STRING()),
+                                Collections.singletonList("k"))
+                        .create();
+        assertThat(aggregateFunction).isInstanceOf(AggregateMergeFunction.class);
+    }
+
     private KeyValue value(Integer... values) {
         return new KeyValue()
                 .replace(GenericRow.of(values[0]), RowKind.INSERT, GenericRow.of(values));
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.TableTestBase;
+import org.apache.paimon.table.source.ScanMode;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.utils.Pair;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.data.BinaryRow.singleColumn;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CommitConflictIndex}. */
+public class CommitConflictIndexTest extends TableTestBase {
+
+    @Test
+    public void testApplyDeltas() throws Exception {
+        FileStoreTable table = createTable();
+        CommitConflictIndex index = createIndex(table, 100);
+
+        for (int i = 0; i < 10; i++) {
+            write(table, GenericRow.of(i % 3, i, i), GenericRow.of((i + 1) % 3, i, i + 1));
+            if (i % 4 == 3) {
+                compact(table, singleColumn(i % 3), 0);
+            }
+
+            Snapshot latest = table.snapshotManager().latestSnapshot();
+            assertSameEntries(table, index, latest);
+            assertThat(index.snapshot()).isEqualTo(latest);
+        }
+    }
+
+    @Test
+    public void testRetainRequestedPartitions() throws Exception {
+        FileStoreTable table = createTable();
+        CommitConflictIndex index = createIndex(table, 100);
+
+        write(table, GenericRow.of(0, 0, 0), GenericRow.of(1, 1, 1));
+        Snapshot latest = table.snapshotManager().latestSnapshot();
+        assertSameEntries(table, index, latest);
+        assertThat(index.numPartitions()).isEqualTo(2);
+
+        write(table, GenericRow.of(1, 2, 2));
+        latest = table.snapshotManager().latestSnapshot();
+        assertSameEntries(table, index, latest);
+        assertThat(index.numPartitions()).isEqualTo(1);
+    }
+
+    @Test
+    public void testReloadAfterRollback() throws Exception {
+        FileStoreTable table = createTable();
+        // do not share the snapshot cache of the catalog, which is not aware of the rollback
+        CommitConflictIndex index =
+                new CommitConflictIndex(
+                        new SnapshotManager(table.fileIO(), table.location()),
+                        table.store().newScan(),
+                        100);
+
+        for (int i = 0; i < 3; i++) {
+            write(table, GenericRow.of(0, i, i));
+        }
+        assertSameEntries(table, index, table.snapshotManager().latestSnapshot());
+
+        // snapshot ids are reused after rollback, the cached state must not be used anymore
+        table.rollbackTo(1);
+        catalog.invalidateTable(identifier());
+        table = getTableDefault();
+        for (int i = 0; i < 4; i++) {
+            write(table, GenericRow.of(0, i + 10, i));
+        }
+        assertSameEntries(table, index, table.snapshotManager().latestSnapshot());
+    }
+
+    @Test
+    public void testReloadForTooManyDeltas() throws Exception {
+        FileStoreTable table = createTable();
+        CommitConflictIndex index = createIndex(table, 1);
+
+        write(table, GenericRow.of(0, 0, 0));
+        assertSameEntries(table, index, table.snapshotManager().latestSnapshot());
+
+        write(table, GenericRow.of(0, 1, 1));
+        write(table, GenericRow.of(0, 2, 2));
+        compact(table, singleColumn(0), 0);
+        assertSameEntries(table, index, table.snapshotManager().latestSnapshot());
+    }
+
+    private FileStoreTable createTable() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .column("pt", DataTypes.INT())
+                        .column("k", DataTypes.INT())
+                        .column("v", DataTypes.INT())
+                        .partitionKeys("pt")
+                        .primaryKey("pt", "k")
+                        .option(CoreOptions.BUCKET.key(), "2")
+                        .build();
+        catalog.createTable(identifier(), schema, false);
+        return getTableDefault();
+    }
+
+    private CommitConflictIndex createIndex(FileStoreTable table, int maxDeltaSnapshots) {
+        return new CommitConflictIndex(
+                table.snapshotManager(), table.store().newScan(), maxDeltaSnapshots);
+    }
+
+    private void assertSameEntries(
+            FileStoreTable table, CommitConflictIndex index, Snapshot latest) {
+        // use the changes of the latest snapshot as the changes to commit
+        List<SimpleFileEntry> changes =
+                table.store()
+                        .newScan()
+                        .withSnapshot(latest)
+                        .withKind(ScanMode.DELTA)
+                        .readSimpleEntries();
+        Set<Pair<BinaryRow, Integer>> buckets =
+                changes.stream()
+                        .map(e -> Pair.of(e.partition(), e.bucket()))
+                        .collect(Collectors.toSet());
+        List<SimpleFileEntry> expected =
+                table.store().newScan().withSnapshot(latest).withKind(ScanMode.ALL)
+                        .readSimpleEntries().stream()
+                        .filter(e -> buckets.contains(Pair.of(e.partition(), e.bucket())))
+                        .collect(Collectors.toList());
+        assertThat(index.baseEntries(latest, changes))
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
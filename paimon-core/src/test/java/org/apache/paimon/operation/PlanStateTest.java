@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.FileStore;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.TableTestBase;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.data.BinaryRow.singleColumn;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PlanState}. */
+public class PlanStateTest extends TableTestBase {
+
+    @Test
+    public void testPlanWithState() throws Exception {
+        FileStoreTable table = createTable(1000);
+        FileStoreTable noState =
+                table.copy(
+                        Collections.singletonMap(CoreOptions.SCAN_PLAN_STATE_MAX_FILES.key(), "0"));
+
+        for (int i = 0; i < 10; i++) {
+            write(table, GenericRow.of(i % 3, i, i), GenericRow.of((i + 1) % 3, i, i + 1));
+            if (i % 4 == 3) {
+                compact(table, singleColumn(i % 3), 0);
+            }
+
+            assertSamePlan(table, noState, scan -> scan);
+            assertSamePlan(
+                    table,
+                    noState,
+                    scan -> scan.withPartitionFilter(Collections.singletonList(singleColumn(1))));
+            assertSamePlan(table, noState, scan -> scan.withBucket(0));
+            assertSamePlan(table, noState, scan -> scan.withLevelFilter(level -> level > 0));
+        }
+
+        // time travel should not move the state backwards
+        assertSamePlan(table, noState, scan -> scan.withSnapshot(3));
+        assertSamePlan(table, noState, scan -> scan);
+    }
+
+    @Test
+    public void testExceedMaxFiles() throws Exception {
+        FileStoreTable table = createTable(3);
+        FileStoreTable noState =
+                table.copy(
+                        Collections.singletonMap(CoreOptions.SCAN_PLAN_STATE_MAX_FILES.key(), "0"));
+        for (int i = 0; i < 5; i++) {
+            write(table, GenericRow.of(i % 3, i, i));
+            assertSamePlan(table, noState, scan -> scan);
+        }
+    }
+
+    @Test
+    public void testRebuildExceededState() throws Exception {
+        FileStoreTable table = createTable(1000);
+        PlanState state = createState(table, 3, Long.MAX_VALUE);
+        for (int i = 0; i < 4; i++) {
+            write(table, GenericRow.of(0, i, i));
+        }
+        assertThat(state.read(table.snapshotManager().latestSnapshot(), entry -> true)).isNull();
+
+        // the state is rebuilt once the table has shrunk and enough snapshots have passed
+        compact(table, singleColumn(0), 0);
+        compact(table, singleColumn(0), 1);
+        write(table, GenericRow.of(1, 0, 0));
+        PlanState.Result result =
+                state.read(table.snapshotManager().latestSnapshot(), entry -> true);
+        assertThat(result).isNotNull();
+        assertThat(result.totalFiles).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void testExceedMaxMemorySize() throws Exception {
+        FileStoreTable table = createTable(1000);
+        write(table, GenericRow.of(0, 0, 0));
+        assertThat(
+                        createState(table, 1000, Long.MAX_VALUE)
+                                .read(table.snapshotManager().latestSnapshot(), entry -> true))
+                .isNotNull();
+        assertThat(
+                        createState(table, 1000, 1)
+                                .read(table.snapshotManager().latestSnapshot(), entry -> true))
+                .isNull();
+    }
+
+    private PlanState createState(FileStoreTable table, long maxFiles, long maxMemorySize) {
+        FileStore<?> store = table.store();
+        return new PlanState(
+                table.snapshotManager(),
+                store.manifestListFactory(),
+                store.manifestFileFactory(),
+                maxFiles,
+                maxMemorySize,
+                1,
+                null);
+    }
+
+    private FileStoreTable createTable(long maxFiles) throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .column("pt", DataTypes.INT())
+                        .column("k", DataTypes.INT())
+                        .column("v", DataTypes.INT())
+                        .partitionKeys("pt")
+                        .primaryKey("pt", "k")
+                        .option(CoreOptions.BUCKET.key(), "2")
+                        .option(
+                                CoreOptions.SCAN_PLAN_STATE_MAX_FILES.key(),
+                                String.valueOf(maxFiles))
+                        .build();
+        catalog.createTable(identifier(), schema, false);
+        return getTableDefault();
+    }
+
+    private void assertSamePlan(
+            FileStoreTable table,
+            FileStoreTable noState,
+            Function<FileStoreScan, FileStoreScan> scanFunction) {
+        assertThat(plan(table, scanFunction))
+                .containsExactlyInAnyOrderElementsOf(plan(noState, scanFunction));
+    }
+
+    private List<FileEntry.Identifier> plan(
+            FileStoreTable table, Function<FileStoreScan, FileStoreScan> scanFunction) {
+        return scanFunction.apply(table.store().newScan()).plan().files().stream()
+                .map(ManifestEntry::identifier)
+                .collect(Collectors.toList());
+    }
+}
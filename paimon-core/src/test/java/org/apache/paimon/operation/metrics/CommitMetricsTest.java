@@ -54,6 +54,17 @@ public class CommitMetricsTest {
                 (Histogram) registeredGenericMetrics.get(CommitMetrics.COMMIT_DURATION);
         Gauge<Long> lastCommitAttempts =
                 (Gauge<Long>) registeredGenericMetrics.get(CommitMetrics.LAST_COMMIT_ATTEMPTS);
+        Gauge<Long> lastConflictCheckDuration =
+                (Gauge<Long>)
+                        registeredGenericMetrics.get(CommitMetrics.LAST_CONFLICT_CHECK_DURATION);
+        Gauge<Long> lastRetryWaitDuration =
+                (Gauge<Long>) registeredGenericMetrics.get(CommitMetrics.LAST_RETRY_WAIT_DURATION);
+        Gauge<Long> lastManifestWriteDuration =
+                (Gauge<Long>)
+                        registeredGenericMetrics.get(CommitMetrics.LAST_MANIFEST_WRITE_DURATION);
+        Gauge<Long> lastManifestBytesWritten =
+                (Gauge<Long>)
+                        registeredGenericMetrics.get(CommitMetrics.LAST_MANIFEST_BYTES_WRITTEN);
         Gauge<Long> lastGeneratedSnapshots =
                 (Gauge<Long>) registeredGenericMetrics.get(CommitMetrics.LAST_GENERATED_SNAPSHOTS);
         Gauge<Long> lastPartitionsWritten =
@@ -104,6 +115,10 @@ public class CommitMetricsTest {
         assertThat(commitDuration.getCount()).isEqualTo(0);
         assertThat(commitDuration.getStatistics().size()).isEqualTo(0);
         assertThat(lastCommitAttempts.getValue()).isEqualTo(0);
+        assertThat(lastConflictCheckDuration.getValue()).isEqualTo(0);
+        assertThat(lastRetryWaitDuration.getValue()).isEqualTo(0);
+        assertThat(lastManifestWriteDuration.getValue()).isEqualTo(0);
+        assertThat(lastManifestBytesWritten.getValue()).isEqualTo(0);
         assertThat(lastGeneratedSnapshots.getValue()).isEqualTo(0);
         assertThat(lastPartitionsWritten.getValue()).isEqualTo(0);
         assertThat(lastBucketsWritten.getValue()).isEqualTo(0);
@@ -132,6 +147,10 @@ public class CommitMetricsTest {
         assertThat(commitDuration.getStatistics().getMax()).isEqualTo(200);
         assertThat(commitDuration.getStatistics().getStdDev()).isEqualTo(0);
         assertThat(lastCommitAttempts.getValue()).isEqualTo(1);
+        assertThat(lastConflictCheckDuration.getValue()).isEqualTo(15);
+        assertThat(lastRetryWaitDuration.getValue()).isEqualTo(0);
+        assertThat(lastManifestWriteDuration.getValue()).isEqualTo(8);
+        assertThat(lastManifestBytesWritten.getValue()).isEqualTo(2048);
         assertThat(lastGeneratedSnapshots.getValue()).isEqualTo(2);
         assertThat(lastPartitionsWritten.getValue()).isEqualTo(3);
         assertThat(lastBucketsWritten.getValue()).isEqualTo(3);
@@ -160,6 +179,10 @@ public class CommitMetricsTest {
         assertThat(commitDuration.getStatistics().getMax()).isEqualTo(500);
         assertThat(commitDuration.getStatistics().getStdDev()).isCloseTo(212.132, offset(0.001));
         assertThat(lastCommitAttempts.getValue()).isEqualTo(2);
+        assertThat(lastConflictCheckDuration.getValue()).isEqualTo(40);
+        assertThat(lastRetryWaitDuration.getValue()).isEqualTo(12);
+        assertThat(lastManifestWriteDuration.getValue()).isEqualTo(9);
+        assertThat(lastManifestBytesWritten.getValue()).isEqualTo(4096);
         assertThat(lastGeneratedSnapshots.getValue()).isEqualTo(1);
         assertThat(lastPartitionsWritten.getValue()).isEqualTo(2);
         assertThat(lastBucketsWritten.getValue()).isEqualTo(3);
@@ -199,7 +222,11 @@ public class CommitMetricsTest {
                         compactChangelogFiles,
                         200,
                         2,
-                        1);
+                        1,
+                        15,
+                        0,
+                        8,
+                        2048);
 
         commitMetrics.reportCommit(commitStats);
     }
@@ -228,7 +255,11 @@ public class CommitMetricsTest {
                         compactChangelogFiles,
                         500,
                         1,
-                        2);
+                        2,
+                        40,
+                        12,
+                        9,
+                        4096);
 
         commitMetrics.reportCommit(commitStats);
     }
@@ -78,7 +78,11 @@ public class CommitStatsTest {
                         Collections.emptyList(),
                         0,
                         0,
-                        1);
+                        1,
+                        0,
+                        0,
+                        0,
+                        0);
         assertThat(commitStats.getTableFilesAdded()).isEqualTo(0);
         assertThat(commitStats.getTableFilesDeleted()).isEqualTo(0);
         assertThat(commitStats.getTableFilesAppended()).isEqualTo(0);
@@ -94,6 +98,10 @@ public class CommitStatsTest {
         assertThat(commitStats.getNumBucketsWritten()).isEqualTo(0);
         assertThat(commitStats.getDuration()).isEqualTo(0);
         assertThat(commitStats.getAttempts()).isEqualTo(1);
+        assertThat(commitStats.getConflictCheckDuration()).isEqualTo(0);
+        assertThat(commitStats.getRetryWaitDuration()).isEqualTo(0);
+        assertThat(commitStats.getManifestWriteDuration()).isEqualTo(0);
+        assertThat(commitStats.getManifestBytesWritten()).isEqualTo(0);
     }
 
     @Test
@@ -106,7 +114,11 @@ public class CommitStatsTest {
                         Collections.emptyList(),
                         3000,
                         1,
-                        2);
+                        2,
+                        20,
+                        10,
+                        5,
+                        4096);
         assertThat(commitStats.getTableFilesAdded()).isEqualTo(2);
         assertThat(commitStats.getTableFilesDeleted()).isEqualTo(0);
         assertThat(commitStats.getTableFilesAppended()).isEqualTo(2);
@@ -122,6 +134,10 @@ public class CommitStatsTest {
         assertThat(commitStats.getNumBucketsWritten()).isEqualTo(2);
         assertThat(commitStats.getDuration()).isEqualTo(3000);
         assertThat(commitStats.getAttempts()).isEqualTo(2);
+        assertThat(commitStats.getConflictCheckDuration()).isEqualTo(20);
+        assertThat(commitStats.getRetryWaitDuration()).isEqualTo(10);
+        assertThat(commitStats.getManifestWriteDuration()).isEqualTo(5);
+        assertThat(commitStats.getManifestBytesWritten()).isEqualTo(4096);
     }
 
     @Test
@@ -134,7 +150,11 @@ public class CommitStatsTest {
                         compactChangelogFiles,
                         3000,
                         2,
-                        2);
+                        2,
+                        30,
+                        10,
+                        5,
+                        8192);
         assertThat(commitStats.getTableFilesAdded()).isEqualTo(4);
         assertThat(commitStats.getTableFilesDeleted()).isEqualTo(1);
         assertThat(commitStats.getTableFilesAppended()).isEqualTo(2);
@@ -150,5 +170,9 @@ public class CommitStatsTest {
         assertThat(commitStats.getNumBucketsWritten()).isEqualTo(3);
         assertThat(commitStats.getDuration()).isEqualTo(3000);
         assertThat(commitStats.getAttempts()).isEqualTo(2);
+        assertThat(commitStats.getConflictCheckDuration()).isEqualTo(30);
+        assertThat(commitStats.getRetryWaitDuration()).isEqualTo(10);
+        assertThat(commitStats.getManifestWriteDuration()).isEqualTo(5);
+        assertThat(commitStats.getManifestBytesWritten()).isEqualTo(8192);
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.stats;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.format.SimpleColStats;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DoubleType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.VarCharType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SplitColumnStatsExtractor}. */
+public class SplitColumnStatsExtractorTest {
+
+    private static final TableSchema SCHEMA =
+            new TableSchema(
+                    1,
+                    Arrays.asList(
+                            new DataField(0, "a", new IntType()),
+                            new DataField(1, "b", new VarCharType(10)),
+                            new DataField(2, "c", new DoubleType())),
+                    2,
+                    Collections.emptyList(),
+                    Collections.emptyList(),
+                    Collections.emptyMap(),
+                    "");
+
+    private final SplitColumnStatsExtractor extractor = new SplitColumnStatsExtractor(SCHEMA);
+
+    @Test
+    public void testMinMaxAndCount() {
+        DataSplit split =
+                split(
+                        true,
+                        file(1, 10, new SimpleColStats(5, 20, 2L)),
+                        file(1, 5, new SimpleColStats(1, 8, 0L)),
+                        file(1, 3, new SimpleColStats(null, null, 3L)));
+
+        SplitColumnStatsExtractor.ColumnStats stats = extractor.extract(split, 0);
+        assertThat(stats).isNotNull();
+        assertThat(stats.nonNullCount()).isEqualTo(13);
+        assertThat(stats.minMaxAvailable()).isTrue();
+        assertThat(stats.min()).isEqualTo(1);
+        assertThat(stats.max()).isEqualTo(20);
+    }
+
+    @Test
+    public void testAllNulls() {
+        DataSplit split = split(true, file(1, 3, new SimpleColStats(null, null, 3L)));
+
+        SplitColumnStatsExtractor.ColumnStats stats = extractor.extract(split, 0);
+        assertThat(stats).isNotNull();
+        assertThat(stats.nonNullCount()).isEqualTo(0);
+        assertThat(stats.minMaxAvailable()).isTrue();
+        assertThat(stats.min()).isNull();
+        assertThat(stats.max()).isNull();
+    }
+
+    @Test
+    public void testMinMaxUnavailable() {
+        // counts mode, only null counts are kept
+        DataSplit split =
+                split(
+                        true,
+                        file(1, 10, new SimpleColStats(5, 20, 2L)),
+                        file(1, 5, new SimpleColStats(null, null, 1L)));
+        SplitColumnStatsExtractor.ColumnStats stats = extractor.extract(split, 0);
+        assertThat(stats).isNotNull();
+        assertThat(stats.nonNullCount()).isEqualTo(12);
+        assertThat(stats.minMaxAvailable()).isFalse();
+
+        // string stats may be truncated
+        assertThat(extractor.extract(split, 1).minMaxAvailable()).isFalse();
+        // floating point stats ignore NaN
+        assertThat(extractor.extract(split, 2).minMaxAvailable()).isFalse();
+    }
+
+    @Test
+    public void testStatsUnavailable() {
+        // not raw convertible
+        assertThat(extractor.extract(split(false, file(1, 10, new SimpleColStats(5, 20, 2L))), 0))
+                .isNull();
+
+        // schema evolved
+        assertThat(extractor.extract(split(true, file(0, 10, new SimpleColStats(5, 20, 2L))), 0))
+                .isNull();
+
+        // unknown null count
+        assertThat(
+                        extractor.extract(
+                                split(true, file(1, 10, new SimpleColStats(5, 20, null))), 0))
+                .isNull();
+
+        // deletion vectors
+        DataSplit split =
+                DataSplit.builder()
+                        .withSnapshot(1)
+                        .withPartition(BinaryRow.EMPTY_ROW)
+                        .withBucket(0)
+                        .withBucketPath("bucket-0")
+                        .withDataFiles(
+                                Collections.singletonList(
+                                        file(1, 10, new SimpleColStats(5, 20, 2L))))
+                        .withDataDeletionFiles(
+                                Collections.singletonList(new DeletionFile("dv", 0, 10, 1L)))
+                        .rawConvertible(true)
+                        .build();
+        assertThat(extractor.extract(split, 0)).isNull();
+    }
+
+    private static DataSplit split(boolean rawConvertible, DataFileMeta... files) {
+        return DataSplit.builder()
+                .withSnapshot(1)
+                .withPartition(BinaryRow.EMPTY_ROW)
+                .withBucket(0)
+                .withBucketPath("bucket-0")
+                .withDataFiles(Arrays.asList(files))
+                .rawConvertible(rawConvertible)
+                .build();
+    }
+
+    private static DataFileMeta file(long schemaId, long rowCount, SimpleColStats aStats) {
+        SimpleColStats[] colStats =
+                new SimpleColStats[] {
+                    aStats,
+                    new SimpleColStats(
+                            BinaryString.fromString("a"), BinaryString.fromString("z"), 0L),
+                    new SimpleColStats(1.0d, 2.0d, 0L)
+                };
+        SimpleStats stats =
+                new SimpleStatsConverter(SCHEMA.logicalRowType()).toBinaryAllMode(colStats);
+        List<String> extraFiles = Collections.emptyList();
+        return DataFileMeta.forAppend(
+                "data-" + rowCount,
+                1024,
+                rowCount,
+                stats,
+                0,
+                rowCount - 1,
+                schemaId,
+                extraFiles,
+                null,
+                null,
+                null,
+                null);
+    }
+}
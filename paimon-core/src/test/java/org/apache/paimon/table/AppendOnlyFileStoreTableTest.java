@@ -29,6 +29,8 @@ import org.apache.paimon.fileindex.FileIndexOptions;
 import org.apache.paimon.fileindex.bitmap.BitmapFileIndexFactory;
 import org.apache.paimon.fileindex.bloomfilter.BloomFilterFileIndexFactory;
 import org.apache.paimon.fileindex.bsi.BitSliceIndexBitmapFileIndexFactory;
+import org.apache.paimon.fileindex.ngram.NGramBloomFilterFileIndexFactory;
+import org.apache.paimon.fileindex.zonemap.ZoneMapFileIndexFactory;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
@@ -41,6 +43,7 @@ import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaChange;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.SchemaUtils;
 import org.apache.paimon.schema.TableSchema;
@@ -75,9 +78,11 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.paimon.CoreOptions.BUCKET;
 import static org.apache.paimon.CoreOptions.BUCKET_KEY;
@@ -588,6 +593,212 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
         reader.forEachRemaining(row -> assertThat(row.getString(1).toString()).isEqualTo("b"));
     }
 
+    @Test
+    public void testNGramBloomFilter() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("log", DataTypes.STRING())
+                        .build();
+        // in unaware-bucket mode, we split files into splits all the time
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options -> {
+                            options.set(
+                                    FileIndexOptions.FILE_INDEX
+                                            + "."
+                                            + NGramBloomFilterFileIndexFactory.NGRAM_BLOOM_FILTER
+                                            + "."
+                                            + CoreOptions.COLUMNS,
+                                    "log");
+                            options.set(
+                                    FileIndexOptions.FILE_INDEX
+                                            + "."
+                                            + NGramBloomFilterFileIndexFactory.NGRAM_BLOOM_FILTER
+                                            + ".log.items",
+                                    "100");
+                            options.set(
+                                    FileIndexOptions.FILE_INDEX
+                                            + "."
+                                            + NGramBloomFilterFileIndexFactory.NGRAM_BLOOM_FILTER
+                                            + ".log.fpp",
+                                    "0.01");
+                            options.set(FILE_INDEX_IN_MANIFEST_THRESHOLD.key(), "500 B");
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        List<CommitMessage> result = new ArrayList<>();
+        write.write(GenericRow.of(1, BinaryString.fromString("INFO request served")));
+        write.write(GenericRow.of(2, BinaryString.fromString("INFO cache hit")));
+        result.addAll(write.prepareCommit(true, 0));
+        write.write(GenericRow.of(3, BinaryString.fromString("ERROR connection refused")));
+        result.addAll(write.prepareCommit(true, 0));
+        commit.commit(0, result);
+        result.clear();
+
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        Function<Predicate, List<Integer>> filteredIds =
+                predicate -> {
+                    TableScan.Plan plan = table.newScan().withFilter(predicate).plan();
+                    List<Integer> ids = new ArrayList<>();
+                    try (RecordReader<InternalRow> reader =
+                            table.newRead().createReader(plan.splits())) {
+                        reader.forEachRemaining(row -> ids.add(row.getInt(0)));
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    return ids;
+                };
+
+        assertThat(filteredIds.apply(builder.contains(1, BinaryString.fromString("refused"))))
+                .containsExactly(3);
+        assertThat(filteredIds.apply(builder.startsWith(1, BinaryString.fromString("INFO"))))
+                .containsExactlyInAnyOrder(1, 2);
+        assertThat(filteredIds.apply(builder.endsWith(1, BinaryString.fromString("timeout"))))
+                .isEmpty();
+    }
+
+    @Test
+    public void testZoneMapIndex() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("name", DataTypes.STRING())
+                        .build();
+        // in unaware-bucket mode, we split files into splits all the time
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options -> {
+                            options.set(
+                                    FileIndexOptions.FILE_INDEX
+                                            + "."
+                                            + ZoneMapFileIndexFactory.ZONE_MAP
+                                            + "."
+                                            + CoreOptions.COLUMNS,
+                                    "name");
+                            options.set(
+                                    FileIndexOptions.FILE_INDEX
+                                            + "."
+                                            + ZoneMapFileIndexFactory.ZONE_MAP
+                                            + ".name.block-size",
+                                    "10");
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 100; i++) {
+            BinaryString name = BinaryString.fromString(String.format("name-%03d", i));
+            write.write(GenericRow.of(i, name));
+        }
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.close();
+        commit.close();
+
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        Function<Predicate, List<Integer>> readIds =
+                predicate -> {
+                    TableScan.Plan plan = table.newScan().plan();
+                    List<Integer> ids = new ArrayList<>();
+                    try (RecordReader<InternalRow> reader =
+                            table.newRead().withFilter(predicate).createReader(plan.splits())) {
+                        reader.forEachRemaining(row -> ids.add(row.getInt(0)));
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    return ids;
+                };
+
+        // the rows of the blocks which may contain matched values are read
+        assertThat(readIds.apply(builder.lessThan(1, BinaryString.fromString("name-025"))))
+                .containsExactlyElementsOf(
+                        IntStream.range(0, 30).boxed().collect(Collectors.toList()));
+        assertThat(
+                        readIds.apply(
+                                PredicateBuilder.and(
+                                        builder.greaterOrEqual(
+                                                1, BinaryString.fromString("name-042")),
+                                        builder.lessOrEqual(
+                                                1, BinaryString.fromString("name-057")))))
+                .containsExactlyElementsOf(
+                        IntStream.range(40, 60).boxed().collect(Collectors.toList()));
+        assertThat(readIds.apply(builder.greaterThan(1, BinaryString.fromString("name-100"))))
+                .isEmpty();
+    }
+
+    @Test
+    public void testParquetLateMaterialization() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("v", DataTypes.INT())
+                        .field("name", DataTypes.STRING())
+                        .build();
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options -> {
+                            options.set(FILE_FORMAT, FILE_FORMAT_PARQUET);
+                            options.set("parquet.read.late-materialization.enabled", "true");
+                            options.set(CoreOptions.READ_BATCH_SIZE, 16);
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 100; i++) {
+            write.write(GenericRow.of(i, i % 10, BinaryString.fromString("name-" + i)));
+        }
+        commit.commit(0, write.prepareCommit(true, 0));
+        write.close();
+        commit.close();
+
+        BiFunction<FileStoreTable, Predicate, List<Integer>> readIds =
+                (t, predicate) -> {
+                    List<Integer> ids = new ArrayList<>();
+                    try (RecordReader<InternalRow> reader =
+                            t.newRead()
+                                    .withFilter(predicate)
+                                    .createReader(t.newScan().plan().splits())) {
+                        reader.forEachRemaining(row -> ids.add(row.getInt(0)));
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    return ids;
+                };
+
+        // rows are filtered in the reader, even if the pages contain matched values
+        List<Integer> expected =
+                IntStream.range(0, 100)
+                        .filter(i -> i % 10 == 3 || i % 10 == 4)
+                        .boxed()
+                        .collect(Collectors.toList());
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        assertThat(
+                        readIds.apply(
+                                table,
+                                PredicateBuilder.and(
+                                        builder.greaterOrEqual(1, 3), builder.lessThan(1, 5))))
+                .containsExactlyElementsOf(expected);
+
+        // the filters of files written with an old schema may be inexact after evolving the type
+        table.schemaManager()
+                .commitChanges(
+                        Collections.singletonList(
+                                SchemaChange.updateColumnType("v", DataTypes.STRING())));
+        FileStoreTable evolved = table.copyWithLatestSchema();
+        builder = new PredicateBuilder(evolved.rowType());
+        List<Integer> ids =
+                readIds.apply(
+                        evolved,
+                        PredicateBuilder.and(
+                                builder.greaterOrEqual(1, BinaryString.fromString("3")),
+                                builder.lessThan(1, BinaryString.fromString("5"))));
+        // the old file is not filtered by rows, filters are applied by the engines on top of it
+        assertThat(ids).containsAll(expected).hasSize(100);
+    }
+
     @Test
     public void testBSIAndBitmapIndexInMemory() throws Exception {
         RowType rowType =
@@ -67,6 +67,7 @@ import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.BranchManager;
 import org.apache.paimon.utils.SnapshotManager;
+import org.apache.paimon.utils.SnapshotTimeline;
 import org.apache.paimon.utils.TagManager;
 import org.apache.paimon.utils.TraceableFileIO;
 
@@ -117,6 +118,7 @@ import static org.apache.paimon.CoreOptions.SNAPSHOT_NUM_RETAINED_MIN;
 import static org.apache.paimon.CoreOptions.WRITE_ONLY;
 import static org.apache.paimon.testutils.assertj.PaimonAssertions.anyCauseMatches;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
+import static org.apache.paimon.utils.SnapshotTimeline.SEGMENT_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -1036,6 +1038,34 @@ public abstract class FileStoreTableTestBase {
         // table-path/tag/tag-test1
     }
 
+    @Test
+    public void testRollbackWithSnapshotTimeline() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(conf -> conf.set(CoreOptions.SNAPSHOT_TIMELINE_ENABLED, true));
+        table = prepareRollbackTable(SEGMENT_SIZE, table);
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        SnapshotTimeline timeline = snapshotManager.timeline();
+        assertThat(timeline.contains(1)).isTrue();
+        assertThat(timeline.contains(SEGMENT_SIZE)).isTrue();
+        assertThat(timeline.commitUser(1)).isEqualTo(commitUser);
+
+        table.rollbackTo(2);
+        assertThat(snapshotManager.timeline().contains(1)).isFalse();
+
+        try (StreamTableWrite write = table.newWrite(commitUser);
+                StreamTableCommit commit = table.newCommit(commitUser)) {
+            for (long i = 100; snapshotManager.latestSnapshotId() < SEGMENT_SIZE; i++) {
+                write.write(rowData(1, 10, 100L));
+                commit.commit(i, write.prepareCommit(false, i));
+            }
+        }
+        timeline = snapshotManager.timeline();
+        assertThat(timeline.contains(SEGMENT_SIZE)).isTrue();
+        assertThat(timeline.commitIdentifier(2)).isLessThan(100);
+        assertThat(timeline.commitIdentifier(3)).isGreaterThanOrEqualTo(100);
+    }
+
     private FileStoreTable prepareRollbackTable(int commitTimes) throws Exception {
         FileStoreTable table = createFileStoreTable();
         return prepareRollbackTable(commitTimes, table);
@@ -108,6 +108,7 @@ import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PARQUET;
 import static org.apache.paimon.CoreOptions.LOOKUP_LOCAL_FILE_TYPE;
+import static org.apache.paimon.CoreOptions.LOOKUP_RESULT_CACHE_ROWS;
 import static org.apache.paimon.CoreOptions.MERGE_ENGINE;
 import static org.apache.paimon.CoreOptions.MergeEngine;
 import static org.apache.paimon.CoreOptions.MergeEngine.AGGREGATE;
@@ -816,6 +817,68 @@ public class PrimaryKeyFileStoreTableTest extends FileStoreTableTestBase {
                                 "1|4|500|binary|varbinary|mapKey:mapVal|multiset"));
     }
 
+    @Test
+    public void testParquetLateMaterialization() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(FILE_FORMAT, FILE_FORMAT_PARQUET);
+                            conf.set("parquet.read.late-materialization.enabled", "true");
+                            conf.set(CoreOptions.READ_BATCH_SIZE, 16);
+                        });
+        StreamTableWrite write =
+                table.newWrite(commitUser).withIOManager(new IOManagerImpl(tempDir.toString()));
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 100; i++) {
+            write.write(rowData(1, i, i * 100L));
+        }
+        commit.commit(0, write.prepareCommit(true, 0));
+        // the old records of even keys match the filter, the new records do not
+        for (int i = 0; i < 100; i += 2) {
+            write.write(rowData(1, i, i * 100L + 1));
+        }
+        commit.commit(1, write.prepareCommit(true, 1));
+
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        Predicate filter = builder.lessThan(2, 1000L);
+        List<String> expected =
+                Arrays.asList(
+                        "1|0|1|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|1|100|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|2|201|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|3|300|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|4|401|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|5|500|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|6|601|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|7|700|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|8|801|binary|varbinary|mapKey:mapVal|multiset",
+                        "1|9|900|binary|varbinary|mapKey:mapVal|multiset");
+
+        // merge read, rows must not be dropped before merging
+        List<Split> splits = toSplits(table.newSnapshotReader().read().dataSplits());
+        assertThat(((DataSplit) splits.get(0)).dataFiles()).hasSize(2);
+        TableRead read = table.newRead().withFilter(filter).executeFilter();
+        assertThat(getResult(read, splits, BATCH_ROW_TO_STRING)).isEqualTo(expected);
+        assertThat(
+                        getResult(
+                                table.newRead()
+                                        .withFilter(builder.equal(2, 200L))
+                                        .executeFilter(),
+                                splits,
+                                BATCH_ROW_TO_STRING))
+                .isEmpty();
+
+        // raw read after full compaction, rows are filtered in the reader
+        write.compact(binaryRow(1), 0, true);
+        commit.commit(2, write.prepareCommit(true, 2));
+        write.close();
+        commit.close();
+        splits = toSplits(table.newSnapshotReader().read().dataSplits());
+        assertThat(((DataSplit) splits.get(0)).rawConvertible()).isTrue();
+        assertThat(getResult(table.newRead().withFilter(filter), splits, BATCH_ROW_TO_STRING))
+                .isEqualTo(expected);
+    }
+
     @Test
     public void testDeletionVectorsWithParquetFilter() throws Exception {
         // RowGroup record range [pk] :
@@ -1963,6 +2026,28 @@ public class PrimaryKeyFileStoreTableTest extends FileStoreTableTestBase {
         innerTestTableQuery(table);
     }
 
+    @Test
+    public void testTableQueryForLookupLocalMmapFile() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        options -> {
+                            options.set(CHANGELOG_PRODUCER, LOOKUP);
+                            options.set(LOOKUP_LOCAL_FILE_TYPE, LookupLocalFileType.MMAP);
+                        });
+        innerTestTableQuery(table);
+    }
+
+    @Test
+    public void testTableQueryWithResultCache() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        options -> {
+                            options.set(CHANGELOG_PRODUCER, LOOKUP);
+                            options.set(LOOKUP_RESULT_CACHE_ROWS, 100);
+                        });
+        innerTestTableQuery(table);
+    }
+
     @Test
     public void testTableQueryForNormal() throws Exception {
         FileStoreTable table = createFileStoreTable();
@@ -22,6 +22,7 @@ import org.apache.paimon.Changelog;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
 
 import org.assertj.core.api.Assertions;
@@ -30,10 +31,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -230,6 +233,133 @@ public class SnapshotManagerTest {
                         null));
     }
 
+    @Test
+    public void testTimeline() throws IOException {
+        AtomicInteger snapshotReads = new AtomicInteger();
+        AtomicInteger timelineReads = new AtomicInteger();
+        FileIO localFileIO =
+                new LocalFileIO() {
+                    @Override
+                    public SeekableInputStream newInputStream(Path path) throws IOException {
+                        if (path.getName().startsWith("snapshot-")) {
+                            snapshotReads.incrementAndGet();
+                        } else if (path.getName().startsWith("TIMELINE-")) {
+                            timelineReads.incrementAndGet();
+                        }
+                        return super.newInputStream(path);
+                    }
+                };
+        SnapshotManager snapshotManager =
+                new SnapshotManager(localFileIO, new Path(tempDir.toString()), null, null, true);
+        long millis = 1684726826L;
+        for (long i = 1; i <= 16; i++) {
+            commitWithTimeline(snapshotManager, createSnapshot(i, millis + i * 1000, i % 2 == 0));
+        }
+
+        // the first segment is complete
+        SnapshotTimeline timeline = snapshotManager.timeline();
+        assertThat(timeline.contains(1)).isTrue();
+        assertThat(timeline.contains(16)).isTrue();
+        assertThat(timeline.contains(17)).isFalse();
+        assertThat(timeline.timeMillis(3)).isEqualTo(millis + 3000);
+        assertThat(timeline.watermark(3)).isEqualTo(30);
+        assertThat(timeline.commitUser(3)).isEqualTo("odd");
+        assertThat(timeline.commitIdentifier(3)).isEqualTo(3);
+        assertThat(timeline.commitKind(3)).isEqualTo(Snapshot.CommitKind.APPEND);
+
+        // searches only read the matched snapshot
+        snapshotReads.set(0);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 4500).id()).isEqualTo(4);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 4500).id()).isEqualTo(5);
+        assertThat(snapshotManager.earlierOrEqualWatermark(45).id()).isEqualTo(4);
+        assertThat(snapshotManager.laterOrEqualWatermark(45).id()).isEqualTo(5);
+        assertThat(snapshotManager.earlierThanTimeMills(millis + 4500, false)).isEqualTo(4);
+        assertThat(snapshotManager.latestSnapshotOfUser("odd").get().id()).isEqualTo(15);
+        assertThat(
+                        snapshotManager.findSnapshotsForIdentifiers("even", Arrays.asList(2L, 6L))
+                                .stream()
+                                .map(Snapshot::id))
+                .containsExactlyInAnyOrder(2L, 6L);
+        assertThat(snapshotReads.get()).isEqualTo(7);
+
+        // the timeline is not read if it is not enabled
+        SnapshotManager withoutTimeline =
+                new SnapshotManager(localFileIO, new Path(tempDir.toString()));
+        timelineReads.set(0);
+        assertThat(withoutTimeline.timeline().contains(1)).isFalse();
+        assertThat(withoutTimeline.earlierOrEqualTimeMills(millis + 4500).id()).isEqualTo(4);
+        assertThat(timelineReads.get()).isEqualTo(0);
+
+        // a segment completed by a snapshot committed without the timeline is written by the
+        // next commit
+        for (long i = 17; i <= 31; i++) {
+            commitWithTimeline(snapshotManager, createSnapshot(i, millis + i * 1000, i % 2 == 0));
+        }
+        Snapshot snapshot = createSnapshot(32, millis + 32000, true);
+        localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(32), snapshot.toJson());
+        assertThat(snapshotManager.timeline().contains(17)).isFalse();
+        commitWithTimeline(snapshotManager, createSnapshot(33, millis + 33000, false));
+        timeline = snapshotManager.timeline();
+        assertThat(timeline.contains(32)).isTrue();
+        assertThat(timeline.commitUser(32)).isEqualTo("even");
+        assertThat(timeline.contains(33)).isFalse();
+
+        // segments of rolled back snapshots are deleted and written again by new commits
+        for (long i = 21; i <= 33; i++) {
+            localFileIO.deleteQuietly(snapshotManager.snapshotPath(i));
+        }
+        snapshotManager.commitLatestHint(20);
+        snapshotManager.deleteTimeline(21, 33);
+        assertThat(snapshotManager.timeline().contains(17)).isFalse();
+        assertThat(snapshotManager.timeline().contains(16)).isTrue();
+        for (long i = 21; i <= 32; i++) {
+            commitWithTimeline(
+                    snapshotManager, createSnapshot(i, millis + 100000 + i * 1000, i % 2 == 0));
+        }
+        timeline = snapshotManager.timeline();
+        assertThat(timeline.timeMillis(20)).isEqualTo(millis + 20000);
+        assertThat(timeline.timeMillis(21)).isEqualTo(millis + 121000);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 50000).id()).isEqualTo(21);
+
+        // segments of expired snapshots are deleted
+        for (long i = 1; i <= 17; i++) {
+            localFileIO.deleteQuietly(snapshotManager.snapshotPath(i));
+        }
+        snapshotManager.commitEarliestHint(18);
+        snapshotManager.expireTimeline(1, 18);
+        assertThat(localFileIO.exists(snapshotManager.timelineSegmentPath(0))).isFalse();
+        assertThat(localFileIO.exists(snapshotManager.timelineSegmentPath(1))).isTrue();
+    }
+
+    private void commitWithTimeline(SnapshotManager snapshotManager, Snapshot snapshot)
+            throws IOException {
+        snapshotManager
+                .fileIO()
+                .tryToWriteAtomic(snapshotManager.snapshotPath(snapshot.id()), snapshot.toJson());
+        snapshotManager.commitLatestHint(snapshot.id());
+        snapshotManager.commitTimeline(snapshot);
+    }
+
+    private Snapshot createSnapshot(long id, long millis, boolean even) {
+        return new Snapshot(
+                id,
+                0L,
+                null,
+                null,
+                null,
+                null,
+                even ? "even" : "odd",
+                id,
+                Snapshot.CommitKind.APPEND,
+                millis,
+                null,
+                null,
+                null,
+                null,
+                id * 10,
+                null);
+    }
+
     @Test
     public void testLatestSnapshotOfUser() throws IOException, InterruptedException {
         FileIO localFileIO = LocalFileIO.create();
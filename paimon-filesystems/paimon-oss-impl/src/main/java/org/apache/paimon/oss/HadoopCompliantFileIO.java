@@ -20,14 +20,20 @@ package org.apache.paimon.oss;
 
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.InputStreamPool;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.VectoredReadOptions;
+import org.apache.paimon.fs.VectoredReadable;
+import org.apache.paimon.utils.SupplierWithIOException;
 
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -43,10 +49,26 @@ public abstract class HadoopCompliantFileIO implements FileIO {
 
     protected transient volatile Map<String, FileSystem> fsMap;
 
+    @Nullable protected VectoredReadOptions vectoredReadOptions;
+
     @Override
     public SeekableInputStream newInputStream(Path path) throws IOException {
         org.apache.hadoop.fs.Path hadoopPath = path(path);
-        return new HadoopSeekableInputStream(getFileSystem(hadoopPath).open(hadoopPath));
+        FileSystem fs = getFileSystem(hadoopPath);
+        // streams for vectored reads are opened in io threads, use the class loader of this class
+        ClassLoader classLoader = getClass().getClassLoader();
+        SupplierWithIOException<FSDataInputStream> opener =
+                () -> {
+                    Thread thread = Thread.currentThread();
+                    ClassLoader previous = thread.getContextClassLoader();
+                    thread.setContextClassLoader(classLoader);
+                    try {
+                        return fs.open(hadoopPath);
+                    } finally {
+                        thread.setContextClassLoader(previous);
+                    }
+                };
+        return new HadoopSeekableInputStream(fs.open(hadoopPath), opener, vectoredReadOptions());
     }
 
     @Override
@@ -132,7 +154,12 @@ public abstract class HadoopCompliantFileIO implements FileIO {
     protected abstract FileSystem createFileSystem(org.apache.hadoop.fs.Path path)
             throws IOException;
 
-    private static class HadoopSeekableInputStream extends SeekableInputStream {
+    private VectoredReadOptions vectoredReadOptions() {
+        return vectoredReadOptions == null ? VectoredReadOptions.DEFAULT : vectoredReadOptions;
+    }
+
+    private static class HadoopSeekableInputStream extends SeekableInputStream
+            implements VectoredReadable {
 
         /**
          * Minimum amount of bytes to skip forward before we issue a seek instead of discarding
@@ -155,8 +182,18 @@ public abstract class HadoopCompliantFileIO implements FileIO {
 
         private final FSDataInputStream in;
 
-        private HadoopSeekableInputStream(FSDataInputStream in) {
+        /** Streams for positioned reads, so that ranges of vectored reads are read in parallel. */
+        private final InputStreamPool<FSDataInputStream> preadStreams;
+
+        private final VectoredReadOptions vectoredReadOptions;
+
+        private HadoopSeekableInputStream(
+                FSDataInputStream in,
+                SupplierWithIOException<FSDataInputStream> opener,
+                VectoredReadOptions vectoredReadOptions) {
             this.in = in;
+            this.preadStreams = new InputStreamPool<>(opener, vectoredReadOptions.parallelism());
+            this.vectoredReadOptions = vectoredReadOptions;
         }
 
         @Override
@@ -191,9 +228,35 @@ public abstract class HadoopCompliantFileIO implements FileIO {
 
         @Override
         public void close() throws IOException {
+            preadStreams.close();
             in.close();
         }
 
+        @Override
+        public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+            FSDataInputStream stream = preadStreams.borrow();
+            try {
+                return stream.read(position, buffer, offset, length);
+            } finally {
+                preadStreams.release(stream);
+            }
+        }
+
+        @Override
+        public int minSeekForVectorReads() {
+            return vectoredReadOptions.minSeek();
+        }
+
+        @Override
+        public int batchSizeForVectorReads() {
+            return vectoredReadOptions.batchSize();
+        }
+
+        @Override
+        public int parallelismForVectorReads() {
+            return vectoredReadOptions.parallelism();
+        }
+
         /**
          * Positions the stream to the given location. In contrast to {@link #seek(long)}, this
          * method will always issue a "seek" command to the dfs and may not replace it by {@link
@@ -20,6 +20,7 @@ package org.apache.paimon.oss;
 
 import org.apache.paimon.catalog.CatalogContext;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.VectoredReadOptions;
 import org.apache.paimon.options.Options;
 
 import org.apache.hadoop.conf.Configuration;
@@ -77,6 +78,7 @@ public class OSSFileIO extends HadoopCompliantFileIO {
 
     @Override
     public void configure(CatalogContext context) {
+        vectoredReadOptions = VectoredReadOptions.fromOptions(context.options());
         hadoopOptions = new Options();
         // read all configuration with prefix 'CONFIG_PREFIXES'
         for (String key : context.options().keySet()) {
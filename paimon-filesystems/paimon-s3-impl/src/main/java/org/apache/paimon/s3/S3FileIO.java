@@ -20,6 +20,7 @@ package org.apache.paimon.s3;
 
 import org.apache.paimon.catalog.CatalogContext;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.VectoredReadOptions;
 import org.apache.paimon.options.Options;
 
 import org.apache.hadoop.conf.Configuration;
@@ -69,6 +70,7 @@ public class S3FileIO extends HadoopCompliantFileIO {
     @Override
     public void configure(CatalogContext context) {
         this.hadoopOptions = mirrorCertainHadoopConfig(loadHadoopConfigFromContext(context));
+        this.vectoredReadOptions = VectoredReadOptions.fromOptions(context.options());
     }
 
     // add additional config entries from the IO config to the Hadoop config
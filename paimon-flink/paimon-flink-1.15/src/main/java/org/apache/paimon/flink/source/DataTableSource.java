@@ -64,7 +64,7 @@ public class DataTableSource extends BaseDataTableSource {
             @Nullable int[][] projectFields,
             @Nullable Long limit,
             @Nullable WatermarkStrategy<RowData> watermarkStrategy,
-            @Nullable Long countPushed) {
+            @Nullable PushedAggregation aggregationPushed) {
         super(
                 tableIdentifier,
                 table,
@@ -75,7 +75,7 @@ public class DataTableSource extends BaseDataTableSource {
                 projectFields,
                 limit,
                 watermarkStrategy,
-                countPushed);
+                aggregationPushed);
     }
 
     @Override
@@ -90,7 +90,7 @@ public class DataTableSource extends BaseDataTableSource {
                 projectFields,
                 limit,
                 watermarkStrategy,
-                countPushed);
+                aggregationPushed);
     }
 
     @Override
@@ -283,6 +283,21 @@ public class FlinkConnectorOptions {
                     .defaultValue(LookupCacheMode.AUTO)
                     .withDescription("The cache mode of lookup join.");
 
+    public static final ConfigOption<LookupCacheBackend> LOOKUP_CACHE_BACKEND =
+            ConfigOptions.key("lookup.cache.backend")
+                    .enumType(LookupCacheBackend.class)
+                    .defaultValue(LookupCacheBackend.ROCKSDB)
+                    .withDescription("The storage backend of full cache for lookup join.");
+
+    public static final ConfigOption<MemorySize> LOOKUP_CACHE_IN_MEMORY_MAX_MEMORY_SIZE =
+            ConfigOptions.key("lookup.cache.in-memory.max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(512))
+                    .withDescription(
+                            "The max off-heap memory of the full cache in a single task when "
+                                    + "'lookup.cache.backend' is 'in-memory'. The lookup fails if "
+                                    + "the lookup table does not fit in it.");
+
     public static final ConfigOption<String> LOOKUP_DYNAMIC_PARTITION =
             ConfigOptions.key("lookup.dynamic-partition")
                     .stringType()
@@ -320,6 +335,15 @@ public class FlinkConnectorOptions {
                                     + "cache refreshing is forbidden. Blacklist format is start1->end1,start2->end2,... , "
                                     + "and the time format is yyyy-MM-dd HH:mm. Only used when lookup table is FULL cache mode.");
 
+    public static final ConfigOption<Integer> LOOKUP_REMOTE_QUERY_MAX_BATCH_SIZE =
+            ConfigOptions.key("lookup.remote-query.max-batch-size")
+                    .intType()
+                    .defaultValue(64)
+                    .withDescription(
+                            "The max number of keys sent in one request to the query service. Lookups of"
+                                    + " the same bucket issued while a request of that bucket is in flight"
+                                    + " are coalesced into the next request.");
+
     public static final ConfigOption<Boolean> SINK_AUTO_TAG_FOR_SAVEPOINT =
             ConfigOptions.key("sink.savepoint.auto-tag")
                     .booleanType()
@@ -473,6 +497,34 @@ public class FlinkConnectorOptions {
         FULL
     }
 
+    /** Storage backend of full cache for lookup join. */
+    public enum LookupCacheBackend implements DescribedEnum {
+        ROCKSDB("rocksdb", "Store the cache in a local RocksDB instance on disk."),
+
+        IN_MEMORY(
+                "in-memory",
+                "Store the cache in off-heap memory pages indexed by a hash table, "
+                        + "lookups avoid disk IO, but the lookup table must fit in memory.");
+
+        private final String value;
+        private final String description;
+
+        LookupCacheBackend(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /** Watermark emit strategy for scan. */
     public enum WatermarkEmitStrategy implements DescribedEnum {
         ON_PERIODIC(
@@ -31,7 +31,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-/** A {@link AsyncLookupFunction} to wrap sync function. */
+/**
+ * A {@link AsyncLookupFunction} to wrap sync function. Lookups are executed by a thread pool unless
+ * the function can lookup without blocking, e.g. with remote service.
+ */
 public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     private final NewLookupFunction function;
@@ -66,6 +69,14 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     @Override
     public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
+        CompletableFuture<Collection<RowData>> future;
+        synchronized (function) {
+            future = function.asyncLookup(keyRow);
+        }
+        if (future != null) {
+            // remote lookups are coalesced, only possible if they are not serialized by threads
+            return future;
+        }
         return CompletableFuture.supplyAsync(() -> lookup(keyRow), executor());
     }
 
@@ -25,6 +25,7 @@ import org.apache.paimon.data.JoinedRow;
 import org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode;
 import org.apache.paimon.flink.FlinkRowData;
 import org.apache.paimon.flink.FlinkRowWrapper;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.utils.TableScanUtils;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
@@ -60,6 +61,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -98,6 +100,8 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
 
     protected FunctionContext functionContext;
 
+    @Nullable private transient LookupRefreshMetrics refreshMetrics;
+
     @Nullable private Filter<InternalRow> cacheRowFilter;
 
     public FileStoreLookupFunction(
@@ -145,6 +149,9 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
 
     public void open(FunctionContext context) throws Exception {
         this.functionContext = context;
+        this.refreshMetrics =
+                new LookupRefreshMetrics(
+                        new FlinkMetricRegistry(context.getMetricGroup()), table.name());
         String tmpDirectory = getTmpDirectory(context);
         open(tmpDirectory);
     }
@@ -214,7 +221,10 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
                             path,
                             joinKeys,
                             getRequireCachedBucketIds());
-            this.lookupTable = FullCacheLookupTable.create(context, options.get(LOOKUP_CACHE_ROWS));
+            FullCacheLookupTable fullCacheLookupTable =
+                    FullCacheLookupTable.create(context, options.get(LOOKUP_CACHE_ROWS));
+            fullCacheLookupTable.setRefreshMetrics(refreshMetrics);
+            this.lookupTable = fullCacheLookupTable;
             LOG.info("Created {}.", lookupTable.getClass().getSimpleName());
         }
 
@@ -278,6 +288,31 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
     }
 
+    /**
+     * Lookup without blocking if the lookup table supports it, otherwise return null and {@link
+     * #lookup} should be used.
+     */
+    @Nullable
+    public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
+        // a remote table is refreshed by the query service, there is no refresh to trigger here
+        if (partitionLoader != null
+                || !(lookupTable instanceof PrimaryKeyPartialLookupTable)
+                || !((PrimaryKeyPartialLookupTable) lookupTable).supportsAsyncGet()) {
+            return null;
+        }
+
+        return ((PrimaryKeyPartialLookupTable) lookupTable)
+                .getAsync(new FlinkRowWrapper(keyRow))
+                .thenApply(
+                        lookupResults -> {
+                            List<RowData> rows = new ArrayList<>(lookupResults.size());
+                            for (InternalRow matchedRow : lookupResults) {
+                                rows.add(new FlinkRowData(matchedRow));
+                            }
+                            return rows;
+                        });
+    }
+
     private List<RowData> lookupInternal(InternalRow key) throws IOException {
         List<RowData> rows = new ArrayList<>();
         List<InternalRow> lookupResults = lookupTable.get(key);
@@ -370,6 +405,11 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
             lookupTable = null;
         }
 
+        if (refreshMetrics != null) {
+            refreshMetrics.close();
+            refreshMetrics = null;
+        }
+
         if (path != null) {
             FileIOUtils.deleteDirectoryQuietly(path);
         }
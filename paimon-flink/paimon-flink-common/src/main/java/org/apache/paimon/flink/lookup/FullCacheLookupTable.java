@@ -24,9 +24,13 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheBackend;
 import org.apache.paimon.lookup.BulkLoader;
+import org.apache.paimon.lookup.InMemoryBytesMap;
+import org.apache.paimon.lookup.InMemoryStateFactory;
 import org.apache.paimon.lookup.RocksDBState;
 import org.apache.paimon.lookup.RocksDBStateFactory;
+import org.apache.paimon.lookup.StateFactory;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -64,6 +68,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_CACHE_BACKEND;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_CACHE_IN_MEMORY_MAX_MEMORY_SIZE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC_PENDING_SNAPSHOT_COUNT;
 
@@ -71,15 +77,20 @@ import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC
 public abstract class FullCacheLookupTable implements LookupTable {
     private static final Logger LOG = LoggerFactory.getLogger(FullCacheLookupTable.class);
 
+    private static final long BOOTSTRAP_PROGRESS_INTERVAL = 1_000_000;
+    private static final long BOOTSTRAP_METRICS_INTERVAL = 1_000;
+
     protected final Object lock = new Object();
     protected final Context context;
     protected final RowType projectedType;
     protected final boolean refreshAsync;
+    protected final LookupCacheBackend cacheBackend;
+    private final long inMemoryMaxMemorySize;
 
     @Nullable protected final FieldsComparator userDefinedSeqComparator;
     protected final int appendUdsFieldNumber;
 
-    protected RocksDBStateFactory stateFactory;
+    protected StateFactory stateFactory;
     @Nullable private ExecutorService refreshExecutor;
     private final AtomicReference<Exception> cachedException;
     private final int maxPendingSnapshotCount;
@@ -88,6 +99,8 @@ public abstract class FullCacheLookupTable implements LookupTable {
     private LookupStreamingReader reader;
     private Predicate specificPartition;
     @Nullable private Filter<InternalRow> cacheRowFilter;
+    @Nullable private LookupRefreshMetrics refreshMetrics;
+    private long appliedRows;
 
     public FullCacheLookupTable(Context context) {
         this.table = context.table;
@@ -128,6 +141,8 @@ public abstract class FullCacheLookupTable implements LookupTable {
         Options options = Options.fromMap(context.table.options());
         this.projectedType = projectedType;
         this.refreshAsync = options.get(LOOKUP_REFRESH_ASYNC);
+        this.cacheBackend = options.get(LOOKUP_CACHE_BACKEND);
+        this.inMemoryMaxMemorySize = options.get(LOOKUP_CACHE_IN_MEMORY_MAX_MEMORY_SIZE).getBytes();
         this.cachedException = new AtomicReference<>();
         this.maxPendingSnapshotCount = options.get(LOOKUP_REFRESH_ASYNC_PENDING_SNAPSHOT_COUNT);
     }
@@ -142,12 +157,12 @@ public abstract class FullCacheLookupTable implements LookupTable {
         this.cacheRowFilter = filter;
     }
 
+    public void setRefreshMetrics(@Nullable LookupRefreshMetrics refreshMetrics) {
+        this.refreshMetrics = refreshMetrics;
+    }
+
     protected void init() throws Exception {
-        this.stateFactory =
-                new RocksDBStateFactory(
-                        context.tempPath.toString(),
-                        context.table.coreOptions().toConfiguration(),
-                        null);
+        this.stateFactory = createStateFactory();
         this.refreshExecutor =
                 this.refreshAsync
                         ? Executors.newSingleThreadExecutor(
@@ -158,6 +173,22 @@ public abstract class FullCacheLookupTable implements LookupTable {
                         : null;
     }
 
+    private StateFactory createStateFactory() throws IOException {
+        switch (cacheBackend) {
+            case ROCKSDB:
+                return new RocksDBStateFactory(
+                        context.tempPath.toString(),
+                        context.table.coreOptions().toConfiguration(),
+                        null);
+            case IN_MEMORY:
+                return new InMemoryStateFactory(
+                        context.table.coreOptions().pageSize(), inMemoryMaxMemorySize);
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported lookup cache backend: " + cacheBackend);
+        }
+    }
+
     protected void bootstrap() throws Exception {
         Predicate scanPredicate =
                 PredicateBuilder.andNullable(context.tablePredicate, specificPartition);
@@ -168,16 +199,62 @@ public abstract class FullCacheLookupTable implements LookupTable {
                         scanPredicate,
                         context.requiredCachedBucketIds,
                         cacheRowFilter);
+        long startMillis = System.currentTimeMillis();
+        if (refreshMetrics != null) {
+            refreshMetrics.reportBootstrapProgress(0);
+        }
+        long rows;
+        try {
+            rows =
+                    stateFactory.preferBulkLoad()
+                            ? bootstrapWithBulkLoad(projectedPredicate())
+                            : bootstrapDirectly(projectedPredicate());
+        } catch (InMemoryBytesMap.MemoryExceededException e) {
+            throw memoryExceeded(e);
+        }
+        long durationMillis = System.currentTimeMillis() - startMillis;
+        if (refreshMetrics != null) {
+            refreshMetrics.reportBootstrap(rows, durationMillis);
+        }
+        LOG.info(
+                "Bootstrapped {} rows into lookup table {} in {} ms.",
+                rows,
+                context.table.name(),
+                durationMillis);
+    }
+
+    /** Write rows into states one by one, without sorting. */
+    private long bootstrapDirectly(@Nullable Predicate predicate) throws Exception {
+        long rows = 0;
+        try (RecordReaderIterator<InternalRow> batch =
+                new RecordReaderIterator<>(reader.nextBatch(true))) {
+            while (batch.hasNext()) {
+                InternalRow row = batch.next();
+                if (predicate == null || predicate.test(row)) {
+                    bootstrapRow(row);
+                    reportBootstrapProgress(++rows);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Sort rows by key bytes and bulk load them. Merge-read rows are ordered by key within a
+     * bucket, but serialized keys are not ordered like keys, so the sort cannot be skipped.
+     */
+    private long bootstrapWithBulkLoad(@Nullable Predicate predicate) throws Exception {
         BinaryExternalSortBuffer bulkLoadSorter =
                 RocksDBState.createBulkLoadSorter(
                         IOManager.create(context.tempPath.toString()), context.table.coreOptions());
-        Predicate predicate = projectedPredicate();
+        long rows = 0;
         try (RecordReaderIterator<InternalRow> batch =
                 new RecordReaderIterator<>(reader.nextBatch(true))) {
             while (batch.hasNext()) {
                 InternalRow row = batch.next();
                 if (predicate == null || predicate.test(row)) {
                     bulkLoadSorter.write(GenericRow.of(toKeyBytes(row), toValueBytes(row)));
+                    reportBootstrapProgress(++rows);
                 }
             }
         }
@@ -198,18 +275,37 @@ public abstract class FullCacheLookupTable implements LookupTable {
 
         bulkLoader.finish();
         bulkLoadSorter.clear();
+        return rows;
+    }
+
+    private void reportBootstrapProgress(long rows) {
+        if (refreshMetrics != null && rows % BOOTSTRAP_METRICS_INTERVAL == 0) {
+            refreshMetrics.reportBootstrapProgress(rows);
+        }
+        if (rows % BOOTSTRAP_PROGRESS_INTERVAL == 0) {
+            LOG.info("Read {} rows to bootstrap lookup table {}.", rows, context.table.name());
+        }
     }
 
     @Override
     public void refresh() throws Exception {
-        if (refreshExecutor == null) {
+        if (refreshExecutor == null && refreshMetrics == null) {
             doRefresh();
             return;
         }
 
         Long latestSnapshotId = table.snapshotManager().latestSnapshotId();
         Long nextSnapshotId = reader.nextSnapshotId();
-        if (latestSnapshotId != null
+        if (refreshMetrics != null) {
+            refreshMetrics.reportRefreshLag(
+                    latestSnapshotId == null || nextSnapshotId == null
+                            ? 0
+                            : Math.max(0, latestSnapshotId - nextSnapshotId + 1));
+        }
+
+        if (refreshExecutor == null) {
+            doRefresh();
+        } else if (latestSnapshotId != null
                 && nextSnapshotId != null
                 && latestSnapshotId - nextSnapshotId > maxPendingSnapshotCount) {
             LOG.warn(
@@ -220,7 +316,11 @@ public abstract class FullCacheLookupTable implements LookupTable {
                     maxPendingSnapshotCount);
             if (refreshFuture != null) {
                 // Wait the previous refresh task to be finished.
+                long startMillis = System.currentTimeMillis();
                 refreshFuture.get();
+                if (refreshMetrics != null) {
+                    refreshMetrics.reportBlocked(System.currentTimeMillis() - startMillis);
+                }
             }
             doRefresh();
         } else {
@@ -249,17 +349,40 @@ public abstract class FullCacheLookupTable implements LookupTable {
     }
 
     private void doRefresh() throws Exception {
-        while (true) {
-            try (RecordReaderIterator<InternalRow> batch =
-                    new RecordReaderIterator<>(reader.nextBatch(false))) {
-                if (!batch.hasNext()) {
-                    return;
+        long startMillis = System.currentTimeMillis();
+        long startRows = appliedRows;
+        try {
+            while (true) {
+                try (RecordReaderIterator<InternalRow> batch =
+                        new RecordReaderIterator<>(reader.nextBatch(false))) {
+                    if (!batch.hasNext()) {
+                        break;
+                    }
+                    refresh(batch);
                 }
-                refresh(batch);
             }
+        } catch (InMemoryBytesMap.MemoryExceededException e) {
+            throw memoryExceeded(e);
+        }
+
+        if (refreshMetrics != null) {
+            refreshMetrics.reportRefresh(
+                    appliedRows - startRows, System.currentTimeMillis() - startMillis);
         }
     }
 
+    private RuntimeException memoryExceeded(InMemoryBytesMap.MemoryExceededException e) {
+        return new RuntimeException(
+                String.format(
+                        "Lookup table %s does not fit in the in-memory cache, please increase '%s' "
+                                + "or set '%s' to '%s' to store the cache on disk.",
+                        context.table.name(),
+                        LOOKUP_CACHE_IN_MEMORY_MAX_MEMORY_SIZE.key(),
+                        LOOKUP_CACHE_BACKEND.key(),
+                        LookupCacheBackend.ROCKSDB),
+                e);
+    }
+
     @Override
     public final List<InternalRow> get(InternalRow key) throws IOException {
         List<InternalRow> values;
@@ -286,6 +409,7 @@ public abstract class FullCacheLookupTable implements LookupTable {
         Predicate predicate = projectedPredicate();
         while (input.hasNext()) {
             InternalRow row = input.next();
+            appliedRows++;
             if (refreshAsync) {
                 synchronized (lock) {
                     refreshRow(row, predicate);
@@ -311,6 +435,12 @@ public abstract class FullCacheLookupTable implements LookupTable {
 
     public abstract TableBulkLoader createBulkLoader();
 
+    /**
+     * Write a row of the initial snapshot into states directly, used when the state factory does
+     * not prefer bulk loading. Rows of the initial snapshot have distinct primary keys.
+     */
+    protected abstract void bootstrapRow(InternalRow row) throws IOException;
+
     @Override
     public void close() throws IOException {
         try {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics for bootstrapping and refreshing {@link FullCacheLookupTable}. */
+public class LookupRefreshMetrics {
+
+    private static final String GROUP_NAME = "lookupRefresh";
+
+    public static final String REFRESH_LAG = "refreshLag";
+    public static final String LAST_REFRESH_DURATION = "lastRefreshDuration";
+    public static final String LAST_REFRESH_APPLIED_ROWS = "lastRefreshAppliedRows";
+    public static final String LAST_REFRESH_ROWS_PER_SECOND = "lastRefreshRowsPerSecond";
+    public static final String APPLIED_ROWS = "refreshAppliedRows";
+    public static final String BLOCKED_TIME = "refreshBlockedTimeMs";
+    public static final String BOOTSTRAP_ROWS = "bootstrapRows";
+    public static final String LAST_BOOTSTRAP_DURATION = "lastBootstrapDuration";
+
+    private final MetricGroup metricGroup;
+    private final Counter appliedRows;
+    private final Counter blockedTime;
+
+    private volatile long refreshLag;
+    private volatile long lastRefreshDuration;
+    private volatile long lastRefreshAppliedRows;
+    private volatile long bootstrapRows;
+    private volatile long lastBootstrapDuration;
+
+    public LookupRefreshMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(REFRESH_LAG, () -> refreshLag);
+        metricGroup.gauge(LAST_REFRESH_DURATION, () -> lastRefreshDuration);
+        metricGroup.gauge(LAST_REFRESH_APPLIED_ROWS, () -> lastRefreshAppliedRows);
+        metricGroup.gauge(LAST_REFRESH_ROWS_PER_SECOND, this::lastRefreshRowsPerSecond);
+        this.appliedRows = metricGroup.counter(APPLIED_ROWS);
+        this.blockedTime = metricGroup.counter(BLOCKED_TIME);
+        metricGroup.gauge(BOOTSTRAP_ROWS, () -> bootstrapRows);
+        metricGroup.gauge(LAST_BOOTSTRAP_DURATION, () -> lastBootstrapDuration);
+    }
+
+    /** Report the number of rows read so far by a running bootstrap. */
+    public void reportBootstrapProgress(long rows) {
+        this.bootstrapRows = rows;
+    }
+
+    /** Report a finished bootstrap which loaded {@code rows} rows in {@code durationMillis}. */
+    public void reportBootstrap(long rows, long durationMillis) {
+        this.bootstrapRows = rows;
+        this.lastBootstrapDuration = durationMillis;
+    }
+
+    /** Report the number of snapshots which have been committed but not yet applied. */
+    public void reportRefreshLag(long pendingSnapshots) {
+        this.refreshLag = pendingSnapshots;
+    }
+
+    /** Report a finished refresh which applied {@code rows} rows in {@code durationMillis}. */
+    public void reportRefresh(long rows, long durationMillis) {
+        this.lastRefreshAppliedRows = rows;
+        this.lastRefreshDuration = durationMillis;
+        appliedRows.inc(rows);
+    }
+
+    /** Report the time the lookup thread was blocked waiting for a previous async refresh. */
+    public void reportBlocked(long millis) {
+        blockedTime.inc(millis);
+    }
+
+    private double lastRefreshRowsPerSecond() {
+        long duration = lastRefreshDuration;
+        return duration == 0 ? lastRefreshAppliedRows : lastRefreshAppliedRows * 1000.0 / duration;
+    }
+
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
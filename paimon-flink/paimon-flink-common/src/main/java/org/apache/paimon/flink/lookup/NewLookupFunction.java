@@ -22,8 +22,11 @@ import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.functions.FunctionContext;
 import org.apache.flink.table.functions.LookupFunction;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /** New {@link LookupFunction} for 1.16+, it supports Flink retry join. */
 public class NewLookupFunction extends LookupFunction {
@@ -46,6 +49,12 @@ public class NewLookupFunction extends LookupFunction {
         return function.lookup(keyRow);
     }
 
+    /** See {@link FileStoreLookupFunction#asyncLookup}. */
+    @Nullable
+    public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
+        return function.asyncLookup(keyRow);
+    }
+
     @Override
     public void close() throws Exception {
         function.close();
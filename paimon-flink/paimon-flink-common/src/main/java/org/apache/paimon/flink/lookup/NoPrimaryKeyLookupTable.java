@@ -21,7 +21,7 @@ package org.apache.paimon.flink.lookup;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.lookup.BulkLoader;
-import org.apache.paimon.lookup.RocksDBListState;
+import org.apache.paimon.lookup.ListState;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.utils.KeyProjectedRow;
@@ -40,7 +40,7 @@ public class NoPrimaryKeyLookupTable extends FullCacheLookupTable {
 
     private final KeyProjectedRow joinKeyRow;
 
-    private RocksDBListState<InternalRow, InternalRow> state;
+    private ListState<InternalRow, InternalRow> state;
 
     public NoPrimaryKeyLookupTable(Context context, long lruCacheSize) {
         super(context);
@@ -92,6 +92,11 @@ public class NoPrimaryKeyLookupTable extends FullCacheLookupTable {
         }
     }
 
+    @Override
+    protected void bootstrapRow(InternalRow row) throws IOException {
+        state.add(joinKeyRow.replaceRow(row), row);
+    }
+
     @Override
     public byte[] toKeyBytes(InternalRow row) throws IOException {
         joinKeyRow.replaceRow(row);
@@ -19,32 +19,47 @@
 package org.apache.paimon.flink.lookup;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.io.DataOutputSerializer;
 import org.apache.paimon.lookup.BulkLoader;
-import org.apache.paimon.lookup.RocksDBValueState;
+import org.apache.paimon.lookup.ValueState;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.utils.KeyProjectedRow;
 import org.apache.paimon.utils.ProjectedRow;
+import org.apache.paimon.utils.SortUtil;
 import org.apache.paimon.utils.TypeUtils;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.TreeMap;
 
 /** A {@link LookupTable} for primary key table. */
 public class PrimaryKeyLookupTable extends FullCacheLookupTable {
 
+    private static final int REFRESH_GROUP_SIZE = 1024;
+
     protected final long lruCacheSize;
 
     protected final KeyProjectedRow primaryKeyRow;
 
     @Nullable private final ProjectedRow keyRearrange;
 
-    protected RocksDBValueState<InternalRow, InternalRow> tableState;
+    private final InternalRowSerializer refreshRowSerializer;
+
+    // coalescing keys are serialized outside the lock when refreshing async, so they must not
+    // share the key row and buffer used by lookups
+    private final KeyProjectedRow refreshKeyRow;
+    private final InternalRowSerializer refreshKeySerializer;
+    private final DataOutputSerializer refreshKeyOutView;
+
+    protected ValueState<InternalRow, InternalRow> tableState;
 
     public PrimaryKeyLookupTable(Context context, long lruCacheSize, List<String> joinKey) {
         super(context);
@@ -65,6 +80,11 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
                                     .toArray());
         }
         this.keyRearrange = keyRearrange;
+        this.refreshRowSerializer = new InternalRowSerializer(projectedType);
+        this.refreshKeyRow = new KeyProjectedRow(primaryKeyMapping);
+        this.refreshKeySerializer =
+                InternalSerializers.create(TypeUtils.project(projectedType, primaryKeyMapping));
+        this.refreshKeyOutView = new DataOutputSerializer(32);
     }
 
     @Override
@@ -93,6 +113,37 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
         return value == null ? Collections.emptyList() : Collections.singletonList(value);
     }
 
+    /**
+     * Coalesce changes of the same primary key and apply them in groups sorted by key bytes, so
+     * only the latest change of each key is written to the state.
+     */
+    @Override
+    public void refresh(Iterator<InternalRow> input) throws IOException {
+        TreeMap<byte[], InternalRow> group = new TreeMap<>(SortUtil::compareBinary);
+        while (input.hasNext()) {
+            InternalRow row = input.next();
+            byte[] key = refreshKeyBytes(row);
+            InternalRow previous = group.get(key);
+            if (previous == null
+                    || userDefinedSeqComparator == null
+                    || userDefinedSeqComparator.compare(previous, row) <= 0) {
+                group.put(key, refreshRowSerializer.toBinaryRow(row).copy());
+            }
+
+            if (group.size() >= REFRESH_GROUP_SIZE) {
+                super.refresh(group.values().iterator());
+                group.clear();
+            }
+        }
+        super.refresh(group.values().iterator());
+    }
+
+    private byte[] refreshKeyBytes(InternalRow row) throws IOException {
+        refreshKeyOutView.clear();
+        refreshKeySerializer.serialize(refreshKeyRow.replaceRow(row), refreshKeyOutView);
+        return refreshKeyOutView.getCopyOfBuffer();
+    }
+
     @Override
     protected void refreshRow(InternalRow row, Predicate predicate) throws IOException {
         primaryKeyRow.replaceRow(row);
@@ -146,5 +197,10 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
         };
     }
 
+    @Override
+    protected void bootstrapRow(InternalRow row) throws IOException {
+        tableState.put(primaryKeyRow.replaceRow(row), row);
+    }
+
     public void bulkLoadWritePlus(byte[] key, byte[] value) throws IOException {}
 }
@@ -45,6 +45,9 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.apache.paimon.utils.Preconditions.checkState;
 
 /** Lookup table for primary key which supports to read the LSM tree directly. */
 public class PrimaryKeyPartialLookupTable implements LookupTable {
@@ -119,12 +122,39 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         int bucket = extractor.bucket();
         BinaryRow partition = extractor.partition();
 
-        InternalRow trimmedKey = key;
-        if (trimmedKeyRearrange != null) {
-            trimmedKey = trimmedKeyRearrange.replaceRow(trimmedKey);
+        InternalRow kv = queryExecutor.lookup(partition, bucket, trimmedKey(key));
+        return toList(kv);
+    }
+
+    /** Whether {@link #getAsync} looks up without blocking the calling thread. */
+    public boolean supportsAsyncGet() {
+        return queryExecutor instanceof RemoteQueryExecutor;
+    }
+
+    /**
+     * Lookup without blocking, concurrent lookups of a bucket are coalesced into one request to
+     * the query service. Only supported if {@link #supportsAsyncGet()}.
+     */
+    public CompletableFuture<List<InternalRow>> getAsync(InternalRow key) {
+        checkState(supportsAsyncGet(), "Async lookup is only supported with remote service.");
+        InternalRow adjustedKey = key;
+        if (keyRearrange != null) {
+            adjustedKey = keyRearrange.replaceRow(adjustedKey);
         }
+        extractor.setRecord(adjustedKey);
+        int bucket = extractor.bucket();
+        BinaryRow partition = extractor.partition();
+
+        return ((RemoteQueryExecutor) queryExecutor)
+                .lookupAsync(partition, bucket, trimmedKey(key))
+                .thenApply(PrimaryKeyPartialLookupTable::toList);
+    }
 
-        InternalRow kv = queryExecutor.lookup(partition, bucket, trimmedKey);
+    private InternalRow trimmedKey(InternalRow key) {
+        return trimmedKeyRearrange == null ? key : trimmedKeyRearrange.replaceRow(key);
+    }
+
+    private static List<InternalRow> toList(@Nullable InternalRow kv) {
         if (kv == null) {
             return Collections.emptyList();
         } else {
@@ -284,6 +314,11 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
             return tableQuery.lookup(partition, bucket, key);
         }
 
+        private CompletableFuture<InternalRow> lookupAsync(
+                BinaryRow partition, int bucket, InternalRow key) {
+            return tableQuery.lookupAsync(partition, bucket, key);
+        }
+
         @Override
         public void refresh() {}
 
@@ -23,38 +23,67 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.query.QueryLocationImpl;
-import org.apache.paimon.service.ServiceManager;
 import org.apache.paimon.service.client.KvQueryClient;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.query.TableQuery;
+import org.apache.paimon.utils.FutureUtils;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.ProjectedRow;
 import org.apache.paimon.utils.TypeUtils;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REMOTE_QUERY_MAX_BATCH_SIZE;
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
 
-/** Implementation for {@link TableQuery} to lookup data from remote service. */
+/**
+ * Implementation for {@link TableQuery} to lookup data from remote service.
+ *
+ * <p>At most one request per partition and bucket is in flight, lookups issued meanwhile are queued
+ * and sent together in one multi-key request once the in-flight request completes. So concurrent
+ * lookups are coalesced without waiting for a batching window.
+ */
 public class RemoteTableQuery implements TableQuery {
 
     private final FileStoreTable table;
     private final KvQueryClient client;
     private final InternalRowSerializer keySerializer;
+    private final int maxBatchSize;
+    private final Map<Pair<BinaryRow, Integer>, BucketQueue> queues;
 
     @Nullable private int[] projection;
 
     public RemoteTableQuery(Table table) {
+        this(
+                table,
+                new KvQueryClient(
+                        new QueryLocationImpl(
+                                ((FileStoreTable) table).store().newServiceManager()),
+                        1));
+    }
+
+    @VisibleForTesting
+    RemoteTableQuery(Table table, KvQueryClient client) {
         this.table = (FileStoreTable) table;
-        ServiceManager manager = this.table.store().newServiceManager();
-        this.client = new KvQueryClient(new QueryLocationImpl(manager), 1);
+        this.client = client;
         this.keySerializer =
                 InternalSerializers.create(TypeUtils.project(table.rowType(), table.primaryKeys()));
+        this.maxBatchSize =
+                Options.fromMap(table.options()).get(LOOKUP_REMOTE_QUERY_MAX_BATCH_SIZE);
+        this.queues = new HashMap<>();
     }
 
     public static boolean isRemoteServiceAvailable(FileStoreTable table) {
@@ -64,27 +93,100 @@ public class RemoteTableQuery implements TableQuery {
     @Nullable
     @Override
     public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException {
-        BinaryRow row;
         try {
-            row =
-                    client.getValues(
-                                    partition,
-                                    bucket,
-                                    new BinaryRow[] {keySerializer.toBinaryRow(key)})
-                            .get()[0];
+            return lookupAsync(partition, bucket, key).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IOException(e);
         } catch (ExecutionException e) {
             throw new IOException(e.getCause());
         }
+    }
 
-        if (projection == null) {
-            return row;
+    public CompletableFuture<InternalRow> lookupAsync(
+            BinaryRow partition, int bucket, InternalRow key) {
+        Pair<BinaryRow, Integer> bucketKey = Pair.of(partition.copy(), bucket);
+        PendingLookup lookup = new PendingLookup(keySerializer.toBinaryRow(key).copy());
+        List<PendingLookup> batch;
+        synchronized (queues) {
+            BucketQueue queue = queues.computeIfAbsent(bucketKey, k -> new BucketQueue());
+            queue.pending.add(lookup);
+            batch = queue.inFlight ? null : queue.pollBatch(maxBatchSize);
+        }
+
+        if (batch != null) {
+            send(bucketKey, batch);
+        }
+        return lookup.future.thenApply(this::project);
+    }
+
+    private void send(Pair<BinaryRow, Integer> bucketKey, List<PendingLookup> batch) {
+        BinaryRow[] keys = new BinaryRow[batch.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = batch.get(i).key;
+        }
+
+        CompletableFuture<BinaryRow[]> response;
+        try {
+            response = client.getValues(bucketKey.getLeft(), bucketKey.getRight(), keys);
+        } catch (Throwable t) {
+            response = FutureUtils.completedExceptionally(t);
+        }
+        response.whenComplete(
+                (values, throwable) -> onResponse(bucketKey, batch, values, throwable));
+    }
+
+    private void onResponse(
+            Pair<BinaryRow, Integer> bucketKey,
+            List<PendingLookup> batch,
+            @Nullable BinaryRow[] values,
+            @Nullable Throwable throwable) {
+        try {
+            Throwable failure = throwable;
+            if (failure == null && (values == null || values.length != batch.size())) {
+                failure =
+                        new IOException(
+                                String.format(
+                                        "Expected %s values from the query service, but got %s.",
+                                        batch.size(), values == null ? null : values.length));
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<BinaryRow> future = batch.get(i).future;
+                try {
+                    if (failure != null) {
+                        future.completeExceptionally(failure);
+                    } else {
+                        future.complete(values[i]);
+                    }
+                } catch (Throwable t) {
+                    // never leave the remaining lookups of the batch pending
+                    future.completeExceptionally(t);
+                }
+            }
+        } finally {
+            // always release the queue, otherwise later lookups of the bucket are never sent
+            List<PendingLookup> next;
+            synchronized (queues) {
+                BucketQueue queue = queues.get(bucketKey);
+                if (queue.pending.isEmpty()) {
+                    queues.remove(bucketKey);
+                    next = null;
+                } else {
+                    next = queue.pollBatch(maxBatchSize);
+                }
+            }
+
+            if (next != null) {
+                send(bucketKey, next);
+            }
         }
+    }
 
-        if (row == null) {
-            return null;
+    @Nullable
+    private InternalRow project(@Nullable BinaryRow row) {
+        if (projection == null || row == null) {
+            return row;
         }
 
         return ProjectedRow.from(projection).replaceRow(row);
@@ -110,4 +212,33 @@ public class RemoteTableQuery implements TableQuery {
     public CompletableFuture<Void> cancel() {
         return client.shutdownFuture();
     }
+
+    /** Lookups of a partition and bucket waiting to be sent. */
+    private static class BucketQueue {
+
+        private final Queue<PendingLookup> pending = new ArrayDeque<>();
+
+        private boolean inFlight;
+
+        private List<PendingLookup> pollBatch(int maxBatchSize) {
+            List<PendingLookup> batch = new ArrayList<>();
+            while (!pending.isEmpty() && batch.size() < maxBatchSize) {
+                batch.add(pending.poll());
+            }
+            inFlight = true;
+            return batch;
+        }
+    }
+
+    /** A lookup waiting for its value. */
+    private static class PendingLookup {
+
+        private final BinaryRow key;
+
+        private final CompletableFuture<BinaryRow> future = new CompletableFuture<>();
+
+        private PendingLookup(BinaryRow key) {
+            this.key = key;
+        }
+    }
 }
@@ -18,11 +18,14 @@
 
 package org.apache.paimon.flink.sink;
 
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.ProcessRecordAttributesUtil;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.index.BucketAssigner;
 import org.apache.paimon.index.HashBucketAssigner;
 import org.apache.paimon.index.SimpleHashBucketAssigner;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
@@ -37,6 +40,8 @@ import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.RecordAttributes;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
+import javax.annotation.Nullable;
+
 /** Assign bucket for the input record, output record with bucket. */
 public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2<T, Integer>>
         implements OneInputStreamOperator<T, Tuple2<T, Integer>> {
@@ -51,6 +56,7 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     private final boolean overwrite;
 
     private transient BucketAssigner assigner;
+    @Nullable private transient IOManager ioManager;
     private transient PartitionKeyExtractor<T> extractor;
 
     public HashBucketAssignerOperator(
@@ -80,17 +86,32 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
         int numberTasks = RuntimeContextUtils.getNumberOfParallelSubtasks(getRuntimeContext());
         int taskId = RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext());
         long targetRowNum = table.coreOptions().dynamicBucketTargetRowNum();
-        this.assigner =
-                overwrite
-                        ? new SimpleHashBucketAssigner(numberTasks, taskId, targetRowNum)
-                        : new HashBucketAssigner(
-                                table.snapshotManager(),
-                                commitUser,
-                                table.store().newIndexFileHandler(),
-                                numberTasks,
-                                MathUtils.min(numAssigners, numberTasks),
-                                taskId,
-                                targetRowNum);
+        if (overwrite) {
+            this.assigner = new SimpleHashBucketAssigner(numberTasks, taskId, targetRowNum);
+        } else {
+            HashBucketAssigner hashAssigner =
+                    new HashBucketAssigner(
+                                    table.snapshotManager(),
+                                    commitUser,
+                                    table.store().newIndexFileHandler(),
+                                    numberTasks,
+                                    MathUtils.min(numAssigners, numberTasks),
+                                    taskId,
+                                    targetRowNum)
+                            .withMetricRegistry(
+                                    new FlinkMetricRegistry(getMetricGroup()), table.name());
+            MemorySize maxIndexMemory = table.coreOptions().dynamicBucketIndexMaxMemory();
+            if (maxIndexMemory != null) {
+                this.ioManager =
+                        IOManager.create(
+                                getContainingTask()
+                                        .getEnvironment()
+                                        .getIOManager()
+                                        .getSpillingDirectoriesPaths());
+                hashAssigner.withIndexMemory(maxIndexMemory.getBytes(), ioManager);
+            }
+            this.assigner = hashAssigner;
+        }
         this.extractor = extractorFunction.apply(table.schema());
     }
 
@@ -112,4 +133,15 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     public void prepareSnapshotPreBarrier(long checkpointId) {
         assigner.prepareCommit(checkpointId);
     }
+
+    @Override
+    public void close() throws Exception {
+        if (assigner instanceof HashBucketAssigner) {
+            ((HashBucketAssigner) assigner).close();
+        }
+        if (ioManager != null) {
+            ioManager.close();
+        }
+        super.close();
+    }
 }
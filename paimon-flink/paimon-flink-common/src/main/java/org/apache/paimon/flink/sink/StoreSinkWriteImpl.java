@@ -126,7 +126,11 @@ public class StoreSinkWriteImpl implements StoreSinkWrite {
             @Nullable MetricGroup metricGroup) {
         this.commitUser = commitUser;
         this.state = state;
-        this.paimonIOManager = new IOManagerImpl(ioManager.getSpillingDirectoriesPaths());
+        this.paimonIOManager =
+                new IOManagerImpl(
+                        table.coreOptions().spillIoThreads(),
+                        table.coreOptions().spillIoBufferSize().getBytes(),
+                        ioManager.getSpillingDirectoriesPaths());
         this.ignorePreviousFiles = ignorePreviousFiles;
         this.waitCompaction = waitCompaction;
         this.isStreamingMode = isStreamingMode;
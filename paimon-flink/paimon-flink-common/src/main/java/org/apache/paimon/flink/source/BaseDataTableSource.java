@@ -32,19 +32,14 @@ import org.apache.paimon.options.ConfigOption;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.TableSchema;
-import org.apache.paimon.table.DataTable;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
-import org.apache.paimon.table.source.DataSplit;
-import org.apache.paimon.table.source.Split;
 import org.apache.paimon.utils.Projection;
 
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
-import org.apache.flink.api.connector.source.Source;
 import org.apache.flink.table.catalog.ObjectIdentifier;
 import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.LookupTableSource;
-import org.apache.flink.table.connector.source.SourceProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsAggregatePushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsWatermarkPushDown;
 import org.apache.flink.table.data.RowData;
@@ -59,7 +54,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.IntStream;
 
 import static org.apache.paimon.CoreOptions.CHANGELOG_PRODUCER;
@@ -74,7 +68,6 @@ import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_WATERMARK_ALIGN
 import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_WATERMARK_ALIGNMENT_UPDATE_INTERVAL;
 import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_WATERMARK_EMIT_STRATEGY;
 import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_WATERMARK_IDLE_TIMEOUT;
-import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
 /**
  * Table source to create {@link StaticFileStoreSource} or {@link ContinuousFileStoreSource} under
@@ -99,7 +92,7 @@ public abstract class BaseDataTableSource extends FlinkTableSource
     @Nullable protected final LogStoreTableFactory logStoreTableFactory;
 
     @Nullable protected WatermarkStrategy<RowData> watermarkStrategy;
-    @Nullable protected Long countPushed;
+    @Nullable protected PushedAggregation aggregationPushed;
 
     public BaseDataTableSource(
             ObjectIdentifier tableIdentifier,
@@ -111,7 +104,7 @@ public abstract class BaseDataTableSource extends FlinkTableSource
             @Nullable int[][] projectFields,
             @Nullable Long limit,
             @Nullable WatermarkStrategy<RowData> watermarkStrategy,
-            @Nullable Long countPushed) {
+            @Nullable PushedAggregation aggregationPushed) {
         super(table, predicate, projectFields, limit);
         this.tableIdentifier = tableIdentifier;
         this.streaming = streaming;
@@ -121,7 +114,7 @@ public abstract class BaseDataTableSource extends FlinkTableSource
         this.projectFields = projectFields;
         this.limit = limit;
         this.watermarkStrategy = watermarkStrategy;
-        this.countPushed = countPushed;
+        this.aggregationPushed = aggregationPushed;
     }
 
     @Override
@@ -160,8 +153,8 @@ public abstract class BaseDataTableSource extends FlinkTableSource
 
     @Override
     public ScanRuntimeProvider getScanRuntimeProvider(ScanContext scanContext) {
-        if (countPushed != null) {
-            return createCountStarScan();
+        if (aggregationPushed != null) {
+            return new PaimonDataStreamScanProvider(true, aggregationPushed::toDataStream);
         }
 
         LogSourceProvider logSourceProvider = null;
@@ -212,27 +205,6 @@ public abstract class BaseDataTableSource extends FlinkTableSource
                                 .build());
     }
 
-    private ScanRuntimeProvider createCountStarScan() {
-        checkNotNull(countPushed);
-        NumberSequenceRowSource source = new NumberSequenceRowSource(countPushed, countPushed);
-        return new SourceProvider() {
-            @Override
-            public Source<RowData, ?, ?> createSource() {
-                return source;
-            }
-
-            @Override
-            public boolean isBounded() {
-                return true;
-            }
-
-            @Override
-            public Optional<Integer> getParallelism() {
-                return Optional.of(1);
-            }
-        };
-    }
-
     protected abstract List<String> dynamicPartitionFilteringFields();
 
     @Override
@@ -298,48 +270,23 @@ public abstract class BaseDataTableSource extends FlinkTableSource
             return false;
         }
 
-        if (!(table instanceof DataTable)) {
-            return false;
-        }
-
         if (groupingSets.size() != 1) {
             return false;
         }
 
-        if (groupingSets.get(0).length != 0) {
+        PushedAggregation aggregation =
+                PushedAggregation.create(
+                        table,
+                        predicate,
+                        projectFields,
+                        groupingSets.get(0),
+                        aggregateExpressions,
+                        producedDataType);
+        if (aggregation == null) {
             return false;
         }
 
-        if (aggregateExpressions.size() != 1) {
-            return false;
-        }
-
-        if (!aggregateExpressions
-                .get(0)
-                .getFunctionDefinition()
-                .getClass()
-                .getName()
-                .equals(
-                        "org.apache.flink.table.planner.functions.aggfunctions.Count1AggFunction")) {
-            return false;
-        }
-
-        List<Split> splits =
-                table.newReadBuilder().dropStats().withFilter(predicate).newScan().plan().splits();
-        long countPushed = 0;
-        for (Split s : splits) {
-            if (!(s instanceof DataSplit)) {
-                return false;
-            }
-            DataSplit split = (DataSplit) s;
-            if (!split.mergedRowCountAvailable()) {
-                return false;
-            }
-
-            countPushed += split.mergedRowCount();
-        }
-
-        this.countPushed = countPushed;
+        this.aggregationPushed = aggregation;
         return true;
     }
 
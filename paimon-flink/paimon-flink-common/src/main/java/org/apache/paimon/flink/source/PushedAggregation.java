@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.source;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.flink.FlinkRowData;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.stats.SplitColumnStatsExtractor;
+import org.apache.paimon.table.DataTable;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.InternalRowUtils;
+import org.apache.paimon.utils.ProjectedRow;
+
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.expressions.AggregateExpression;
+import org.apache.flink.table.expressions.FieldReferenceExpression;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.DataType;
+import org.apache.flink.table.types.logical.LogicalType;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The local aggregation pushed down to {@link BaseDataTableSource}. It is grouped by partition
+ * fields and computed from the row counts and value stats of the splits, so no data file needs to
+ * be read.
+ *
+ * <p>COUNT(*), COUNT(col), MIN(col) and MAX(col) are supported. The aggregation is only pushed down
+ * if all the splits have exact stats, see {@link SplitColumnStatsExtractor}.
+ */
+public class PushedAggregation {
+
+    private static final String AGG_FUNCTIONS_PACKAGE =
+            "org.apache.flink.table.planner.functions.aggfunctions.";
+
+    private final List<RowData> rows;
+    private final LogicalType producedType;
+
+    private PushedAggregation(List<RowData> rows, LogicalType producedType) {
+        this.rows = rows;
+        this.producedType = producedType;
+    }
+
+    public DataStream<RowData> toDataStream(StreamExecutionEnvironment env) {
+        return env.fromCollection(rows, InternalTypeInfo.of(producedType));
+    }
+
+    /**
+     * Computes the aggregation, returns null if it can not be pushed down.
+     *
+     * @param projectFields the projection applied to the source, the grouping fields and the
+     *     arguments of the aggregate functions are indexes of the projected fields
+     */
+    @Nullable
+    public static PushedAggregation create(
+            Table table,
+            @Nullable Predicate predicate,
+            @Nullable int[][] projectFields,
+            int[] grouping,
+            List<AggregateExpression> aggregateExpressions,
+            DataType producedDataType) {
+        if (!(table instanceof DataTable)) {
+            return null;
+        }
+
+        RowType rowType = table.rowType();
+        int[] fieldMapping;
+        if (projectFields == null) {
+            fieldMapping = IntStream.range(0, rowType.getFieldCount()).toArray();
+        } else {
+            fieldMapping = new int[projectFields.length];
+            for (int i = 0; i < projectFields.length; i++) {
+                if (projectFields[i].length != 1) {
+                    return null;
+                }
+                fieldMapping[i] = projectFields[i][0];
+            }
+        }
+
+        // only support grouping by partition fields
+        List<String> partitionKeys = table.partitionKeys();
+        int[] groupingMapping = new int[grouping.length];
+        for (int i = 0; i < grouping.length; i++) {
+            String name = rowType.getFieldNames().get(fieldMapping[grouping[i]]);
+            groupingMapping[i] = partitionKeys.indexOf(name);
+            if (groupingMapping[i] < 0) {
+                return null;
+            }
+        }
+        RowType groupingType = rowType.project(partitionKeys).project(groupingMapping);
+
+        List<AggFunction> aggFunctions = new ArrayList<>();
+        for (AggregateExpression expression : aggregateExpressions) {
+            AggFunction function = toAggFunction(table, expression, fieldMapping);
+            if (function == null) {
+                return null;
+            }
+            aggFunctions.add(function);
+        }
+
+        SplitColumnStatsExtractor statsExtractor =
+                table instanceof FileStoreTable
+                        ? new SplitColumnStatsExtractor(((FileStoreTable) table).schema())
+                        : null;
+        boolean needColumnStats =
+                aggFunctions.stream().anyMatch(f -> f.kind != AggKind.COUNT_STAR);
+        ProjectedRow groupingRow = ProjectedRow.from(groupingMapping);
+        InternalRowSerializer groupingSerializer = new InternalRowSerializer(groupingType);
+        Map<BinaryRow, Object[]> results = new LinkedHashMap<>();
+
+        // value stats are only needed for the aggregation of columns
+        List<Split> splits =
+                (needColumnStats ? table.newReadBuilder() : table.newReadBuilder().dropStats())
+                        .withFilter(predicate)
+                        .newScan()
+                        .plan()
+                        .splits();
+        for (Split s : splits) {
+            if (!(s instanceof DataSplit)) {
+                return null;
+            }
+            DataSplit split = (DataSplit) s;
+
+            Object[] splitResults = new Object[aggFunctions.size()];
+            for (int i = 0; i < aggFunctions.size(); i++) {
+                splitResults[i] = aggFunctions.get(i).evaluate(split, statsExtractor);
+                if (splitResults[i] == NOT_AVAILABLE) {
+                    return null;
+                }
+            }
+
+            BinaryRow key =
+                    groupingSerializer.toBinaryRow(groupingRow.replaceRow(split.partition())).copy();
+            Object[] accumulators = results.get(key);
+            if (accumulators == null) {
+                results.put(key, splitResults);
+            } else {
+                for (int i = 0; i < aggFunctions.size(); i++) {
+                    accumulators[i] = aggFunctions.get(i).merge(accumulators[i], splitResults[i]);
+                }
+            }
+        }
+
+        if (results.isEmpty() && grouping.length == 0) {
+            // always return one row for global aggregate
+            Object[] accumulators = new Object[aggFunctions.size()];
+            for (int i = 0; i < aggFunctions.size(); i++) {
+                accumulators[i] = aggFunctions.get(i).kind.isCount() ? 0L : null;
+            }
+            results.put(BinaryRow.EMPTY_ROW, accumulators);
+        }
+
+        InternalRow.FieldGetter[] groupingGetters = groupingType.fieldGetters();
+        List<RowData> rows = new ArrayList<>();
+        for (Map.Entry<BinaryRow, Object[]> entry : results.entrySet()) {
+            GenericRow row = new GenericRow(grouping.length + aggFunctions.size());
+            for (int i = 0; i < grouping.length; i++) {
+                row.setField(i, groupingGetters[i].getFieldOrNull(entry.getKey()));
+            }
+            Object[] accumulators = entry.getValue();
+            for (int i = 0; i < accumulators.length; i++) {
+                row.setField(grouping.length + i, accumulators[i]);
+            }
+            rows.add(new FlinkRowData(row));
+        }
+        return new PushedAggregation(rows, producedDataType.getLogicalType());
+    }
+
+    @Nullable
+    private static AggFunction toAggFunction(
+            Table table, AggregateExpression expression, int[] fieldMapping) {
+        if (expression.isDistinct() || expression.getFilterExpression().isPresent()) {
+            return null;
+        }
+
+        String className = expression.getFunctionDefinition().getClass().getName();
+        List<FieldReferenceExpression> args = expression.getArgs();
+        if (isFunction(className, "Count1AggFunction")) {
+            return new AggFunction(AggKind.COUNT_STAR, -1, null);
+        }
+
+        // the aggregation of a column needs the value stats of the files
+        if (!(table instanceof FileStoreTable) || args.size() != 1) {
+            return null;
+        }
+        int fieldIndex = fieldMapping[args.get(0).getFieldIndex()];
+        org.apache.paimon.types.DataType type = table.rowType().getTypeAt(fieldIndex);
+        if (isFunction(className, "CountAggFunction")) {
+            return new AggFunction(AggKind.COUNT, fieldIndex, type.getTypeRoot());
+        }
+        if (!SplitColumnStatsExtractor.supportsMinMax(type)) {
+            return null;
+        }
+        if (isFunction(className, "MinAggFunction")) {
+            return new AggFunction(AggKind.MIN, fieldIndex, type.getTypeRoot());
+        }
+        if (isFunction(className, "MaxAggFunction")) {
+            return new AggFunction(AggKind.MAX, fieldIndex, type.getTypeRoot());
+        }
+        return null;
+    }
+
+    private static boolean isFunction(String className, String functionName) {
+        // MinAggFunction and MaxAggFunction have a nested class for each type in some versions
+        String name = AGG_FUNCTIONS_PACKAGE + functionName;
+        return className.equals(name) || className.startsWith(name + "$");
+    }
+
+    private static final Object NOT_AVAILABLE = new Object();
+
+    private enum AggKind {
+        COUNT_STAR,
+        COUNT,
+        MIN,
+        MAX;
+
+        private boolean isCount() {
+            return this == COUNT_STAR || this == COUNT;
+        }
+    }
+
+    private static class AggFunction {
+
+        private final AggKind kind;
+        private final int fieldIndex;
+        @Nullable private final DataTypeRoot typeRoot;
+
+        private AggFunction(AggKind kind, int fieldIndex, @Nullable DataTypeRoot typeRoot) {
+            this.kind = kind;
+            this.fieldIndex = fieldIndex;
+            this.typeRoot = typeRoot;
+        }
+
+        /** Returns the result of the split, or {@link #NOT_AVAILABLE} if stats are not exact. */
+        @Nullable
+        private Object evaluate(DataSplit split, SplitColumnStatsExtractor statsExtractor) {
+            if (kind == AggKind.COUNT_STAR) {
+                return split.mergedRowCountAvailable() ? split.mergedRowCount() : NOT_AVAILABLE;
+            }
+
+            SplitColumnStatsExtractor.ColumnStats stats =
+                    statsExtractor.extract(split, fieldIndex);
+            if (stats == null) {
+                return NOT_AVAILABLE;
+            }
+            switch (kind) {
+                case COUNT:
+                    return stats.nonNullCount();
+                case MIN:
+                    return stats.minMaxAvailable() ? stats.min() : NOT_AVAILABLE;
+                case MAX:
+                    return stats.minMaxAvailable() ? stats.max() : NOT_AVAILABLE;
+                default:
+                    throw new UnsupportedOperationException("Unsupported kind: " + kind);
+            }
+        }
+
+        @Nullable
+        private Object merge(@Nullable Object accumulator, @Nullable Object value) {
+            if (kind.isCount()) {
+                return (long) accumulator + (long) value;
+            }
+            if (accumulator == null) {
+                return value;
+            }
+            if (value == null) {
+                return accumulator;
+            }
+            int compare = InternalRowUtils.compare(value, accumulator, typeRoot);
+            return (kind == AggKind.MIN ? compare < 0 : compare > 0) ? value : accumulator;
+        }
+    }
+}
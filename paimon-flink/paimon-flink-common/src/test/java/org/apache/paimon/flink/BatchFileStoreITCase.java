@@ -618,6 +618,53 @@ public class BatchFileStoreITCase extends CatalogITCaseBase {
         validateCount1PushDown(sql);
     }
 
+    @Test
+    public void testMinMaxCountAppend() {
+        sql(
+                "CREATE TABLE min_max_append (f0 INT, f1 STRING, f2 DECIMAL(10, 2), dt STRING)"
+                        + " PARTITIONED BY (dt)");
+        sql(
+                "INSERT INTO min_max_append VALUES "
+                        + "(1, 'a', 1.10, '1'), (5, 'b', 5.50, '1'), (null, null, null, '2')");
+        sql("INSERT INTO min_max_append VALUES (3, 'c', 3.30, '2')");
+
+        String sql = "SELECT MIN(f0), MAX(f0), COUNT(f1), MAX(f2) FROM min_max_append";
+        assertThat(sql(sql)).containsOnly(Row.of(1, 5, 3L, new BigDecimal("5.50")));
+        validateAggregatePushDown(sql, "MinAggFunction");
+
+        sql = "SELECT dt, MIN(f0), MAX(f0), COUNT(*) FROM min_max_append GROUP BY dt";
+        assertThat(sql(sql)).containsExactlyInAnyOrder(Row.of("1", 1, 5, 2L), Row.of("2", 3, 3, 2L));
+        validateAggregatePushDown(sql, "MaxAggFunction");
+
+        // min and max of strings are not pushed down because they may be truncated
+        sql = "SELECT MIN(f1) FROM min_max_append";
+        assertThat(sql(sql)).containsOnly(Row.of("a"));
+        validateAggregateNotPushDown(sql, "MinAggFunction");
+
+        // not a partition field
+        sql = "SELECT f1, MIN(f0) FROM min_max_append GROUP BY f1";
+        assertThat(sql(sql))
+                .containsExactlyInAnyOrder(
+                        Row.of("a", 1), Row.of("b", 5), Row.of("c", 3), Row.of(null, null));
+        validateAggregateNotPushDown(sql, "MinAggFunction");
+    }
+
+    @Test
+    public void testMinMaxCountWithDv() {
+        sql(
+                "CREATE TABLE min_max_pk_dv (f0 INT PRIMARY KEY NOT ENFORCED, f1 INT) WITH ("
+                        + "'deletion-vectors.enabled' = 'true')");
+        sql("INSERT INTO min_max_pk_dv VALUES (1, 10), (2, 20), (3, 30)");
+
+        String sql = "SELECT MIN(f1), MAX(f1), COUNT(f1) FROM min_max_pk_dv";
+        assertThat(sql(sql)).containsOnly(Row.of(10, 30, 3L));
+        validateAggregatePushDown(sql, "MinAggFunction");
+
+        // the stats of a file with deletion vector are not exact
+        sql("INSERT INTO min_max_pk_dv VALUES (3, 5)");
+        assertThat(sql(sql)).containsOnly(Row.of(5, 20, 3L));
+    }
+
     @Test
     public void testParquetRowDecimalAndTimestamp() {
         sql(
@@ -651,4 +698,20 @@ public class BatchFileStoreITCase extends CatalogITCaseBase {
         }
         assertThat(transformation.getDescription()).doesNotContain("Count1AggFunction");
     }
+
+    private void validateAggregatePushDown(String sql, String aggFunction) {
+        Transformation<?> transformation = AbstractTestBase.translate(tEnv, sql);
+        while (!transformation.getInputs().isEmpty()) {
+            transformation = transformation.getInputs().get(0);
+        }
+        assertThat(transformation.getDescription()).contains(aggFunction);
+    }
+
+    private void validateAggregateNotPushDown(String sql, String aggFunction) {
+        Transformation<?> transformation = AbstractTestBase.translate(tEnv, sql);
+        while (!transformation.getInputs().isEmpty()) {
+            transformation = transformation.getInputs().get(0);
+        }
+        assertThat(transformation.getDescription()).doesNotContain(aggFunction);
+    }
 }
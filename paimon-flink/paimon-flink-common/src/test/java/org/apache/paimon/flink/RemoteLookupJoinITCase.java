@@ -48,8 +48,10 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
@@ -101,6 +103,16 @@ public class RemoteLookupJoinITCase extends CatalogITCaseBase {
                 .isEqualTo(44);
         assertThat(query.lookup(row(), 0, row(5))).isNull();
 
+        // concurrent lookups of a bucket are coalesced into multi-key requests
+        List<CompletableFuture<InternalRow>> futures = new ArrayList<>();
+        for (int k : new int[] {1, 2, 4, 5}) {
+            futures.add(query.lookupAsync(row(), 0, row(k)));
+        }
+        assertThat(futures.get(0).get().getInt(1)).isEqualTo(11);
+        assertThat(futures.get(1).get().getInt(1)).isEqualTo(22);
+        assertThat(futures.get(2).get().getInt(1)).isEqualTo(44);
+        assertThat(futures.get(3).get()).isNull();
+
         service.close();
         query.cancel().get();
     }
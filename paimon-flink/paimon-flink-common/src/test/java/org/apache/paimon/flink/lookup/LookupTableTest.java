@@ -27,9 +27,14 @@ import org.apache.paimon.data.JoinedRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.flink.FlinkConnectorOptions;
+import org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheBackend;
 import org.apache.paimon.flink.lookup.FullCacheLookupTable.TableBulkLoader;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.TestMetricRegistry;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.schema.Schema;
@@ -59,6 +64,7 @@ import org.testcontainers.shaded.com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -68,6 +74,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -223,6 +230,143 @@ public class LookupTableTest extends TableTestBase {
         assertRow(result.get(0), 1, 22, 222);
     }
 
+    @Test
+    public void testPkTableRefreshCoalesce() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.SEQUENCE_FIELD, "f1");
+        FileStoreTable storeTable = createTable(singletonList("f0"), options);
+        FullCacheLookupTable.Context context =
+                new FullCacheLookupTable.Context(
+                        storeTable,
+                        new int[] {0, 1, 2},
+                        null,
+                        null,
+                        tempDir.toFile(),
+                        singletonList("f0"),
+                        null);
+        table = FullCacheLookupTable.create(context, ThreadLocalRandom.current().nextInt(2) * 10);
+        table.open();
+
+        table.refresh(
+                Arrays.asList(
+                                row(1, 11, 111),
+                                row(2, 22, 222),
+                                row(1, 33, 333),
+                                row(3, 33, 333),
+                                row(1, 22, 222),
+                                row(RowKind.DELETE, 2, 22, 222))
+                        .iterator());
+
+        // the change with the largest sequence wins
+        List<InternalRow> result = table.get(row(1));
+        assertThat(result).hasSize(1);
+        assertRow(result.get(0), 1, 33, 333);
+
+        assertThat(table.get(row(2))).isEmpty();
+
+        result = table.get(row(3));
+        assertThat(result).hasSize(1);
+        assertRow(result.get(0), 3, 33, 333);
+    }
+
+    @Test
+    public void testPkTableRefreshCoalesceAsync() throws Exception {
+        Options options = new Options();
+        options.set(FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC, true);
+        FileStoreTable storeTable = createTable(singletonList("f0"), options);
+        FullCacheLookupTable.Context context =
+                new FullCacheLookupTable.Context(
+                        storeTable,
+                        new int[] {0, 1, 2},
+                        null,
+                        null,
+                        tempDir.toFile(),
+                        singletonList("f0"),
+                        null);
+        table = FullCacheLookupTable.create(context, 0);
+        table.open();
+
+        int numKeys = 1000;
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 1; i <= numKeys; i++) {
+            rows.add(row(i, 11 * i, 111 * i));
+        }
+        table.refresh(rows.iterator());
+
+        // coalescing keys are serialized by the refresh thread while lookups are running
+        AtomicReference<Throwable> refreshError = new AtomicReference<>();
+        Thread refreshThread =
+                new Thread(
+                        () -> {
+                            try {
+                                for (int k = 0; k < 50; k++) {
+                                    table.refresh(rows.iterator());
+                                }
+                            } catch (Throwable t) {
+                                refreshError.set(t);
+                            }
+                        });
+        refreshThread.start();
+        Random random = new Random();
+        while (refreshThread.isAlive()) {
+            int key = random.nextInt(numKeys) + 1;
+            List<InternalRow> result = table.get(row(key));
+            assertThat(result).hasSize(1);
+            assertRow(result.get(0), key, 11 * key, 111 * key);
+        }
+        refreshThread.join();
+        assertThat(refreshError.get()).isNull();
+    }
+
+    @Test
+    public void testRefreshMetrics() throws Exception {
+        FileStoreTable storeTable = createTable(singletonList("f0"), new Options());
+        writeWithBucketAssigner(storeTable, row -> 0, GenericRow.of(1, 11, 111));
+
+        FullCacheLookupTable.Context context =
+                new FullCacheLookupTable.Context(
+                        storeTable,
+                        new int[] {0, 1, 2},
+                        null,
+                        null,
+                        tempDir.toFile(),
+                        singletonList("f0"),
+                        null);
+        table = FullCacheLookupTable.create(context, ThreadLocalRandom.current().nextInt(2) * 10);
+        LookupRefreshMetrics metrics =
+                new LookupRefreshMetrics(new TestMetricRegistry(), storeTable.name());
+        table.setRefreshMetrics(metrics);
+        table.open();
+
+        Map<String, Metric> registered = metrics.getMetricGroup().getMetrics();
+        assertThat(((Gauge<?>) registered.get(LookupRefreshMetrics.BOOTSTRAP_ROWS)).getValue())
+                .isEqualTo(1L);
+        Gauge<?> bootstrapDuration =
+                (Gauge<?>) registered.get(LookupRefreshMetrics.LAST_BOOTSTRAP_DURATION);
+        assertThat((Long) bootstrapDuration.getValue()).isGreaterThanOrEqualTo(0L);
+
+        writeWithBucketAssigner(
+                storeTable, row -> 0, GenericRow.of(1, 22, 222), GenericRow.of(2, 22, 222));
+        writeWithBucketAssigner(storeTable, row -> 0, GenericRow.of(3, 33, 333));
+        table.refresh();
+
+        assertThat(((Gauge<?>) registered.get(LookupRefreshMetrics.REFRESH_LAG)).getValue())
+                .isEqualTo(2L);
+        assertThat(
+                        ((Gauge<?>) registered.get(LookupRefreshMetrics.LAST_REFRESH_APPLIED_ROWS))
+                                .getValue())
+                .isEqualTo(3L);
+        assertThat(((Counter) registered.get(LookupRefreshMetrics.APPLIED_ROWS)).getCount())
+                .isEqualTo(3L);
+        assertRow(table.get(row(1)).get(0), 1, 22, 222);
+
+        table.refresh();
+        assertThat(((Gauge<?>) registered.get(LookupRefreshMetrics.REFRESH_LAG)).getValue())
+                .isEqualTo(0L);
+        assertThat(((Counter) registered.get(LookupRefreshMetrics.APPLIED_ROWS)).getCount())
+                .isEqualTo(3L);
+    }
+
     @Test
     public void testPkTableWithSequenceFieldProjection() throws Exception {
         Options options = new Options();
@@ -1004,6 +1148,99 @@ public class LookupTableTest extends TableTestBase {
         assertRow(result.get(0), 1, -1, 111);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"f0", "f1"})
+    public void testInMemoryPkTable(String joinKey) throws Exception {
+        Options options = new Options();
+        options.set(FlinkConnectorOptions.LOOKUP_CACHE_BACKEND, LookupCacheBackend.IN_MEMORY);
+        options.set(CoreOptions.BUCKET, 1);
+        FileStoreTable storeTable = createTable(singletonList("f0"), options);
+        InternalRow[] rows = new InternalRow[1000];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = GenericRow.of(i, i % 10, 111 * i);
+        }
+        write(storeTable, rows);
+
+        FullCacheLookupTable.Context context =
+                new FullCacheLookupTable.Context(
+                        storeTable,
+                        new int[] {0, 1, 2},
+                        null,
+                        null,
+                        tempDir.toFile(),
+                        singletonList(joinKey),
+                        null);
+        table = FullCacheLookupTable.create(context, 0);
+        table.open();
+
+        if (joinKey.equals("f0")) {
+            for (int i = 0; i < rows.length; i++) {
+                List<InternalRow> result = table.get(row(i));
+                assertThat(result).hasSize(1);
+                assertRow(result.get(0), i, i % 10, 111 * i);
+            }
+
+            table.refresh(singletonList(row(1, 22, 222)).iterator());
+            assertRow(table.get(row(1)).get(0), 1, 22, 222);
+
+            table.refresh(singletonList(row(RowKind.DELETE, 1, 22, 222)).iterator());
+            assertThat(table.get(row(1))).isEmpty();
+        } else {
+            for (int k = 0; k < 10; k++) {
+                assertThat(table.get(row(k))).hasSize(100);
+            }
+
+            // move pk 1 from sec key 1 to sec key 22
+            table.refresh(singletonList(row(1, 22, 222)).iterator());
+            assertThat(table.get(row(1))).hasSize(99);
+            List<InternalRow> result = table.get(row(22));
+            assertThat(result).hasSize(1);
+            assertRow(result.get(0), 1, 22, 222);
+
+            table.refresh(singletonList(row(RowKind.DELETE, 1, 22, 222)).iterator());
+            assertThat(table.get(row(22))).isEmpty();
+        }
+    }
+
+    @Test
+    public void testInMemoryNoPrimaryKeyTable() throws Exception {
+        Options options = new Options();
+        options.set(FlinkConnectorOptions.LOOKUP_CACHE_BACKEND, LookupCacheBackend.IN_MEMORY);
+        FileStoreTable storeTable = createTable(emptyList(), options);
+        InternalRow[] rows = new InternalRow[1000];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = GenericRow.of(i, i % 10, 111 * i);
+        }
+        write(storeTable, rows);
+
+        FullCacheLookupTable.Context context =
+                new FullCacheLookupTable.Context(
+                        storeTable,
+                        new int[] {0, 1, 2},
+                        null,
+                        null,
+                        tempDir.toFile(),
+                        singletonList("f1"),
+                        null);
+        table = FullCacheLookupTable.create(context, 0);
+        table.open();
+
+        for (int k = 0; k < 10; k++) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = k; i < rows.length; i += 10) {
+                expected.add(i);
+            }
+            List<InternalRow> result = table.get(row(k));
+            assertThat(result.stream().map(row -> row.getInt(0)))
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+
+        table.refresh(singletonList(row(1, 22, 333)).iterator());
+        table.refresh(singletonList(row(2, 22, 444)).iterator());
+        assertThat(table.get(row(22)).stream().map(row -> row.getInt(0)))
+                .containsExactlyInAnyOrder(1, 2);
+    }
+
     private FileStoreTable createDimTable() throws Exception {
         FileIO fileIO = LocalFileIO.create();
         org.apache.paimon.fs.Path tablePath =
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.query;
+
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.service.client.KvQueryClient;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.TableTestBase;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link RemoteTableQuery}. */
+public class RemoteTableQueryTest extends TableTestBase {
+
+    @Test
+    public void testFailingClient() throws Exception {
+        Identifier identifier = identifier("T");
+        Schema schema =
+                Schema.newBuilder()
+                        .column("k", DataTypes.INT())
+                        .column("v", DataTypes.INT())
+                        .primaryKey("k")
+                        .option("bucket", "1")
+                        .build();
+        catalog.createTable(identifier, schema, false);
+        FileStoreTable table = getTable(identifier);
+        InternalRowSerializer valueSerializer = new InternalRowSerializer(table.rowType());
+
+        TestClient client = new TestClient();
+        RemoteTableQuery query = new RemoteTableQuery(table, client);
+
+        // the client throws instead of returning a failed future
+        client.handler =
+                keys -> {
+                    throw new RuntimeException("Connection refused");
+                };
+        assertThatThrownBy(() -> query.lookup(BinaryRow.EMPTY_ROW, 0, GenericRow.of(1)))
+                .isInstanceOf(IOException.class)
+                .hasRootCauseMessage("Connection refused");
+
+        // the server returns fewer values than keys
+        client.handler = keys -> CompletableFuture.completedFuture(new BinaryRow[0]);
+        assertThatThrownBy(() -> query.lookup(BinaryRow.EMPTY_ROW, 0, GenericRow.of(1)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Expected 1 values from the query service, but got 0.");
+
+        // lookups queued behind a failed request are still sent
+        CompletableFuture<BinaryRow[]> inFlight = new CompletableFuture<>();
+        client.handler = keys -> inFlight;
+        CompletableFuture<InternalRow> first =
+                query.lookupAsync(BinaryRow.EMPTY_ROW, 0, GenericRow.of(1));
+        first.thenAccept(
+                value -> {
+                    throw new RuntimeException("Failing continuation");
+                });
+        CompletableFuture<InternalRow> second =
+                query.lookupAsync(BinaryRow.EMPTY_ROW, 0, GenericRow.of(2));
+        CompletableFuture<InternalRow> third =
+                query.lookupAsync(BinaryRow.EMPTY_ROW, 0, GenericRow.of(3));
+
+        client.handler =
+                keys -> {
+                    BinaryRow[] values = new BinaryRow[keys.length];
+                    for (int i = 0; i < keys.length; i++) {
+                        int key = keys[i].getInt(0);
+                        values[i] =
+                                valueSerializer.toBinaryRow(GenericRow.of(key, key * 10)).copy();
+                    }
+                    return CompletableFuture.completedFuture(values);
+                };
+        inFlight.completeExceptionally(new RuntimeException("Server failure"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second.get().getInt(1)).isEqualTo(20);
+        assertThat(third.get().getInt(1)).isEqualTo(30);
+        assertThat(client.requests).hasSize(4);
+        assertThat(client.requests.get(3)).hasSize(2);
+
+        // nothing is left in flight
+        assertThat(query.lookup(BinaryRow.EMPTY_ROW, 0, GenericRow.of(4)).getInt(1))
+                .isEqualTo(40);
+
+        query.close();
+    }
+
+    private static class TestClient extends KvQueryClient {
+
+        private final List<BinaryRow[]> requests = new ArrayList<>();
+
+        private Function<BinaryRow[], CompletableFuture<BinaryRow[]>> handler;
+
+        private TestClient() {
+            super((partition, bucket, forceUpdate) -> null, 1);
+        }
+
+        @Override
+        public CompletableFuture<BinaryRow[]> getValues(
+                BinaryRow partition, int bucket, BinaryRow[] keys) {
+            requests.add(keys);
+            return handler.apply(keys);
+        }
+    }
+}
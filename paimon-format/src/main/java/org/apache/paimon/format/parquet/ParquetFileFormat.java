@@ -34,6 +34,8 @@ import org.apache.paimon.types.RowType;
 import org.apache.parquet.filter2.predicate.ParquetFilters;
 import org.apache.parquet.hadoop.ParquetOutputFormat;
 
+import javax.annotation.Nullable;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -60,8 +62,20 @@ public class ParquetFileFormat extends FileFormat {
     @Override
     public FormatReaderFactory createReaderFactory(
             RowType projectedRowType, List<Predicate> filters) {
+        return createReaderFactory(projectedRowType, filters, null);
+    }
+
+    @Override
+    public FormatReaderFactory createReaderFactory(
+            RowType projectedRowType,
+            @Nullable List<Predicate> filters,
+            @Nullable List<Predicate> rowFilters) {
         return new ParquetReaderFactory(
-                options, projectedRowType, readBatchSize, ParquetFilters.convert(filters));
+                options,
+                projectedRowType,
+                readBatchSize,
+                ParquetFilters.convert(filters),
+                rowFilters);
     }
 
     @Override
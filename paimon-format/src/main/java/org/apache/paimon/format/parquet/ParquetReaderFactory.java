@@ -37,6 +37,9 @@ import org.apache.paimon.format.parquet.reader.ParquetTimestampVector;
 import org.apache.paimon.format.parquet.type.ParquetField;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.predicate.PredicateReplaceVisitor;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.DataField;
@@ -69,6 +72,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.apache.paimon.format.parquet.ParquetSchemaConverter.MAP_REPEATED_NAME;
@@ -90,18 +94,110 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
     private static final String ALLOCATION_SIZE = "parquet.read.allocation.size";
 
+    private static final String LATE_MATERIALIZATION_ENABLED =
+            "parquet.read.late-materialization.enabled";
+
     private final Options conf;
     private final DataField[] readFields;
     private final int batchSize;
     private final FilterCompat.Filter filter;
     private final Set<Integer> unknownFieldsIndices = new HashSet<>();
 
+    /**
+     * Predicate on {@link #readFields} evaluated after decoding its columns, the other columns are
+     * only decoded for the selected rows. Null if late materialization is not applicable.
+     */
+    @Nullable private final Predicate lateMaterializationPredicate;
+
     public ParquetReaderFactory(
             Options conf, RowType readType, int batchSize, FilterCompat.Filter filter) {
+        this(conf, readType, batchSize, filter, null);
+    }
+
+    /**
+     * Create a reader factory with exact row filters, they are used for late materialization if
+     * it is enabled, the rows not matching them are dropped.
+     */
+    public ParquetReaderFactory(
+            Options conf,
+            RowType readType,
+            int batchSize,
+            FilterCompat.Filter filter,
+            @Nullable List<Predicate> rowFilters) {
         this.conf = conf;
         this.readFields = readType.getFields().toArray(new DataField[0]);
         this.batchSize = batchSize;
         this.filter = filter;
+        this.lateMaterializationPredicate =
+                conf.getBoolean(LATE_MATERIALIZATION_ENABLED, false)
+                        ? lateMaterializationPredicate(rowFilters)
+                        : null;
+    }
+
+    /**
+     * Picks the conjuncts of row filters which can be evaluated on top level primitive columns of
+     * {@link #readFields}. Returns null if no conjunct can be picked or all the read columns are
+     * referenced, since there is nothing left to materialize lately.
+     */
+    @Nullable
+    private Predicate lateMaterializationPredicate(@Nullable List<Predicate> rowFilters) {
+        if (rowFilters == null || rowFilters.isEmpty()) {
+            return null;
+        }
+
+        PredicateReplaceVisitor visitor =
+                leaf -> {
+                    for (int i = 0; i < readFields.length; i++) {
+                        DataField field = readFields[i];
+                        if (field.name().equals(leaf.fieldName())) {
+                            return field.type().equals(leaf.type())
+                                            && isLateMaterializable(field.type())
+                                    ? Optional.of(leaf.copyWithNewIndex(i))
+                                    : Optional.empty();
+                        }
+                    }
+                    return Optional.empty();
+                };
+        List<Predicate> picked = new ArrayList<>();
+        for (Predicate predicate : PredicateBuilder.splitAnd(PredicateBuilder.and(rowFilters))) {
+            predicate.visit(visitor).ifPresent(picked::add);
+        }
+        if (picked.isEmpty()) {
+            return null;
+        }
+
+        Predicate predicate = PredicateBuilder.and(picked);
+        Set<Integer> filterFields = filterFieldIndices(predicate);
+        for (int i = 0; i < readFields.length; i++) {
+            if (!filterFields.contains(i) && isLateMaterializable(readFields[i].type())) {
+                return predicate;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isLateMaterializable(DataType type) {
+        switch (type.getTypeRoot()) {
+            case ARRAY:
+            case MAP:
+            case MULTISET:
+            case ROW:
+            case VARIANT:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static Set<Integer> filterFieldIndices(Predicate predicate) {
+        Set<Integer> indices = new HashSet<>();
+        PredicateReplaceVisitor collector =
+                leaf -> {
+                    indices.add(leaf.index());
+                    return Optional.of(leaf);
+                };
+        predicate.visit(collector);
+        return indices;
     }
 
     @Override
@@ -129,7 +225,12 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         List<ParquetField> fields = buildFieldsList(readFields, columnIO);
 
         return new ParquetReader(
-                reader, requestedSchema, reader.getFilteredRecordCount(), poolOfBatches, fields);
+                reader,
+                requestedSchema,
+                reader.getFilteredRecordCount(),
+                poolOfBatches,
+                fields,
+                lateMaterializationPredicate);
     }
 
     private void setReadOptions(ParquetReadOptions.Builder builder) {
@@ -343,12 +444,18 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
         private final List<ParquetField> fields;
 
+        @Nullable private final Predicate lateMaterializationPredicate;
+
+        /** Columns decoded before evaluating {@link #lateMaterializationPredicate}. */
+        @Nullable private final Set<Integer> filterFields;
+
         private ParquetReader(
                 ParquetFileReader reader,
                 MessageType requestedSchema,
                 long totalRowCount,
                 Pool<ParquetReaderBatch> pool,
-                List<ParquetField> fields) {
+                List<ParquetField> fields,
+                @Nullable Predicate lateMaterializationPredicate) {
             this.reader = reader;
             this.requestedSchema = requestedSchema;
             this.totalRowCount = totalRowCount;
@@ -359,6 +466,11 @@ public class ParquetReaderFactory implements FormatReaderFactory {
             this.nextRowPosition = 0;
             this.currentRowGroupFirstRowIndex = 0;
             this.fields = fields;
+            this.lateMaterializationPredicate = lateMaterializationPredicate;
+            this.filterFields =
+                    lateMaterializationPredicate == null
+                            ? null
+                            : filterFieldIndices(lateMaterializationPredicate);
         }
 
         @Nullable
@@ -366,12 +478,15 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         public ColumnarRowIterator readBatch() throws IOException {
             final ParquetReaderBatch batch = getCachedEntry();
 
-            if (!nextBatch(batch)) {
-                batch.recycle();
-                return null;
+            while (nextBatch(batch)) {
+                // skip the batches without any selected row
+                if (batch.selectedSize != 0) {
+                    return batch.convertAndGetIterator(currentRowPosition);
+                }
             }
 
-            return batch.convertAndGetIterator(currentRowPosition);
+            batch.recycle();
+            return null;
         }
 
         /** Advances to the next batch of rows. Returns false if there are no more. */
@@ -391,21 +506,55 @@ public class ParquetReaderFactory implements FormatReaderFactory {
             }
 
             int num = getBachSize();
+            batch.columnarBatch.setNumRows(num);
 
-            for (int i = 0; i < columnReaders.length; ++i) {
-                if (columnReaders[i] == null) {
-                    batch.writableVectors[i].fillWithNulls();
-                } else {
-                    //noinspection unchecked
-                    columnReaders[i].readToVector(num, batch.writableVectors[i]);
+            if (lateMaterializationPredicate == null) {
+                for (int i = 0; i < columnReaders.length; ++i) {
+                    readColumn(batch, i, num);
+                }
+                batch.selectedSize = -1;
+            } else {
+                // decode the filter columns first and evaluate the predicate on them, then only
+                // decode the selected rows of the other columns
+                for (int i = 0; i < columnReaders.length; ++i) {
+                    if (filterFields.contains(i)) {
+                        readColumn(batch, i, num);
+                    }
+                }
+                int[] selected = batch.selected;
+                for (int i = 0; i < num; i++) {
+                    selected[i] = i;
+                }
+                int selectedSize =
+                        lateMaterializationPredicate.test(batch.columnarBatch, selected, num);
+                for (int i = 0; i < columnReaders.length; ++i) {
+                    if (filterFields.contains(i)) {
+                        continue;
+                    }
+                    if (columnReaders[i] == null || selectedSize == num) {
+                        readColumn(batch, i, num);
+                    } else {
+                        //noinspection unchecked
+                        columnReaders[i].readToVector(
+                                num, batch.writableVectors[i], selected, selectedSize);
+                    }
                 }
+                batch.selectedSize = selectedSize;
             }
             rowsReturned += num;
             nextRowPosition = getNextRowPosition(num);
-            batch.columnarBatch.setNumRows(num);
             return true;
         }
 
+        private void readColumn(ParquetReaderBatch batch, int i, int num) throws IOException {
+            if (columnReaders[i] == null) {
+                batch.writableVectors[i].fillWithNulls();
+            } else {
+                //noinspection unchecked
+                columnReaders[i].readToVector(num, batch.writableVectors[i]);
+            }
+        }
+
         private void readNextRowGroup() throws IOException {
             PageReadStore rowGroup = reader.readNextFilteredRowGroup();
             if (rowGroup == null) {
@@ -512,7 +661,8 @@ public class ParquetReaderFactory implements FormatReaderFactory {
             WritableColumnVector[] writableVectors,
             VectorizedColumnBatch columnarBatch,
             Pool.Recycler<ParquetReaderBatch> recycler) {
-        return new ParquetReaderBatch(filePath, writableVectors, columnarBatch, recycler);
+        return new ParquetReaderBatch(
+                filePath, writableVectors, columnarBatch, batchSize, recycler);
     }
 
     private static class ParquetReaderBatch {
@@ -524,10 +674,23 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
         private final ColumnarRowIterator result;
 
+        /** Row ids selected by late materialization, unselected rows are not fully decoded. */
+        private final int[] selected;
+
+        /** Number of {@link #selected} rows, -1 means all rows are selected. */
+        private int selectedSize;
+
+        /**
+         * Iterator of the selected rows. It never exposes the batch, since the batch contains rows
+         * which are not fully decoded.
+         */
+        private final ColumnarRowIterator selectedResult;
+
         protected ParquetReaderBatch(
                 Path filePath,
                 WritableColumnVector[] writableVectors,
                 VectorizedColumnBatch columnarBatch,
+                int batchSize,
                 Pool.Recycler<ParquetReaderBatch> recycler) {
             this.writableVectors = writableVectors;
             this.containsNestedColumn =
@@ -554,6 +717,11 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                                     filePath, new ColumnarRow(columnarBatch), this::recycle)
                             : new VectorizedRowIterator(
                                     filePath, new ColumnarRow(columnarBatch), this::recycle);
+            this.selected = new int[batchSize];
+            this.selectedSize = -1;
+            this.selectedResult =
+                    new ColumnarRowIterator(
+                            filePath, new ColumnarRow(columnarBatch), this::recycle);
         }
 
         public void recycle() {
@@ -561,6 +729,12 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         }
 
         public ColumnarRowIterator convertAndGetIterator(long rowNumber) {
+            if (selectedSize >= 0 && selectedSize < columnarBatch.getNumRows()) {
+                selectedResult.reset(rowNumber);
+                selectedResult.select(selected, selectedSize);
+                return selectedResult;
+            }
+
             result.reset(rowNumber);
             return result;
         }
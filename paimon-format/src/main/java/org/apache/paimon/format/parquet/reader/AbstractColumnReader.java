@@ -40,6 +40,8 @@ import org.apache.parquet.schema.PrimitiveType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -69,6 +71,9 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
     /** If true, the current page is dictionary encoded. */
     private boolean isCurrentPageDictionaryEncoded;
 
+    /** The current page if its decoders are not initialized yet. */
+    @Nullable private DataPage currentPage;
+
     /**
      * Helper struct to track intermediate states while reading Parquet pages in the column chunk.
      */
@@ -138,13 +143,56 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
     /** Reads `total` values from this columnReader into column. */
     @Override
     public final void readToVector(int readNumber, VECTOR vector) throws IOException {
-        int rowId = 0;
         WritableIntVector dictionaryIds = null;
         if (dictionary != null) {
             dictionaryIds = vector.reserveDictionaryIds(readNumber);
         }
+        readRows(0, readNumber, vector, dictionaryIds, false);
+    }
+
+    /**
+     * Reads the selected values of the next `readNumber` values into column. Values of unselected
+     * rows are skipped without decoding and set to null, pages without any selected row are not
+     * decoded at all.
+     */
+    @Override
+    public final void readToVector(int readNumber, VECTOR vector, int[] selected, int selectedSize)
+            throws IOException {
+        WritableIntVector dictionaryIds = null;
+        if (dictionary != null) {
+            dictionaryIds = vector.reserveDictionaryIds(readNumber);
+        }
+
+        int rowId = 0;
+        int i = 0;
+        while (i < selectedSize) {
+            int start = selected[i++];
+            int end = start + 1;
+            while (i < selectedSize && selected[i] == end) {
+                i++;
+                end++;
+            }
+
+            if (start > rowId) {
+                readRows(rowId, start - rowId, vector, dictionaryIds, true);
+            }
+            readRows(start, end - start, vector, dictionaryIds, false);
+            rowId = end;
+        }
+
+        if (rowId < readNumber) {
+            readRows(rowId, readNumber - rowId, vector, dictionaryIds, true);
+        }
+    }
 
-        readState.resetForNewBatch(readNumber);
+    /**
+     * Reads `total` values into column from `rowId`. If `skip` is true, the values are skipped and
+     * set to null in column.
+     */
+    private void readRows(
+            int rowId, int total, VECTOR vector, WritableIntVector dictionaryIds, boolean skip)
+            throws IOException {
+        readState.resetForNewBatch(total);
 
         while (readState.rowsToReadInBatch > 0) {
             // Compute the number of values we want to read in this page.
@@ -177,6 +225,7 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
                     pageRowId += leftInPage;
                     leftInPage = 0;
                 } else {
+                    initCurrentPage();
                     if (isCurrentPageDictionaryEncoded) {
                         runLenDecoder.skipDictionaryIds(
                                 toSkip, maxDefLevel, this.dictionaryIdsDecoder);
@@ -195,38 +244,23 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
                 long end = Math.min(rangeEnd, pageRowId + readBatch - 1);
                 int num = (int) (end - start + 1);
 
-                if (isCurrentPageDictionaryEncoded) {
-                    // Read and decode dictionary ids.
-                    runLenDecoder.readDictionaryIds(
-                            num,
-                            dictionaryIds,
-                            vector,
-                            rowId,
-                            maxDefLevel,
-                            this.dictionaryIdsDecoder);
-
-                    if (vector.hasDictionary() || (rowId == 0 && supportLazyDecode())) {
-                        // Column vector supports lazy decoding of dictionary values so just set the
-                        // dictionary.
-                        // We can't do this if rowId != 0 AND the column doesn't have a dictionary
-                        // (i.e.
-                        // some
-                        // non-dictionary encoded values have already been added).
-                        vector.setDictionary(new ParquetDictionary(dictionary));
+                if (skip) {
+                    if (num < leftInPage) {
+                        initCurrentPage();
+                        if (isCurrentPageDictionaryEncoded) {
+                            runLenDecoder.skipDictionaryIds(
+                                    num, maxDefLevel, this.dictionaryIdsDecoder);
+                        } else {
+                            skipBatch(num);
+                        }
                     } else {
-                        readBatchFromDictionaryIds(rowId, num, vector, dictionaryIds);
+                        // the rest of the page is skipped, drop it without decoding
+                        currentPage = null;
                     }
+                    vector.setNulls(rowId, num);
                 } else {
-                    if (vector.hasDictionary() && rowId != 0) {
-                        // This batch already has dictionary encoded values but this new page is
-                        // not.
-                        // The batch
-                        // does not support a mix of dictionary and not so we will decode the
-                        // dictionary.
-                        readBatchFromDictionaryIds(0, rowId, vector, vector.getDictionaryIds());
-                    }
-                    vector.setDictionary(null);
-                    readBatch(rowId, num, vector);
+                    initCurrentPage();
+                    readValues(rowId, num, vector, dictionaryIds);
                 }
                 leftInBatch -= num;
                 pageRowId += num;
@@ -239,38 +273,80 @@ public abstract class AbstractColumnReader<VECTOR extends WritableColumnVector>
         }
     }
 
+    private void readValues(int rowId, int num, VECTOR vector, WritableIntVector dictionaryIds) {
+        if (isCurrentPageDictionaryEncoded) {
+            // Read and decode dictionary ids.
+            runLenDecoder.readDictionaryIds(
+                    num, dictionaryIds, vector, rowId, maxDefLevel, this.dictionaryIdsDecoder);
+
+            if (vector.hasDictionary() || (rowId == 0 && supportLazyDecode())) {
+                // Column vector supports lazy decoding of dictionary values so just set the
+                // dictionary.
+                // We can't do this if rowId != 0 AND the column doesn't have a dictionary
+                // (i.e.
+                // some
+                // non-dictionary encoded values have already been added).
+                vector.setDictionary(new ParquetDictionary(dictionary));
+            } else {
+                readBatchFromDictionaryIds(rowId, num, vector, dictionaryIds);
+            }
+        } else {
+            if (vector.hasDictionary() && rowId != 0) {
+                // This batch already has dictionary encoded values but this new page is
+                // not.
+                // The batch
+                // does not support a mix of dictionary and not so we will decode the
+                // dictionary.
+                readBatchFromDictionaryIds(0, rowId, vector, vector.getDictionaryIds());
+            }
+            vector.setDictionary(null);
+            readBatch(rowId, num, vector);
+        }
+    }
+
     private int readPage() {
         DataPage page = pageReader.readPage();
         if (page == null) {
             return -1;
         }
         long pageFirstRowIndex = page.getFirstRowIndex().orElse(0L);
-
-        int pageValueCount =
-                page.accept(
-                        new DataPage.Visitor<Integer>() {
-                            @Override
-                            public Integer visit(DataPageV1 dataPageV1) {
-                                try {
-                                    return readPageV1(dataPageV1);
-                                } catch (IOException e) {
-                                    throw new RuntimeException(e);
-                                }
-                            }
-
-                            @Override
-                            public Integer visit(DataPageV2 dataPageV2) {
-                                try {
-                                    return readPageV2(dataPageV2);
-                                } catch (IOException e) {
-                                    throw new RuntimeException(e);
-                                }
-                            }
-                        });
+        int pageValueCount = page.getValueCount();
+        // the page is decoded lazily, it may be dropped without decoding
+        this.currentPage = page;
         readState.resetForNewPage(pageValueCount, pageFirstRowIndex);
         return pageValueCount;
     }
 
+    /** Initialize the decoders of the current page if it is not initialized yet. */
+    private void initCurrentPage() {
+        if (currentPage == null) {
+            return;
+        }
+
+        DataPage page = currentPage;
+        currentPage = null;
+        page.accept(
+                new DataPage.Visitor<Integer>() {
+                    @Override
+                    public Integer visit(DataPageV1 dataPageV1) {
+                        try {
+                            return readPageV1(dataPageV1);
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+
+                    @Override
+                    public Integer visit(DataPageV2 dataPageV2) {
+                        try {
+                            return readPageV2(dataPageV2);
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                });
+    }
+
     private int readPageV1(DataPageV1 page) throws IOException {
         int pageValueCount = page.getValueCount();
         ValuesReader rlReader = page.getRlEncoding().getValuesReader(descriptor, REPETITION_LEVEL);
@@ -30,4 +30,18 @@ public interface ColumnReader<VECTOR extends WritableColumnVector> {
      * @param vector vector to write.
      */
     void readToVector(int readNumber, VECTOR vector) throws IOException;
+
+    /**
+     * Read only the selected rows of the next {@code readNumber} rows. The values of unselected
+     * rows are undefined, readers may skip them without decoding.
+     *
+     * @param readNumber number to read.
+     * @param vector vector to write.
+     * @param selected selected row ids in ascending order.
+     * @param selectedSize number of selected row ids.
+     */
+    default void readToVector(int readNumber, VECTOR vector, int[] selected, int selectedSize)
+            throws IOException {
+        readToVector(readNumber, vector);
+    }
 }
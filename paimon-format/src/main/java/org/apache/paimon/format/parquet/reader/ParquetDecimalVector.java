@@ -123,6 +123,14 @@ public class ParquetDecimalVector
         return false;
     }
 
+    @Override
+    public Dictionary getDictionary() {
+        if (vector instanceof WritableColumnVector) {
+            return ((WritableColumnVector) vector).getDictionary();
+        }
+        return null;
+    }
+
     @Override
     public WritableIntVector reserveDictionaryIds(int capacity) {
         if (vector instanceof WritableColumnVector) {
@@ -32,6 +32,7 @@ import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.ArrayType;
@@ -451,6 +452,74 @@ public class ParquetReadWriteTest {
         }
     }
 
+    @RepeatedTest(10)
+    void testLateMaterialization() throws IOException {
+        Random random = new Random();
+        int recordNumber = random.nextInt(10000) + 1;
+        int batchSize = random.nextInt(1000) + 1;
+        int rowGroupSize = random.nextInt(100000) + 1;
+        List<InternalRow> records = new ArrayList<>(recordNumber);
+        for (int i = 0; i < recordNumber; i++) {
+            records.add(newRow(random.nextInt(10) == 0 ? null : i));
+        }
+
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        // (f4 >= lower AND f4 < upper) OR f0 = special
+        int lower = random.nextInt(recordNumber);
+        int upper = lower + random.nextInt(500);
+        int special = random.nextInt(recordNumber);
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        List<Predicate> filters =
+                Collections.singletonList(
+                        PredicateBuilder.or(
+                                PredicateBuilder.and(
+                                        builder.greaterOrEqual(4, lower),
+                                        builder.lessThan(4, upper)),
+                                builder.equal(0, BinaryString.fromString("" + special))));
+        Options conf = new Options();
+        conf.setString("parquet.read.late-materialization.enabled", "true");
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        conf, ROW_TYPE, batchSize, ParquetFilters.convert(filters), filters);
+
+        List<Integer> expected = new ArrayList<>();
+        for (InternalRow record : records) {
+            if (!record.isNullAt(4)) {
+                int v = record.getInt(4);
+                if ((v >= lower && v < upper) || v == special) {
+                    expected.add(v);
+                }
+            }
+        }
+
+        List<Integer> result = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath)))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        int v = row.getInt(4);
+                        // in the written file, field f4's value is equaled to row position
+                        assertThat(rowPosition).isEqualTo(v);
+                        assertThat(row.getString(0)).hasToString("" + v);
+                        assertThat(row.getBoolean(1)).isEqualTo(v % 2 == 0);
+                        assertThat(row.getLong(5)).isEqualTo(v);
+                        assertThat(row.getDouble(7)).isEqualTo(v);
+                        assertThat(row.getTimestamp(9, 6)).isEqualTo(toMicros(v));
+                        assertThat(row.getDecimal(12, 15, 2))
+                                .isEqualTo(Decimal.fromUnscaledLong(v, 15, 2));
+                        assertThat(row.getArray(21).getInt(0)).isEqualTo(v);
+                        assertThat(row.getRow(35, 2).getInt(1)).isEqualTo(v);
+                        result.add(v);
+                    });
+        }
+        assertThat(result).isEqualTo(expected);
+    }
+
     @ParameterizedTest
     @CsvSource({"10, paimon", "1000, paimon", "10, origin", "1000, origin"})
     public void testNestedRead(int rowGroupSize, String writerType) throws Exception {
@@ -33,6 +33,9 @@ import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.netty4.io.netty.channel.ChannelHandler;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.table.sink.ChannelComputer.select;
@@ -91,9 +94,17 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
         try {
             BinaryRow[] keys = request.keys();
             BinaryRow[] values = new BinaryRow[keys.length];
+            List<InternalRow> lookupValues =
+                    keys.length == 1
+                            ? Collections.singletonList(
+                                    this.lookup.lookup(
+                                            request.partition(), request.bucket(), keys[0]))
+                            : this.lookup.lookup(
+                                    request.partition(),
+                                    request.bucket(),
+                                    Arrays.<InternalRow>asList(keys));
             for (int i = 0; i < values.length; i++) {
-                InternalRow value =
-                        this.lookup.lookup(request.partition(), request.bucket(), keys[i]);
+                InternalRow value = lookupValues.get(i);
                 if (value != null) {
                     values[i] = valueSerializer.toBinaryRow(value).copy();
                 }
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark;
+
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.DecimalColumnVector;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.TimestampColumnVector;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeChecks;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.types.RowType;
+
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import javax.annotation.Nullable;
+
+import static org.apache.paimon.spark.DataConverter.fromPaimon;
+
+/**
+ * A Spark {@link org.apache.spark.sql.vectorized.ColumnVector} which reads the values from a Paimon
+ * {@link ColumnVector} without copying them. Only atomic types are supported, see {@link
+ * #isSupported(RowType)}.
+ *
+ * <p>The Paimon vector can be replaced for every batch. If picked row ids are given, row {@code i}
+ * of this vector is row {@code picked[i]} of the Paimon vector, this is used to skip deleted rows
+ * of a batch.
+ */
+public class SparkColumnVector extends org.apache.spark.sql.vectorized.ColumnVector {
+
+    private final DataType paimonType;
+    private final boolean isTimestamp;
+    private final int precision;
+
+    private ColumnVector vector;
+    private @Nullable int[] picked;
+    private int numRows;
+    private int numNulls = -1;
+
+    public SparkColumnVector(DataType paimonType) {
+        super(SparkTypeUtils.fromPaimonType(paimonType));
+        this.paimonType = paimonType;
+        this.isTimestamp =
+                paimonType.is(DataTypeRoot.TIMESTAMP_WITHOUT_TIME_ZONE)
+                        || paimonType.is(DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE);
+        Integer precision = DataTypeChecks.getPrecision(paimonType);
+        this.precision = precision == null ? 0 : precision;
+    }
+
+    public void replace(ColumnVector vector, @Nullable int[] picked, int numRows) {
+        this.vector = vector;
+        this.picked = picked;
+        this.numRows = numRows;
+        this.numNulls = -1;
+    }
+
+    private int rowId(int rowId) {
+        return picked == null ? rowId : picked[rowId];
+    }
+
+    @Override
+    public void close() {
+        this.vector = null;
+        this.picked = null;
+    }
+
+    @Override
+    public boolean hasNull() {
+        return numNulls() > 0;
+    }
+
+    @Override
+    public int numNulls() {
+        if (numNulls < 0) {
+            int nulls = 0;
+            for (int i = 0; i < numRows; i++) {
+                if (isNullAt(i)) {
+                    nulls++;
+                }
+            }
+            numNulls = nulls;
+        }
+        return numNulls;
+    }
+
+    @Override
+    public boolean isNullAt(int rowId) {
+        return vector.isNullAt(rowId(rowId));
+    }
+
+    @Override
+    public boolean getBoolean(int rowId) {
+        return ((BooleanColumnVector) vector).getBoolean(rowId(rowId));
+    }
+
+    @Override
+    public byte getByte(int rowId) {
+        return ((ByteColumnVector) vector).getByte(rowId(rowId));
+    }
+
+    @Override
+    public short getShort(int rowId) {
+        return ((ShortColumnVector) vector).getShort(rowId(rowId));
+    }
+
+    @Override
+    public int getInt(int rowId) {
+        return ((IntColumnVector) vector).getInt(rowId(rowId));
+    }
+
+    @Override
+    public long getLong(int rowId) {
+        if (isTimestamp) {
+            return fromPaimon(
+                    ((TimestampColumnVector) vector).getTimestamp(rowId(rowId), precision));
+        }
+        return ((LongColumnVector) vector).getLong(rowId(rowId));
+    }
+
+    @Override
+    public float getFloat(int rowId) {
+        return ((FloatColumnVector) vector).getFloat(rowId(rowId));
+    }
+
+    @Override
+    public double getDouble(int rowId) {
+        return ((DoubleColumnVector) vector).getDouble(rowId(rowId));
+    }
+
+    @Override
+    public Decimal getDecimal(int rowId, int precision, int scale) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        org.apache.paimon.data.Decimal decimal =
+                ((DecimalColumnVector) vector).getDecimal(rowId(rowId), precision, scale);
+        if (decimal.isCompact()) {
+            return Decimal.createUnsafe(decimal.toUnscaledLong(), precision, scale);
+        }
+        return fromPaimon(decimal);
+    }
+
+    @Override
+    public UTF8String getUTF8String(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        BytesColumnVector.Bytes bytes = ((BytesColumnVector) vector).getBytes(rowId(rowId));
+        return UTF8String.fromBytes(bytes.data, bytes.offset, bytes.len);
+    }
+
+    @Override
+    public byte[] getBinary(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        return ((BytesColumnVector) vector).getBytes(rowId(rowId)).getBytes();
+    }
+
+    @Override
+    public ColumnarArray getArray(int rowId) {
+        throw new UnsupportedOperationException("Unsupported type: " + paimonType);
+    }
+
+    @Override
+    public ColumnarMap getMap(int ordinal) {
+        throw new UnsupportedOperationException("Unsupported type: " + paimonType);
+    }
+
+    @Override
+    public org.apache.spark.sql.vectorized.ColumnVector getChild(int ordinal) {
+        throw new UnsupportedOperationException("Unsupported type: " + paimonType);
+    }
+
+    /** Whether all the fields of the row type can be read by {@link SparkColumnVector}. */
+    public static boolean isSupported(RowType rowType) {
+        return rowType.getFieldTypes().stream().allMatch(SparkColumnVector::isSupported);
+    }
+
+    public static boolean isSupported(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -77,4 +77,11 @@ public class SparkConnectorOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to read row in the form of changelog (add rowkind column in row to represent its change type).");
+
+    public static final ConfigOption<Boolean> READ_COLUMNAR_ENABLED =
+            key("read.columnar.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "If true, batch scans whose splits need no merge (append tables and raw convertible splits of primary key tables) return columnar batches to Spark, the vectorized batches of Parquet and ORC files are exposed without copying. Only atomic types are supported.");
 }
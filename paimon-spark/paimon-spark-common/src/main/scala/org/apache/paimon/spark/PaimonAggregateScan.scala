@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark
+
+import org.apache.paimon.disk.IOManager
+import org.apache.paimon.spark.SparkUtils.createIOManager
+import org.apache.paimon.spark.aggregate.{LocalAggregator, PushedAggregation}
+import org.apache.paimon.table.Table
+import org.apache.paimon.table.source.{DataSplit, ReadBuilder, Split}
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.connector.read.{Batch, InputPartition, PartitionReader, PartitionReaderFactory, Scan}
+import org.apache.spark.sql.sources.Filter
+import org.apache.spark.sql.types.StructType
+
+/**
+ * A scan producing partial aggregation results, used when only some of the splits can be
+ * aggregated from their statistics. The results of these splits are computed on the driver and
+ * returned by one input partition, the other splits are read and aggregated by the executors.
+ * Spark merges the partial results with a final aggregation.
+ */
+case class PaimonAggregateScan(
+    table: Table,
+    readBuilder: ReadBuilder,
+    pushedAggregation: PushedAggregation,
+    statsRows: Seq[InternalRow],
+    splits: Seq[DataSplit],
+    readSchema: StructType,
+    filters: Array[Filter])
+  extends Scan
+  with Batch {
+
+  override def toBatch: Batch = this
+
+  override def planInputPartitions(): Array[InputPartition] = {
+    val statsPartition = PaimonAggregateStatsPartition(
+      statsRows.map(row => InternalRow.fromSeq(row.toSeq(readSchema))))
+    (statsPartition +: splits.map(PaimonInputPartition(_))).toArray
+  }
+
+  override def createReaderFactory(): PartitionReaderFactory = {
+    PaimonAggregateReaderFactory(table, readBuilder, pushedAggregation)
+  }
+
+  override def description(): String = {
+    val pushedFiltersStr = if (filters.nonEmpty) {
+      ", PushedFilters: [" + filters.mkString(",") + "]"
+    } else {
+      ""
+    }
+    s"PaimonAggregateScan: [${table.name}], ReadSplits: ${splits.size}" + pushedFiltersStr
+  }
+}
+
+/** An input partition holding the aggregation results computed from statistics. */
+case class PaimonAggregateStatsPartition(rows: Seq[InternalRow]) extends InputPartition
+
+case class PaimonAggregateReaderFactory(
+    table: Table,
+    readBuilder: ReadBuilder,
+    pushedAggregation: PushedAggregation)
+  extends PartitionReaderFactory {
+
+  private lazy val ioManager: IOManager = createIOManager()
+
+  override def createReader(partition: InputPartition): PartitionReader[InternalRow] = {
+    partition match {
+      case statsPartition: PaimonAggregateStatsPartition =>
+        new PaimonAggregatePartitionReader(statsPartition.rows.toArray)
+      case paimonInputPartition: PaimonInputPartition =>
+        new PaimonAggregatePartitionReader(aggregate(paimonInputPartition.splits))
+      case _ =>
+        throw new RuntimeException(s"It's not a Paimon input partition, $partition")
+    }
+  }
+
+  private def aggregate(splits: Seq[Split]): Array[InternalRow] = {
+    val aggregator = new LocalAggregator(table)
+    aggregator.initialize(pushedAggregation)
+    splits.foreach {
+      split =>
+        val reader = readBuilder.newRead().withIOManager(ioManager).createReader(split)
+        try {
+          aggregator.update(split.asInstanceOf[DataSplit], reader)
+        } finally {
+          reader.close()
+        }
+    }
+    aggregator.result()
+  }
+}
+
+/** Returns the rows which are computed when the first row is requested. */
+class PaimonAggregatePartitionReader(compute: => Array[InternalRow])
+  extends PartitionReader[InternalRow] {
+
+  private lazy val rows: Array[InternalRow] = compute
+  private var index = -1
+
+  override def next(): Boolean = {
+    index += 1
+    index < rows.length
+  }
+
+  override def get(): InternalRow = rows(index)
+
+  override def close(): Unit = {}
+}
@@ -57,6 +57,15 @@ abstract class PaimonBaseScan(
 
   lazy val statistics: Optional[stats.Statistics] = table.statistics()
 
+  private lazy val columnarReadBatchSize: Option[Int] = {
+    val options = coreOptions.toConfiguration
+    if (options.get(SparkConnectorOptions.READ_COLUMNAR_ENABLED)) {
+      Some(options.get(CoreOptions.READ_BATCH_SIZE))
+    } else {
+      None
+    }
+  }
+
   private lazy val paimonMetricsRegistry: SparkMetricRegistry = SparkMetricRegistry()
 
   lazy val requiredStatsSchema: StructType = {
@@ -85,7 +94,7 @@ abstract class PaimonBaseScan(
   }
 
   override def toBatch: Batch = {
-    PaimonBatch(lazyInputPartitions, readBuilder, metadataColumns)
+    PaimonBatch(lazyInputPartitions, readBuilder, metadataColumns, columnarReadBatchSize)
   }
 
   override def toMicroBatchStream(checkpointLocation: String): MicroBatchStream = {
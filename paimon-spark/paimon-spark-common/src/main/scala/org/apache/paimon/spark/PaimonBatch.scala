@@ -19,7 +19,7 @@
 package org.apache.paimon.spark
 
 import org.apache.paimon.spark.schema.PaimonMetadataColumn
-import org.apache.paimon.table.source.ReadBuilder
+import org.apache.paimon.table.source.{DataSplit, ReadBuilder}
 
 import org.apache.spark.sql.connector.read.{Batch, InputPartition, PartitionReaderFactory}
 
@@ -29,13 +29,31 @@ import java.util.Objects
 case class PaimonBatch(
     inputPartitions: Seq[PaimonInputPartition],
     readBuilder: ReadBuilder,
-    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty)
+    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty,
+    columnarReadBatchSize: Option[Int] = None)
   extends Batch {
 
   override def planInputPartitions(): Array[InputPartition] =
     inputPartitions.map(_.asInstanceOf[InputPartition]).toArray
 
-  override def createReaderFactory(): PartitionReaderFactory =
-    PaimonPartitionReaderFactory(readBuilder, metadataColumns)
+  override def createReaderFactory(): PartitionReaderFactory = {
+    PaimonPartitionReaderFactory(
+      readBuilder,
+      metadataColumns,
+      columnarReadBatchSize.filter(_ => supportColumnarReads))
+  }
+
+  /**
+   * Only the splits read without merging produce vectorized batches which can be handed over to
+   * Spark directly, so columnar reads are used only if all the splits are raw convertible.
+   */
+  private def supportColumnarReads: Boolean = {
+    metadataColumns.isEmpty &&
+    SparkColumnVector.isSupported(readBuilder.readType()) &&
+    inputPartitions.forall(_.splits.forall {
+      case split: DataSplit => split.rawConvertible()
+      case _ => false
+    })
+  }
 
 }
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark
+
+import org.apache.paimon.data.{InternalRow => PaimonInternalRow}
+import org.apache.paimon.data.columnar.VectorizedColumnBatch
+import org.apache.paimon.deletionvectors.ApplyDeletionFileRecordIterator
+import org.apache.paimon.fs.Path
+import org.apache.paimon.reader.{FileRecordIterator, RecordReader, VectorizedRecordIterator}
+import org.apache.paimon.spark.data.SparkInternalRow
+import org.apache.paimon.table.source.Split
+import org.apache.paimon.types.{DataType, DataTypeChecks, DataTypeRoot, RowType}
+import org.apache.paimon.utils.IntArrayList
+
+import org.apache.spark.sql.PaimonUtils
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.execution.vectorized.{OnHeapColumnVector, WritableColumnVector}
+import org.apache.spark.sql.vectorized.{ColumnarBatch, ColumnVector}
+
+import java.io.IOException
+
+import scala.collection.JavaConverters._
+
+/**
+ * A [[PartitionReader]] producing Spark [[ColumnarBatch]]es.
+ *
+ * Batches of a [[VectorizedRecordIterator]], optionally with a deletion vector applied, are exposed
+ * to Spark through [[SparkColumnVector]]s without copying. Any other batch, for example a batch
+ * produced by a merge read or a row-based file format, is copied row by row into on-heap vectors.
+ */
+case class PaimonColumnarPartitionReader(
+    readFunc: Split => RecordReader[PaimonInternalRow],
+    partition: PaimonInputPartition,
+    readType: RowType,
+    batchSize: Int
+) extends PartitionReader[ColumnarBatch] {
+
+  private val fieldTypes: Array[DataType] = readType.getFieldTypes.asScala.toArray
+
+  private val sparkVectors: Array[SparkColumnVector] = fieldTypes.map(new SparkColumnVector(_))
+  private val sparkBatch: ColumnarBatch =
+    new ColumnarBatch(sparkVectors.map(_.asInstanceOf[ColumnVector]))
+
+  // the on-heap vectors are only created when a batch need to be copied
+  private var copied = false
+  private lazy val row: SparkInternalRow = SparkInternalRow.create(readType)
+  private lazy val onHeapVectors: Array[WritableColumnVector] =
+    fieldTypes.map(t => new OnHeapColumnVector(batchSize, SparkTypeUtils.fromPaimonType(t)))
+  private lazy val onHeapBatch: ColumnarBatch =
+    new ColumnarBatch(onHeapVectors.map(_.asInstanceOf[ColumnVector]))
+  private lazy val fieldWriters: Array[(InternalRow, WritableColumnVector, Int) => Unit] =
+    fieldTypes.zipWithIndex.map { case (t, i) => fieldWriter(t, i) }
+
+  private val splits: Iterator[Split] = partition.splits.toIterator
+  private var currentReader: RecordReader[PaimonInternalRow] = _
+  // a row-based iterator which may be copied into several batches
+  private var currentIterator: RecordReader.RecordIterator[PaimonInternalRow] = _
+  // a vectorized iterator whose batch is exposed to Spark, release it before reading the next
+  private var exposedIterator: RecordReader.RecordIterator[PaimonInternalRow] = _
+  private var currentBatch: ColumnarBatch = _
+  private var lastFilePath: Path = _
+
+  override def next(): Boolean = {
+    releaseExposedIterator()
+    try {
+      while (true) {
+        if (currentIterator != null) {
+          if (copyRows(currentIterator)) {
+            return true
+          }
+          currentIterator.releaseBatch()
+          currentIterator = null
+        }
+
+        if (currentReader == null) {
+          if (!splits.hasNext) {
+            currentBatch = null
+            return false
+          }
+          currentReader = readFunc(splits.next())
+        }
+
+        val iterator = currentReader.readBatch()
+        if (iterator == null) {
+          currentReader.close()
+          currentReader = null
+        } else {
+          updateInputFileName(iterator)
+          if (exposeBatch(iterator)) {
+            return true
+          }
+        }
+      }
+      false
+    } catch {
+      case e: IOException =>
+        throw new RuntimeException(e)
+    }
+  }
+
+  override def get(): ColumnarBatch = currentBatch
+
+  /** Exposes the batch of a vectorized iterator, otherwise the iterator will be copied later. */
+  private def exposeBatch(iterator: RecordReader.RecordIterator[PaimonInternalRow]): Boolean = {
+    iterator match {
+      case vectorized: VectorizedRecordIterator =>
+        val batch = vectorized.batch()
+        replaceVectors(batch, null, batch.getNumRows, iterator)
+      case deletion: ApplyDeletionFileRecordIterator
+          if deletion.iterator().isInstanceOf[VectorizedRecordIterator] =>
+        val batch = deletion.iterator().asInstanceOf[VectorizedRecordIterator].batch()
+        val numRows = batch.getNumRows
+        val firstPosition = deletion.returnedPosition() + 1
+        val deletionVector = deletion.deletionVector()
+        val picked = new IntArrayList(numRows)
+        var i = 0
+        while (i < numRows) {
+          if (!deletionVector.isDeleted(firstPosition + i)) {
+            picked.add(i)
+          }
+          i += 1
+        }
+        if (picked.size() == numRows) {
+          replaceVectors(batch, null, numRows, iterator)
+        } else {
+          replaceVectors(batch, picked.toArray, picked.size(), iterator)
+        }
+      case _ =>
+        currentIterator = iterator
+        false
+    }
+  }
+
+  private def replaceVectors(
+      batch: VectorizedColumnBatch,
+      picked: Array[Int],
+      numRows: Int,
+      iterator: RecordReader.RecordIterator[PaimonInternalRow]): Boolean = {
+    if (numRows == 0) {
+      iterator.releaseBatch()
+      return false
+    }
+    var i = 0
+    while (i < sparkVectors.length) {
+      sparkVectors(i).replace(batch.columns(i), picked, numRows)
+      i += 1
+    }
+    sparkBatch.setNumRows(numRows)
+    exposedIterator = iterator
+    currentBatch = sparkBatch
+    true
+  }
+
+  /** Copies at most `batchSize` rows of the iterator, returns false if it is exhausted. */
+  private def copyRows(iterator: RecordReader.RecordIterator[PaimonInternalRow]): Boolean = {
+    copied = true
+    val vectors = onHeapVectors
+    val writers = fieldWriters
+    val sparkRow = row
+    vectors.foreach(_.reset())
+    var numRows = 0
+    var paimonRow: PaimonInternalRow = null
+    while (numRows < batchSize && { paimonRow = iterator.next(); paimonRow != null }) {
+      sparkRow.replace(paimonRow)
+      var i = 0
+      while (i < writers.length) {
+        if (sparkRow.isNullAt(i)) {
+          vectors(i).putNull(numRows)
+        } else {
+          writers(i)(sparkRow, vectors(i), numRows)
+        }
+        i += 1
+      }
+      numRows += 1
+    }
+    if (numRows == 0) {
+      false
+    } else {
+      onHeapBatch.setNumRows(numRows)
+      currentBatch = onHeapBatch
+      true
+    }
+  }
+
+  private def fieldWriter(
+      dataType: DataType,
+      ordinal: Int): (InternalRow, WritableColumnVector, Int) => Unit = {
+    dataType.getTypeRoot match {
+      case DataTypeRoot.BOOLEAN =>
+        (row, vector, rowId) => vector.putBoolean(rowId, row.getBoolean(ordinal))
+      case DataTypeRoot.TINYINT =>
+        (row, vector, rowId) => vector.putByte(rowId, row.getByte(ordinal))
+      case DataTypeRoot.SMALLINT =>
+        (row, vector, rowId) => vector.putShort(rowId, row.getShort(ordinal))
+      case DataTypeRoot.INTEGER | DataTypeRoot.DATE | DataTypeRoot.TIME_WITHOUT_TIME_ZONE =>
+        (row, vector, rowId) => vector.putInt(rowId, row.getInt(ordinal))
+      case DataTypeRoot.BIGINT | DataTypeRoot.TIMESTAMP_WITHOUT_TIME_ZONE |
+          DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE =>
+        (row, vector, rowId) => vector.putLong(rowId, row.getLong(ordinal))
+      case DataTypeRoot.FLOAT =>
+        (row, vector, rowId) => vector.putFloat(rowId, row.getFloat(ordinal))
+      case DataTypeRoot.DOUBLE =>
+        (row, vector, rowId) => vector.putDouble(rowId, row.getDouble(ordinal))
+      case DataTypeRoot.DECIMAL =>
+        val precision: Int = DataTypeChecks.getPrecision(dataType)
+        val scale: Int = DataTypeChecks.getScale(dataType)
+        (row, vector, rowId) =>
+          vector.putDecimal(rowId, row.getDecimal(ordinal, precision, scale), precision)
+      case DataTypeRoot.CHAR | DataTypeRoot.VARCHAR =>
+        (row, vector, rowId) => vector.putByteArray(rowId, row.getUTF8String(ordinal).getBytes)
+      case DataTypeRoot.BINARY | DataTypeRoot.VARBINARY =>
+        (row, vector, rowId) => vector.putByteArray(rowId, row.getBinary(ordinal))
+      case _ =>
+        throw new UnsupportedOperationException(s"Unsupported type for columnar read: $dataType")
+    }
+  }
+
+  private def updateInputFileName(iterator: RecordReader.RecordIterator[PaimonInternalRow]): Unit = {
+    iterator match {
+      case fileRecordIterator: FileRecordIterator[_] =>
+        if (lastFilePath != fileRecordIterator.filePath()) {
+          PaimonUtils.setInputFileName(fileRecordIterator.filePath().toUri.toString)
+          lastFilePath = fileRecordIterator.filePath()
+        }
+      case _ =>
+    }
+  }
+
+  private def releaseExposedIterator(): Unit = {
+    if (exposedIterator != null) {
+      exposedIterator.releaseBatch()
+      exposedIterator = null
+    }
+  }
+
+  override def currentMetricsValues(): Array[CustomTaskMetric] = {
+    super.currentMetricsValues() ++ PaimonPartitionReader.metricsValues(partition)
+  }
+
+  override def close(): Unit = {
+    try {
+      releaseExposedIterator()
+      if (currentIterator != null) {
+        currentIterator.releaseBatch()
+        currentIterator = null
+      }
+      if (currentReader != null) {
+        currentReader.close()
+        currentReader = null
+      }
+    } catch {
+      case e: Exception =>
+        throw new IOException(e)
+    } finally {
+      sparkBatch.close()
+      if (copied) {
+        onHeapBatch.close()
+      }
+      PaimonUtils.unsetInputFileName()
+    }
+  }
+}
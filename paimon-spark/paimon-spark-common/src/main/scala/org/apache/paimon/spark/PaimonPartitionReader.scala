@@ -97,19 +97,7 @@ case class PaimonPartitionReader(
   }
 
   override def currentMetricsValues(): Array[CustomTaskMetric] = {
-    val dataSplits = partition.splits.collect { case ds: DataSplit => ds }
-    val numSplits = dataSplits.length
-    val paimonMetricsValues: Array[CustomTaskMetric] = if (dataSplits.nonEmpty) {
-      val splitSize = dataSplits.map(_.dataFiles().asScala.map(_.fileSize).sum).sum
-      Array(
-        PaimonNumSplitsTaskMetric(numSplits),
-        PaimonSplitSizeTaskMetric(splitSize),
-        PaimonAvgSplitSizeTaskMetric(splitSize / numSplits)
-      )
-    } else {
-      Array.empty[CustomTaskMetric]
-    }
-    super.currentMetricsValues() ++ paimonMetricsValues
+    super.currentMetricsValues() ++ PaimonPartitionReader.metricsValues(partition)
   }
 
   override def close(): Unit = {
@@ -123,3 +111,21 @@ case class PaimonPartitionReader(
     }
   }
 }
+
+object PaimonPartitionReader {
+
+  def metricsValues(partition: PaimonInputPartition): Array[CustomTaskMetric] = {
+    val dataSplits = partition.splits.collect { case ds: DataSplit => ds }
+    val numSplits = dataSplits.length
+    if (dataSplits.nonEmpty) {
+      val splitSize = dataSplits.map(_.dataFiles().asScala.map(_.fileSize).sum).sum
+      Array(
+        PaimonNumSplitsTaskMetric(numSplits),
+        PaimonSplitSizeTaskMetric(splitSize),
+        PaimonAvgSplitSizeTaskMetric(splitSize / numSplits)
+      )
+    } else {
+      Array.empty[CustomTaskMetric]
+    }
+  }
+}
@@ -29,6 +29,7 @@ import org.apache.paimon.types.RowType
 
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.connector.read.{InputPartition, PartitionReader, PartitionReaderFactory}
+import org.apache.spark.sql.vectorized.ColumnarBatch
 
 import java.util.{ArrayList => JList}
 import java.util.Objects
@@ -37,7 +38,8 @@ import scala.collection.JavaConverters._
 
 case class PaimonPartitionReaderFactory(
     readBuilder: ReadBuilder,
-    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty)
+    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty,
+    columnarReadBatchSize: Option[Int] = None)
   extends PartitionReaderFactory {
 
   private lazy val ioManager: IOManager = createIOManager()
@@ -49,21 +51,40 @@ case class PaimonPartitionReaderFactory(
     SparkInternalRow.create(rowType)
   }
 
+  private def readFunc: Split => RecordReader[PaimonInternalRow] =
+    (split: Split) => readBuilder.newRead().withIOManager(ioManager).createReader(split)
+
   override def createReader(partition: InputPartition): PartitionReader[InternalRow] = {
     partition match {
       case paimonInputPartition: PaimonInputPartition =>
-        val readFunc: Split => RecordReader[PaimonInternalRow] =
-          (split: Split) => readBuilder.newRead().withIOManager(ioManager).createReader(split)
         PaimonPartitionReader(readFunc, paimonInputPartition, row, metadataColumns)
       case _ =>
         throw new RuntimeException(s"It's not a Paimon input partition, $partition")
     }
   }
 
+  // Spark requires all the input partitions of a scan to be either row-based or columnar
+  override def supportColumnarReads(partition: InputPartition): Boolean =
+    columnarReadBatchSize.isDefined
+
+  override def createColumnarReader(partition: InputPartition): PartitionReader[ColumnarBatch] = {
+    partition match {
+      case paimonInputPartition: PaimonInputPartition =>
+        PaimonColumnarPartitionReader(
+          readFunc,
+          paimonInputPartition,
+          readBuilder.readType(),
+          columnarReadBatchSize.get)
+      case _ =>
+        throw new RuntimeException(s"It's not a Paimon input partition, $partition")
+    }
+  }
+
   override def equals(obj: Any): Boolean = {
     obj match {
       case other: PaimonPartitionReaderFactory =>
-        this.readBuilder.equals(other.readBuilder) && this.metadataColumns == other.metadataColumns
+        this.readBuilder.equals(other.readBuilder) && this.metadataColumns == other.metadataColumns &&
+        this.columnarReadBatchSize == other.columnarReadBatchSize
 
       case _ => false
     }
@@ -19,7 +19,7 @@
 package org.apache.paimon.spark
 
 import org.apache.paimon.predicate.PredicateBuilder
-import org.apache.paimon.spark.aggregate.LocalAggregator
+import org.apache.paimon.spark.aggregate.{LocalAggregator, PushedAggregation}
 import org.apache.paimon.table.Table
 import org.apache.paimon.table.source.DataSplit
 
@@ -32,7 +32,10 @@ class PaimonScanBuilder(table: Table)
   extends PaimonBaseScanBuilder(table)
   with SupportsPushDownLimit
   with SupportsPushDownAggregates {
-  private var localScan: Option[Scan] = None
+  // Spark may ask whether an aggregation can be completely pushed down before pushing it, so the
+  // planned aggregation is kept to avoid planning the splits twice.
+  private var plannedAggregation: Option[PlannedAggregation] = None
+  private var aggregationScan: Option[Scan] = None
 
   override def pushLimit(limit: Int): Boolean = {
     // It is safe, since we will do nothing if it is the primary table and the split is not `rawConvertible`
@@ -41,25 +44,33 @@ class PaimonScanBuilder(table: Table)
     false
   }
 
+  // The aggregation is completely pushed down if all the splits can be aggregated from statistics
   override def supportCompletePushDown(aggregation: Aggregation): Boolean = {
-    // for now, we only support complete push down, so there is no difference with `pushAggregation`
-    pushAggregation(aggregation)
+    planAggregation(aggregation).exists(_.complete)
   }
 
   // Spark does not support push down aggregation for streaming scan.
   override def pushAggregation(aggregation: Aggregation): Boolean = {
-    if (localScan.isDefined) {
-      return true
+    planAggregation(aggregation) match {
+      case Some(planned) =>
+        aggregationScan = Some(planned.scan)
+        true
+      case None => false
     }
+  }
 
+  private def planAggregation(aggregation: Aggregation): Option[PlannedAggregation] = {
     // Only support with push down partition filter
     if (postScanFilters.nonEmpty) {
-      return false
+      return None
     }
 
     val aggregator = new LocalAggregator(table)
     if (!aggregator.pushAggregation(aggregation)) {
-      return false
+      return None
+    }
+    if (plannedAggregation.exists(_.pushed == aggregator.pushedAggregation)) {
+      return plannedAggregation
     }
 
     val readBuilder = table.newReadBuilder
@@ -68,24 +79,39 @@ class PaimonScanBuilder(table: Table)
       readBuilder.withFilter(pushedPartitionPredicate)
     }
     val dataSplits = readBuilder.newScan().plan().splits().asScala.map(_.asInstanceOf[DataSplit])
-    if (!dataSplits.forall(_.mergedRowCountAvailable())) {
-      return false
-    }
-    dataSplits.foreach(aggregator.update)
-    localScan = Some(
+    val splitsToRead = dataSplits.filterNot(aggregator.update)
+    val scan = if (splitsToRead.isEmpty) {
       PaimonLocalScan(
         aggregator.result(),
         aggregator.resultSchema(),
         table,
-        pushedPredicates.map(_._1)))
-    true
+        pushedPredicates.map(_._1))
+    } else if (splitsToRead.size < dataSplits.size) {
+      // Only the splits without exact statistics are read, Spark merges the partial results
+      PaimonAggregateScan(
+        table,
+        readBuilder.withReadType(aggregator.readType()),
+        aggregator.pushedAggregation,
+        aggregator.result().toSeq,
+        splitsToRead,
+        aggregator.resultSchema(),
+        pushedPredicates.map(_._1))
+    } else {
+      // Nothing can be aggregated from statistics, let Spark read and aggregate all the splits
+      return None
+    }
+    plannedAggregation = Some(
+      PlannedAggregation(aggregator.pushedAggregation, scan, splitsToRead.isEmpty))
+    plannedAggregation
   }
 
   override def build(): Scan = {
-    if (localScan.isDefined) {
-      localScan.get
+    if (aggregationScan.isDefined) {
+      aggregationScan.get
     } else {
       super.build()
     }
   }
 }
+
+private case class PlannedAggregation(pushed: PushedAggregation, scan: Scan, complete: Boolean)
@@ -18,56 +18,86 @@
 
 package org.apache.paimon.spark.aggregate
 
-import org.apache.paimon.data.BinaryRow
-import org.apache.paimon.spark.SparkTypeUtils
+import org.apache.paimon.data.{BinaryRow, InternalRow => PaimonInternalRow}
+import org.apache.paimon.data.serializer.{InternalSerializers, Serializer}
+import org.apache.paimon.reader.RecordReader
+import org.apache.paimon.spark.{DataConverter, SparkTypeUtils}
 import org.apache.paimon.spark.data.SparkInternalRow
-import org.apache.paimon.table.{DataTable, Table}
+import org.apache.paimon.stats.SplitColumnStatsExtractor
+import org.apache.paimon.stats.SplitColumnStatsExtractor.ColumnStats
+import org.apache.paimon.table.{DataTable, FileStoreTable, Table}
 import org.apache.paimon.table.source.DataSplit
+import org.apache.paimon.types.{DataType => PaimonDataType, RowType}
 import org.apache.paimon.utils.{InternalRowUtils, ProjectedRow}
 
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.expressions.JoinedRow
 import org.apache.spark.sql.connector.expressions.{Expression, NamedReference}
-import org.apache.spark.sql.connector.expressions.aggregate.{AggregateFunc, Aggregation, CountStar}
+import org.apache.spark.sql.connector.expressions.aggregate.{AggregateFunc, Aggregation, Count, CountStar, Max, Min}
 import org.apache.spark.sql.types.{DataType, LongType, StructField, StructType}
 
 import scala.collection.mutable
 
+/**
+ * Evaluates a pushed down aggregation grouped by partition columns. A split is aggregated from its
+ * statistics if they are exact, otherwise from its rows.
+ */
 class LocalAggregator(table: Table) {
   private val partitionType = SparkTypeUtils.toPartitionType(table)
+  private val rowType = table.rowType()
   private val groupByEvaluatorMap = new mutable.HashMap[InternalRow, Seq[AggFuncEvaluator[_]]]()
+  private var pushed: PushedAggregation = _
   private var requiredGroupByType: Seq[DataType] = _
   private var requiredGroupByIndexMapping: Seq[Int] = _
-  private var aggFuncEvaluatorGetter: () => Seq[AggFuncEvaluator[_]] = _
   private var isInitialized = false
 
-  private def initialize(aggregation: Aggregation): Unit = {
-    aggFuncEvaluatorGetter = () =>
-      aggregation.aggregateExpressions().map {
-        case _: CountStar => new CountStarEvaluator()
-        case _ => throw new UnsupportedOperationException()
-      }
+  private lazy val statsExtractor: SplitColumnStatsExtractor =
+    new SplitColumnStatsExtractor(table.asInstanceOf[FileStoreTable].schema())
 
-    requiredGroupByType = aggregation.groupByExpressions().map {
-      case r: NamedReference =>
-        SparkTypeUtils.fromPaimonType(partitionType.getField(r.fieldNames().head).`type`())
-    }
+  def initialize(pushed: PushedAggregation): Unit = {
+    this.pushed = pushed
 
-    requiredGroupByIndexMapping = aggregation.groupByExpressions().map {
-      case r: NamedReference =>
-        partitionType.getFieldIndex(r.fieldNames().head)
+    requiredGroupByType = pushed.groupByFields.map {
+      name => SparkTypeUtils.fromPaimonType(partitionType.getField(name).`type`())
     }
 
+    requiredGroupByIndexMapping = pushed.groupByFields.map(partitionType.getFieldIndex)
+
     isInitialized = true
   }
 
-  private def supportAggregateFunction(func: AggregateFunc): Boolean = {
+  def pushedAggregation: PushedAggregation = {
+    assert(isInitialized)
+    pushed
+  }
+
+  private def fieldIndex(expr: Expression): Option[Int] = {
+    expr match {
+      case r: NamedReference if r.fieldNames.length == 1 =>
+        Some(rowType.getFieldIndex(r.fieldNames().head)).filter(_ >= 0)
+      case _ => None
+    }
+  }
+
+  private def toPushedAggFunc(func: AggregateFunc): Option[PushedAggFunc] = {
+    // MIN, MAX and COUNT of a column need the value stats of the files
+    val columnStatsSupported = table.isInstanceOf[FileStoreTable]
     func match {
-      case _: CountStar => true
-      case _ => false
+      case _: CountStar => Some(PushedCountStar)
+      case count: Count if columnStatsSupported && !count.isDistinct =>
+        fieldIndex(count.column).map(PushedCount)
+      case min: Min if columnStatsSupported =>
+        fieldIndex(min.column).filter(supportsMinMax).map(PushedMin)
+      case max: Max if columnStatsSupported =>
+        fieldIndex(max.column).filter(supportsMinMax).map(PushedMax)
+      case _ => None
     }
   }
 
+  private def supportsMinMax(fieldIndex: Int): Boolean = {
+    SplitColumnStatsExtractor.supportsMinMax(rowType.getTypeAt(fieldIndex))
+  }
+
   private def supportGroupByExpressions(exprs: Array[Expression]): Boolean = {
     // Support empty group by keys or group by partition column
     exprs.forall {
@@ -84,16 +114,41 @@ class LocalAggregator(table: Table) {
 
     if (
       !supportGroupByExpressions(aggregation.groupByExpressions()) ||
-      aggregation.aggregateExpressions().isEmpty ||
-      aggregation.aggregateExpressions().exists(!supportAggregateFunction(_))
+      aggregation.aggregateExpressions().isEmpty
     ) {
       return false
     }
 
-    initialize(aggregation)
+    val aggFuncs = aggregation.aggregateExpressions().map(toPushedAggFunc)
+    if (aggFuncs.exists(_.isEmpty)) {
+      return false
+    }
+
+    val groupByFields = aggregation.groupByExpressions().map {
+      case r: NamedReference => r.fieldNames().head
+    }
+    initialize(PushedAggregation(groupByFields.toSeq, aggFuncs.map(_.get).toSeq))
     true
   }
 
+  /** The fields to read when a split can not be aggregated from its statistics. */
+  def readType(): RowType = {
+    assert(isInitialized)
+    rowType.project(readFieldIndexes.toArray)
+  }
+
+  private def readFieldIndexes: Seq[Int] = pushed.aggFuncs.flatMap(_.fieldIndex).distinct.sorted
+
+  private def newEvaluators(): Seq[AggFuncEvaluator[_]] = {
+    val readFields = readFieldIndexes
+    pushed.aggFuncs.map {
+      case PushedCountStar => new CountStarEvaluator()
+      case PushedCount(i) => new CountEvaluator(i, readFields.indexOf(i))
+      case PushedMin(i) => new MinMaxEvaluator(i, readFields.indexOf(i), rowType.getTypeAt(i), true)
+      case PushedMax(i) => new MinMaxEvaluator(i, readFields.indexOf(i), rowType.getTypeAt(i), false)
+    }
+  }
+
   private def requiredGroupByRow(partitionRow: BinaryRow): InternalRow = {
     val projectedRow =
       ProjectedRow.from(requiredGroupByIndexMapping.toArray).replaceRow(partitionRow)
@@ -102,19 +157,47 @@ class LocalAggregator(table: Table) {
     SparkInternalRow.create(partitionType).replace(genericRow)
   }
 
-  def update(dataSplit: DataSplit): Unit = {
-    assert(isInitialized)
+  private def evaluators(dataSplit: DataSplit): Seq[AggFuncEvaluator[_]] = {
     val groupByRow = requiredGroupByRow(dataSplit.partition())
-    val aggFuncEvaluator =
-      groupByEvaluatorMap.getOrElseUpdate(groupByRow, aggFuncEvaluatorGetter())
-    aggFuncEvaluator.foreach(_.update(dataSplit))
+    groupByEvaluatorMap.getOrElseUpdate(groupByRow, newEvaluators())
+  }
+
+  /**
+   * Updates the aggregation with the statistics of the split, returns false and leaves the
+   * aggregation unchanged if they are not exact, then the split should be read.
+   */
+  def update(dataSplit: DataSplit): Boolean = {
+    assert(isInitialized)
+    val columnStats = new mutable.HashMap[Int, Option[ColumnStats]]()
+    def statsOf(fieldIndex: Int): Option[ColumnStats] =
+      columnStats.getOrElseUpdate(fieldIndex, Option(statsExtractor.extract(dataSplit, fieldIndex)))
+
+    val available = pushed.aggFuncs.forall {
+      case PushedCountStar => dataSplit.mergedRowCountAvailable()
+      case PushedCount(i) => statsOf(i).isDefined
+      case PushedMin(i) => statsOf(i).exists(_.minMaxAvailable())
+      case PushedMax(i) => statsOf(i).exists(_.minMaxAvailable())
+    }
+    if (!available) {
+      return false
+    }
+
+    evaluators(dataSplit).foreach(_.update(dataSplit, statsOf(_).get))
+    true
+  }
+
+  /** Updates the aggregation with the rows of the split, which are read with [[readType]]. */
+  def update(dataSplit: DataSplit, reader: RecordReader[PaimonInternalRow]): Unit = {
+    assert(isInitialized)
+    val aggFuncEvaluators = evaluators(dataSplit).toArray
+    reader.forEachRemaining(row => aggFuncEvaluators.foreach(_.update(row)))
   }
 
   def result(): Array[InternalRow] = {
     assert(isInitialized)
     if (groupByEvaluatorMap.isEmpty && requiredGroupByType.isEmpty) {
       // Always return one row for global aggregate
-      Array(InternalRow.fromSeq(aggFuncEvaluatorGetter().map(_.result())))
+      Array(InternalRow.fromSeq(newEvaluators().map(_.result())))
     } else {
       groupByEvaluatorMap.map {
         case (partitionRow, aggFuncEvaluator) =>
@@ -130,7 +213,7 @@ class LocalAggregator(table: Table) {
       case (dt, i) =>
         StructField(s"groupby_$i", dt)
     }
-    val aggResultFields = aggFuncEvaluatorGetter().zipWithIndex.map {
+    val aggResultFields = newEvaluators().zipWithIndex.map {
       case (evaluator, i) =>
         // Note that, Spark will re-assign the attribute name to original name,
         // so here we just return an arbitrary name
@@ -140,8 +223,35 @@ class LocalAggregator(table: Table) {
   }
 }
 
+/** A serializable description of an aggregation which can be evaluated by [[LocalAggregator]]. */
+case class PushedAggregation(groupByFields: Seq[String], aggFuncs: Seq[PushedAggFunc])
+
+sealed trait PushedAggFunc {
+  def fieldIndex: Option[Int] = None
+}
+
+case object PushedCountStar extends PushedAggFunc
+
+case class PushedCount(index: Int) extends PushedAggFunc {
+  override def fieldIndex: Option[Int] = Some(index)
+}
+
+case class PushedMin(index: Int) extends PushedAggFunc {
+  override def fieldIndex: Option[Int] = Some(index)
+}
+
+case class PushedMax(index: Int) extends PushedAggFunc {
+  override def fieldIndex: Option[Int] = Some(index)
+}
+
 trait AggFuncEvaluator[T] {
-  def update(dataSplit: DataSplit): Unit
+
+  /** Updates with the exact statistics of the split, `columnStats` returns stats by field index. */
+  def update(dataSplit: DataSplit, columnStats: Int => ColumnStats): Unit
+
+  /** Updates with a row of the split, the row is read with [[LocalAggregator.readType]]. */
+  def update(row: PaimonInternalRow): Unit
+
   def result(): T
   def resultType: DataType
   def prettyName: String
@@ -150,13 +260,74 @@ trait AggFuncEvaluator[T] {
 class CountStarEvaluator extends AggFuncEvaluator[Long] {
   private var _result: Long = 0L
 
-  override def update(dataSplit: DataSplit): Unit = {
+  override def update(dataSplit: DataSplit, columnStats: Int => ColumnStats): Unit = {
     _result += dataSplit.mergedRowCount()
   }
 
+  override def update(row: PaimonInternalRow): Unit = {
+    _result += 1
+  }
+
   override def result(): Long = _result
 
   override def resultType: DataType = LongType
 
   override def prettyName: String = "count_star"
 }
+
+class CountEvaluator(fieldIndex: Int, ordinal: Int) extends AggFuncEvaluator[Long] {
+  private var _result: Long = 0L
+
+  override def update(dataSplit: DataSplit, columnStats: Int => ColumnStats): Unit = {
+    _result += columnStats(fieldIndex).nonNullCount()
+  }
+
+  override def update(row: PaimonInternalRow): Unit = {
+    if (!row.isNullAt(ordinal)) {
+      _result += 1
+    }
+  }
+
+  override def result(): Long = _result
+
+  override def resultType: DataType = LongType
+
+  override def prettyName: String = "count"
+}
+
+class MinMaxEvaluator(fieldIndex: Int, ordinal: Int, dataType: PaimonDataType, isMin: Boolean)
+  extends AggFuncEvaluator[Any] {
+  private val getter = PaimonInternalRow.createFieldGetter(dataType, ordinal)
+  private lazy val serializer: Serializer[Any] = InternalSerializers.create[Any](dataType)
+  private var _result: Any = _
+
+  private def accumulate(value: Any, copy: Boolean): Unit = {
+    if (value == null) {
+      return
+    }
+    if (_result == null) {
+      _result = if (copy) serializer.copy(value) else value
+    } else {
+      val cmp = InternalRowUtils.compare(value, _result, dataType.getTypeRoot)
+      if ((isMin && cmp < 0) || (!isMin && cmp > 0)) {
+        _result = if (copy) serializer.copy(value) else value
+      }
+    }
+  }
+
+  override def update(dataSplit: DataSplit, columnStats: Int => ColumnStats): Unit = {
+    val stats = columnStats(fieldIndex)
+    accumulate(if (isMin) stats.min() else stats.max(), copy = false)
+  }
+
+  override def update(row: PaimonInternalRow): Unit = {
+    // the row may be reused by the reader, so the value is copied
+    accumulate(getter.getFieldOrNull(row), copy = true)
+  }
+
+  override def result(): Any = DataConverter.fromPaimon(_result, dataType)
+
+  override def resultType: DataType = SparkTypeUtils.fromPaimonType(dataType)
+
+  override def prettyName: String = if (isMin) "min" else "max"
+}
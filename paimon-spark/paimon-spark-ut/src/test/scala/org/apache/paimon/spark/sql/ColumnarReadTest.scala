@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark.sql
+
+import org.apache.paimon.spark.PaimonSparkTestBase
+
+import org.apache.spark.sql.{DataFrame, Row}
+import org.apache.spark.sql.execution.adaptive.AdaptiveSparkPlanHelper
+import org.apache.spark.sql.execution.datasources.v2.BatchScanExec
+
+class ColumnarReadTest extends PaimonSparkTestBase with AdaptiveSparkPlanHelper {
+
+  private def supportsColumnar(df: DataFrame): Boolean = {
+    val scans = collect(df.queryExecution.executedPlan) { case scan: BatchScanExec => scan }
+    assert(scans.size == 1)
+    scans.head.supportsColumnar
+  }
+
+  Seq("parquet", "orc", "avro").foreach {
+    format =>
+      test(s"Columnar read: append table with $format") {
+        withTable("T") {
+          sql(s"""
+                 |CREATE TABLE T (
+                 |  a INT, b BIGINT, c STRING, d DOUBLE, e DECIMAL(10, 2), f DECIMAL(38, 10),
+                 |  g BOOLEAN, h DATE, i TIMESTAMP, j BINARY, pt STRING)
+                 |PARTITIONED BY (pt)
+                 |TBLPROPERTIES ('file.format' = '$format', 'read.columnar.enabled' = 'true',
+                 |  'read.batch-size' = '2')
+                 |""".stripMargin)
+          sql("""
+                |INSERT INTO T VALUES
+                |(1, 10, 'a', 1.1, 1.11, 11.1, true, DATE '2024-01-01',
+                |  TIMESTAMP '2024-01-01 00:00:01', X'01', 'p1'),
+                |(2, 20, 'b', 2.2, 2.22, 22.2, false, DATE '2024-01-02',
+                |  TIMESTAMP '2024-01-02 00:00:02', X'02', 'p1'),
+                |(3, null, null, null, null, null, null, null, null, null, 'p2')
+                |""".stripMargin)
+
+          val df = sql("SELECT * FROM T ORDER BY a")
+          assert(supportsColumnar(df))
+          checkAnswer(
+            df,
+            Seq(
+              Row(
+                1,
+                10L,
+                "a",
+                1.1d,
+                new java.math.BigDecimal("1.11"),
+                new java.math.BigDecimal("11.1000000000"),
+                true,
+                java.sql.Date.valueOf("2024-01-01"),
+                java.sql.Timestamp.valueOf("2024-01-01 00:00:01"),
+                Array[Byte](1),
+                "p1"),
+              Row(
+                2,
+                20L,
+                "b",
+                2.2d,
+                new java.math.BigDecimal("2.22"),
+                new java.math.BigDecimal("22.2000000000"),
+                false,
+                java.sql.Date.valueOf("2024-01-02"),
+                java.sql.Timestamp.valueOf("2024-01-02 00:00:02"),
+                Array[Byte](2),
+                "p1"),
+              Row(3, null, null, null, null, null, null, null, null, null, "p2")
+            )
+          )
+          checkAnswer(
+            sql("SELECT c, pt FROM T WHERE a > 1 ORDER BY a"),
+            Seq(Row("b", "p1"), Row(null, "p2")))
+          checkAnswer(sql("SELECT count(*), sum(b) FROM T"), Row(3L, 30L))
+        }
+      }
+  }
+
+  test("Columnar read: primary key table with deletion vectors") {
+    withTable("T") {
+      sql("""
+            |CREATE TABLE T (id INT, name STRING)
+            |TBLPROPERTIES ('primary-key' = 'id', 'bucket' = '1', 'deletion-vectors.enabled' = 'true',
+            |  'read.columnar.enabled' = 'true')
+            |""".stripMargin)
+      sql("INSERT INTO T VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd')")
+      sql("INSERT INTO T VALUES (2, 'b2'), (4, 'd2')")
+      sql("DELETE FROM T WHERE id = 3")
+
+      val df = sql("SELECT * FROM T ORDER BY id")
+      assert(supportsColumnar(df))
+      checkAnswer(df, Seq(Row(1, "a"), Row(2, "b2"), Row(4, "d2")))
+    }
+  }
+
+  test("Columnar read: fall back to row-based read for merge read and nested types") {
+    withTable("T1", "T2") {
+      sql("""
+            |CREATE TABLE T1 (id INT, name STRING)
+            |TBLPROPERTIES ('primary-key' = 'id', 'bucket' = '1', 'read.columnar.enabled' = 'true')
+            |""".stripMargin)
+      sql("INSERT INTO T1 VALUES (1, 'a'), (2, 'b')")
+      sql("INSERT INTO T1 VALUES (2, 'b2')")
+
+      val df1 = sql("SELECT * FROM T1 ORDER BY id")
+      assert(!supportsColumnar(df1))
+      checkAnswer(df1, Seq(Row(1, "a"), Row(2, "b2")))
+
+      sql("""
+            |CREATE TABLE T2 (id INT, tags ARRAY<STRING>)
+            |TBLPROPERTIES ('read.columnar.enabled' = 'true')
+            |""".stripMargin)
+      sql("INSERT INTO T2 VALUES (1, array('a', 'b'))")
+
+      val df2 = sql("SELECT * FROM T2")
+      assert(!supportsColumnar(df2))
+      checkAnswer(df2, Seq(Row(1, Seq("a", "b"))))
+    }
+  }
+}
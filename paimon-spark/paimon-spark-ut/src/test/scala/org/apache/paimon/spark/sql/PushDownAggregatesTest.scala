@@ -18,13 +18,14 @@
 
 package org.apache.paimon.spark.sql
 
-import org.apache.paimon.spark.PaimonSparkTestBase
+import org.apache.paimon.spark.{PaimonAggregateScan, PaimonSparkTestBase}
 
 import org.apache.spark.sql.Row
 import org.apache.spark.sql.catalyst.plans.logical.Aggregate
 import org.apache.spark.sql.execution.LocalTableScanExec
 import org.apache.spark.sql.execution.adaptive.AdaptiveSparkPlanHelper
 import org.apache.spark.sql.execution.aggregate.BaseAggregateExec
+import org.apache.spark.sql.execution.datasources.v2.BatchScanExec
 
 class PushDownAggregatesTest extends PaimonSparkTestBase with AdaptiveSparkPlanHelper {
 
@@ -49,6 +50,12 @@ class PushDownAggregatesTest extends PaimonSparkTestBase with AdaptiveSparkPlanH
     }
   }
 
+  private def hasAggregateScan(query: String): Boolean = {
+    collect(spark.sql(query).queryExecution.executedPlan) {
+      case scan: BatchScanExec if scan.scan.isInstanceOf[PaimonAggregateScan] => scan
+    }.nonEmpty
+  }
+
   test("Push down aggregate - append table") {
     withTable("T") {
       spark.sql("CREATE TABLE T (c1 INT, c2 STRING) PARTITIONED BY(day STRING)")
@@ -56,8 +63,8 @@ class PushDownAggregatesTest extends PaimonSparkTestBase with AdaptiveSparkPlanH
       runAndCheckAggregate("SELECT COUNT(*) FROM T", Row(0) :: Nil, 0)
       // This query does not contain aggregate due to AQE optimize it to empty relation.
       runAndCheckAggregate("SELECT COUNT(*) FROM T GROUP BY c1", Nil, 0)
-      runAndCheckAggregate("SELECT COUNT(c1) FROM T", Row(0) :: Nil, 2)
-      runAndCheckAggregate("SELECT COUNT(*), COUNT(c1) FROM T", Row(0, 0) :: Nil, 2)
+      runAndCheckAggregate("SELECT COUNT(c1) FROM T", Row(0) :: Nil, 0)
+      runAndCheckAggregate("SELECT COUNT(*), COUNT(c1) FROM T", Row(0, 0) :: Nil, 0)
       runAndCheckAggregate("SELECT COUNT(*), COUNT(*) + 1 FROM T", Row(0, 1) :: Nil, 0)
       runAndCheckAggregate("SELECT COUNT(*) as c FROM T WHERE day='a'", Row(0) :: Nil, 0)
       runAndCheckAggregate("SELECT COUNT(*) FROM T WHERE c1=1", Row(0) :: Nil, 2)
@@ -71,8 +78,8 @@ class PushDownAggregatesTest extends PaimonSparkTestBase with AdaptiveSparkPlanH
         "SELECT COUNT(*) FROM T GROUP BY c1",
         Row(1) :: Row(1) :: Row(1) :: Row(2) :: Nil,
         2)
-      runAndCheckAggregate("SELECT COUNT(c1) FROM T", Row(4) :: Nil, 2)
-      runAndCheckAggregate("SELECT COUNT(*), COUNT(c1) FROM T", Row(5, 4) :: Nil, 2)
+      runAndCheckAggregate("SELECT COUNT(c1) FROM T", Row(4) :: Nil, 0)
+      runAndCheckAggregate("SELECT COUNT(*), COUNT(c1) FROM T", Row(5, 4) :: Nil, 0)
       runAndCheckAggregate("SELECT COUNT(*), COUNT(*) + 1 FROM T", Row(5, 6) :: Nil, 0)
       runAndCheckAggregate("SELECT COUNT(*) as c FROM T WHERE day='a'", Row(3) :: Nil, 0)
       runAndCheckAggregate("SELECT COUNT(*) FROM T WHERE c1=1", Row(1) :: Nil, 2)
@@ -171,4 +178,74 @@ class PushDownAggregatesTest extends PaimonSparkTestBase with AdaptiveSparkPlanH
           })
       })
   }
+
+  test("Push down aggregate - min, max and count from statistics") {
+    withTable("T") {
+      spark.sql("""
+                  |CREATE TABLE T (c1 INT, c2 STRING, c3 DOUBLE, c4 DECIMAL(10, 2), c5 DATE)
+                  |PARTITIONED BY (day STRING)
+                  |""".stripMargin)
+
+      runAndCheckAggregate("SELECT MIN(c1), MAX(c1), COUNT(c1) FROM T", Row(null, null, 0) :: Nil, 0)
+
+      spark.sql("""
+                  |INSERT INTO T VALUES
+                  |(1, 'x', 1.0, 1.10, DATE '2024-01-01', 'a'),
+                  |(5, 'y', 2.0, 2.20, DATE '2024-01-05', 'a'),
+                  |(null, null, null, null, null, 'b')
+                  |""".stripMargin)
+      spark.sql("INSERT INTO T VALUES (3, 'z', 3.0, 3.30, DATE '2024-01-03', 'b')")
+
+      runAndCheckAggregate(
+        "SELECT MIN(c1), MAX(c1), COUNT(c1), COUNT(*) FROM T",
+        Row(1, 5, 3, 4) :: Nil,
+        0)
+      runAndCheckAggregate(
+        "SELECT MIN(c4), MAX(c5) FROM T",
+        Row(new java.math.BigDecimal("1.10"), java.sql.Date.valueOf("2024-01-05")) :: Nil,
+        0)
+      runAndCheckAggregate(
+        "SELECT day, MIN(c1), MAX(c1), COUNT(c2) FROM T GROUP BY day",
+        Row("a", 1, 5, 2) :: Row("b", 3, 3, 1) :: Nil,
+        0)
+      runAndCheckAggregate("SELECT MAX(c1) FROM T WHERE day = 'b'", Row(3) :: Nil, 0)
+
+      // min and max of strings may be truncated, floating point stats ignore NaN
+      runAndCheckAggregate("SELECT MIN(c2), MAX(c3) FROM T", Row("x", 3.0) :: Nil, 2)
+      // not a partition column
+      runAndCheckAggregate(
+        "SELECT MIN(c1) FROM T GROUP BY c2",
+        Row(1) :: Row(3) :: Row(5) :: Row(null) :: Nil,
+        2)
+    }
+  }
+
+  test("Push down aggregate - read the splits without exact statistics") {
+    withTable("T") {
+      spark.sql("""
+                  |CREATE TABLE T (c1 INT, c2 STRING)
+                  |PARTITIONED BY (day STRING)
+                  |TBLPROPERTIES ('deletion-vectors.enabled' = 'true')
+                  |""".stripMargin)
+      spark.sql("INSERT INTO T VALUES (1, 'x', 'a'), (2, 'y', 'a'), (3, 'z', 'a')")
+      spark.sql("INSERT INTO T VALUES (10, 'x', 'b'), (20, null, 'b')")
+
+      runAndCheckAggregate("SELECT MIN(c1), MAX(c1), COUNT(c2) FROM T", Row(1, 20, 4) :: Nil, 0)
+
+      // the split of partition 'a' has a deletion file now
+      spark.sql("DELETE FROM T WHERE c1 = 1")
+
+      val query = "SELECT MIN(c1), MAX(c1), COUNT(c2), COUNT(*) FROM T"
+      assert(hasAggregateScan(query))
+      runAndCheckAggregate(query, Row(2, 20, 3, 4) :: Nil, 2)
+
+      val groupByQuery = "SELECT day, MIN(c1), MAX(c1), COUNT(c2) FROM T GROUP BY day"
+      assert(hasAggregateScan(groupByQuery))
+      runAndCheckAggregate(groupByQuery, Row("a", 2, 3, 2) :: Row("b", 10, 20, 1) :: Nil, 2)
+
+      // nothing can be aggregated from statistics
+      assert(!hasAggregateScan("SELECT MIN(c1) FROM T WHERE day = 'a'"))
+      runAndCheckAggregate("SELECT MIN(c1) FROM T WHERE day = 'a'", Row(2) :: Nil, 2)
+    }
+  }
 }